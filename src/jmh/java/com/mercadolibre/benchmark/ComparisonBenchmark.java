@@ -0,0 +1,169 @@
+package com.mercadolibre.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.mercadolibre.application.port.input.ProductField;
+import com.mercadolibre.application.port.input.ProductPageCursor;
+import com.mercadolibre.application.port.output.ProductAccessRecorder;
+import com.mercadolibre.application.port.output.ProductCache;
+import com.mercadolibre.application.port.output.ProductRepository;
+import com.mercadolibre.application.service.CoalescingProductLoader;
+import com.mercadolibre.application.service.ComparisonMetrics;
+import com.mercadolibre.application.service.ProductApplicationService;
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.domain.model.ProductType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link ProductApplicationService#getComparison} against in-memory ports, so only the service's own
+ * work (dedup, cache merge, single-flight load, ordering) is measured. {@code scenario} selects how many of
+ * the requested ids the cache holds; the repository always has them all.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ComparisonBenchmark {
+
+    public enum Scenario {
+        ALL_HIT,
+        ALL_MISS,
+        MIXED
+    }
+
+    @Param({"ALL_HIT", "ALL_MISS", "MIXED"})
+    private Scenario scenario;
+
+    @Param({"2", "10"})
+    private int comparisonSize;
+
+    private ProductApplicationService service;
+
+    private List<Long> ids;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(ProductApplicationService.class)).setLevel(Level.WARN);
+        Map<Long, Product> catalog = SeedProducts.catalog(comparisonSize).stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+        Map<Long, Product> cached = switch (scenario) {
+            case ALL_HIT -> catalog;
+            case ALL_MISS -> Map.of();
+            case MIXED -> catalog.entrySet().stream()
+                .filter(e -> e.getKey() % 2 == 0)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        };
+        ProductRepository repository = new InMemoryProductRepository(catalog);
+        ProductCache cache = new FixedProductCache(cached);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ComparisonMetrics metrics = new ComparisonMetrics(meterRegistry);
+        CoalescingProductLoader loader = new CoalescingProductLoader(repository, cache, metrics, meterRegistry);
+        service = new ProductApplicationService(repository, cache, loader, ProductAccessRecorder.NONE, metrics);
+        ids = LongStream.rangeClosed(1, comparisonSize).boxed().toList();
+    }
+
+    @Benchmark
+    public List<Product> getComparison() {
+        return service.getComparison(ids, null);
+    }
+
+    private record InMemoryProductRepository(Map<Long, Product> products) implements ProductRepository {
+
+        @Override
+        public List<Product> findByIdIn(List<Long> ids) {
+            return ids.stream().map(products::get).toList();
+        }
+
+        @Override
+        public List<Product> findByIdIn(List<Long> ids, Set<ProductField> fields) {
+            return findByIdIn(ids);
+        }
+
+        @Override
+        public List<Product> findByIdIn(List<Long> ids, Set<ProductField> fields, Set<String> specificationKeys) {
+            return findByIdIn(ids);
+        }
+
+        @Override
+        public Stream<Product> streamAll(ProductType productType, Set<ProductField> fields,
+                                         Set<String> specificationKeys) {
+            return products.values().stream();
+        }
+
+        @Override
+        public List<Product> findPage(ProductType productType, ProductPageCursor after, int limit,
+                                      Set<ProductField> fields, Set<String> specificationKeys) {
+            return products.values().stream().limit(limit).toList();
+        }
+
+        @Override
+        public Product save(Product product) {
+            products.put(product.getId(), product);
+            return product;
+        }
+
+        @Override
+        public List<Product> saveAll(List<Product> products) {
+            return products.stream().map(this::save).toList();
+        }
+
+        @Override
+        public List<Long> upsertAll(List<Product> products) {
+            saveAll(products);
+            return List.of();
+        }
+    }
+
+    /** Cache with fixed contents: writes are ignored so every invocation sees the same hit ratio. */
+    private record FixedProductCache(Map<Long, Product> products) implements ProductCache {
+
+        @Override
+        public boolean isAvailable() {
+            return true;
+        }
+
+        @Override
+        public Map<Long, Product> getAll(Collection<Long> ids) {
+            Map<Long, Product> found = new HashMap<>();
+            for (Long id : ids) {
+                Product product = products.get(id);
+                if (product != null) {
+                    found.put(id, product);
+                }
+            }
+            return found;
+        }
+
+        @Override
+        public void putAll(Collection<Product> products) {
+        }
+
+        @Override
+        public void evictAll(Collection<Long> ids) {
+        }
+    }
+}
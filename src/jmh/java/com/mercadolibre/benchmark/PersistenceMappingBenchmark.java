@@ -0,0 +1,73 @@
+package com.mercadolibre.benchmark;
+
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.infrastructure.adapter.output.persistence.converter.SpecificationsJsonConverter;
+import com.mercadolibre.infrastructure.adapter.output.persistence.entity.ProductEntity;
+import com.mercadolibre.infrastructure.adapter.output.persistence.mapper.ProductEntityMapper;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Work done per row read from the database: the specifications JSON column conversion in both directions
+ * and the entity-to-domain mapping. Loaded specifications are parsed lazily, so
+ * {@code specificationsFromJsonParsed} forces the parse that {@code specificationsFromJson} defers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersistenceMappingBenchmark {
+
+    private final ProductEntityMapper entityMapper = new ProductEntityMapper();
+
+    private final SpecificationsJsonConverter converter = new SpecificationsJsonConverter();
+
+    private final ProductEntity smartphoneEntity = SeedProducts.smartphoneEntity();
+
+    private final ProductEntity genericEntity = SeedProducts.genericEntity();
+
+    private final Map<String, Object> specifications = SeedProducts.smartphoneSpecifications();
+
+    @Benchmark
+    public Product toDomainSmartphone() {
+        return entityMapper.toDomain(smartphoneEntity);
+    }
+
+    @Benchmark
+    public Product toDomainGeneric() {
+        return entityMapper.toDomain(genericEntity);
+    }
+
+    @Benchmark
+    public String specificationsToJson() {
+        return converter.convertToDatabaseColumn(specifications);
+    }
+
+    @Benchmark
+    public Map<String, Object> specificationsFromJson() {
+        return converter.convertToEntityAttribute(SeedProducts.SMARTPHONE_SPECIFICATIONS_JSON);
+    }
+
+    @Benchmark
+    public Map<String, Object> specificationsFromJsonParsed() {
+        Map<String, Object> parsed = converter.convertToEntityAttribute(SeedProducts.SMARTPHONE_SPECIFICATIONS_JSON);
+        parsed.size();
+        return parsed;
+    }
+
+    @Benchmark
+    public Map<String, Object> specificationsRoundTrip() {
+        return converter.convertToEntityAttribute(converter.convertToDatabaseColumn(specifications));
+    }
+}
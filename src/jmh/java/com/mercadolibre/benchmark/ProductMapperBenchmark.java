@@ -0,0 +1,64 @@
+package com.mercadolibre.benchmark;
+
+import com.mercadolibre.application.port.input.ProductField;
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.infrastructure.adapter.input.rest.mapper.ProductMapper;
+import com.mercadolibre.infrastructure.adapter.input.rest.response.ProductResponse;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Request parsing and response mapping done by the controller for every comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductMapperBenchmark {
+
+    private final ProductMapper mapper = new ProductMapper();
+
+    private final Product smartphone = SeedProducts.smartphone(1L);
+
+    private final Product generic = SeedProducts.generic(3L);
+
+    private final Set<ProductField> nameAndPrice = EnumSet.of(ProductField.NAME, ProductField.PRICE);
+
+    @Benchmark
+    public List<Long> parseIds() {
+        return mapper.parseIds("1, 2,3,4,5,6,7,8,9,10");
+    }
+
+    @Benchmark
+    public Set<ProductField> parseFields() {
+        return mapper.parseFields("name,price,rating,specifications");
+    }
+
+    @Benchmark
+    public ProductResponse toResponseSmartphone() {
+        return mapper.fromProductToProductResponse(smartphone);
+    }
+
+    @Benchmark
+    public ProductResponse toResponseGeneric() {
+        return mapper.fromProductToProductResponse(generic);
+    }
+
+    @Benchmark
+    public ProductResponse toResponseWithFields() {
+        return mapper.fromProductToProductResponse(smartphone, nameAndPrice);
+    }
+}
@@ -0,0 +1,63 @@
+package com.mercadolibre.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.infrastructure.adapter.input.rest.mapper.ProductMapper;
+import com.mercadolibre.infrastructure.adapter.input.rest.response.ProductComparisonResponse;
+import com.mercadolibre.infrastructure.adapter.input.rest.response.ProductListResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Writing a comparison response: the DTO path ({@code ProductResponse} per product inside a
+ * {@code ProductListResponse}) against the streaming {@code ProductComparisonResponse} serializer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"2", "50"})
+    private int comparisonSize;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private final ProductMapper productMapper = new ProductMapper();
+
+    private List<Product> products;
+
+    @Setup
+    public void setUp() {
+        products = SeedProducts.catalog(comparisonSize);
+    }
+
+    @Benchmark
+    public void dto() throws IOException {
+        ProductListResponse response = ProductListResponse.builder()
+            .products(products.stream().map(p -> productMapper.fromProductToProductResponse(p, null)).toList())
+            .build();
+        objectMapper.writeValue(OutputStream.nullOutputStream(), response);
+    }
+
+    @Benchmark
+    public void streaming() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), new ProductComparisonResponse(products, null));
+    }
+}
@@ -0,0 +1,103 @@
+package com.mercadolibre.benchmark;
+
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.domain.model.ProductType;
+import com.mercadolibre.infrastructure.adapter.output.persistence.entity.ProductEntity;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Benchmark payloads modelled on {@code V2__insert_products.sql}: a smartphone with the full specification
+ * map and a generic product without one. {@link #catalog(int)} repeats them under sequential ids so
+ * comparisons of any size can be built.
+ */
+final class SeedProducts {
+
+    static final String SMARTPHONE_SPECIFICATIONS_JSON = "{\"batteryCapacityMah\":5000,"
+        + "\"cameraSpecs\":\"108MP main, 12MP ultra wide, 8MP tele\",\"memoryGb\":8,\"storageGb\":128,"
+        + "\"brand\":\"Alpha\",\"modelVersion\":\"X1\",\"operatingSystem\":\"Android 14\"}";
+
+    private SeedProducts() {
+    }
+
+    static Map<String, Object> smartphoneSpecifications() {
+        Map<String, Object> specifications = new LinkedHashMap<>();
+        specifications.put("batteryCapacityMah", 5000);
+        specifications.put("cameraSpecs", "108MP main, 12MP ultra wide, 8MP tele");
+        specifications.put("memoryGb", 8);
+        specifications.put("storageGb", 128);
+        specifications.put("brand", "Alpha");
+        specifications.put("modelVersion", "X1");
+        specifications.put("operatingSystem", "Android 14");
+        return specifications;
+    }
+
+    static Product smartphone(long id) {
+        return Product.builder()
+            .id(id)
+            .name("Smartphone Alpha X1")
+            .description("Smartphone with AMOLED display and 108MP camera.")
+            .price(new BigDecimal("449.99"))
+            .size("6.2\"")
+            .weight("180g")
+            .color("Black")
+            .imageUrl("https://example.com/img/alpha-x1.png")
+            .rating(new BigDecimal("4.50"))
+            .productType(ProductType.SMARTPHONE)
+            .specifications(smartphoneSpecifications())
+            .build();
+    }
+
+    static Product generic(long id) {
+        return Product.builder()
+            .id(id)
+            .name("Run Max Sneakers")
+            .description("Lightweight running shoes with reactive cushioning.")
+            .price(new BigDecimal("129.99"))
+            .size("42")
+            .weight("280g")
+            .color("White/Red")
+            .imageUrl("https://example.com/img/run-max.png")
+            .rating(new BigDecimal("4.30"))
+            .productType(ProductType.GENERIC)
+            .specifications(new HashMap<>())
+            .build();
+    }
+
+    static ProductEntity smartphoneEntity() {
+        return toEntity(smartphone(1L));
+    }
+
+    static ProductEntity genericEntity() {
+        return toEntity(generic(3L));
+    }
+
+    /** Alternates smartphones (odd ids) and generic products (even ids), ids 1..size. */
+    static List<Product> catalog(int size) {
+        List<Product> products = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            products.add(id % 2 == 1 ? smartphone(id) : generic(id));
+        }
+        return products;
+    }
+
+    private static ProductEntity toEntity(Product product) {
+        return ProductEntity.builder()
+            .id(product.getId())
+            .name(product.getName())
+            .description(product.getDescription())
+            .price(product.getPrice())
+            .size(product.getSize())
+            .weight(product.getWeight())
+            .color(product.getColor())
+            .imageUrl(product.getImageUrl())
+            .rating(product.getRating())
+            .productType(product.getProductType())
+            .specifications(product.getSpecifications())
+            .build();
+    }
+}
@@ -14,5 +14,18 @@ public interface CompareProductsUseCase {
      * @param fields optional fields to include; if null or empty, all fields are considered
      * @return list of products in the same order as ids
      */
-    List<Product> getComparison(List<Long> ids, Set<ProductField> fields);
+    default List<Product> getComparison(List<Long> ids, Set<ProductField> fields) {
+        return getComparison(ids, fields, null);
+    }
+
+    /**
+     * Retrieves products for comparison in the requested order, with specifications narrowed to the given keys.
+     *
+     * @param ids               list of product IDs (non-empty)
+     * @param fields            optional fields to include; if null or empty, all fields are considered
+     * @param specificationKeys specification keys to include when {@link ProductField#SPECIFICATIONS} is
+     *                          requested; if null, all keys
+     * @return list of products in the same order as ids; specifications may hold more keys than requested
+     */
+    List<Product> getComparison(List<Long> ids, Set<ProductField> fields, Set<String> specificationKeys);
 }
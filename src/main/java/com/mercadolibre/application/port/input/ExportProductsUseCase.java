@@ -0,0 +1,24 @@
+package com.mercadolibre.application.port.input;
+
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.domain.model.ProductType;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+public interface ExportProductsUseCase {
+
+    /**
+     * Hands every product of the catalog to {@code consumer}, one at a time and in id order, without holding
+     * the whole catalog in memory.
+     *
+     * @param productType       optional product type to export; if null, all types
+     * @param fields            optional fields to include; if null or empty, all fields are considered
+     * @param specificationKeys specification keys to include when {@link ProductField#SPECIFICATIONS} is
+     *                          requested; if null, all keys
+     * @param consumer          receives each product; runs while the catalog is being read
+     * @return number of exported products
+     */
+    long exportProducts(ProductType productType, Set<ProductField> fields, Set<String> specificationKeys,
+                        Consumer<Product> consumer);
+}
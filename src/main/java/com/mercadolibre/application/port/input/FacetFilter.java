@@ -0,0 +1,22 @@
+package com.mercadolibre.application.port.input;
+
+import java.util.List;
+
+/**
+ * Condition on one specification attribute that products must meet to be counted in a facet query.
+ *
+ * @param attribute specification key, e.g. {@code memoryGb}
+ * @param operator  comparison with {@code values}
+ * @param values    for {@link Operator#EQ} the accepted values (any of them matches); for the range operators
+ *                  exactly one number
+ */
+public record FacetFilter(String attribute, Operator operator, List<String> values) {
+
+    public enum Operator {
+        EQ, GT, GTE, LT, LTE;
+
+        public boolean isRange() {
+            return this != EQ;
+        }
+    }
+}
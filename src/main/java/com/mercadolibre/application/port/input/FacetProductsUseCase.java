@@ -0,0 +1,18 @@
+package com.mercadolibre.application.port.input;
+
+import com.mercadolibre.domain.model.ProductType;
+import java.util.List;
+import java.util.Set;
+
+public interface FacetProductsUseCase {
+
+    /**
+     * Counts products by specification value, for the filters shown next to a comparison.
+     *
+     * @param productType type whose products are counted
+     * @param filters     conditions every counted product must meet; empty counts the whole type
+     * @param attributes  specification keys to count values of; {@code null} counts every key of the type
+     * @return total and per-value counts; never null
+     */
+    ProductFacets facetProducts(ProductType productType, List<FacetFilter> filters, Set<String> attributes);
+}
@@ -0,0 +1,25 @@
+package com.mercadolibre.application.port.input;
+
+import com.mercadolibre.domain.model.ProductType;
+
+import java.util.Set;
+
+public interface ListProductsUseCase {
+
+    /**
+     * Returns the page of products that follows {@code after} in {@code (productType, id)} order. Pages are
+     * located by key rather than by offset, so every page costs the same however deep it is.
+     *
+     * @param productType       optional product type to list; if null, all types
+     * @param after             cursor returned with the previous page; if null, the first page
+     * @param limit             maximum number of products in the page; must be positive
+     * @param fields            optional fields to include; if null or empty, all fields are considered
+     * @param specificationKeys specification keys to include when {@link ProductField#SPECIFICATIONS} is
+     *                          requested; if null, all keys
+     * @return the page; never null
+     * @throws com.mercadolibre.domain.exception.InvalidRequestException if the cursor belongs to another
+     *                                                                   product type than {@code productType}
+     */
+    ProductPage listProducts(ProductType productType, ProductPageCursor after, int limit, Set<ProductField> fields,
+                             Set<String> specificationKeys);
+}
@@ -0,0 +1,42 @@
+package com.mercadolibre.application.port.input;
+
+import com.mercadolibre.domain.model.Product;
+
+import java.util.List;
+
+public interface ManageProductsUseCase {
+
+    /**
+     * Creates a product. Caches of every instance are invalidated once the transaction commits.
+     *
+     * @param product product to create; its id must be {@code null}
+     * @return the created product, with its generated id
+     */
+    Product createProduct(Product product);
+
+    /**
+     * Replaces every field of an existing product.
+     *
+     * @param id      identifier of the product to update
+     * @param product new state of the product; its id, if set, must be {@code id}
+     * @return the updated product
+     */
+    Product updateProduct(Long id, Product product);
+
+    /**
+     * Replaces several existing products in one transaction; either all of them are updated or none.
+     *
+     * @param products new state of the products; each must carry a distinct id (non-empty)
+     * @return the updated products, in the given order
+     */
+    List<Product> updateProducts(List<Product> products);
+
+    /**
+     * Creates the products without an id and replaces those with one, in one transaction, writing in JDBC
+     * batches so large catalogs load in few round trips. Either all products are stored or none.
+     *
+     * @param products products to store (non-empty); ids, where set, must exist and be distinct
+     * @return ids of the stored products and how many were created and updated
+     */
+    ProductUpsertResult upsertProducts(List<Product> products);
+}
@@ -0,0 +1,13 @@
+package com.mercadolibre.application.port.input;
+
+import java.util.Map;
+
+/**
+ * Facet counts of one product type.
+ *
+ * @param total  products of the type that meet every filter
+ * @param counts per attribute, the number of those products holding each value (values with no products are
+ *               left out), numbers first in ascending order, then the other values in natural order
+ */
+public record ProductFacets(long total, Map<String, Map<String, Long>> counts) {
+}
@@ -2,6 +2,8 @@ package com.mercadolibre.application.port.input;
 
 /**
  * Field names that the client can request in the comparison endpoint to focus only on relevant details.
+ * {@link #SPECIFICATIONS} also accepts dotted paths ({@code specifications.memoryGb}) naming a single
+ * top-level specification key.
  */
 public enum ProductField {
     ID("id"),
@@ -16,6 +18,8 @@ public enum ProductField {
     PRODUCT_TYPE("productType"),
     SPECIFICATIONS("specifications");
 
+    public static final char PATH_SEPARATOR = '.';
+
     private final String value;
 
     ProductField(String value) {
@@ -33,4 +37,23 @@ public enum ProductField {
         }
         return null;
     }
+
+    /**
+     * Field named by {@code path}: a plain field name, or {@code specifications.<key>}. Returns {@code null}
+     * for unknown names and for dotted paths into fields other than {@link #SPECIFICATIONS}.
+     */
+    public static ProductField fromPath(String path) {
+        if (path == null) return null;
+        int separator = path.indexOf(PATH_SEPARATOR);
+        if (separator < 0) return fromString(path);
+        ProductField field = fromString(path.substring(0, separator));
+        return field == SPECIFICATIONS && separator < path.length() - 1 ? field : null;
+    }
+
+    /** The specification key of a {@code specifications.<key>} path, or {@code null} for any other path. */
+    public static String specificationKey(String path) {
+        if (path == null) return null;
+        int separator = path.indexOf(PATH_SEPARATOR);
+        return separator >= 0 && fromPath(path) == SPECIFICATIONS ? path.substring(separator + 1) : null;
+    }
 }
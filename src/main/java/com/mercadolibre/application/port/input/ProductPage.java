@@ -0,0 +1,13 @@
+package com.mercadolibre.application.port.input;
+
+import com.mercadolibre.domain.model.Product;
+import java.util.List;
+
+/**
+ * One page of the product listing.
+ *
+ * @param products products in {@code (productType, id)} order
+ * @param next     where the next page starts; {@code null} on the last page
+ */
+public record ProductPage(List<Product> products, ProductPageCursor next) {
+}
@@ -0,0 +1,13 @@
+package com.mercadolibre.application.port.input;
+
+import com.mercadolibre.domain.model.ProductType;
+
+/**
+ * Position in the product listing, which is ordered by {@code (productType, id)}: the next page starts right
+ * after this key.
+ *
+ * @param productType product type of the last product of the previous page
+ * @param id          id of the last product of the previous page
+ */
+public record ProductPageCursor(ProductType productType, long id) {
+}
@@ -0,0 +1,13 @@
+package com.mercadolibre.application.port.input;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk upsert.
+ *
+ * @param ids     id of every product, in request order (generated for created products)
+ * @param created number of products inserted
+ * @param updated number of products replaced
+ */
+public record ProductUpsertResult(List<Long> ids, int created, int updated) {
+}
@@ -0,0 +1,16 @@
+package com.mercadolibre.application.port.input;
+
+import java.util.List;
+
+public interface SearchProductsUseCase {
+
+    /**
+     * Finds products by text, for users who do not know the ids to compare yet.
+     *
+     * @param query free text matched against product names, descriptions and specification values; the words
+     *              may be incomplete
+     * @param limit maximum number of ids to return
+     * @return matching product ids, best match first; never null
+     */
+    List<Long> searchProducts(String query, int limit);
+}
@@ -0,0 +1,17 @@
+package com.mercadolibre.application.port.output;
+
+import java.util.List;
+
+/**
+ * Source of the product identifiers most worth having in the cache before the service takes traffic.
+ */
+public interface HotProductIdSource {
+
+    /**
+     * Returns the hot product identifiers, hottest first.
+     *
+     * @param limit maximum number of identifiers to return
+     * @return hot product identifiers; never {@code null}; may be empty
+     */
+    List<Long> hotProductIds(int limit);
+}
@@ -0,0 +1,20 @@
+package com.mercadolibre.application.port.output;
+
+import java.util.Collection;
+
+/**
+ * Records which products are being requested, so hot products can be told apart from the long tail.
+ */
+public interface ProductAccessRecorder {
+
+    /** Recorder that discards every access. */
+    ProductAccessRecorder NONE = ids -> { };
+
+    /**
+     * Records one access to each of the given products. Implementations must be cheap and non-blocking; this
+     * is called on the request path.
+     *
+     * @param ids product identifiers; must not be {@code null}; may be empty
+     */
+    void recordAccess(Collection<Long> ids);
+}
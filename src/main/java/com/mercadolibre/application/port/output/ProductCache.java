@@ -0,0 +1,51 @@
+package com.mercadolibre.application.port.output;
+
+import com.mercadolibre.domain.model.Product;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+public interface ProductCache {
+
+    /**
+     * Whether the cache can currently serve lookups. When {@code false}, callers should read straight
+     * from the {@link ProductRepository} and skip cache population.
+     *
+     * @return {@code true} if lookups and writes should go through this cache
+     */
+    boolean isAvailable();
+
+    /**
+     * Looks up all the given product identifiers in a single batch.
+     *
+     * @param ids product identifiers; must not be {@code null}; may be empty
+     * @return cached products keyed by id; never {@code null}; ids that are not cached are absent
+     */
+    Map<Long, Product> getAll(Collection<Long> ids);
+
+    /**
+     * Stores the given products, keyed by their identifier. Once this returns, {@link #getAll} serves them,
+     * unless the cache declined the write (e.g. a full write queue) or has since evicted them.
+     *
+     * @param products products to cache; must not be {@code null}; may be empty
+     */
+    void putAll(Collection<Product> products);
+
+    /**
+     * Waits until the products passed to {@link #putAll} so far are stored in every tier, for at most
+     * {@code timeout}. Caches that write synchronously have nothing to wait for.
+     *
+     * @param timeout how long to wait at most
+     * @return {@code true} if the writes landed (or failed) in time
+     */
+    default boolean flush(Duration timeout) {
+        return true;
+    }
+
+    /**
+     * Removes the given products from every tier this instance can reach, so the next lookup misses.
+     *
+     * @param ids product identifiers; must not be {@code null}; may be empty
+     */
+    void evictAll(Collection<Long> ids);
+}
@@ -0,0 +1,17 @@
+package com.mercadolibre.application.port.output;
+
+import java.util.Collection;
+
+/**
+ * Records that products changed, as part of the transaction that changed them. Cached copies of those
+ * products are invalidated on every instance once (and only if) the transaction commits.
+ */
+public interface ProductChangeOutbox {
+
+    /**
+     * Records a change to each of the given products. Must be called inside the writing transaction.
+     *
+     * @param ids product identifiers; must not be {@code null}; may be empty
+     */
+    void productsChanged(Collection<Long> ids);
+}
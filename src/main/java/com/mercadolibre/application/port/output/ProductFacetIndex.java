@@ -0,0 +1,36 @@
+package com.mercadolibre.application.port.output;
+
+import com.mercadolibre.application.port.input.FacetFilter;
+import com.mercadolibre.application.port.input.ProductFacets;
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.domain.model.ProductType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Index of specification values per product type, answering facet counts without reading products.
+ */
+public interface ProductFacetIndex {
+
+    /**
+     * Adds the given products, or replaces what was indexed for them.
+     *
+     * @param products products with at least their id, product type and specifications loaded
+     */
+    void index(Collection<Product> products);
+
+    /**
+     * Removes the given products; ids that are not indexed are ignored.
+     */
+    void remove(Collection<Long> ids);
+
+    /**
+     * Counts the products of {@code productType} that meet every filter, in total and per attribute value.
+     * Numeric specification values compare as numbers ({@code 8} and {@code 8.0} are the same value); range
+     * filters only match numeric values.
+     *
+     * @param attributes specification keys to count; {@code null} counts every key of the type
+     */
+    ProductFacets count(ProductType productType, List<FacetFilter> filters, Set<String> attributes);
+}
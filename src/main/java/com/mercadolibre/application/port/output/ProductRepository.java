@@ -1,7 +1,12 @@
 package com.mercadolibre.application.port.output;
 
+import com.mercadolibre.application.port.input.ProductField;
+import com.mercadolibre.application.port.input.ProductPageCursor;
 import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.domain.model.ProductType;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface ProductRepository {
 
@@ -13,4 +18,76 @@ public interface ProductRepository {
      * or if {@code ids} is empty; order is not guaranteed
      */
     List<Product> findByIdIn(List<Long> ids);
+
+    /**
+     * Finds all products whose identifiers are contained in the given list, reading only the columns that
+     * back the requested fields. The id is always loaded; fields that were not requested are left unset
+     * ({@code null}, or empty specifications).
+     *
+     * @param ids    list of product identifiers; must not be {@code null}; may be empty
+     * @param fields fields to load; if {@code null} or empty, all fields are loaded
+     * @return list of matching products; never {@code null}; order is not guaranteed
+     */
+    List<Product> findByIdIn(List<Long> ids, Set<ProductField> fields);
+
+    /**
+     * Like {@link #findByIdIn(List, Set)}, but specifications only hold the given keys (those the product
+     * has). Implementations should avoid materializing the other keys.
+     *
+     * @param ids               list of product identifiers; must not be {@code null}; may be empty
+     * @param fields            fields to load; if {@code null} or empty, all fields are loaded
+     * @param specificationKeys specification keys to load; if {@code null}, all keys
+     * @return list of matching products; never {@code null}; order is not guaranteed
+     */
+    List<Product> findByIdIn(List<Long> ids, Set<ProductField> fields, Set<String> specificationKeys);
+
+    /**
+     * Streams all products, optionally of one type, in id order. Rows are read through a database cursor as the
+     * stream is consumed; the stream must be consumed inside a transaction and closed.
+     *
+     * @param productType       product type to read; if {@code null}, all types
+     * @param fields            fields to load; if {@code null} or empty, all fields are loaded
+     * @param specificationKeys specification keys to load; if {@code null}, all keys
+     * @return lazily populated stream of products; never {@code null}
+     */
+    Stream<Product> streamAll(ProductType productType, Set<ProductField> fields, Set<String> specificationKeys);
+
+    /**
+     * Finds the products that follow {@code after} in {@code (productType, id)} order. The product type is always
+     * loaded, so the last product of a page can serve as the next cursor.
+     *
+     * @param productType       product type to read; if {@code null}, all types
+     * @param after             key to start after; if {@code null}, from the first product
+     * @param limit             maximum number of products to return
+     * @param fields            fields to load; if {@code null} or empty, all fields are loaded
+     * @param specificationKeys specification keys to load; if {@code null}, all keys
+     * @return up to {@code limit} products in {@code (productType, id)} order; never {@code null}
+     */
+    List<Product> findPage(ProductType productType, ProductPageCursor after, int limit, Set<ProductField> fields,
+                           Set<String> specificationKeys);
+
+    /**
+     * Inserts a product without an id, or replaces every field of the product with the given id.
+     *
+     * @param product product to store; must not be {@code null}
+     * @return the stored product, with its generated id; never {@code null}
+     */
+    Product save(Product product);
+
+    /**
+     * Stores several products like {@link #save(Product)}, in one flush.
+     *
+     * @param products products to store; must not be {@code null}; may be empty
+     * @return the stored products, in the given order; never {@code null}
+     */
+    List<Product> saveAll(List<Product> products);
+
+    /**
+     * Bulk variant for large inputs: inserts products without an id and replaces every field of those with one,
+     * in batches of bounded size. Products whose id does not exist are not written.
+     *
+     * @param products products to store; must not be {@code null}; generated ids are set on them
+     * @return ids of the products that do not exist; never {@code null}; empty if every product was stored
+     */
+    List<Long> upsertAll(List<Product> products);
 }
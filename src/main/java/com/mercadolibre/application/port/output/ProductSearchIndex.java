@@ -0,0 +1,33 @@
+package com.mercadolibre.application.port.output;
+
+import com.mercadolibre.domain.model.Product;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Full-text index over the searchable text of products: name, description and specification values.
+ */
+public interface ProductSearchIndex {
+
+    /**
+     * Adds the given products, or replaces what was indexed for them.
+     *
+     * @param products products with at least their id, name, description and specifications loaded
+     */
+    void index(Collection<Product> products);
+
+    /**
+     * Removes the given products; ids that are not indexed are ignored.
+     */
+    void remove(Collection<Long> ids);
+
+    /**
+     * Finds the products matching every word of {@code query}, each word also matching as a prefix
+     * ({@code "gal"} finds "galaxy").
+     *
+     * @param query free text; words are compared case- and accent-insensitively
+     * @param limit maximum number of ids to return
+     * @return matching product ids, best match first; never {@code null}
+     */
+    List<Long> search(String query, int limit);
+}
@@ -0,0 +1,118 @@
+package com.mercadolibre.application.service;
+
+import com.mercadolibre.application.port.output.ProductCache;
+import com.mercadolibre.application.port.output.ProductRepository;
+import com.mercadolibre.domain.model.Product;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads cache-missed products from the {@link ProductRepository} with single-flight semantics per id: while a
+ * load for an id is outstanding, other callers asking for the same id wait on that load instead of querying
+ * the database again. Products loaded by a call are written to the {@link ProductCache} by that call only, and
+ * the call's in-flight entries are dropped only after that write returned, when the cache already serves them;
+ * a miss arriving in between therefore joins the load instead of querying again.
+ */
+@Slf4j
+@Component
+public class CoalescingProductLoader {
+
+    private final ProductRepository productRepository;
+
+    private final ProductCache productCache;
+
+    private final Map<Long, CompletableFuture<Product>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter loadedIds;
+
+    private final Counter coalescedIds;
+
+    private final ComparisonMetrics metrics;
+
+    public CoalescingProductLoader(ProductRepository productRepository, ProductCache productCache,
+                                   ComparisonMetrics metrics, MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.productCache = productCache;
+        this.loadedIds = loads(meterRegistry, "loaded");
+        this.coalescedIds = loads(meterRegistry, "coalesced");
+        this.metrics = metrics;
+    }
+
+    /**
+     * Loads the given products, joining loads already in flight for any of them.
+     *
+     * @param ids product identifiers (distinct); must not be {@code null}
+     * @return found products keyed by id; ids that do not exist are absent
+     */
+    public Map<Long, Product> load(List<Long> ids) {
+        Map<Long, CompletableFuture<Product>> owned = new LinkedHashMap<>();
+        Map<Long, CompletableFuture<Product>> joined = new LinkedHashMap<>();
+        for (Long id : ids) {
+            CompletableFuture<Product> future = new CompletableFuture<>();
+            CompletableFuture<Product> existing = inFlight.putIfAbsent(id, future);
+            if (existing == null) {
+                owned.put(id, future);
+            } else {
+                joined.put(id, existing);
+            }
+        }
+
+        Map<Long, Product> found = new HashMap<>();
+        if (!owned.isEmpty()) {
+            loadedIds.increment(owned.size());
+            try {
+                List<Long> ownedIds = List.copyOf(owned.keySet());
+                List<Product> loaded = metrics.databaseLoad.record(() -> productRepository.findByIdIn(ownedIds));
+                for (Product p : loaded) {
+                    found.put(p.getId(), p);
+                }
+                owned.forEach((id, future) -> future.complete(found.get(id)));
+                metrics.cachePut.record(() -> productCache.putAll(loaded));
+            } catch (RuntimeException e) {
+                owned.values().forEach(future -> future.completeExceptionally(e));
+                throw e;
+            } finally {
+                owned.forEach(inFlight::remove);
+            }
+        }
+
+        if (!joined.isEmpty()) {
+            log.debug("Joining in-flight loads for products: {}", joined.keySet());
+            coalescedIds.increment(joined.size());
+            joined.forEach((id, future) -> {
+                Product product = await(future);
+                if (product != null) {
+                    found.put(id, product);
+                }
+            });
+        }
+        return found;
+    }
+
+    private static Product await(CompletableFuture<Product> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Counter loads(MeterRegistry meterRegistry, String mode) {
+        return Counter.builder("product.loads")
+            .tag("mode", mode)
+            .description("Product ids resolved after a cache miss, loaded by this request or coalesced onto an in-flight load")
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,67 @@
+package com.mercadolibre.application.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Meters for the comparison path; one bean, shared by {@link ProductApplicationService} and
+ * {@link CoalescingProductLoader}:
+ * <ul>
+ *   <li>{@code product.comparison.ids}, {@code product.comparison.cache.hits} and
+ *       {@code product.comparison.cache.misses}: distinct ids, cache hits and cache misses per comparison;</li>
+ *   <li>{@code product.comparison.phase{phase=cache_lookup|db_load|cache_put}}: time spent in the batched
+ *       cache lookup, in {@code findByIdIn} (including cache-bypass reads and cache warm-up loads) and handing
+ *       loaded products to the cache. With write-behind, {@code cache_put} is only the enqueue; the write
+ *       itself is timed by {@code product.cache.write.batch}.</li>
+ * </ul>
+ * Summaries publish fixed id-count buckets and timers percentile histograms, so hit ratios, batch sizes and
+ * phase latencies can be aggregated across pods.
+ */
+@Component
+public class ComparisonMetrics {
+
+    private static final double[] ID_BUCKETS = {1, 2, 5, 10, 20, 50, 100};
+
+    final DistributionSummary requestedIds;
+
+    final DistributionSummary cacheHits;
+
+    final DistributionSummary cacheMisses;
+
+    final Timer cacheLookup;
+
+    final Timer databaseLoad;
+
+    final Timer cachePut;
+
+    public ComparisonMetrics(MeterRegistry meterRegistry) {
+        this.requestedIds = idsPerComparison(meterRegistry, "product.comparison.ids",
+            "Distinct product ids requested per comparison");
+        this.cacheHits = idsPerComparison(meterRegistry, "product.comparison.cache.hits",
+            "Product ids served from the product cache per comparison");
+        this.cacheMisses = idsPerComparison(meterRegistry, "product.comparison.cache.misses",
+            "Product ids missed by the product cache per comparison");
+        this.cacheLookup = phase(meterRegistry, "cache_lookup");
+        this.databaseLoad = phase(meterRegistry, "db_load");
+        this.cachePut = phase(meterRegistry, "cache_put");
+    }
+
+    private static DistributionSummary idsPerComparison(MeterRegistry meterRegistry, String name,
+                                                        String description) {
+        return DistributionSummary.builder(name)
+            .baseUnit("products")
+            .description(description)
+            .serviceLevelObjectives(ID_BUCKETS)
+            .register(meterRegistry);
+    }
+
+    private static Timer phase(MeterRegistry meterRegistry, String phase) {
+        return Timer.builder("product.comparison.phase")
+            .tag("phase", phase)
+            .description("Time spent per comparison phase")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+}
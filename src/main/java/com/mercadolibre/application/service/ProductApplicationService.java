@@ -2,75 +2,82 @@ package com.mercadolibre.application.service;
 
 import com.mercadolibre.application.port.input.CompareProductsUseCase;
 import com.mercadolibre.application.port.input.ProductField;
+import com.mercadolibre.application.port.output.ProductAccessRecorder;
+import com.mercadolibre.application.port.output.ProductCache;
 import com.mercadolibre.application.port.output.ProductRepository;
 import com.mercadolibre.domain.exception.InvalidRequestException;
 import com.mercadolibre.domain.exception.ProductNotFoundException;
 import com.mercadolibre.domain.model.Product;
-import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ProductApplicationService implements CompareProductsUseCase {
 
-    private static final String PRODUCT_CACHE_NAME = "product";
-
     private final ProductRepository productRepository;
-    
-    private final CacheManager cacheManager;
 
+    private final ProductCache productCache;
+
+    private final CoalescingProductLoader productLoader;
+
+    private final ProductAccessRecorder productAccessRecorder;
+
+    private final ComparisonMetrics metrics;
+
+    public ProductApplicationService(ProductRepository productRepository, ProductCache productCache,
+                                     CoalescingProductLoader productLoader,
+                                     ProductAccessRecorder productAccessRecorder, ComparisonMetrics metrics) {
+        this.productRepository = productRepository;
+        this.productCache = productCache;
+        this.productLoader = productLoader;
+        this.productAccessRecorder = productAccessRecorder;
+        this.metrics = metrics;
+    }
+
+    /*
+     * Deliberately not transactional: a transaction would hold a JDBC connection (and, with virtual threads, a
+     * JDBC permit) for the whole request, cache hits included. Each repository read takes its own connection.
+     */
     @Override
-    @Transactional(readOnly = true)
-    public List<Product> getComparison(List<Long> ids, Set<ProductField> fields) {
+    public List<Product> getComparison(List<Long> ids, Set<ProductField> fields, Set<String> specificationKeys) {
         log.info("Getting comparison for products: {}", ids);
         if (ids == null || ids.isEmpty()) {
             throw new InvalidRequestException("At least one product ID is required");
         }
 
         List<Long> uniqueIds = ids.stream().distinct().toList();
-        Cache cache = cacheManager.getCache(PRODUCT_CACHE_NAME);
-        if (cache == null) {
-            return loadAndOrder(uniqueIds, productRepository.findByIdIn(uniqueIds));
+        productAccessRecorder.recordAccess(uniqueIds);
+        metrics.requestedIds.record(uniqueIds.size());
+        if (!productCache.isAvailable()) {
+            List<Product> products = metrics.databaseLoad.record(() -> specificationKeys == null
+                ? productRepository.findByIdIn(uniqueIds, fields)
+                : productRepository.findByIdIn(uniqueIds, fields, specificationKeys));
+            return loadAndOrder(uniqueIds, products);
         }
 
-        Map<Long, Product> idToProduct = new LinkedHashMap<>();
-        List<Long> missedIds = new ArrayList<>();
-
-        for (Long id : uniqueIds) {
-            Product cached = cache.get(Objects.requireNonNull(id), Product.class);
-            if (cached != null) {
-                idToProduct.put(id, cached);
-            } else {
-                missedIds.add(id);
-            }
-        }
+        Map<Long, Product> idToProduct =
+            new LinkedHashMap<>(metrics.cacheLookup.record(() -> productCache.getAll(uniqueIds)));
+        List<Long> missedIds = uniqueIds.stream()
+            .filter(id -> !idToProduct.containsKey(id))
+            .toList();
+        metrics.cacheHits.record(idToProduct.size());
+        metrics.cacheMisses.record(missedIds.size());
 
         if (!missedIds.isEmpty()) {
-            List<Product> loaded = productRepository.findByIdIn(missedIds);
-            List<Long> foundIds = loaded.stream().map(Product::getId).toList();
+            Map<Long, Product> loaded = productLoader.load(missedIds);
             List<Long> missingIds = missedIds.stream()
-                .filter(id -> !foundIds.contains(id))
+                .filter(id -> !loaded.containsKey(id))
                 .toList();
             if (!missingIds.isEmpty()) {
                 log.warn("Products not found for comparison: {}", missingIds);
                 throw new ProductNotFoundException(missingIds);
             }
-            for (Product p : loaded) {
-                Long pid = Objects.requireNonNull(p.getId());
-                idToProduct.put(pid, p);
-                cache.put(pid, p);
-            }
+            idToProduct.putAll(loaded);
         }
 
         return uniqueIds.stream()
@@ -0,0 +1,136 @@
+package com.mercadolibre.application.service;
+
+import com.mercadolibre.application.port.output.ProductCache;
+import com.mercadolibre.domain.model.Product;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the {@link ProductCache} with a set of hot products, batch by batch, within a time budget. Each batch
+ * is first looked up in the cache (which promotes remote hits into the near tier); the misses are loaded with
+ * one {@code findByIdIn} through the {@link CoalescingProductLoader}, which writes them to the cache. Batches
+ * that do not start before the budget runs out are skipped. Before returning, the warmer waits (within the
+ * budget) for the cache to {@linkplain ProductCache#flush flush} those writes, so the products are in the
+ * shared tier, not only queued, by the time the instance is reported ready.
+ */
+@Slf4j
+@Component
+public class ProductCacheWarmer {
+
+    private final ProductCache productCache;
+
+    private final CoalescingProductLoader productLoader;
+
+    private final Counter cachedIds;
+
+    private final Counter loadedIds;
+
+    private final Counter notFoundIds;
+
+    private final Counter failedIds;
+
+    private final Counter skippedIds;
+
+    private final AtomicLong remaining = new AtomicLong();
+
+    private final Timer duration;
+
+    public ProductCacheWarmer(ProductCache productCache, CoalescingProductLoader productLoader,
+                              MeterRegistry meterRegistry) {
+        this.productCache = productCache;
+        this.productLoader = productLoader;
+        this.cachedIds = warmed(meterRegistry, "cached");
+        this.loadedIds = warmed(meterRegistry, "loaded");
+        this.notFoundIds = warmed(meterRegistry, "not_found");
+        this.failedIds = warmed(meterRegistry, "failed");
+        this.skippedIds = warmed(meterRegistry, "skipped");
+        Gauge.builder("product.cache.warmup.remaining", remaining, AtomicLong::get)
+            .description("Hot product ids not yet processed by the cache warm-up")
+            .register(meterRegistry);
+        this.duration = Timer.builder("product.cache.warmup.duration")
+            .description("Time spent warming up the product cache")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Warms the cache with {@code ids}, in order, {@code batchSize} ids at a time.
+     *
+     * @param ids       product identifiers, hottest first; duplicates are ignored
+     * @param batchSize ids per cache lookup and database load
+     * @param budget    time after which no further batch is started
+     * @return what happened to the ids
+     */
+    public Result warmUp(List<Long> ids, int batchSize, Duration budget) {
+        List<Long> distinct = ids.stream().distinct().toList();
+        remaining.set(distinct.size());
+        long start = System.nanoTime();
+        long deadline = start + budget.toNanos();
+        if (!productCache.isAvailable()) {
+            log.warn("Product cache unavailable; skipping warm-up of {} products", distinct.size());
+            return finish(distinct.size(), 0, 0, 0, 0, distinct.size(), start);
+        }
+        int cached = 0;
+        int loaded = 0;
+        int notFound = 0;
+        int failed = 0;
+        int from = 0;
+        for (; from < distinct.size() && System.nanoTime() - deadline < 0; from += batchSize) {
+            List<Long> batch = distinct.subList(from, Math.min(from + batchSize, distinct.size()));
+            try {
+                Map<Long, Product> hits = productCache.getAll(batch);
+                List<Long> misses = batch.stream().filter(id -> !hits.containsKey(id)).toList();
+                int found = misses.isEmpty() ? 0 : productLoader.load(misses).size();
+                cached += hits.size();
+                loaded += found;
+                notFound += misses.size() - found;
+                cachedIds.increment(hits.size());
+                loadedIds.increment(found);
+                notFoundIds.increment(misses.size() - found);
+            } catch (RuntimeException e) {
+                log.warn("Failed to warm up {} products", batch.size(), e);
+                failed += batch.size();
+                failedIds.increment(batch.size());
+            }
+            remaining.addAndGet(-batch.size());
+        }
+        int skipped = distinct.size() - Math.min(from, distinct.size());
+        if (loaded > 0 && !productCache.flush(Duration.ofNanos(Math.max(0, deadline - System.nanoTime())))) {
+            log.warn("Warmed products were not all written to the cache within the warm-up budget");
+        }
+        return finish(distinct.size(), cached, loaded, notFound, failed, skipped, start);
+    }
+
+    private Result finish(int requested, int cached, int loaded, int notFound, int failed, int skipped,
+                          long start) {
+        skippedIds.increment(skipped);
+        remaining.set(0);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        duration.record(elapsed);
+        Result result = new Result(requested, cached, loaded, notFound, failed, skipped, elapsed);
+        log.info("Product cache warm-up finished: {}", result);
+        return result;
+    }
+
+    /**
+     * Outcome of a warm-up: ids already cached, loaded from the database, missing from the database, in
+     * failed batches, and skipped (budget exhausted or cache unavailable).
+     */
+    public record Result(int requested, int cached, int loaded, int notFound, int failed, int skipped,
+                         Duration elapsed) {
+    }
+
+    private static Counter warmed(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("product.cache.warmup")
+            .tag("result", result)
+            .description("Hot product ids processed by the cache warm-up, by outcome")
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,119 @@
+package com.mercadolibre.application.service;
+
+import com.mercadolibre.application.port.input.ManageProductsUseCase;
+import com.mercadolibre.application.port.input.ProductField;
+import com.mercadolibre.application.port.input.ProductUpsertResult;
+import com.mercadolibre.application.port.output.ProductChangeOutbox;
+import com.mercadolibre.application.port.output.ProductRepository;
+import com.mercadolibre.domain.exception.InvalidRequestException;
+import com.mercadolibre.domain.exception.ProductNotFoundException;
+import com.mercadolibre.domain.model.Product;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Product writes. Every write records the changed ids in the {@link ProductChangeOutbox} within the same
+ * transaction, so cache invalidation is published if and only if the write commits.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductCommandService implements ManageProductsUseCase {
+
+    private final ProductRepository productRepository;
+
+    private final ProductChangeOutbox productChangeOutbox;
+
+    @Override
+    @Transactional
+    public Product createProduct(Product product) {
+        if (product.getId() != null) {
+            throw new InvalidRequestException("Product ID must not be set on create");
+        }
+        Product created = productRepository.save(product);
+        productChangeOutbox.productsChanged(List.of(created.getId()));
+        log.info("Created product {}", created.getId());
+        return created;
+    }
+
+    @Override
+    @Transactional
+    public Product updateProduct(Long id, Product product) {
+        if (id == null) {
+            throw new InvalidRequestException("Product ID is required");
+        }
+        if (product.getId() != null && !product.getId().equals(id)) {
+            throw new InvalidRequestException("Product ID in body does not match path: " + product.getId());
+        }
+        requireExisting(List.of(id));
+        product.setId(id);
+        Product updated = productRepository.save(product);
+        productChangeOutbox.productsChanged(List.of(id));
+        log.info("Updated product {}", id);
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public List<Product> updateProducts(List<Product> products) {
+        requireProducts(products);
+        List<Long> ids = products.stream().map(Product::getId).toList();
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidRequestException("Every product requires an ID");
+        }
+        requireDistinct(ids);
+        requireExisting(ids);
+        List<Product> updated = productRepository.saveAll(products);
+        productChangeOutbox.productsChanged(ids);
+        log.info("Updated {} products", updated.size());
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public ProductUpsertResult upsertProducts(List<Product> products) {
+        requireProducts(products);
+        List<Long> givenIds = products.stream().map(Product::getId).filter(Objects::nonNull).toList();
+        requireDistinct(givenIds);
+        List<Long> missingIds = productRepository.upsertAll(products);
+        if (!missingIds.isEmpty()) {
+            throw new ProductNotFoundException(missingIds);
+        }
+        List<Long> ids = products.stream().map(Product::getId).toList();
+        productChangeOutbox.productsChanged(ids);
+        int updated = givenIds.size();
+        log.info("Upserted {} products ({} created, {} updated)", ids.size(), ids.size() - updated, updated);
+        return new ProductUpsertResult(ids, ids.size() - updated, updated);
+    }
+
+    private static void requireProducts(List<Product> products) {
+        if (products == null || products.isEmpty()) {
+            throw new InvalidRequestException("At least one product is required");
+        }
+    }
+
+    private static void requireDistinct(List<Long> ids) {
+        Set<Long> seen = HashSet.newHashSet(ids.size());
+        List<Long> duplicated = ids.stream().filter(id -> !seen.add(id)).distinct().toList();
+        if (!duplicated.isEmpty()) {
+            throw new InvalidRequestException("Duplicated product IDs: " + duplicated);
+        }
+    }
+
+    private void requireExisting(List<Long> ids) {
+        Set<Long> found = new HashSet<>();
+        for (Product product : productRepository.findByIdIn(ids, Set.of(ProductField.ID))) {
+            found.add(product.getId());
+        }
+        List<Long> missingIds = ids.stream().filter(id -> !found.contains(id)).toList();
+        if (!missingIds.isEmpty()) {
+            throw new ProductNotFoundException(missingIds);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.mercadolibre.application.service;
+
+import com.mercadolibre.application.port.input.ExportProductsUseCase;
+import com.mercadolibre.application.port.input.ProductField;
+import com.mercadolibre.application.port.output.ProductRepository;
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.domain.model.ProductType;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Catalog export: streams products straight from the {@link ProductRepository}, bypassing the product cache so
+ * a full dump neither evicts hot entries nor fills the cache with cold ones.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductExportService implements ExportProductsUseCase {
+
+    private final ProductRepository productRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportProducts(ProductType productType, Set<ProductField> fields, Set<String> specificationKeys,
+                               Consumer<Product> consumer) {
+        log.info("Exporting products of type: {}", productType != null ? productType : "ALL");
+        long exported = 0;
+        try (Stream<Product> products = productRepository.streamAll(productType, fields, specificationKeys)) {
+            for (var it = products.iterator(); it.hasNext(); exported++) {
+                consumer.accept(it.next());
+            }
+        }
+        log.info("Exported {} products", exported);
+        return exported;
+    }
+}
@@ -0,0 +1,91 @@
+package com.mercadolibre.application.service;
+
+import com.mercadolibre.application.port.input.FacetFilter;
+import com.mercadolibre.application.port.input.FacetProductsUseCase;
+import com.mercadolibre.application.port.input.ProductFacets;
+import com.mercadolibre.application.port.input.ProductField;
+import com.mercadolibre.application.port.input.ProductPageCursor;
+import com.mercadolibre.application.port.output.ProductFacetIndex;
+import com.mercadolibre.application.port.output.ProductRepository;
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.domain.model.ProductType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Facet counts over specification attributes, answered from the {@link ProductFacetIndex} alone. Like
+ * {@link ProductSearchService}, the index is filled by {@link #rebuild} and kept current by {@link #refresh};
+ * both are serialized. Query latency is recorded in {@code product.facets}.
+ */
+@Slf4j
+@Service
+public class ProductFacetService implements FacetProductsUseCase {
+
+    static final Set<ProductField> INDEXED_FIELDS = EnumSet.of(ProductField.PRODUCT_TYPE, ProductField.SPECIFICATIONS);
+
+    private final ProductRepository productRepository;
+
+    private final ProductFacetIndex productFacetIndex;
+
+    private final Timer queries;
+
+    public ProductFacetService(ProductRepository productRepository, ProductFacetIndex productFacetIndex,
+                               MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.productFacetIndex = productFacetIndex;
+        this.queries = Timer.builder("product.facets")
+            .description("Time to count facet values from the index")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    @Override
+    public ProductFacets facetProducts(ProductType productType, List<FacetFilter> filters, Set<String> attributes) {
+        return queries.record(() -> productFacetIndex.count(productType, filters, attributes));
+    }
+
+    /**
+     * Indexes every product of the catalog.
+     *
+     * @param pageSize products read per query
+     * @return number of products indexed
+     */
+    public synchronized long rebuild(int pageSize) {
+        long indexed = 0;
+        ProductPageCursor after = null;
+        do {
+            List<Product> page = productRepository.findPage(null, after, pageSize, INDEXED_FIELDS, null);
+            productFacetIndex.index(page);
+            indexed += page.size();
+            Product last = page.isEmpty() ? null : page.get(page.size() - 1);
+            after = last == null || page.size() < pageSize
+                ? null : new ProductPageCursor(last.getProductType(), last.getId());
+        } while (after != null);
+        log.info("Indexed {} products for facets", indexed);
+        return indexed;
+    }
+
+    /**
+     * Re-reads the given products and updates the index; products that no longer exist are removed.
+     */
+    public synchronized void refresh(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<Product> products = productRepository.findByIdIn(List.copyOf(ids), INDEXED_FIELDS);
+        productFacetIndex.index(products);
+        Set<Long> removed = new HashSet<>(ids);
+        products.forEach(product -> removed.remove(product.getId()));
+        if (!removed.isEmpty()) {
+            productFacetIndex.remove(removed);
+        }
+        log.debug("Refreshed {} products in the facet index", ids.size());
+    }
+}
@@ -0,0 +1,47 @@
+package com.mercadolibre.application.service;
+
+import com.mercadolibre.application.port.input.ListProductsUseCase;
+import com.mercadolibre.application.port.input.ProductField;
+import com.mercadolibre.application.port.input.ProductPage;
+import com.mercadolibre.application.port.input.ProductPageCursor;
+import com.mercadolibre.application.port.output.ProductRepository;
+import com.mercadolibre.domain.exception.InvalidRequestException;
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.domain.model.ProductType;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keyset-paginated catalog listing. Like the export it reads the {@link ProductRepository} directly: pages are
+ * range reads of the {@code (product_type, id)} index, which the id-keyed product cache cannot answer. One extra
+ * product is read to tell whether another page follows.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductListingService implements ListProductsUseCase {
+
+    private final ProductRepository productRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProductPage listProducts(ProductType productType, ProductPageCursor after, int limit,
+                                    Set<ProductField> fields, Set<String> specificationKeys) {
+        if (after != null && productType != null && after.productType() != productType) {
+            throw new InvalidRequestException("Cursor does not belong to product type " + productType);
+        }
+        log.debug("Listing {} products of type {} after {}", limit, productType != null ? productType : "ALL",
+            after);
+        List<Product> products = productRepository.findPage(productType, after, limit + 1, fields, specificationKeys);
+        if (products.size() <= limit) {
+            return new ProductPage(products, null);
+        }
+        List<Product> page = products.subList(0, limit);
+        Product last = page.get(limit - 1);
+        return new ProductPage(List.copyOf(page), new ProductPageCursor(last.getProductType(), last.getId()));
+    }
+}
@@ -0,0 +1,90 @@
+package com.mercadolibre.application.service;
+
+import com.mercadolibre.application.port.input.ProductField;
+import com.mercadolibre.application.port.input.ProductPageCursor;
+import com.mercadolibre.application.port.input.SearchProductsUseCase;
+import com.mercadolibre.application.port.output.ProductRepository;
+import com.mercadolibre.application.port.output.ProductSearchIndex;
+import com.mercadolibre.domain.model.Product;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Product text search, answered from the {@link ProductSearchIndex} alone. The index is filled by
+ * {@link #rebuild} (the whole catalog, read page by page through the keyset listing) and kept current by
+ * {@link #refresh}, which reloads changed products; both are serialized so a slow reload cannot overwrite a
+ * newer one. Search latency is recorded in {@code product.search}.
+ */
+@Slf4j
+@Service
+public class ProductSearchService implements SearchProductsUseCase {
+
+    static final Set<ProductField> INDEXED_FIELDS = EnumSet.of(ProductField.NAME, ProductField.DESCRIPTION,
+        ProductField.PRODUCT_TYPE, ProductField.SPECIFICATIONS);
+
+    private final ProductRepository productRepository;
+
+    private final ProductSearchIndex productSearchIndex;
+
+    private final Timer searches;
+
+    public ProductSearchService(ProductRepository productRepository, ProductSearchIndex productSearchIndex,
+                                MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.productSearchIndex = productSearchIndex;
+        this.searches = Timer.builder("product.search")
+            .description("Time to answer a product text search from the index")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    @Override
+    public List<Long> searchProducts(String query, int limit) {
+        return searches.record(() -> productSearchIndex.search(query, limit));
+    }
+
+    /**
+     * Indexes every product of the catalog.
+     *
+     * @param pageSize products read per query
+     * @return number of products indexed
+     */
+    public synchronized long rebuild(int pageSize) {
+        long indexed = 0;
+        ProductPageCursor after = null;
+        do {
+            List<Product> page = productRepository.findPage(null, after, pageSize, INDEXED_FIELDS, null);
+            productSearchIndex.index(page);
+            indexed += page.size();
+            Product last = page.isEmpty() ? null : page.get(page.size() - 1);
+            after = last == null || page.size() < pageSize
+                ? null : new ProductPageCursor(last.getProductType(), last.getId());
+        } while (after != null);
+        log.info("Indexed {} products for search", indexed);
+        return indexed;
+    }
+
+    /**
+     * Re-reads the given products and updates the index; products that no longer exist are removed.
+     */
+    public synchronized void refresh(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<Product> products = productRepository.findByIdIn(List.copyOf(ids), INDEXED_FIELDS);
+        productSearchIndex.index(products);
+        Set<Long> removed = new HashSet<>(ids);
+        products.forEach(product -> removed.remove(product.getId()));
+        if (!removed.isEmpty()) {
+            productSearchIndex.remove(removed);
+        }
+        log.debug("Refreshed {} products in the search index", ids.size());
+    }
+}
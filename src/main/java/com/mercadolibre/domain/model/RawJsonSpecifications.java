@@ -0,0 +1,201 @@
+package com.mercadolibre.domain.model;
+
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Specifications still held as the JSON text they were stored as. The text is parsed (into the typed model for
+ * the product type, see {@link Specifications#of}) the first time an entry is read, and only then. Until the
+ * map is modified {@link #rawJson()} keeps returning the original text, so writers can copy it through
+ * instead of serializing the parsed entries again.
+ *
+ * <p>Parsing happens at most once and is safe to trigger from several threads; products (and so their
+ * specifications) are shared through the in-process caches.
+ */
+public final class RawJsonSpecifications extends Specifications {
+
+    private final Function<String, Map<String, Object>> parser;
+
+    private final ProductType productType;
+
+    private volatile String json;
+
+    private volatile Map<String, Object> values;
+
+    /** Empty, already parsed specifications; lets JSON deserializers fill an instance through {@link #put}. */
+    public RawJsonSpecifications() {
+        this.parser = null;
+        this.productType = null;
+        this.values = new HashMap<>();
+    }
+
+    public RawJsonSpecifications(String json, Function<String, Map<String, Object>> parser) {
+        this(json, parser, null);
+    }
+
+    private RawJsonSpecifications(String json, Function<String, Map<String, Object>> parser,
+                                  ProductType productType) {
+        this.json = Objects.requireNonNull(json, "json");
+        this.parser = Objects.requireNonNull(parser, "parser");
+        this.productType = productType;
+    }
+
+    /** The stored JSON object, or {@code null} once the specifications were modified. */
+    public String rawJson() {
+        return json;
+    }
+
+    /** Whether the JSON text has been parsed. */
+    public boolean isParsed() {
+        return values != null;
+    }
+
+    /**
+     * These specifications for {@code type}: unmodified text is re-wrapped without parsing, modified
+     * specifications are copied into the model for {@code type}.
+     */
+    Map<String, Object> withProductType(ProductType type) {
+        if (type == productType) {
+            return this;
+        }
+        String text = json;
+        if (text != null) {
+            return new RawJsonSpecifications(text, parser, type);
+        }
+        return Specifications.of(type, new HashMap<>(this));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        String text = json;
+        if (text != null && values == null) {
+            int start = skipWhitespace(text, 0);
+            if (start < text.length() && text.charAt(start) == '{') {
+                int next = skipWhitespace(text, start + 1);
+                return next < text.length() && text.charAt(next) == '}';
+            }
+        }
+        return parsed().isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return parsed().size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return parsed().containsKey(key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        return parsed().get(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Map<String, Object> parsed = parsed();
+        json = null;
+        return parsed.put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        Map<String, Object> parsed = parsed();
+        json = null;
+        return parsed.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        Map<String, Object> parsed = parsed();
+        json = null;
+        parsed.clear();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        Map<String, Object> parsed = parsed();
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                Iterator<Entry<String, Object>> entries = parsed.entrySet().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        Entry<String, Object> entry = entries.next();
+                        return new SimpleImmutableEntry<>(entry.getKey(), entry.getValue());
+                    }
+
+                    @Override
+                    public void remove() {
+                        entries.remove();
+                        json = null;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return parsed.size();
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof RawJsonSpecifications other) {
+            String text = json;
+            if (text != null && text.equals(other.json)) {
+                return true;
+            }
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    private Map<String, Object> parsed() {
+        Map<String, Object> parsed = values;
+        if (parsed == null) {
+            synchronized (this) {
+                parsed = values;
+                if (parsed == null) {
+                    parsed = parse();
+                    values = parsed;
+                }
+            }
+        }
+        return parsed;
+    }
+
+    private Map<String, Object> parse() {
+        Map<String, Object> parsed = parser.apply(json);
+        if (parsed == null || parsed.isEmpty()) {
+            return new HashMap<>();
+        }
+        return Specifications.of(productType, parsed);
+    }
+
+    private static int skipWhitespace(String text, int from) {
+        int i = from;
+        while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,302 @@
+package com.mercadolibre.domain.model;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Specifications of a {@link ProductType#SMARTPHONE}. The known keys are held in fields (the capacities as
+ * primitive ints) plus a presence bit each; keys outside the model, and known keys whose value does not fit
+ * the field type, are kept in a small fallback map. Mutable like the {@code HashMap} it replaces, so JSON
+ * deserializers can fill it through {@link #put}.
+ */
+public final class SmartphoneSpecifications extends Specifications {
+
+    public static final String BATTERY_CAPACITY_MAH = "batteryCapacityMah";
+    public static final String CAMERA_SPECS = "cameraSpecs";
+    public static final String MEMORY_GB = "memoryGb";
+    public static final String STORAGE_GB = "storageGb";
+    public static final String BRAND = "brand";
+    public static final String MODEL_VERSION = "modelVersion";
+    public static final String OPERATING_SYSTEM = "operatingSystem";
+
+    private static final String[] KEYS = {
+        BATTERY_CAPACITY_MAH, CAMERA_SPECS, MEMORY_GB, STORAGE_GB, BRAND, MODEL_VERSION, OPERATING_SYSTEM
+    };
+
+    /** Iteration order of the known keys, per presence mask. */
+    private static final String[][] HASH_ORDER = new String[1 << KEYS.length][];
+
+    static {
+        for (int mask = 0; mask < HASH_ORDER.length; mask++) {
+            HASH_ORDER[mask] = hashOrder(knownKeys(mask, 0));
+        }
+    }
+
+    private int batteryCapacityMah;
+    private int memoryGb;
+    private int storageGb;
+    private String cameraSpecs;
+    private String brand;
+    private String modelVersion;
+    private String operatingSystem;
+
+    private int present;
+
+    private Map<String, Object> extra;
+
+    public SmartphoneSpecifications() {
+    }
+
+    public static SmartphoneSpecifications from(Map<String, Object> values) {
+        SmartphoneSpecifications specifications = new SmartphoneSpecifications();
+        values.forEach(specifications::put);
+        return specifications;
+    }
+
+    public int getBatteryCapacityMah() {
+        return batteryCapacityMah;
+    }
+
+    public int getMemoryGb() {
+        return memoryGb;
+    }
+
+    public int getStorageGb() {
+        return storageGb;
+    }
+
+    public String getCameraSpecs() {
+        return cameraSpecs;
+    }
+
+    public String getBrand() {
+        return brand;
+    }
+
+    public String getModelVersion() {
+        return modelVersion;
+    }
+
+    public String getOperatingSystem() {
+        return operatingSystem;
+    }
+
+    @Override
+    public int size() {
+        return Integer.bitCount(present) + (extra != null ? extra.size() : 0);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int index = indexOf(key);
+        if (index >= 0 && (present & (1 << index)) != 0) {
+            return true;
+        }
+        return extra != null && extra.containsKey(key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = indexOf(key);
+        if (index >= 0 && (present & (1 << index)) != 0) {
+            return field(index);
+        }
+        return extra != null ? extra.get(key) : null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Object previous = get(key);
+        int index = indexOf(key);
+        if (index >= 0 && setField(index, value)) {
+            present |= 1 << index;
+            if (extra != null) {
+                extra.remove(key);
+            }
+        } else {
+            if (index >= 0) {
+                present &= ~(1 << index);
+            }
+            if (extra == null) {
+                extra = new LinkedHashMap<>(4);
+            }
+            extra.put(key, value);
+        }
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        Object previous = get(key);
+        int index = indexOf(key);
+        if (index >= 0) {
+            present &= ~(1 << index);
+            setField(index, null);
+        }
+        if (extra != null) {
+            extra.remove(key);
+        }
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < KEYS.length; i++) {
+            setField(i, null);
+        }
+        present = 0;
+        extra = null;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new EntryIterator(keyOrder());
+            }
+
+            @Override
+            public int size() {
+                return SmartphoneSpecifications.this.size();
+            }
+        };
+    }
+
+    private String[] keyOrder() {
+        if (extra == null || extra.isEmpty()) {
+            return HASH_ORDER[present];
+        }
+        List<String> keys = knownKeys(present, extra.size());
+        keys.addAll(extra.keySet());
+        return hashOrder(keys);
+    }
+
+    private static List<String> knownKeys(int mask, int extraCapacity) {
+        List<String> keys = new ArrayList<>(KEYS.length + extraCapacity);
+        for (int i = 0; i < KEYS.length; i++) {
+            if ((mask & (1 << i)) != 0) {
+                keys.add(KEYS[i]);
+            }
+        }
+        return keys;
+    }
+
+    /** Order in which {@code new HashMap<>(map)} iterates a map whose keys are {@code keys}, in this order. */
+    private static String[] hashOrder(List<String> keys) {
+        Map<String, Boolean> insertionOrdered = new LinkedHashMap<>();
+        for (String key : keys) {
+            insertionOrdered.put(key, Boolean.TRUE);
+        }
+        return new HashMap<>(insertionOrdered).keySet().toArray(String[]::new);
+    }
+
+    private static int indexOf(Object key) {
+        if (!(key instanceof String name)) {
+            return -1;
+        }
+        return switch (name) {
+            case BATTERY_CAPACITY_MAH -> 0;
+            case CAMERA_SPECS -> 1;
+            case MEMORY_GB -> 2;
+            case STORAGE_GB -> 3;
+            case BRAND -> 4;
+            case MODEL_VERSION -> 5;
+            case OPERATING_SYSTEM -> 6;
+            default -> -1;
+        };
+    }
+
+    private Object field(int index) {
+        return switch (index) {
+            case 0 -> batteryCapacityMah;
+            case 1 -> cameraSpecs;
+            case 2 -> memoryGb;
+            case 3 -> storageGb;
+            case 4 -> brand;
+            case 5 -> modelVersion;
+            default -> operatingSystem;
+        };
+    }
+
+    /** Stores {@code value} in the field at {@code index}; returns {@code false} if its type does not fit. */
+    private boolean setField(int index, Object value) {
+        switch (index) {
+            case 0, 2, 3 -> {
+                if (value == null) {
+                    setInt(index, 0);
+                    return false;
+                }
+                if (!(value instanceof Integer number)) {
+                    return false;
+                }
+                setInt(index, number);
+                return true;
+            }
+            default -> {
+                if (value != null && !(value instanceof String)) {
+                    return false;
+                }
+                String text = (String) value;
+                switch (index) {
+                    case 1 -> cameraSpecs = text;
+                    case 4 -> brand = text;
+                    case 5 -> modelVersion = text;
+                    default -> operatingSystem = text;
+                }
+                return true;
+            }
+        }
+    }
+
+    private void setInt(int index, int value) {
+        switch (index) {
+            case 0 -> batteryCapacityMah = value;
+            case 2 -> memoryGb = value;
+            default -> storageGb = value;
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        private final String[] keys;
+
+        private int next;
+
+        private String current;
+
+        private EntryIterator(String[] keys) {
+            this.keys = keys;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < keys.length;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            current = keys[next++];
+            return new SimpleImmutableEntry<>(current, get(current));
+        }
+
+        @Override
+        public void remove() {
+            if (current == null) {
+                throw new IllegalStateException();
+            }
+            SmartphoneSpecifications.this.remove(current);
+            current = null;
+        }
+    }
+}
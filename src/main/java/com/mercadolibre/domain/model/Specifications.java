@@ -0,0 +1,35 @@
+package com.mercadolibre.domain.model;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Base for typed specification models. Subclasses keep their values in fields instead of a hash table but
+ * still behave as a {@code Map<String, Object>} with the same keys and values as the stored JSON, iterated in
+ * the order a {@link HashMap} holding the same keys would use. Code that used to copy specifications into a
+ * {@code HashMap} to fix that order can use a {@code Specifications} instance as-is.
+ */
+public abstract class Specifications extends AbstractMap<String, Object> {
+
+    /**
+     * Typed specifications for {@code productType} built from {@code values}; types without a dedicated model
+     * (and {@code null} or empty input) get a plain {@link HashMap}. Unparsed {@link RawJsonSpecifications}
+     * stay unparsed and build the typed model when first read.
+     */
+    public static Map<String, Object> of(ProductType productType, Map<String, Object> values) {
+        if (values == null || values.isEmpty()) {
+            return new HashMap<>();
+        }
+        if (values instanceof RawJsonSpecifications raw) {
+            return raw.withProductType(productType);
+        }
+        if (values instanceof Specifications) {
+            return values;
+        }
+        if (productType == ProductType.SMARTPHONE) {
+            return SmartphoneSpecifications.from(values);
+        }
+        return new HashMap<>(values);
+    }
+}
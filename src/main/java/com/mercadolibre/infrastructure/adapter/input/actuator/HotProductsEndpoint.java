@@ -0,0 +1,41 @@
+package com.mercadolibre.infrastructure.adapter.input.actuator;
+
+import com.mercadolibre.infrastructure.adapter.output.hotkeys.HotProductTracker;
+import com.mercadolibre.infrastructure.adapter.output.hotkeys.HotProductTracker.HotProduct;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@code /admin/hotproducts}: the most compared products on this instance, hottest first, with their estimated
+ * (decayed) request count and rate. The optional {@code limit} caps the list at fewer than the tracked top-K.
+ */
+@Endpoint(id = "hotproducts")
+public class HotProductsEndpoint {
+
+    private final HotProductTracker tracker;
+
+    private final int topK;
+
+    public HotProductsEndpoint(HotProductTracker tracker, int topK) {
+        this.tracker = tracker;
+        this.topK = topK;
+    }
+
+    @ReadOperation
+    public HotProductsReport hotProducts(@Nullable Integer limit) {
+        int size = limit == null ? topK : Math.max(0, Math.min(limit, topK));
+        return new HotProductsReport(tracker.decayPeriod(), tracker.hotProducts(size));
+    }
+
+    /**
+     * Endpoint response.
+     *
+     * @param decayPeriod period after which counts are halved
+     * @param products    hottest products first
+     */
+    public record HotProductsReport(Duration decayPeriod, List<HotProduct> products) {
+    }
+}
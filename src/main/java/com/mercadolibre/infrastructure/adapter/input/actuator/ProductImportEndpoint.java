@@ -0,0 +1,76 @@
+package com.mercadolibre.infrastructure.adapter.input.actuator;
+
+import com.mercadolibre.infrastructure.adapter.input.importer.ProductImportFormat;
+import com.mercadolibre.infrastructure.adapter.input.importer.ProductImportStatus;
+import com.mercadolibre.infrastructure.adapter.input.importer.ProductImporter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@code /admin/productimport}: reading returns the status of the running or last import; writing
+ * {@code {"file": "...", "format": "csv|ndjson"}} starts importing a file of the import directory (the format
+ * is inferred from the extension when omitted). Answers 202 when the import starts, 409 while another one runs.
+ */
+@Endpoint(id = "productimport")
+public class ProductImportEndpoint {
+
+    private static final int STATUS_ACCEPTED = 202;
+
+    private static final int STATUS_CONFLICT = 409;
+
+    private final ProductImporter importer;
+
+    private final Path directory;
+
+    public ProductImportEndpoint(ProductImporter importer, Path directory) {
+        this.importer = importer;
+        this.directory = directory.toAbsolutePath().normalize();
+    }
+
+    @ReadOperation
+    public ProductImportStatus status() {
+        return importer.status();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<ProductImportStatus> start(String file, @Nullable String format) {
+        Path path = resolve(file);
+        ProductImportFormat importFormat;
+        try {
+            importFormat = ProductImportFormat.of(format, path.getFileName().toString());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), "Invalid import format");
+        }
+        try {
+            importer.start(path, importFormat);
+        } catch (IllegalStateException e) {
+            return new WebEndpointResponse<>(importer.status(), STATUS_CONFLICT);
+        } catch (IOException e) {
+            throw new InvalidEndpointRequestException("Cannot read " + file + ": " + e.getMessage(),
+                "Unreadable import file");
+        }
+        return new WebEndpointResponse<>(importer.status(), STATUS_ACCEPTED);
+    }
+
+    /** Resolves {@code file} inside the import directory, following links, so paths cannot escape it. */
+    private Path resolve(String file) {
+        try {
+            Path path = directory.resolve(file).toRealPath();
+            if (path.startsWith(directory.toRealPath()) && Files.isRegularFile(path)) {
+                return path;
+            }
+        } catch (IOException | InvalidPathException e) {
+            // reported below like any other missing file
+        }
+        throw new InvalidEndpointRequestException("No such file in the import directory: " + file,
+            "Invalid import file");
+    }
+}
@@ -0,0 +1,178 @@
+package com.mercadolibre.infrastructure.adapter.input.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.infrastructure.adapter.input.rest.request.ProductRequest;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link ProductRowReader} for RFC 4180 CSV. The header row names the columns, each one a write API field
+ * ({@code id, name, description, price, size, weight, color, imageUrl, rating, productType, specifications});
+ * empty cells are {@code null} and the {@code specifications} cell holds a JSON object. Quoted fields may contain
+ * commas, doubled quotes and line breaks. A field longer than {@link #MAX_FIELD_LENGTH} characters (e.g. an
+ * unterminated quote) aborts the import rather than buffering the rest of the file.
+ */
+class CsvProductRowReader implements ProductRowReader {
+
+    static final int MAX_FIELD_LENGTH = 1 << 20;
+
+    private static final Set<String> COLUMNS = Set.of("id", "name", "description", "price", "size", "weight",
+        "color", "imageUrl", "rating", "productType", "specifications");
+
+    private static final TypeReference<Map<String, Object>> SPECIFICATIONS_TYPE = new TypeReference<>() {
+    };
+
+    private final BufferedReader reader;
+
+    private final ObjectMapper objectMapper;
+
+    private final List<String> header;
+
+    private final StringBuilder field = new StringBuilder();
+
+    private long line = 1;
+
+    private boolean unterminated;
+
+    CsvProductRowReader(BufferedReader reader, ObjectMapper objectMapper) throws IOException {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+        List<String> columns = readRecord();
+        if (columns == null) {
+            columns = List.of();
+        }
+        for (String column : columns) {
+            if (!COLUMNS.contains(column)) {
+                throw new IOException("Unknown CSV column: " + column);
+            }
+        }
+        if (columns.stream().distinct().count() != columns.size()) {
+            throw new IOException("Duplicated CSV columns: " + columns);
+        }
+        this.header = columns;
+    }
+
+    @Override
+    public ProductRow next() throws IOException {
+        List<String> record;
+        long start;
+        do {
+            start = line;
+            record = readRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (record.size() == 1 && record.get(0).isEmpty());
+        if (unterminated) {
+            return ProductRow.rejected(start, "Unterminated quoted field");
+        }
+        if (record.size() != header.size()) {
+            return ProductRow.rejected(start,
+                "Expected " + header.size() + " columns, found " + record.size());
+        }
+        ProductRequest request = new ProductRequest();
+        for (int i = 0; i < record.size(); i++) {
+            String value = record.get(i);
+            if (value.isEmpty()) {
+                continue;
+            }
+            String column = header.get(i);
+            try {
+                set(request, column, value);
+            } catch (NumberFormatException e) {
+                return ProductRow.rejected(start, "Invalid number in column " + column + ": " + value);
+            } catch (JsonProcessingException e) {
+                return ProductRow.rejected(start, "Invalid specifications JSON: " + e.getOriginalMessage());
+            }
+        }
+        return ProductRow.parsed(start, request);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void set(ProductRequest request, String column, String value) throws JsonProcessingException {
+        switch (column) {
+            case "id" -> request.setId(Long.parseLong(value.trim()));
+            case "name" -> request.setName(value);
+            case "description" -> request.setDescription(value);
+            case "price" -> request.setPrice(new BigDecimal(value.trim()));
+            case "size" -> request.setSize(value);
+            case "weight" -> request.setWeight(value);
+            case "color" -> request.setColor(value);
+            case "imageUrl" -> request.setImageUrl(value);
+            case "rating" -> request.setRating(new BigDecimal(value.trim()));
+            case "productType" -> request.setProductType(value);
+            case "specifications" -> request.setSpecifications(objectMapper.readValue(value, SPECIFICATIONS_TYPE));
+            default -> throw new IllegalStateException("Unexpected column: " + column);
+        }
+    }
+
+    /**
+     * Reads one record, or returns {@code null} at the end of the input. Sets {@link #unterminated} when the
+     * input ends inside a quoted field.
+     */
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        unterminated = false;
+        boolean quoted = false;
+        boolean read = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            read = true;
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                line++;
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                append((char) c);
+            }
+        }
+        if (!read) {
+            return null;
+        }
+        unterminated = quoted;
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private void append(char c) throws IOException {
+        if (field.length() == MAX_FIELD_LENGTH) {
+            throw new IOException("CSV field on line " + line + " exceeds " + MAX_FIELD_LENGTH + " characters");
+        }
+        field.append(c);
+    }
+}
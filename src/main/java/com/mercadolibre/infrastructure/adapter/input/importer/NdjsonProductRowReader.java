@@ -0,0 +1,46 @@
+package com.mercadolibre.infrastructure.adapter.input.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.infrastructure.adapter.input.rest.request.ProductRequest;
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * {@link ProductRowReader} for newline-delimited JSON; blank lines are skipped.
+ */
+class NdjsonProductRowReader implements ProductRowReader {
+
+    private final BufferedReader reader;
+
+    private final ObjectMapper objectMapper;
+
+    private long line;
+
+    NdjsonProductRowReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ProductRow next() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+        } while (text.isBlank());
+        try {
+            return ProductRow.parsed(line, objectMapper.readValue(text, ProductRequest.class));
+        } catch (JsonProcessingException e) {
+            return ProductRow.rejected(line, "Invalid JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
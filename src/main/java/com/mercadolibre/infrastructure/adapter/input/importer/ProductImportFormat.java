@@ -0,0 +1,39 @@
+package com.mercadolibre.infrastructure.adapter.input.importer;
+
+import java.util.Locale;
+
+/**
+ * File formats accepted by the product import.
+ */
+public enum ProductImportFormat {
+
+    /** One JSON object per line, in the layout of the write API body. */
+    NDJSON,
+
+    /** RFC 4180 CSV with a header row naming the write API fields; specifications are a JSON object cell. */
+    CSV;
+
+    /**
+     * Parses a format name, or infers it from the file extension ({@code .ndjson}, {@code .jsonl}, {@code .csv})
+     * when {@code name} is blank.
+     *
+     * @throws IllegalArgumentException if the format is unknown or cannot be inferred
+     */
+    public static ProductImportFormat of(String name, String fileName) {
+        if (name != null && !name.isBlank()) {
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid import format: " + name);
+            }
+        }
+        String lower = fileName.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".ndjson") || lower.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        if (lower.endsWith(".csv")) {
+            return CSV;
+        }
+        throw new IllegalArgumentException("Cannot infer import format from file name: " + fileName);
+    }
+}
@@ -0,0 +1,38 @@
+package com.mercadolibre.infrastructure.adapter.input.importer;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Status of a product import.
+ *
+ * @param state         where the import is
+ * @param file          imported file
+ * @param format        format the file is read as
+ * @param rowsRead      rows read so far
+ * @param imported      rows written to the catalog
+ * @param rejected      rows rejected, whether invalid or in a batch the catalog refused
+ * @param progress      fraction of the file read, from 0 to 1
+ * @param rowsPerSecond rows read per second
+ * @param elapsed       time since the import started, or its duration once finished
+ * @param error         why the import failed; {@code null} unless {@code FAILED}
+ * @param rejections    the first rejected rows (at most {@value ProductImporter#MAX_REJECTIONS})
+ */
+public record ProductImportStatus(State state, String file, ProductImportFormat format, long rowsRead,
+                                  long imported, long rejected, double progress, double rowsPerSecond,
+                                  Duration elapsed, String error, List<Rejection> rejections) {
+
+    static final ProductImportStatus IDLE =
+        new ProductImportStatus(State.IDLE, null, null, 0, 0, 0, 0, 0, Duration.ZERO, null, List.of());
+
+    public enum State {
+        IDLE, RUNNING, COMPLETED, FAILED
+    }
+
+    /**
+     * @param line   line the rejected row (or the first row of a rejected batch) starts on
+     * @param reason why it was rejected
+     */
+    public record Rejection(long line, String reason) {
+    }
+}
@@ -0,0 +1,362 @@
+package com.mercadolibre.infrastructure.adapter.input.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.application.port.input.ManageProductsUseCase;
+import com.mercadolibre.domain.exception.InvalidRequestException;
+import com.mercadolibre.domain.exception.ProductDomainException;
+import com.mercadolibre.domain.model.Product;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToDoubleFunction;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams a product file into the catalog, one import at a time. A parser thread reads the file row by row,
+ * converts valid rows and hands batches of {@code batchSize} products to a writer thread through a queue of
+ * {@code queueCapacity} batches; when the writer falls behind the parser blocks, so memory stays bounded by the
+ * queue whatever the file size. Each batch is upserted in its own transaction (which also invalidates cached
+ * copies through the outbox); a batch the catalog refuses (e.g. unknown or duplicated ids) is rejected as a
+ * whole and the import goes on, while I/O and database errors fail it.
+ *
+ * <p>Metrics: {@code product.import.rows} by {@code result} (imported, rejected), and gauges for the current or
+ * last import: {@code product.import.progress} (fraction of the file read), {@code product.import.rate} (rows
+ * per second) and {@code product.import.queue} (batches waiting for the writer). {@code product.import.duration}
+ * times finished imports by {@code result} (completed, failed).
+ */
+@Slf4j
+public class ProductImporter implements AutoCloseable {
+
+    static final int MAX_REJECTIONS = 100;
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private static final Batch END = new Batch(0, List.of());
+
+    private final ManageProductsUseCase manageProductsUseCase;
+
+    private final ProductRowConverter converter;
+
+    private final ObjectMapper objectMapper;
+
+    private final int batchSize;
+
+    private final int queueCapacity;
+
+    private final ExecutorService executor;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Counter imported;
+
+    private final Counter rejected;
+
+    private final AtomicReference<Job> current = new AtomicReference<>();
+
+    public ProductImporter(ManageProductsUseCase manageProductsUseCase, ProductRowConverter converter,
+                           ObjectMapper objectMapper, int batchSize, int queueCapacity,
+                           MeterRegistry meterRegistry) {
+        this.manageProductsUseCase = manageProductsUseCase;
+        this.converter = converter;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+        this.executor = Executors.newFixedThreadPool(2,
+            Thread.ofPlatform().name("product-import-", 0).daemon().factory());
+        this.meterRegistry = meterRegistry;
+        this.imported = rows(meterRegistry, "imported");
+        this.rejected = rows(meterRegistry, "rejected");
+        gauge(meterRegistry, "product.import.progress", "Fraction of the import file read", Job::progress);
+        gauge(meterRegistry, "product.import.rate", "Rows per second processed by the import", Job::rowsPerSecond);
+        gauge(meterRegistry, "product.import.queue", "Batches waiting for the import writer", job -> job.queue.size());
+    }
+
+    /**
+     * Starts importing {@code file} in the background.
+     *
+     * @return completes with the final status of the import
+     * @throws IllegalStateException if an import is already running
+     * @throws IOException           if the file cannot be read
+     */
+    public CompletableFuture<ProductImportStatus> start(Path file, ProductImportFormat format) throws IOException {
+        Job job = new Job(file, format, Files.size(file), queueCapacity);
+        Job previous = current.get();
+        if ((previous != null && previous.isRunning()) || !current.compareAndSet(previous, job)) {
+            throw new IllegalStateException("An import is already running");
+        }
+        log.info("Importing products from {} ({})", file, format);
+        CompletableFuture<ProductImportStatus> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> result.complete(run(job)));
+        } catch (RejectedExecutionException e) {
+            job.finish(ProductImportStatus.State.FAILED, e);
+            throw new IllegalStateException("The importer is shut down", e);
+        }
+        return result;
+    }
+
+    /** Status of the running or last import; {@link ProductImportStatus.State#IDLE} if none was started. */
+    public ProductImportStatus status() {
+        Job job = current.get();
+        return job == null ? ProductImportStatus.IDLE : job.status();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ProductImportStatus run(Job job) {
+        Future<?> parser = executor.submit(() -> {
+            parse(job);
+            return null;
+        });
+        try {
+            for (Batch batch = job.queue.take(); batch != END; batch = job.queue.take()) {
+                write(job, batch);
+            }
+            parser.get();
+            job.finish(ProductImportStatus.State.COMPLETED, null);
+        } catch (ExecutionException e) {
+            job.finish(ProductImportStatus.State.FAILED, e.getCause());
+        } catch (InterruptedException e) {
+            parser.cancel(true);
+            job.finish(ProductImportStatus.State.FAILED, e);
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            parser.cancel(true);
+            job.finish(ProductImportStatus.State.FAILED, e);
+        }
+        ProductImportStatus status = job.status();
+        Timer.builder("product.import.duration")
+            .tag("result", status.state().name().toLowerCase(Locale.ROOT))
+            .description("Time taken by finished product imports")
+            .register(meterRegistry)
+            .record(status.elapsed());
+        if (status.state() == ProductImportStatus.State.FAILED) {
+            log.warn("Product import from {} failed after {} rows: {}", job.file, status.rowsRead(), status.error());
+        } else {
+            log.info("Imported {} products from {} ({} rejected) in {}", status.imported(), job.file,
+                status.rejected(), status.elapsed());
+        }
+        return status;
+    }
+
+    private void write(Job job, Batch batch) {
+        try {
+            manageProductsUseCase.upsertProducts(batch.products());
+            job.imported.addAndGet(batch.products().size());
+            imported.increment(batch.products().size());
+        } catch (ProductDomainException | InvalidRequestException e) {
+            job.reject(batch.products().size(), batch.firstLine(), "Batch of " + batch.products().size()
+                + " rows rejected: " + e.getMessage());
+            rejected.increment(batch.products().size());
+        }
+    }
+
+    private void parse(Job job) throws IOException, InterruptedException {
+        try (InputStream in = new CountingInputStream(Files.newInputStream(job.file), job.bytesRead);
+             ProductRowReader reader = ProductRowReader.open(job.format,
+                 new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)), objectMapper)) {
+            List<Product> products = new ArrayList<>(batchSize);
+            long firstLine = 0;
+            for (ProductRow row = reader.next(); row != null; row = reader.next()) {
+                job.rowsRead.incrementAndGet();
+                Product product = convert(job, row);
+                if (product == null) {
+                    continue;
+                }
+                if (products.isEmpty()) {
+                    firstLine = row.line();
+                }
+                products.add(product);
+                if (products.size() == batchSize) {
+                    job.queue.put(new Batch(firstLine, products));
+                    products = new ArrayList<>(batchSize);
+                }
+            }
+            if (!products.isEmpty()) {
+                job.queue.put(new Batch(firstLine, products));
+            }
+            job.queue.put(END);
+        } catch (IOException | RuntimeException e) {
+            // Unblock the writer: pending batches are dropped since the import fails anyway.
+            job.queue.clear();
+            job.queue.offer(END);
+            throw e;
+        }
+    }
+
+    private Product convert(Job job, ProductRow row) {
+        String error = row.error();
+        if (error == null) {
+            try {
+                return converter.convert(row.request());
+            } catch (IllegalArgumentException e) {
+                error = e.getMessage();
+            }
+        }
+        job.reject(1, row.line(), error);
+        rejected.increment();
+        return null;
+    }
+
+    private void gauge(MeterRegistry meterRegistry, String name, String description, ToDoubleFunction<Job> value) {
+        Gauge.builder(name, current, ref -> {
+                Job job = ref.get();
+                return job == null ? 0 : value.applyAsDouble(job);
+            })
+            .description(description)
+            .register(meterRegistry);
+    }
+
+    private static Counter rows(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("product.import.rows")
+            .tag("result", result)
+            .description("Rows read by product imports, by outcome")
+            .register(meterRegistry);
+    }
+
+    private record Batch(long firstLine, List<Product> products) {
+    }
+
+    /** State of one import, written by its parser and writer threads and read by {@link #status()}. */
+    private static final class Job {
+
+        private final Path file;
+
+        private final ProductImportFormat format;
+
+        private final long size;
+
+        private final BlockingQueue<Batch> queue;
+
+        private final long startNanos = System.nanoTime();
+
+        private final AtomicLong bytesRead = new AtomicLong();
+
+        private final AtomicLong rowsRead = new AtomicLong();
+
+        private final AtomicLong imported = new AtomicLong();
+
+        private final AtomicLong rejected = new AtomicLong();
+
+        private final List<ProductImportStatus.Rejection> rejections = new ArrayList<>();
+
+        private volatile ProductImportStatus.State state = ProductImportStatus.State.RUNNING;
+
+        private volatile long endNanos;
+
+        private volatile String error;
+
+        Job(Path file, ProductImportFormat format, long size, int queueCapacity) {
+            this.file = file;
+            this.format = format;
+            this.size = size;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        boolean isRunning() {
+            return state == ProductImportStatus.State.RUNNING;
+        }
+
+        void reject(int rows, long line, String reason) {
+            rejected.addAndGet(rows);
+            synchronized (rejections) {
+                if (rejections.size() < MAX_REJECTIONS) {
+                    rejections.add(new ProductImportStatus.Rejection(line, reason));
+                }
+            }
+        }
+
+        void finish(ProductImportStatus.State finalState, Throwable cause) {
+            error = cause == null ? null
+                : cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+            endNanos = System.nanoTime();
+            state = finalState;
+        }
+
+        double progress() {
+            if (state == ProductImportStatus.State.COMPLETED || size == 0) {
+                return 1;
+            }
+            return Math.min(1, (double) bytesRead.get() / size);
+        }
+
+        double rowsPerSecond() {
+            long nanos = elapsedNanos();
+            return nanos == 0 ? 0 : rowsRead.get() * 1e9 / nanos;
+        }
+
+        long elapsedNanos() {
+            return (isRunning() ? System.nanoTime() : endNanos) - startNanos;
+        }
+
+        ProductImportStatus status() {
+            List<ProductImportStatus.Rejection> sample;
+            synchronized (rejections) {
+                sample = List.copyOf(rejections);
+            }
+            return new ProductImportStatus(state, file.toString(), format, rowsRead.get(), imported.get(),
+                rejected.get(), progress(), rowsPerSecond(), Duration.ofNanos(elapsedNanos()), error, sample);
+        }
+    }
+
+    /** Counts the bytes read from the file, for the progress gauge. */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final AtomicLong count;
+
+        CountingInputStream(InputStream in, AtomicLong count) {
+            super(in);
+            this.count = count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count.incrementAndGet();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count.addAndGet(n);
+            }
+            return n;
+        }
+    }
+}
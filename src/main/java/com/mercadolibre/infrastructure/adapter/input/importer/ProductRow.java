@@ -0,0 +1,21 @@
+package com.mercadolibre.infrastructure.adapter.input.importer;
+
+import com.mercadolibre.infrastructure.adapter.input.rest.request.ProductRequest;
+
+/**
+ * One row read from an import file: the parsed request, or why the row could not be parsed.
+ *
+ * @param line    line of the file the row starts on (1-based)
+ * @param request parsed row; {@code null} if {@code error} is set
+ * @param error   parse error; {@code null} if the row was parsed
+ */
+public record ProductRow(long line, ProductRequest request, String error) {
+
+    static ProductRow parsed(long line, ProductRequest request) {
+        return new ProductRow(line, request, null);
+    }
+
+    static ProductRow rejected(long line, String error) {
+        return new ProductRow(line, null, error);
+    }
+}
@@ -0,0 +1,101 @@
+package com.mercadolibre.infrastructure.adapter.input.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.domain.model.ProductType;
+import com.mercadolibre.domain.model.RawJsonSpecifications;
+import com.mercadolibre.domain.model.SmartphoneSpecifications;
+import com.mercadolibre.infrastructure.adapter.input.rest.mapper.ProductMapper;
+import com.mercadolibre.infrastructure.adapter.input.rest.request.ProductRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Turns an import row into a {@link Product}: checks the write API constraints and the specification types, then
+ * serializes the specifications to JSON once, as {@link RawJsonSpecifications}, so persisting the product copies
+ * the text through instead of serializing the map again.
+ */
+public class ProductRowConverter {
+
+    private static final Set<String> SMARTPHONE_INT_KEYS = Set.of(SmartphoneSpecifications.BATTERY_CAPACITY_MAH,
+        SmartphoneSpecifications.MEMORY_GB, SmartphoneSpecifications.STORAGE_GB);
+
+    private static final Set<String> SMARTPHONE_STRING_KEYS = Set.of(SmartphoneSpecifications.CAMERA_SPECS,
+        SmartphoneSpecifications.BRAND, SmartphoneSpecifications.MODEL_VERSION,
+        SmartphoneSpecifications.OPERATING_SYSTEM);
+
+    private static final TypeReference<Map<String, Object>> SPECIFICATIONS_TYPE = new TypeReference<>() {
+    };
+
+    private final Validator validator;
+
+    private final ProductMapper productMapper;
+
+    private final ObjectMapper objectMapper;
+
+    public ProductRowConverter(Validator validator, ProductMapper productMapper, ObjectMapper objectMapper) {
+        this.validator = validator;
+        this.productMapper = productMapper;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @throws IllegalArgumentException with the reasons the row is rejected
+     */
+    public Product convert(ProductRequest request) {
+        Set<ConstraintViolation<ProductRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", ")));
+        }
+        ProductType productType = productMapper.parseProductType(request.getProductType());
+        Map<String, Object> specifications = request.getSpecifications();
+        if (specifications != null && !specifications.isEmpty()) {
+            validateSpecifications(productType, specifications);
+            request.setSpecifications(new RawJsonSpecifications(toJson(specifications), this::parse));
+        }
+        return productMapper.fromProductRequestToProduct(request);
+    }
+
+    private static void validateSpecifications(ProductType productType, Map<String, Object> specifications) {
+        for (Map.Entry<String, Object> entry : specifications.entrySet()) {
+            String key = entry.getKey();
+            Object value = entry.getValue();
+            if (key == null || key.isBlank()) {
+                throw new IllegalArgumentException("specifications: keys must not be blank");
+            }
+            if (productType != ProductType.SMARTPHONE || value == null) {
+                continue;
+            }
+            if (SMARTPHONE_INT_KEYS.contains(key) && !(value instanceof Integer i && i >= 0)) {
+                throw new IllegalArgumentException("specifications." + key + ": must be a non-negative integer");
+            }
+            if (SMARTPHONE_STRING_KEYS.contains(key) && !(value instanceof String)) {
+                throw new IllegalArgumentException("specifications." + key + ": must be a string");
+            }
+        }
+    }
+
+    private String toJson(Map<String, Object> specifications) {
+        try {
+            return objectMapper.writeValueAsString(specifications);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("specifications: cannot be serialized to JSON", e);
+        }
+    }
+
+    private Map<String, Object> parse(String json) {
+        try {
+            return objectMapper.readValue(json, SPECIFICATIONS_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot parse serialized specifications", e);
+        }
+    }
+}
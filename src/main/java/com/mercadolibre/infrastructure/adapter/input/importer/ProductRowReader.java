@@ -0,0 +1,27 @@
+package com.mercadolibre.infrastructure.adapter.input.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads import rows one at a time, holding at most one row in memory. Rows that cannot be parsed are returned
+ * as rejected rows so the import can go on; only I/O errors and unusable files (e.g. a CSV without a valid
+ * header) are thrown.
+ */
+public interface ProductRowReader extends Closeable {
+
+    /**
+     * @return the next row, or {@code null} at the end of the input
+     */
+    ProductRow next() throws IOException;
+
+    static ProductRowReader open(ProductImportFormat format, BufferedReader reader, ObjectMapper objectMapper)
+        throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonProductRowReader(reader, objectMapper);
+            case CSV -> new CsvProductRowReader(reader, objectMapper);
+        };
+    }
+}
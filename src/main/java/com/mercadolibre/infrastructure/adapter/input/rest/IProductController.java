@@ -1,7 +1,14 @@
 package com.mercadolibre.infrastructure.adapter.input.rest;
 
 import com.mercadolibre.infrastructure.adapter.input.rest.exception.ErrorResponse;
+import com.mercadolibre.infrastructure.adapter.input.rest.request.ProductRequest;
+import com.mercadolibre.infrastructure.adapter.input.rest.response.ProductComparisonResponse;
 import com.mercadolibre.infrastructure.adapter.input.rest.response.ProductListResponse;
+import com.mercadolibre.infrastructure.adapter.input.rest.response.ProductFacetsResponse;
+import com.mercadolibre.infrastructure.adapter.input.rest.response.ProductPageResponse;
+import com.mercadolibre.infrastructure.adapter.input.rest.response.ProductResponse;
+import com.mercadolibre.infrastructure.adapter.input.rest.response.ProductSearchResponse;
+import com.mercadolibre.infrastructure.adapter.input.rest.response.ProductUpsertResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -10,12 +17,24 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
+import java.io.IOException;
+import java.util.List;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 
 /**
  * Product comparison API contract (API First). Defines endpoint, parameters and OpenAPI documentation.
@@ -32,7 +51,8 @@ public interface IProductController {
             summary = "Compare items",
             description = "Retrieves details of multiple products for comparison. " +
                     "The **ids** parameter is required (comma-separated IDs). " +
-                    "The optional **fields** parameter limits the response to the specified attributes."
+                    "The optional **fields** parameter limits the response to the specified attributes; " +
+                    "`specifications.<key>` selects single specification keys."
     )
     @ApiResponses({
             @ApiResponse(
@@ -169,7 +189,7 @@ public interface IProductController {
                     )
             )
     })
-    ProductListResponse compare(
+    ProductComparisonResponse compare(
             @RequestParam("ids")
             @Valid
             @NotEmpty(message = "Parameter 'ids' is required")
@@ -179,9 +199,377 @@ public interface IProductController {
             @RequestParam(value = "fields", required = false)
             @Valid
             @Parameter(
-                    description = "Fields to include in the response (optional). Values: id, name, description, price, size, weight, color, imageUrl, rating, productType, specifications",
+                    description = "Fields to include in the response (optional). Values: id, name, description, price, size, weight, color, imageUrl, rating, productType, specifications, specifications.<key>",
                     example = "name,price,rating,specifications"
             )
             String fields
     );
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "List products",
+            description = "Pages through the catalog ordered by product type, then id. The first request omits " +
+                    "**cursor**; each page returns the **nextCursor** to pass for the following one, and " +
+                    "every page costs the same however deep it is. The optional **productType** parameter " +
+                    "restricts the listing to one type and **fields** works as in the comparison endpoint."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Page retrieved successfully",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ProductPageResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Name and price, two per page",
+                                    value = """
+                                            {
+                                              "products": [
+                                                {"id": 3, "name": "Run Max Sneakers", "price": 129.99},
+                                                {"id": 4, "name": "Urban Backpack 20L", "price": 59.99}
+                                              ],
+                                              "nextCursor": "R0VORVJJQzo0"
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unknown product type or invalid cursor",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "Limit out of range, or cursor of another product type",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    ProductPageResponse list(
+            @RequestParam(value = "productType", required = false)
+            @Parameter(description = "Product type to list (optional). Values: GENERIC, SMARTPHONE", example = "SMARTPHONE")
+            String productType,
+
+            @RequestParam(value = "fields", required = false)
+            @Parameter(
+                    description = "Fields to include for each product (optional), as in the comparison endpoint",
+                    example = "id,name,price"
+            )
+            String fields,
+
+            @RequestParam(value = "limit", defaultValue = "20")
+            @Min(value = 1, message = "Parameter 'limit' must be at least 1")
+            @Max(value = 100, message = "Parameter 'limit' must be at most 100")
+            @Parameter(description = "Maximum number of products in the page (1-100)", example = "20")
+            int limit,
+
+            @RequestParam(value = "cursor", required = false)
+            @Parameter(description = "nextCursor of the previous page; omit for the first page")
+            String cursor
+    );
+
+    @GetMapping(value = "/facets", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Count products by specification value",
+            description = "Counts the products of **productType** that meet every filter, in total and per value " +
+                    "of each specification attribute, for the filters shown next to a comparison " +
+                    "(e.g. brands of the smartphones with `memoryGb>=8`). Answered from an in-memory index, " +
+                    "without reading products. Numeric values compare as numbers; range filters only match " +
+                    "numeric values."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Counts computed (attributes without matching products have no values)",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ProductFacetsResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Brands of smartphones with 8 GB or more",
+                                    value = """
+                                            {
+                                              "productType": "SMARTPHONE",
+                                              "total": 2,
+                                              "facets": {"brand": {"Alpha": 1, "Beta": 1}}
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unknown product type or malformed filter",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "Missing product type",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    ProductFacetsResponse facets(
+            @RequestParam("productType")
+            @NotBlank(message = "Parameter 'productType' is required")
+            @Parameter(description = "Product type to count. Values: GENERIC, SMARTPHONE", required = true, example = "SMARTPHONE")
+            String productType,
+
+            @RequestParam(value = "attributes", required = false)
+            @Parameter(
+                    description = "Comma-separated specification keys to count (optional; all keys of the type by default)",
+                    example = "brand,storageGb"
+            )
+            String attributes,
+
+            @RequestParam(value = "filters", required = false)
+            @Parameter(
+                    description = "Comma-separated filters `<attribute><op><value>` with op `=`, `>`, `>=`, `<` or `<=`; " +
+                            "`=` accepts alternatives separated by `|`, the other operators a number (optional)",
+                    example = "memoryGb>=8,brand=Alpha|Beta"
+            )
+            String filters
+    );
+
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Search products",
+            description = "Finds products whose name, description or specification values contain every word " +
+                    "of **q**, case- and accent-insensitively; words also match as prefixes, so partial input " +
+                    "works while typing. Returns the ids of the best matches first, ready for the comparison " +
+                    "endpoint: name matches rank above specification matches, which rank above description " +
+                    "matches, and whole words above prefixes."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Search completed (possibly with no matches)",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ProductSearchResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Smartphones",
+                                    value = """
+                                            {"ids": [1, 2]}
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "Missing query or limit out of range",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    ProductSearchResponse search(
+            @RequestParam("q")
+            @NotBlank(message = "Parameter 'q' is required")
+            @Parameter(description = "Words to search for; the last ones may be incomplete", required = true, example = "smartphone alp")
+            String query,
+
+            @RequestParam(value = "limit", defaultValue = "10")
+            @Min(value = 1, message = "Parameter 'limit' must be at least 1")
+            @Max(value = 100, message = "Parameter 'limit' must be at most 100")
+            @Parameter(description = "Maximum number of ids to return (1-100)", example = "10")
+            int limit
+    );
+
+    @GetMapping("/export")
+    @Operation(
+            summary = "Export catalog",
+            description = "Streams every product as newline-delimited JSON (`application/x-ndjson`), one product " +
+                    "per line in id order, in the same layout as the comparison items. " +
+                    "The optional **productType** parameter restricts the export to one type and **fields** " +
+                    "works as in the comparison endpoint. Memory use does not depend on the catalog size."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Catalog streamed successfully",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            examples = @ExampleObject(
+                                    name = "Name and price",
+                                    value = """
+                                            {"id":1,"name":"Smartphone Alpha X1","price":449.99}
+                                            {"id":2,"name":"Smartphone Beta Pro","price":599.99}
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unknown product type",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    void export(
+            @RequestParam(value = "productType", required = false)
+            @Parameter(description = "Product type to export (optional). Values: GENERIC, SMARTPHONE", example = "SMARTPHONE")
+            String productType,
+
+            @RequestParam(value = "fields", required = false)
+            @Parameter(
+                    description = "Fields to include for each product (optional), as in the comparison endpoint",
+                    example = "id,name,price,specifications.memoryGb"
+            )
+            String fields,
+
+            @Parameter(hidden = true)
+            HttpServletResponse response
+    ) throws IOException;
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(
+            summary = "Create product",
+            description = "Creates a product; the id is generated and must be omitted. Cached comparisons on " +
+                    "every instance see the product once the write commits."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Product created",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ProductResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "Validation error: missing or out-of-range fields, or an id was given",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    ProductResponse create(@RequestBody @Valid ProductRequest request);
+
+    @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Update product",
+            description = "Replaces every field of an existing product and evicts it from the caches of " +
+                    "every instance once the write commits."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Product updated",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ProductResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "The product does not exist",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "Validation error, or the body id does not match the path",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    ProductResponse update(
+            @PathVariable("id")
+            @Parameter(description = "Product ID", required = true, example = "1")
+            Long id,
+
+            @RequestBody @Valid ProductRequest request
+    );
+
+    @PutMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Bulk update products",
+            description = "Replaces several existing products, each identified by its **id**, in one " +
+                    "transaction: if any product is invalid or missing, none is updated."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Products updated",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ProductListResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "One or more products do not exist",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "Validation error, missing or duplicated ids",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    ProductListResponse updateAll(@RequestBody List<@Valid ProductRequest> requests);
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Bulk upsert products",
+            description = "Creates the products without an **id** and replaces those with one, in one " +
+                    "transaction written in JDBC batches of `product.ingest.batch-size` rows. Meant for " +
+                    "loading large catalogs; the response carries the ids instead of the products."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Products stored",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ProductUpsertResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "One or more given ids do not exist; nothing was stored",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "Validation error or duplicated ids; nothing was stored",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    ProductUpsertResponse upsertAll(@RequestBody List<@Valid ProductRequest> requests);
 }
@@ -0,0 +1,11 @@
+package com.mercadolibre.infrastructure.adapter.input.rest.exception;
+
+/**
+ * Thrown when a request cannot obtain an in-flight slot within the configured wait.
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    public ConcurrencyLimitExceededException(int maxInFlight) {
+        super("More than " + maxInFlight + " requests in flight");
+    }
+}
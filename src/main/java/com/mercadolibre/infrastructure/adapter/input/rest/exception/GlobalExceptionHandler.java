@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSourceResolvable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -271,6 +272,32 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    @ApiResponse(
+        responseCode = "503",
+        description = "Too many requests in flight",
+        content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+    )
+    public ResponseEntity<ErrorResponse> handleConcurrencyLimitExceededException(
+        ConcurrencyLimitExceededException ex,
+        HttpServletRequest request) {
+
+        log.warn("Request rejected: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+            .timestamp(Instant.now())
+            .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+            .error("SERVICE_UNAVAILABLE")
+            .message("The service is at capacity")
+            .details(ex.getMessage())
+            .path(request.getRequestURI())
+            .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(errorResponse);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     @ApiResponse(
         responseCode = "500",
@@ -346,6 +373,24 @@ public class GlobalExceptionHandler {
                 .rejectedValue(rejectedValue)
                 .message(msg)
                 .build());
+        } else if (msg != null && msg.startsWith("Invalid product type: ")) {
+            errors.add(ErrorResponse.ValidationError.builder()
+                .field("productType")
+                .rejectedValue(msg.substring("Invalid product type: ".length()))
+                .message(msg)
+                .build());
+        } else if (msg != null && msg.startsWith("Invalid cursor: ")) {
+            errors.add(ErrorResponse.ValidationError.builder()
+                .field("cursor")
+                .rejectedValue(msg.substring("Invalid cursor: ".length()))
+                .message(msg)
+                .build());
+        } else if (msg != null && msg.startsWith("Invalid facet filter: ")) {
+            errors.add(ErrorResponse.ValidationError.builder()
+                .field("filters")
+                .rejectedValue(msg.substring("Invalid facet filter: ".length()))
+                .message(msg)
+                .build());
         }
         return errors;
     }
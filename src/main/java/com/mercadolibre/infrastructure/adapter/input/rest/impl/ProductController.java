@@ -1,16 +1,36 @@
 package com.mercadolibre.infrastructure.adapter.input.rest.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mercadolibre.application.port.input.CompareProductsUseCase;
+import com.mercadolibre.application.port.input.ExportProductsUseCase;
+import com.mercadolibre.application.port.input.ListProductsUseCase;
+import com.mercadolibre.application.port.input.ManageProductsUseCase;
+import com.mercadolibre.application.port.input.FacetProductsUseCase;
+import com.mercadolibre.application.port.input.ProductFacets;
 import com.mercadolibre.application.port.input.ProductField;
+import com.mercadolibre.application.port.input.ProductPage;
+import com.mercadolibre.application.port.input.ProductUpsertResult;
+import com.mercadolibre.application.port.input.SearchProductsUseCase;
 import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.domain.model.ProductType;
 import com.mercadolibre.infrastructure.adapter.input.rest.IProductController;
+import com.mercadolibre.infrastructure.adapter.input.rest.json.ProductNdjsonWriter;
 import com.mercadolibre.infrastructure.adapter.input.rest.mapper.ProductMapper;
+import com.mercadolibre.infrastructure.adapter.input.rest.request.ProductRequest;
+import com.mercadolibre.infrastructure.adapter.input.rest.response.ProductComparisonResponse;
 import com.mercadolibre.infrastructure.adapter.input.rest.response.ProductListResponse;
+import com.mercadolibre.infrastructure.adapter.input.rest.response.ProductFacetsResponse;
+import com.mercadolibre.infrastructure.adapter.input.rest.response.ProductPageResponse;
 import com.mercadolibre.infrastructure.adapter.input.rest.response.ProductResponse;
+import com.mercadolibre.infrastructure.adapter.input.rest.response.ProductSearchResponse;
+import com.mercadolibre.infrastructure.adapter.input.rest.response.ProductUpsertResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.List;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -20,25 +40,112 @@ public class ProductController implements IProductController {
 
     private final CompareProductsUseCase compareProductsUseCase;
 
+    private final ExportProductsUseCase exportProductsUseCase;
+
+    private final ManageProductsUseCase manageProductsUseCase;
+
+    private final ListProductsUseCase listProductsUseCase;
+
+    private final SearchProductsUseCase searchProductsUseCase;
+
+    private final FacetProductsUseCase facetProductsUseCase;
+
     private final ProductMapper productMapper;
 
+    private final ObjectMapper objectMapper;
+
     @Override
-    public ProductListResponse compare(String ids, String fields) {
+    public ProductComparisonResponse compare(String ids, String fields) {
         log.info("Comparing products with ids: {} and fields: {}", ids, fields);
         List<Long> idList = productMapper.parseIds(ids);
         Set<ProductField> fieldSet = productMapper.parseFields(fields);
+        Set<String> specificationKeys = productMapper.parseSpecificationKeys(fields);
 
-        log.info("Parsed ids: {} and fields: {}", idList, fieldSet);
+        log.info("Parsed ids: {}, fields: {} and specification keys: {}", idList, fieldSet, specificationKeys);
 
-        List<Product> products = compareProductsUseCase.getComparison(idList, fieldSet);
+        List<Product> products = compareProductsUseCase.getComparison(idList, fieldSet, specificationKeys);
 
         log.info("Products: {}", products);
 
-        List<ProductResponse> productResponses = products.stream()
-            .map(p -> productMapper.fromProductToProductResponse(p, fieldSet))
-            .toList();
-        return ProductListResponse.builder()
-            .products(productResponses)
-            .build();
+        return new ProductComparisonResponse(products, fieldSet, specificationKeys);
+    }
+
+    @Override
+    public ProductPageResponse list(String productType, String fields, int limit, String cursor) {
+        log.info("Listing products with type: {}, fields: {}, limit: {}", productType, fields, limit);
+        ProductType type = productMapper.parseProductType(productType);
+        Set<ProductField> fieldSet = productMapper.parseFields(fields);
+        Set<String> specificationKeys = productMapper.parseSpecificationKeys(fields);
+
+        ProductPage page = listProductsUseCase.listProducts(type, productMapper.parseCursor(cursor), limit, fieldSet,
+            specificationKeys);
+
+        return new ProductPageResponse(page.products().stream()
+            .map(product -> productMapper.fromProductToProductResponse(product, fieldSet, specificationKeys))
+            .toList(), productMapper.encodeCursor(page.next()));
+    }
+
+    @Override
+    public ProductFacetsResponse facets(String productType, String attributes, String filters) {
+        log.info("Counting facets of type: {}, attributes: {}, filters: {}", productType, attributes, filters);
+        ProductType type = productMapper.parseProductType(productType);
+        ProductFacets facets = facetProductsUseCase.facetProducts(type, productMapper.parseFacetFilters(filters),
+            productMapper.parseFacetAttributes(attributes));
+        return new ProductFacetsResponse(type.name(), facets.total(), facets.counts());
+    }
+
+    @Override
+    public ProductSearchResponse search(String query, int limit) {
+        log.info("Searching products matching: {}", query);
+        return new ProductSearchResponse(searchProductsUseCase.searchProducts(query, limit));
+    }
+
+    @Override
+    public void export(String productType, String fields, HttpServletResponse response) throws IOException {
+        log.info("Exporting products with type: {} and fields: {}", productType, fields);
+        ProductType type = productMapper.parseProductType(productType);
+        Set<ProductField> fieldSet = productMapper.parseFields(fields);
+        Set<String> specificationKeys = productMapper.parseSpecificationKeys(fields);
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        try (ProductNdjsonWriter writer =
+                 new ProductNdjsonWriter(objectMapper, response.getOutputStream(), fieldSet, specificationKeys)) {
+            exportProductsUseCase.exportProducts(type, fieldSet, specificationKeys, writer::write);
+        }
+    }
+
+    @Override
+    public ProductResponse create(ProductRequest request) {
+        log.info("Creating product: {}", request.getName());
+        Product created = manageProductsUseCase.createProduct(productMapper.fromProductRequestToProduct(request));
+        return productMapper.fromProductToProductResponse(created);
+    }
+
+    @Override
+    public ProductResponse update(Long id, ProductRequest request) {
+        log.info("Updating product: {}", id);
+        Product updated = manageProductsUseCase.updateProduct(id, productMapper.fromProductRequestToProduct(request));
+        return productMapper.fromProductToProductResponse(updated);
+    }
+
+    @Override
+    public ProductListResponse updateAll(List<ProductRequest> requests) {
+        log.info("Updating {} products", requests.size());
+        List<Product> updated = manageProductsUseCase.updateProducts(requests.stream()
+            .map(productMapper::fromProductRequestToProduct)
+            .toList());
+        return new ProductListResponse(updated.stream()
+            .map(productMapper::fromProductToProductResponse)
+            .toList());
+    }
+
+    @Override
+    public ProductUpsertResponse upsertAll(List<ProductRequest> requests) {
+        log.info("Upserting {} products", requests.size());
+        ProductUpsertResult result = manageProductsUseCase.upsertProducts(requests.stream()
+            .map(productMapper::fromProductRequestToProduct)
+            .toList());
+        return new ProductUpsertResponse(result.ids(), result.created(), result.updated());
     }
 }
@@ -0,0 +1,63 @@
+package com.mercadolibre.infrastructure.adapter.input.rest.interceptor;
+
+import com.mercadolibre.infrastructure.adapter.input.rest.exception.ConcurrencyLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Caps the number of requests handled at the same time. With virtual threads the container no longer
+ * bounds concurrency through its worker pool, so this takes the place of {@code server.tomcat.threads.max}:
+ * a request waits up to {@code maxWait} for a slot and is otherwise rejected with
+ * {@link ConcurrencyLimitExceededException}.
+ */
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private final Semaphore permits;
+
+    private final int maxInFlight;
+
+    private final long maxWaitNanos;
+
+    private final Counter rejected;
+
+    public ConcurrencyLimitInterceptor(int maxInFlight, Duration maxWait, MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxInFlight);
+        this.maxInFlight = maxInFlight;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.rejected = Counter.builder("product.requests.rejected")
+            .description("Requests rejected because the in-flight limit was reached")
+            .register(meterRegistry);
+        Gauge.builder("product.requests.in.flight", permits, p -> maxInFlight - p.availablePermits())
+            .description("Requests currently holding an in-flight slot")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+        throws InterruptedException {
+        if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+            rejected.increment();
+            throw new ConcurrencyLimitExceededException(maxInFlight);
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permits.release();
+        }
+    }
+}
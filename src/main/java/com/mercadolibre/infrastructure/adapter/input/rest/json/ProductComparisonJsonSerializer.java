@@ -0,0 +1,192 @@
+package com.mercadolibre.infrastructure.adapter.input.rest.json;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.mercadolibre.application.port.input.ProductField;
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.domain.model.RawJsonSpecifications;
+import com.mercadolibre.domain.model.Specifications;
+import com.mercadolibre.infrastructure.adapter.input.rest.mapper.ProductMapper;
+import com.mercadolibre.infrastructure.adapter.input.rest.response.ProductComparisonResponse;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Writes a {@link ProductComparisonResponse} field by field to the {@link JsonGenerator}. The output is
+ * byte-identical to serializing the equivalent {@code ProductListResponse}: same property order, nulls
+ * omitted ({@code NON_NULL}), empty specifications omitted, and specifications written through Jackson's
+ * map serializer after the same {@link HashMap} copy the DTO mapping makes (typed {@link Specifications}
+ * already iterate in that order and are written as-is), so entry order matches too. The exception is
+ * unmodified {@link RawJsonSpecifications}: their stored JSON is streamed token by token into the response
+ * without being parsed into a map, so they keep the stored entry order. When specification keys are
+ * requested, only those entries are written (other stored values are skipped without being built).
+ *
+ * <p>When a {@link ProductJsonFragmentCache} is available (Spring creates this serializer through its handler
+ * instantiator), each product is encoded once per field set and later responses copy the cached bytes.
+ * Pretty-printed output and responses narrowed to specification keys always take the direct path.
+ */
+public class ProductComparisonJsonSerializer extends StdSerializer<ProductComparisonResponse> {
+
+    private static final JsonFactory FRAGMENT_FACTORY = new JsonFactory();
+
+    private final ProductJsonFragmentCache fragmentCache;
+
+    public ProductComparisonJsonSerializer() {
+        this((ProductJsonFragmentCache) null);
+    }
+
+    @Autowired
+    public ProductComparisonJsonSerializer(ObjectProvider<ProductJsonFragmentCache> fragmentCache) {
+        this(fragmentCache.getIfAvailable());
+    }
+
+    ProductComparisonJsonSerializer(ProductJsonFragmentCache fragmentCache) {
+        super(ProductComparisonResponse.class);
+        this.fragmentCache = fragmentCache;
+    }
+
+    @Override
+    public void serialize(ProductComparisonResponse value, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+        Set<ProductField> fields = value.fields() == null || value.fields().isEmpty() ? null : value.fields();
+        Set<String> specificationKeys = value.specificationKeys();
+        boolean useFragments = fragmentCache != null && gen.getPrettyPrinter() == null && specificationKeys == null;
+        int mask = ProductJsonFragmentCache.mask(fields);
+        gen.writeStartObject();
+        gen.writeFieldName("products");
+        if (value.products() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartArray();
+            for (Product product : value.products()) {
+                if (useFragments && product.getId() != null) {
+                    gen.writeRawValue(fragment(product, fields, mask, gen, provider));
+                } else {
+                    writeProduct(product, fields, specificationKeys, gen, provider);
+                }
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndObject();
+    }
+
+    private Utf8JsonFragment fragment(Product product, Set<ProductField> fields, int mask, JsonGenerator gen,
+                                      SerializerProvider provider) throws IOException {
+        Utf8JsonFragment fragment = fragmentCache.get(product, mask);
+        if (fragment != null) {
+            return fragment;
+        }
+        try (ByteArrayBuilder bytes = new ByteArrayBuilder();
+             JsonGenerator fragmentGen = FRAGMENT_FACTORY.createGenerator(bytes, JsonEncoding.UTF8)) {
+            fragmentGen.overrideStdFeatures(gen.getFeatureMask(), -1);
+            fragmentGen.setCharacterEscapes(gen.getCharacterEscapes());
+            writeProduct(product, fields, null, fragmentGen, provider);
+            fragmentGen.flush();
+            fragment = new Utf8JsonFragment(bytes.toByteArray());
+        }
+        fragmentCache.put(product, mask, fragment);
+        return fragment;
+    }
+
+    static void writeProduct(Product product, Set<ProductField> fields, Set<String> specificationKeys,
+                                     JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        if (product.getId() != null && includes(fields, ProductField.ID)) {
+            gen.writeNumberField(ProductField.ID.getValue(), product.getId());
+        }
+        writeString(gen, fields, ProductField.NAME, product.getName());
+        writeString(gen, fields, ProductField.DESCRIPTION, product.getDescription());
+        writeDecimal(gen, fields, ProductField.PRICE, product.getPrice());
+        writeString(gen, fields, ProductField.SIZE, product.getSize());
+        writeString(gen, fields, ProductField.WEIGHT, product.getWeight());
+        writeString(gen, fields, ProductField.COLOR, product.getColor());
+        writeString(gen, fields, ProductField.IMAGE_URL, product.getImageUrl());
+        writeDecimal(gen, fields, ProductField.RATING, product.getRating());
+        if (product.getProductType() != null) {
+            writeString(gen, fields, ProductField.PRODUCT_TYPE, product.getProductType().name());
+        }
+        Map<String, Object> specifications = product.getSpecifications();
+        if (specifications != null && !specifications.isEmpty() && includes(fields, ProductField.SPECIFICATIONS)) {
+            String raw = specifications instanceof RawJsonSpecifications rawSpecifications
+                ? rawSpecifications.rawJson() : null;
+            if (raw != null) {
+                copyJson(raw, specificationKeys, gen);
+            } else {
+                writeSpecifications(ProductMapper.selectSpecifications(specifications, specificationKeys), gen,
+                    provider);
+            }
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeSpecifications(Map<String, Object> specifications, JsonGenerator gen,
+                                            SerializerProvider provider) throws IOException {
+        if (!specifications.isEmpty()) {
+            provider.defaultSerializeField(ProductField.SPECIFICATIONS.getValue(),
+                specifications instanceof Specifications ? specifications : new HashMap<>(specifications), gen);
+        }
+    }
+
+    /**
+     * Streams the stored specifications object into the {@code specifications} field, keeping only
+     * {@code keys} ({@code null} for all); the field is omitted when no requested key is present.
+     */
+    private static void copyJson(String json, Set<String> keys, JsonGenerator gen) throws IOException {
+        try (JsonParser parser = FRAGMENT_FACTORY.createParser(json)) {
+            parser.nextToken();
+            if (keys == null) {
+                gen.writeFieldName(ProductField.SPECIFICATIONS.getValue());
+                gen.copyCurrentStructure(parser);
+                return;
+            }
+            boolean started = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String key = parser.currentName();
+                parser.nextToken();
+                if (!keys.contains(key)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (!started) {
+                    gen.writeObjectFieldStart(ProductField.SPECIFICATIONS.getValue());
+                    started = true;
+                }
+                gen.writeFieldName(key);
+                gen.copyCurrentStructure(parser);
+            }
+            if (started) {
+                gen.writeEndObject();
+            }
+        }
+    }
+
+    private static void writeString(JsonGenerator gen, Set<ProductField> fields, ProductField field, String value)
+        throws IOException {
+        if (value != null && includes(fields, field)) {
+            gen.writeStringField(field.getValue(), value);
+        }
+    }
+
+    private static void writeDecimal(JsonGenerator gen, Set<ProductField> fields, ProductField field,
+                                     BigDecimal value) throws IOException {
+        if (value != null && includes(fields, field)) {
+            gen.writeFieldName(field.getValue());
+            gen.writeNumber(value);
+        }
+    }
+
+    private static boolean includes(Set<ProductField> fields, ProductField field) {
+        return fields == null || fields.contains(field);
+    }
+}
@@ -0,0 +1,71 @@
+package com.mercadolibre.infrastructure.adapter.input.rest.json;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mercadolibre.application.port.input.ProductField;
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.infrastructure.adapter.output.cache.ProductCacheWriteListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Encoded JSON of individual products, per requested field set, so repeated comparisons splice bytes
+ * instead of re-serializing. Entries are grouped by product id (bounded and expired by the Caffeine cache)
+ * and dropped whenever that product is written to the product cache.
+ *
+ * <p>A fragment is only reused for the very {@link Product} instance it was encoded from, as served by the
+ * in-process near cache. A request still holding a product read before an update may encode it after the
+ * update's invalidation ran; the fragment it stores then belongs to the outdated instance and is never
+ * served for the fresh one.
+ */
+public class ProductJsonFragmentCache implements ProductCacheWriteListener {
+
+    static final int ALL_FIELDS = (1 << ProductField.values().length) - 1;
+
+    private final Cache<Long, Map<Integer, Entry>> fragments;
+
+    public ProductJsonFragmentCache(long maximumSize, Duration timeToLive, MeterRegistry meterRegistry) {
+        this.fragments = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(timeToLive)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, fragments, "product-json");
+    }
+
+    /** Field mask for a requested field set; {@code null} or empty means all fields. */
+    static int mask(Set<ProductField> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return ALL_FIELDS;
+        }
+        int mask = 0;
+        for (ProductField field : fields) {
+            mask |= 1 << field.ordinal();
+        }
+        return mask;
+    }
+
+    /** The fragment encoded from this very product instance for {@code mask}, or {@code null}. */
+    Utf8JsonFragment get(Product product, int mask) {
+        Map<Integer, Entry> byMask = fragments.getIfPresent(product.getId());
+        Entry entry = byMask != null ? byMask.get(mask) : null;
+        return entry != null && entry.source() == product ? entry.fragment() : null;
+    }
+
+    void put(Product product, int mask, Utf8JsonFragment fragment) {
+        fragments.get(product.getId(), id -> new ConcurrentHashMap<>()).put(mask, new Entry(product, fragment));
+    }
+
+    @Override
+    public void productsWritten(Collection<Long> productIds) {
+        fragments.invalidateAll(productIds);
+    }
+
+    private record Entry(Product source, Utf8JsonFragment fragment) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.mercadolibre.infrastructure.adapter.input.rest.json;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.mercadolibre.application.port.input.ProductField;
+import com.mercadolibre.domain.model.Product;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Set;
+
+/**
+ * Writes products as newline-delimited JSON: one object per line, in the same layout (and with the same field
+ * and specification-key selection) as the items of a comparison response. Output goes through one generator
+ * with a fixed-size buffer, so memory does not grow with the number of products written.
+ */
+public class ProductNdjsonWriter implements Closeable {
+
+    private final JsonGenerator gen;
+
+    private final SerializerProvider provider;
+
+    private final Set<ProductField> fields;
+
+    private final Set<String> specificationKeys;
+
+    public ProductNdjsonWriter(ObjectMapper objectMapper, OutputStream out, Set<ProductField> fields,
+                               Set<String> specificationKeys) throws IOException {
+        this.gen = objectMapper.createGenerator(out, JsonEncoding.UTF8);
+        this.gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.gen.setRootValueSeparator(null);
+        this.provider = objectMapper.getSerializerProviderInstance();
+        this.fields = fields == null || fields.isEmpty() ? null : fields;
+        this.specificationKeys = specificationKeys;
+    }
+
+    /** Writes one product line; I/O failures are rethrown unchecked so this can be used as a consumer. */
+    public void write(Product product) {
+        try {
+            ProductComparisonJsonSerializer.writeProduct(product, fields, specificationKeys, gen, provider);
+            gen.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Flushes buffered lines; the underlying stream is left open. */
+    @Override
+    public void close() throws IOException {
+        gen.close();
+    }
+}
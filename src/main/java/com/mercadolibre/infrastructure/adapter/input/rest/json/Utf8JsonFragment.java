@@ -0,0 +1,116 @@
+package com.mercadolibre.infrastructure.adapter.input.rest.json;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Already-encoded UTF-8 JSON value, written with {@link com.fasterxml.jackson.core.JsonGenerator#writeRawValue(
+ * SerializableString)}. Byte-based generators copy {@link #appendUnquotedUTF8} straight into their buffer; the
+ * {@link String} form is only decoded if a character-based generator asks for it.
+ */
+final class Utf8JsonFragment implements SerializableString {
+
+    private final byte[] utf8;
+
+    private volatile String value;
+
+    Utf8JsonFragment(byte[] utf8) {
+        this.utf8 = utf8;
+    }
+
+    int byteLength() {
+        return utf8.length;
+    }
+
+    @Override
+    public String getValue() {
+        String v = value;
+        if (v == null) {
+            v = new String(utf8, StandardCharsets.UTF_8);
+            value = v;
+        }
+        return v;
+    }
+
+    @Override
+    public int charLength() {
+        return getValue().length();
+    }
+
+    @Override
+    public byte[] asUnquotedUTF8() {
+        return utf8;
+    }
+
+    @Override
+    public int appendUnquotedUTF8(byte[] buffer, int offset) {
+        if (offset + utf8.length > buffer.length) {
+            return -1;
+        }
+        System.arraycopy(utf8, 0, buffer, offset, utf8.length);
+        return utf8.length;
+    }
+
+    @Override
+    public int appendUnquoted(char[] buffer, int offset) {
+        String v = getValue();
+        if (offset + v.length() > buffer.length) {
+            return -1;
+        }
+        v.getChars(0, v.length(), buffer, offset);
+        return v.length();
+    }
+
+    @Override
+    public int writeUnquotedUTF8(OutputStream out) throws IOException {
+        out.write(utf8);
+        return utf8.length;
+    }
+
+    @Override
+    public int putUnquotedUTF8(ByteBuffer buffer) {
+        if (utf8.length > buffer.remaining()) {
+            return -1;
+        }
+        buffer.put(utf8);
+        return utf8.length;
+    }
+
+    @Override
+    public char[] asQuotedChars() {
+        return quoted().asQuotedChars();
+    }
+
+    @Override
+    public byte[] asQuotedUTF8() {
+        return quoted().asQuotedUTF8();
+    }
+
+    @Override
+    public int appendQuotedUTF8(byte[] buffer, int offset) {
+        return quoted().appendQuotedUTF8(buffer, offset);
+    }
+
+    @Override
+    public int appendQuoted(char[] buffer, int offset) {
+        return quoted().appendQuoted(buffer, offset);
+    }
+
+    @Override
+    public int writeQuotedUTF8(OutputStream out) throws IOException {
+        return quoted().writeQuotedUTF8(out);
+    }
+
+    @Override
+    public int putQuotedUTF8(ByteBuffer buffer) throws IOException {
+        return quoted().putQuotedUTF8(buffer);
+    }
+
+    private SerializedString quoted() {
+        return new SerializedString(getValue());
+    }
+}
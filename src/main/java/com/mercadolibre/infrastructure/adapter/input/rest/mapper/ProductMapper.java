@@ -1,25 +1,43 @@
 package com.mercadolibre.infrastructure.adapter.input.rest.mapper;
 
+import com.mercadolibre.application.port.input.FacetFilter;
 import com.mercadolibre.application.port.input.ProductField;
+import com.mercadolibre.application.port.input.ProductPageCursor;
 import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.domain.model.ProductType;
+import com.mercadolibre.domain.model.Specifications;
+import com.mercadolibre.infrastructure.adapter.input.rest.request.ProductRequest;
 import com.mercadolibre.infrastructure.adapter.input.rest.response.ProductResponse;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.springframework.stereotype.Component;
 
 @Component
 public class ProductMapper {
 
+    private static final char CURSOR_SEPARATOR = ':';
+
     public ProductResponse fromProductToProductResponse(Product product) {
         return fromProductToProductResponse(product, null);
     }
 
     public ProductResponse fromProductToProductResponse(Product product, Set<ProductField> requestedFields) {
+        return fromProductToProductResponse(product, requestedFields, null);
+    }
+
+    public ProductResponse fromProductToProductResponse(Product product, Set<ProductField> requestedFields,
+                                                        Set<String> specificationKeys) {
         boolean filter = requestedFields != null && !requestedFields.isEmpty();
 
         ProductResponse.ProductResponseBuilder builder = ProductResponse.builder();
@@ -55,13 +73,36 @@ public class ProductMapper {
             builder.productType(product.getProductType() != null ? product.getProductType().name() : null);
         }
         if (!filter || requestedFields.contains(ProductField.SPECIFICATIONS)) {
-            Map<String, Object> specs = product.getSpecifications();
-            builder.specifications(specs == null || specs.isEmpty() ? null : new HashMap<>(specs));
+            Map<String, Object> specs = selectSpecifications(product.getSpecifications(), specificationKeys);
+            builder.specifications(specs == null || specs.isEmpty() ? null
+                : specs instanceof Specifications ? specs : new HashMap<>(specs));
         }
 
         return builder.build();
     }
 
+    /** Maps a write request to a product; the type defaults to {@link ProductType#GENERIC}. */
+    public Product fromProductRequestToProduct(ProductRequest request) {
+        ProductType productType = parseProductType(request.getProductType());
+        if (productType == null) {
+            productType = ProductType.GENERIC;
+        }
+        return Product.builder()
+            .id(request.getId())
+            .name(request.getName())
+            .description(request.getDescription())
+            .price(request.getPrice())
+            .size(request.getSize())
+            .weight(request.getWeight())
+            .color(request.getColor())
+            .imageUrl(request.getImageUrl())
+            .rating(request.getRating())
+            .productType(productType)
+            .specifications(Specifications.of(productType,
+                request.getSpecifications() != null ? request.getSpecifications() : new HashMap<>()))
+            .build();
+    }
+
     public List<Long> parseIds(String ids) {
         if (ids == null || ids.isBlank()) {
             return Collections.emptyList();
@@ -79,16 +120,163 @@ public class ProductMapper {
             .toList();
     }
 
+    public ProductType parseProductType(String productType) {
+        if (productType == null || productType.isBlank()) {
+            return null;
+        }
+        try {
+            return ProductType.valueOf(productType.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid product type: " + productType);
+        }
+    }
+
+    /**
+     * Parses the {@code fields} parameter. Dotted paths ({@code specifications.memoryGb}) select
+     * {@link ProductField#SPECIFICATIONS}; see {@link #parseSpecificationKeys} for the keys they name.
+     */
     public Set<ProductField> parseFields(String fields) {
         if (fields == null || fields.isBlank()) {
             return null;
         }
-        Set<ProductField> result = Arrays.stream(fields.split(","))
-            .map(String::trim)
-            .filter(s -> !s.isEmpty())
-            .map(ProductField::fromString)
+        Set<ProductField> result = fieldPaths(fields)
+            .map(ProductField::fromPath)
             .filter(f -> f != null)
             .collect(Collectors.toSet());
         return result.isEmpty() ? null : result;
     }
+
+    /**
+     * Encodes a listing cursor as an opaque URL-safe token; {@code null} for no cursor.
+     */
+    public String encodeCursor(ProductPageCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String key = cursor.productType().name() + CURSOR_SEPARATOR + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token from {@link #encodeCursor}; {@code null} or blank for the first page.
+     */
+    public ProductPageCursor parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String key = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int separator = key.indexOf(CURSOR_SEPARATOR);
+            return new ProductPageCursor(ProductType.valueOf(key.substring(0, separator)),
+                Long.parseLong(key.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    /**
+     * Specification keys named by {@code specifications.<key>} paths in the {@code fields} parameter, or
+     * {@code null} (all keys) when there are none or when {@code specifications} itself is requested.
+     */
+    public Set<String> parseSpecificationKeys(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> keys = new LinkedHashSet<>();
+        for (String path : fieldPaths(fields).toList()) {
+            if (ProductField.fromString(path) == ProductField.SPECIFICATIONS) {
+                return null;
+            }
+            String key = ProductField.specificationKey(path);
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+        return keys.isEmpty() ? null : keys;
+    }
+
+    /**
+     * The entries of {@code specifications} named in {@code keys}, in a new {@link HashMap}; {@code keys} of
+     * {@code null} keeps all entries.
+     */
+    public static Map<String, Object> selectSpecifications(Map<String, Object> specifications, Set<String> keys) {
+        if (keys == null || specifications == null || specifications.isEmpty()) {
+            return specifications;
+        }
+        Map<String, Object> selected = HashMap.newHashMap(keys.size());
+        for (String key : keys) {
+            if (specifications.containsKey(key)) {
+                selected.put(key, specifications.get(key));
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Specification keys in the comma-separated {@code attributes} parameter of the facet endpoint, or
+     * {@code null} (every key) when there are none.
+     */
+    public Set<String> parseFacetAttributes(String attributes) {
+        if (attributes == null || attributes.isBlank()) {
+            return null;
+        }
+        Set<String> keys = fieldPaths(attributes).collect(Collectors.toCollection(LinkedHashSet::new));
+        return keys.isEmpty() ? null : keys;
+    }
+
+    /**
+     * Parses the comma-separated {@code filters} parameter of the facet endpoint: each filter is
+     * {@code <attribute><operator><value>} with {@code =, >, >=, <, <=}; {@code =} accepts alternatives separated
+     * by {@code |} ({@code brand=Alpha|Beta}) and the other operators a number.
+     */
+    public List<FacetFilter> parseFacetFilters(String filters) {
+        if (filters == null || filters.isBlank()) {
+            return List.of();
+        }
+        return fieldPaths(filters).map(ProductMapper::parseFacetFilter).toList();
+    }
+
+    private static FacetFilter parseFacetFilter(String filter) {
+        int start = 0;
+        while (start < filter.length() && "<>=".indexOf(filter.charAt(start)) < 0) {
+            start++;
+        }
+        int end = start;
+        while (end < filter.length() && "<>=".indexOf(filter.charAt(end)) >= 0) {
+            end++;
+        }
+        FacetFilter.Operator operator = switch (filter.substring(start, end)) {
+            case "=" -> FacetFilter.Operator.EQ;
+            case ">" -> FacetFilter.Operator.GT;
+            case ">=" -> FacetFilter.Operator.GTE;
+            case "<" -> FacetFilter.Operator.LT;
+            case "<=" -> FacetFilter.Operator.LTE;
+            default -> null;
+        };
+        String attribute = filter.substring(0, start).trim();
+        List<String> values = Arrays.stream(filter.substring(end).split("\\|"))
+            .map(String::trim)
+            .filter(v -> !v.isEmpty())
+            .toList();
+        if (operator == null || attribute.isEmpty() || values.isEmpty()
+            || (operator.isRange() && (values.size() > 1 || !isNumber(values.get(0))))) {
+            throw new IllegalArgumentException("Invalid facet filter: " + filter);
+        }
+        return new FacetFilter(attribute, operator, values);
+    }
+
+    private static boolean isNumber(String value) {
+        try {
+            new BigDecimal(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static Stream<String> fieldPaths(String fields) {
+        return Arrays.stream(fields.split(","))
+            .map(String::trim)
+            .filter(s -> !s.isEmpty());
+    }
 }
@@ -0,0 +1,75 @@
+package com.mercadolibre.infrastructure.adapter.input.rest.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Product request DTO for the write API. Limits mirror the products table columns.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Full state of a product to create or update")
+public class ProductRequest {
+
+    @Schema(description = "Product identifier; omitted on create, required in bulk updates", example = "1")
+    private Long id;
+
+    @NotBlank(message = "Product name is required")
+    @Size(max = 255)
+    @Schema(description = "Product name", example = "Smartphone Alpha X1", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String name;
+
+    @Size(max = 2000)
+    @Schema(description = "Product description")
+    private String description;
+
+    @NotNull(message = "Product price is required")
+    @DecimalMin("0.00")
+    @Digits(integer = 10, fraction = 2)
+    @Schema(description = "Price", example = "449.99", requiredMode = Schema.RequiredMode.REQUIRED)
+    private BigDecimal price;
+
+    @Size(max = 50)
+    @Schema(description = "Size", example = "6.2\"")
+    private String size;
+
+    @Size(max = 50)
+    @Schema(description = "Weight", example = "180g")
+    private String weight;
+
+    @Size(max = 50)
+    @Schema(description = "Color", example = "Black")
+    private String color;
+
+    @Size(max = 500)
+    @Schema(description = "Product image URL")
+    private String imageUrl;
+
+    @DecimalMin("0.00")
+    @DecimalMax("5.00")
+    @Digits(integer = 1, fraction = 2)
+    @Schema(description = "Product rating", example = "4.5")
+    private BigDecimal rating;
+
+    @Schema(description = "Product type (GENERIC, SMARTPHONE, etc.); GENERIC when omitted", example = "SMARTPHONE")
+    private String productType;
+
+    @Schema(description = "Dynamic specifications by product type", additionalProperties = Schema.AdditionalPropertiesValue.TRUE)
+    private Map<String, Object> specifications;
+}
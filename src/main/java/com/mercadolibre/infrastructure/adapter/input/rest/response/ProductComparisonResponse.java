@@ -0,0 +1,25 @@
+package com.mercadolibre.infrastructure.adapter.input.rest.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.mercadolibre.application.port.input.ProductField;
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.infrastructure.adapter.input.rest.json.ProductComparisonJsonSerializer;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Comparison result as returned by the controller: the domain products plus the requested fields
+ * ({@code null} or empty for all) and specification keys ({@code null} for all). Written by
+ * {@link ProductComparisonJsonSerializer} straight to the response stream in the {@link ProductListResponse}
+ * JSON layout, without building {@link ProductResponse} objects.
+ */
+@JsonSerialize(using = ProductComparisonJsonSerializer.class)
+@Schema(implementation = ProductListResponse.class)
+public record ProductComparisonResponse(List<Product> products, Set<ProductField> fields,
+                                        Set<String> specificationKeys) {
+
+    public ProductComparisonResponse(List<Product> products, Set<ProductField> fields) {
+        this(products, fields, null);
+    }
+}
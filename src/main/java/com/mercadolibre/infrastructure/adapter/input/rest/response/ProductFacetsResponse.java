@@ -0,0 +1,33 @@
+package com.mercadolibre.infrastructure.adapter.input.rest.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+/**
+ * Facet endpoint response: how many products of the type meet the filters, and how they spread over the values
+ * of each attribute.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Facet counts over specification attributes")
+public class ProductFacetsResponse {
+
+    @Schema(description = "Product type counted", example = "SMARTPHONE")
+    private String productType;
+
+    @Schema(description = "Products of the type meeting every filter", example = "2")
+    private long total;
+
+    @Schema(description = "Per attribute, the number of matching products holding each value",
+            example = "{\"brand\": {\"Alpha\": 1, \"Beta\": 1}}")
+    private Map<String, Map<String, Long>> facets;
+}
@@ -0,0 +1,30 @@
+package com.mercadolibre.infrastructure.adapter.input.rest.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Listing endpoint response: one page of products and the cursor of the next page.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Page of products")
+public class ProductPageResponse {
+
+    @Schema(description = "Products ordered by product type, then id")
+    private List<ProductResponse> products;
+
+    @Schema(description = "Opaque cursor of the next page; absent on the last page", example = "R0VORVJJQzo0")
+    private String nextCursor;
+}
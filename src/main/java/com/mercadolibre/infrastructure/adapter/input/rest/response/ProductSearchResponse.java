@@ -0,0 +1,25 @@
+package com.mercadolibre.infrastructure.adapter.input.rest.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Search endpoint response: ids of the matching products, best match first, ready for {@code /products/compare}.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Product search result")
+public class ProductSearchResponse {
+
+    @Schema(description = "Matching product ids, best match first", example = "[1, 2]")
+    private List<Long> ids;
+}
@@ -0,0 +1,31 @@
+package com.mercadolibre.infrastructure.adapter.input.rest.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Bulk upsert response: the stored ids and how many products were created and updated.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Bulk upsert result")
+public class ProductUpsertResponse {
+
+    @Schema(description = "Product ids in request order; generated for created products", example = "[3, 101, 102]")
+    private List<Long> ids;
+
+    @Schema(description = "Number of products created", example = "2")
+    private int created;
+
+    @Schema(description = "Number of products updated", example = "1")
+    private int updated;
+}
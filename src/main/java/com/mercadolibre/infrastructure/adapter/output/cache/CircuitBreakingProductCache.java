@@ -0,0 +1,277 @@
+package com.mercadolibre.infrastructure.adapter.output.cache;
+
+import com.mercadolibre.application.port.output.ProductCache;
+import com.mercadolibre.domain.model.Product;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link ProductCache} decorator that stops using the delegate (Redis) when it degrades, so comparisons fall
+ * back to the database at database latency instead of waiting for the Redis timeout.
+ *
+ * <p>The outcome and latency of the last {@code windowSize} calls are kept in a ring buffer. Once it holds at
+ * least {@code minimumCalls}, the breaker opens when the failure rate reaches {@code failureRateThreshold} or
+ * when the {@code latencyPercentile} latency reaches {@code slowCallThreshold} (more than
+ * {@code 1 - latencyPercentile} of the calls were slower). While open, {@link #isAvailable()} is {@code false},
+ * lookups return no products and writes are dropped without touching the delegate. A background task probes
+ * the delegate every {@code probeInterval} with a single-key lookup; after {@code probeSuccesses} consecutive
+ * fast, successful probes the breaker closes with an empty window.
+ *
+ * <p>Failed lookups are reported as all misses; failed writes are recorded and rethrown.
+ */
+@Slf4j
+public class CircuitBreakingProductCache implements ProductCache, AutoCloseable {
+
+    /** Id looked up by recovery probes; never a stored product. */
+    static final long PROBE_ID = Long.MIN_VALUE;
+
+    private final ProductCache delegate;
+
+    private final int minimumCalls;
+
+    private final double failureRateThreshold;
+
+    private final double latencyPercentile;
+
+    private final long slowCallNanos;
+
+    private final long probeIntervalNanos;
+
+    private final int probeSuccesses;
+
+    private final LongSupplier nanoClock;
+
+    private final ScheduledExecutorService prober;
+
+    private final Counter opened;
+
+    private final Counter closed;
+
+    private final Counter bypassed;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final boolean[] failedCalls;
+
+    private final boolean[] slowCalls;
+
+    private int next;
+
+    private int calls;
+
+    private int failures;
+
+    private int slow;
+
+    private int consecutiveProbeSuccesses;
+
+    private volatile boolean open;
+
+    public CircuitBreakingProductCache(ProductCache delegate, int windowSize, int minimumCalls,
+                                       double failureRateThreshold, double latencyPercentile,
+                                       Duration slowCallThreshold, Duration probeInterval, int probeSuccesses,
+                                       MeterRegistry meterRegistry) {
+        this(delegate, windowSize, minimumCalls, failureRateThreshold, latencyPercentile, slowCallThreshold,
+            probeInterval, probeSuccesses, meterRegistry, System::nanoTime,
+            Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("product-cache-breaker").daemon().factory()));
+    }
+
+    CircuitBreakingProductCache(ProductCache delegate, int windowSize, int minimumCalls, double failureRateThreshold,
+                                double latencyPercentile, Duration slowCallThreshold, Duration probeInterval,
+                                int probeSuccesses, MeterRegistry meterRegistry, LongSupplier nanoClock,
+                                ScheduledExecutorService prober) {
+        this.delegate = delegate;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.latencyPercentile = latencyPercentile;
+        this.slowCallNanos = slowCallThreshold.toNanos();
+        this.probeIntervalNanos = probeInterval.toNanos();
+        this.probeSuccesses = probeSuccesses;
+        this.nanoClock = nanoClock;
+        this.prober = prober;
+        this.failedCalls = new boolean[windowSize];
+        this.slowCalls = new boolean[windowSize];
+        this.opened = transitions(meterRegistry, "open");
+        this.closed = transitions(meterRegistry, "closed");
+        this.bypassed = Counter.builder("product.cache.breaker.bypassed")
+            .tags(ProductCacheMetrics.tierTags("redis"))
+            .description("Cache calls skipped because the cache circuit breaker was open")
+            .register(meterRegistry);
+        Gauge.builder("product.cache.breaker.open", this, breaker -> breaker.open ? 1 : 0)
+            .tags(ProductCacheMetrics.tierTags("redis"))
+            .description("Whether the cache circuit breaker is open (1) and requests bypass the cache")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return !open && delegate.isAvailable();
+    }
+
+    @Override
+    public Map<Long, Product> getAll(Collection<Long> ids) {
+        if (open) {
+            bypassed.increment();
+            return Map.of();
+        }
+        long start = nanoClock.getAsLong();
+        try {
+            Map<Long, Product> found = delegate.getAll(ids);
+            record(nanoClock.getAsLong() - start, false);
+            return found;
+        } catch (RuntimeException e) {
+            record(nanoClock.getAsLong() - start, true);
+            log.warn("Product cache lookup failed; treating {} products as misses", ids.size(), e);
+            return Map.of();
+        }
+    }
+
+    @Override
+    public void putAll(Collection<Product> products) {
+        if (open) {
+            bypassed.increment();
+            return;
+        }
+        long start = nanoClock.getAsLong();
+        try {
+            delegate.putAll(products);
+            record(nanoClock.getAsLong() - start, false);
+        } catch (RuntimeException e) {
+            record(nanoClock.getAsLong() - start, true);
+            throw e;
+        }
+    }
+
+    /**
+     * Evictions always reach the delegate, even while open: an entry left in Redis would be served once the
+     * breaker closes. Failures are recorded and rethrown.
+     */
+    @Override
+    public void evictAll(Collection<Long> ids) {
+        long start = nanoClock.getAsLong();
+        try {
+            delegate.evictAll(ids);
+            record(nanoClock.getAsLong() - start, false);
+        } catch (RuntimeException e) {
+            record(nanoClock.getAsLong() - start, true);
+            throw e;
+        }
+    }
+
+    /** Whether requests are currently bypassing the delegate. */
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() {
+        prober.shutdownNow();
+    }
+
+    private void record(long latencyNanos, boolean failed) {
+        boolean trip = false;
+        lock.lock();
+        try {
+            if (open) {
+                return;
+            }
+            boolean slowCall = latencyNanos >= slowCallNanos;
+            if (calls == failedCalls.length) {
+                failures -= failedCalls[next] ? 1 : 0;
+                slow -= slowCalls[next] ? 1 : 0;
+            } else {
+                calls++;
+            }
+            failedCalls[next] = failed;
+            slowCalls[next] = slowCall;
+            failures += failed ? 1 : 0;
+            slow += slowCall ? 1 : 0;
+            next = (next + 1) % failedCalls.length;
+            if (calls >= minimumCalls
+                && (failures >= failureRateThreshold * calls || slow > (1 - latencyPercentile) * calls)) {
+                log.warn("Opening product cache circuit breaker: {} failed and {} slow of the last {} calls",
+                    failures, slow, calls);
+                open = true;
+                consecutiveProbeSuccesses = 0;
+                resetWindow();
+                trip = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (trip) {
+            opened.increment();
+            scheduleProbe();
+        }
+    }
+
+    /** Probes the delegate once; closes the breaker after enough consecutive successes, otherwise reschedules. */
+    void probe() {
+        long start = nanoClock.getAsLong();
+        boolean healthy;
+        try {
+            delegate.getAll(List.of(PROBE_ID));
+            healthy = nanoClock.getAsLong() - start < slowCallNanos;
+        } catch (RuntimeException e) {
+            log.debug("Product cache probe failed", e);
+            healthy = false;
+        }
+        boolean recovered = false;
+        lock.lock();
+        try {
+            consecutiveProbeSuccesses = healthy ? consecutiveProbeSuccesses + 1 : 0;
+            if (consecutiveProbeSuccesses >= probeSuccesses) {
+                log.info("Closing product cache circuit breaker after {} healthy probes", consecutiveProbeSuccesses);
+                resetWindow();
+                open = false;
+                recovered = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (recovered) {
+            closed.increment();
+        } else {
+            scheduleProbe();
+        }
+    }
+
+    private void scheduleProbe() {
+        try {
+            prober.schedule(this::probe, probeIntervalNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug("Cache breaker prober is shut down; breaker stays open");
+        }
+    }
+
+    private void resetWindow() {
+        Arrays.fill(failedCalls, false);
+        Arrays.fill(slowCalls, false);
+        next = 0;
+        calls = 0;
+        failures = 0;
+        slow = 0;
+    }
+
+    private static Counter transitions(MeterRegistry meterRegistry, String state) {
+        return Counter.builder("product.cache.breaker.transitions")
+            .tags(ProductCacheMetrics.tierTags("redis"))
+            .tag("state", state)
+            .description("Cache circuit breaker state changes")
+            .register(meterRegistry);
+    }
+}
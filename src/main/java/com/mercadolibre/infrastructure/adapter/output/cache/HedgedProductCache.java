@@ -0,0 +1,240 @@
+package com.mercadolibre.infrastructure.adapter.output.cache;
+
+import com.mercadolibre.application.port.output.ProductCache;
+import com.mercadolibre.application.port.output.ProductRepository;
+import com.mercadolibre.domain.model.Product;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link ProductCache} decorator that hedges slow remote lookups with the database. The delegate lookup runs on
+ * {@code executor}; if it has not answered within the hedge delay, the same ids are read with
+ * {@link ProductRepository#findByIdIn(List)} in parallel and whichever completes first (successfully) is
+ * returned. Products read from the database are returned as hits, so the near tier above keeps them.
+ *
+ * <p>The hedge delay is the {@code percentile} latency of the last {@value #SAMPLES} delegate lookups
+ * (recomputed at most once per second), clamped to {@code [minDelay, maxDelay]}; before any lookup has
+ * completed it is {@code maxDelay}. Hedges are capped by a token bucket that starts empty and is refilled by
+ * {@code maxHedgeRate} tokens per lookup (at most {@value #BURST} saved up), so at most that fraction of lookups
+ * adds database load.
+ * Outcomes are counted in {@code product.cache.hedges{result=cache|database|capped}}.
+ */
+public class HedgedProductCache implements ProductCache {
+
+    static final int SAMPLES = 1024;
+
+    static final long BURST = 10;
+
+    private static final long TOKEN = 1_000_000;
+
+    private static final long REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final ProductCache delegate;
+
+    private final ProductRepository productRepository;
+
+    private final double percentile;
+
+    private final long minDelayNanos;
+
+    private final long maxDelayNanos;
+
+    private final long refillPerLookup;
+
+    private final Executor executor;
+
+    private final LongSupplier nanoClock;
+
+    private final AtomicLongArray latencies = new AtomicLongArray(SAMPLES);
+
+    private final AtomicLong samples = new AtomicLong();
+
+    private final AtomicLong tokens = new AtomicLong();
+
+    private final AtomicLong delayComputedAt;
+
+    private volatile long delayNanos;
+
+    private final Counter cacheWon;
+
+    private final Counter databaseWon;
+
+    private final Counter capped;
+
+    public HedgedProductCache(ProductCache delegate, ProductRepository productRepository, double percentile,
+                              Duration minDelay, Duration maxDelay, double maxHedgeRate, Executor executor,
+                              MeterRegistry meterRegistry) {
+        this(delegate, productRepository, percentile, minDelay, maxDelay, maxHedgeRate, executor, meterRegistry,
+            System::nanoTime);
+    }
+
+    HedgedProductCache(ProductCache delegate, ProductRepository productRepository, double percentile,
+                       Duration minDelay, Duration maxDelay, double maxHedgeRate, Executor executor,
+                       MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.delegate = delegate;
+        this.productRepository = productRepository;
+        this.percentile = percentile;
+        this.minDelayNanos = minDelay.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.refillPerLookup = Math.round(maxHedgeRate * TOKEN);
+        this.executor = executor;
+        this.nanoClock = nanoClock;
+        this.delayNanos = maxDelayNanos;
+        this.delayComputedAt = new AtomicLong(nanoClock.getAsLong());
+        this.cacheWon = hedges(meterRegistry, "cache");
+        this.databaseWon = hedges(meterRegistry, "database");
+        this.capped = hedges(meterRegistry, "capped");
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return delegate.isAvailable();
+    }
+
+    @Override
+    public Map<Long, Product> getAll(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return delegate.getAll(ids);
+        }
+        refill();
+        long start = nanoClock.getAsLong();
+        CompletableFuture<Map<Long, Product>> cached = CompletableFuture.supplyAsync(() -> delegate.getAll(ids),
+            executor);
+        cached.whenComplete((found, failure) -> recordLatency(nanoClock.getAsLong() - start));
+        try {
+            return cached.get(hedgeDelayNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (!acquireToken()) {
+                capped.increment();
+                return await(cached);
+            }
+            return await(race(cached, ids));
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cached.cancel(true);
+            throw new IllegalStateException("Interrupted while waiting for the product cache", e);
+        }
+    }
+
+    @Override
+    public void putAll(Collection<Product> products) {
+        delegate.putAll(products);
+    }
+
+    @Override
+    public void evictAll(Collection<Long> ids) {
+        delegate.evictAll(ids);
+    }
+
+    /** Current hedge delay; exposed for tests. */
+    long hedgeDelayNanos() {
+        long computedAt = delayComputedAt.get();
+        long now = nanoClock.getAsLong();
+        if (now - computedAt >= REFRESH_NANOS && delayComputedAt.compareAndSet(computedAt, now)) {
+            delayNanos = computeDelay();
+        }
+        return delayNanos;
+    }
+
+    private CompletableFuture<Map<Long, Product>> race(CompletableFuture<Map<Long, Product>> cached,
+                                                       Collection<Long> ids) {
+        List<Long> idList = List.copyOf(ids);
+        CompletableFuture<Map<Long, Product>> loaded = CompletableFuture.supplyAsync(
+            () -> byId(productRepository.findByIdIn(idList)), executor);
+        CompletableFuture<Map<Long, Product>> first = new CompletableFuture<>();
+        AtomicBoolean won = new AtomicBoolean();
+        AtomicInteger failures = new AtomicInteger();
+        cached.whenComplete((found, failure) -> settle(first, found, failure, won, failures, cacheWon));
+        loaded.whenComplete((found, failure) -> settle(first, found, failure, won, failures, databaseWon));
+        return first;
+    }
+
+    /** Completes {@code first} with the first success, counting the winner before any caller can see it. */
+    private static void settle(CompletableFuture<Map<Long, Product>> first, Map<Long, Product> found,
+                               Throwable failure, AtomicBoolean won, AtomicInteger failures, Counter winner) {
+        if (failure == null) {
+            if (won.compareAndSet(false, true)) {
+                winner.increment();
+                first.complete(found);
+            }
+        } else if (failures.incrementAndGet() == 2) {
+            first.completeExceptionally(failure);
+        }
+    }
+
+    private static Map<Long, Product> await(CompletableFuture<Map<Long, Product>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof CompletionException completion && completion.getCause() != null) {
+            cause = completion.getCause();
+        }
+        return cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+    }
+
+    private static Map<Long, Product> byId(List<Product> products) {
+        Map<Long, Product> found = HashMap.newHashMap(products.size());
+        for (Product product : products) {
+            found.put(product.getId(), product);
+        }
+        return found;
+    }
+
+    private void recordLatency(long nanos) {
+        latencies.set((int) (samples.getAndIncrement() % SAMPLES), nanos);
+    }
+
+    private long computeDelay() {
+        int count = (int) Math.min(samples.get(), SAMPLES);
+        if (count == 0) {
+            return maxDelayNanos;
+        }
+        long[] sorted = new long[count];
+        for (int i = 0; i < count; i++) {
+            sorted[i] = latencies.get(i);
+        }
+        Arrays.sort(sorted);
+        long observed = sorted[Math.clamp((long) Math.ceil(percentile * count) - 1, 0, count - 1)];
+        return Math.clamp(observed, minDelayNanos, maxDelayNanos);
+    }
+
+    private void refill() {
+        tokens.getAndUpdate(current -> Math.min(BURST * TOKEN, current + refillPerLookup));
+    }
+
+    private boolean acquireToken() {
+        return tokens.getAndUpdate(current -> current >= TOKEN ? current - TOKEN : current) >= TOKEN;
+    }
+
+    private static Counter hedges(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("product.cache.hedges")
+            .tags(ProductCacheMetrics.tierTags("redis"))
+            .tag("result", result)
+            .description("Slow cache lookups raced against the database, by which side answered first, or capped")
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,61 @@
+package com.mercadolibre.infrastructure.adapter.output.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.mercadolibre.application.port.output.ProductCache;
+import com.mercadolibre.domain.model.Product;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ProductCache} decorator that keeps a size-bounded, short-lived in-process copy (Caffeine, W-TinyLFU
+ * admission) in front of a remote cache. Only ids missing from the near tier reach the delegate; remote hits
+ * are promoted, and writes and evictions go to both tiers.
+ */
+public class NearProductCache implements ProductCache {
+
+    private final Cache<Long, Product> near;
+
+    private final ProductCache delegate;
+
+    public NearProductCache(Cache<Long, Product> near, ProductCache delegate) {
+        this.near = near;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return delegate.isAvailable();
+    }
+
+    @Override
+    public Map<Long, Product> getAll(Collection<Long> ids) {
+        Map<Long, Product> nearHits = near.getAllPresent(ids);
+        if (nearHits.size() == ids.size()) {
+            return nearHits;
+        }
+        List<Long> remaining = ids.stream()
+            .filter(id -> !nearHits.containsKey(id))
+            .toList();
+        Map<Long, Product> remoteHits = delegate.getAll(remaining);
+        near.putAll(remoteHits);
+        Map<Long, Product> found = new HashMap<>(nearHits);
+        found.putAll(remoteHits);
+        return found;
+    }
+
+    @Override
+    public void putAll(Collection<Product> products) {
+        delegate.putAll(products);
+        for (Product product : products) {
+            near.put(product.getId(), product);
+        }
+    }
+
+    @Override
+    public void evictAll(Collection<Long> ids) {
+        near.invalidateAll(ids);
+        delegate.evictAll(ids);
+    }
+}
@@ -0,0 +1,57 @@
+package com.mercadolibre.infrastructure.adapter.output.cache;
+
+import com.mercadolibre.application.port.output.ProductCache;
+import com.mercadolibre.domain.model.Product;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@link ProductCache} decorator that tells {@link ProductCacheWriteListener}s which product ids were written or
+ * evicted. Listeners are notified after the delegate accepted the write or eviction.
+ */
+public class NotifyingProductCache implements ProductCache {
+
+    private final ProductCache delegate;
+
+    private final List<ProductCacheWriteListener> listeners;
+
+    public NotifyingProductCache(ProductCache delegate, List<ProductCacheWriteListener> listeners) {
+        this.delegate = delegate;
+        this.listeners = List.copyOf(listeners);
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return delegate.isAvailable();
+    }
+
+    @Override
+    public Map<Long, Product> getAll(Collection<Long> ids) {
+        return delegate.getAll(ids);
+    }
+
+    @Override
+    public void putAll(Collection<Product> products) {
+        delegate.putAll(products);
+        if (products.isEmpty()) {
+            return;
+        }
+        notifyListeners(products.stream().map(Product::getId).filter(Objects::nonNull).toList());
+    }
+
+    @Override
+    public void evictAll(Collection<Long> ids) {
+        delegate.evictAll(ids);
+        if (!ids.isEmpty()) {
+            notifyListeners(ids);
+        }
+    }
+
+    private void notifyListeners(Collection<Long> ids) {
+        for (ProductCacheWriteListener listener : listeners) {
+            listener.productsWritten(ids);
+        }
+    }
+}
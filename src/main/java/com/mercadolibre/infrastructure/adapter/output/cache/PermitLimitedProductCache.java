@@ -0,0 +1,93 @@
+package com.mercadolibre.infrastructure.adapter.output.cache;
+
+import com.mercadolibre.application.port.output.ProductCache;
+import com.mercadolibre.domain.model.Product;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ProductCache} decorator that bounds how many callers are inside the delegate at once. Used in
+ * virtual-thread mode so a Redis slowdown parks callers on a {@link Semaphore} (which releases the carrier
+ * thread) instead of piling an unbounded number of them into the client. A caller that cannot get a permit
+ * within {@code maxWait} treats the lookup as all misses and drops the write.
+ */
+public class PermitLimitedProductCache implements ProductCache {
+
+    private final ProductCache delegate;
+
+    private final Semaphore permits;
+
+    private final long maxWaitNanos;
+
+    private final Counter rejected;
+
+    public PermitLimitedProductCache(ProductCache delegate, int maxConcurrent, Duration maxWait,
+                                     MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConcurrent);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.rejected = Counter.builder("product.cache.rejected")
+            .tags(ProductCacheMetrics.tierTags("redis"))
+            .description("Cache calls skipped because no permit was available in time")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return delegate.isAvailable();
+    }
+
+    @Override
+    public Map<Long, Product> getAll(Collection<Long> ids) {
+        if (!acquire()) {
+            return Map.of();
+        }
+        try {
+            return delegate.getAll(ids);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public void putAll(Collection<Product> products) {
+        if (!acquire()) {
+            return;
+        }
+        try {
+            delegate.putAll(products);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /** Evictions wait for a permit like other calls, but are never skipped: a dropped eviction leaves stale data. */
+    @Override
+    public void evictAll(Collection<Long> ids) {
+        boolean acquired = acquire();
+        try {
+            delegate.evictAll(ids);
+        } finally {
+            if (acquired) {
+                permits.release();
+            }
+        }
+    }
+
+    private boolean acquire() {
+        try {
+            if (permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejected.increment();
+        return false;
+    }
+}
@@ -0,0 +1,31 @@
+package com.mercadolibre.infrastructure.adapter.output.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Meter names and tags shared by the product cache tiers. They follow Micrometer's cache conventions
+ * ({@code cache.gets{result=hit|miss}}) with an extra {@code tier} tag so each tier can be sized separately.
+ */
+public final class ProductCacheMetrics {
+
+    public static final String CACHE_NAME = "product";
+
+    public static final String TIER_TAG = "tier";
+
+    private ProductCacheMetrics() {
+    }
+
+    public static Tags tierTags(String tier) {
+        return Tags.of("cache", CACHE_NAME, TIER_TAG, tier);
+    }
+
+    public static Counter gets(MeterRegistry registry, String tier, String result) {
+        return Counter.builder("cache.gets")
+            .tags(tierTags(tier))
+            .tag("result", result)
+            .description("The number of times cache lookup methods have returned a cached (hit) or uncached (miss) value")
+            .register(registry);
+    }
+}
@@ -0,0 +1,13 @@
+package com.mercadolibre.infrastructure.adapter.output.cache;
+
+import java.util.Collection;
+
+/**
+ * Callback for state derived from cached products (e.g. pre-serialized responses) that must be dropped when
+ * a product's cache entry is replaced or evicted.
+ */
+@FunctionalInterface
+public interface ProductCacheWriteListener {
+
+    void productsWritten(Collection<Long> productIds);
+}
@@ -0,0 +1,108 @@
+package com.mercadolibre.infrastructure.adapter.output.cache;
+
+import com.mercadolibre.application.port.output.ProductCache;
+import com.mercadolibre.domain.model.Product;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Redis implementation of {@link ProductCache}. Batch lookups are issued as a single {@code MGET}, so a
+ * comparison of N products costs one round trip. Keys keep the {@code <prefix><cache>::<id>} layout used
+ * by Spring's {@code RedisCache}, so entries written before the port existed are still readable.
+ */
+@Slf4j
+public class RedisProductCacheAdapter implements ProductCache {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final String keyPrefix;
+
+    private final Duration ttl;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    public RedisProductCacheAdapter(RedisTemplate<String, Object> redisTemplate, String keyPrefix, Duration ttl,
+                                    MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.ttl = ttl;
+        this.hits = ProductCacheMetrics.gets(meterRegistry, "redis", "hit");
+        this.misses = ProductCacheMetrics.gets(meterRegistry, "redis", "miss");
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public Map<Long, Product> getAll(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> keyIds = List.copyOf(ids);
+        List<Object> values = redisTemplate.opsForValue().multiGet(keyIds.stream().map(this::key).toList());
+        Map<Long, Product> found = new HashMap<>();
+        for (int i = 0; i < keyIds.size(); i++) {
+            Object value = values != null ? values.get(i) : null;
+            if (value instanceof Product product) {
+                found.put(keyIds.get(i), product);
+            } else if (value != null) {
+                log.warn("Ignoring cache entry {} of unexpected type {}", key(keyIds.get(i)), value.getClass());
+            }
+        }
+        hits.increment(found.size());
+        misses.increment(keyIds.size() - found.size());
+        return found;
+    }
+
+    /**
+     * Writes all products in one pipeline ({@code SET key value PX ttl} per product), so a batch costs a
+     * single round trip.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void putAll(Collection<Product> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+        RedisSerializer<String> keySerializer = redisTemplate.getStringSerializer();
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        Expiration expiration = Expiration.from(ttl);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Product product : products) {
+                connection.stringCommands().set(
+                    keySerializer.serialize(key(product.getId())),
+                    valueSerializer.serialize(product),
+                    expiration,
+                    RedisStringCommands.SetOption.upsert());
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void evictAll(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        redisTemplate.delete(ids.stream().map(this::key).toList());
+    }
+
+    String key(Long id) {
+        return keyPrefix + id;
+    }
+}
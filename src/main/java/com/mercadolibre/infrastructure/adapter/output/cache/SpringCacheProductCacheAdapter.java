@@ -0,0 +1,67 @@
+package com.mercadolibre.infrastructure.adapter.output.cache;
+
+import com.mercadolibre.application.port.output.ProductCache;
+import com.mercadolibre.domain.model.Product;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NoOpCache;
+
+/**
+ * {@link ProductCache} backed by a Spring {@link CacheManager}, used when the cache type is not Redis
+ * (e.g. {@code simple} in tests). Lookups are per key; a missing or no-op cache reports itself unavailable.
+ */
+public class SpringCacheProductCacheAdapter implements ProductCache {
+
+    private final CacheManager cacheManager;
+
+    public SpringCacheProductCacheAdapter(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        Cache cache = cacheManager.getCache(ProductCacheMetrics.CACHE_NAME);
+        return cache != null && !(cache instanceof NoOpCache);
+    }
+
+    @Override
+    public Map<Long, Product> getAll(Collection<Long> ids) {
+        Cache cache = cacheManager.getCache(ProductCacheMetrics.CACHE_NAME);
+        if (cache == null) {
+            return Map.of();
+        }
+        Map<Long, Product> found = new HashMap<>();
+        for (Long id : ids) {
+            Product cached = cache.get(id, Product.class);
+            if (cached != null) {
+                found.put(id, cached);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void putAll(Collection<Product> products) {
+        Cache cache = cacheManager.getCache(ProductCacheMetrics.CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        for (Product product : products) {
+            cache.put(product.getId(), product);
+        }
+    }
+
+    @Override
+    public void evictAll(Collection<Long> ids) {
+        Cache cache = cacheManager.getCache(ProductCacheMetrics.CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        for (Long id : ids) {
+            cache.evict(id);
+        }
+    }
+}
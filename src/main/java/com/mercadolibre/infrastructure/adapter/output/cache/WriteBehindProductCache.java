@@ -0,0 +1,304 @@
+package com.mercadolibre.infrastructure.adapter.output.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.mercadolibre.application.port.output.ProductCache;
+import com.mercadolibre.domain.model.Product;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link ProductCache} decorator that moves cache population off the request thread. {@link #putAll} only
+ * enqueues into a bounded queue (products that do not fit are dropped and counted); a single writer thread
+ * drains the queue and hands the delegate batches of up to {@code batchSize} products, which the Redis
+ * adapter writes in one pipeline. Until a product has been written, lookups are answered from the queued copy,
+ * so the cache serves it as soon as {@link #putAll} returns. A batch is drained and written under a lock that
+ * {@link #evictAll} also takes, so an eviction never interleaves with a batch being written.
+ *
+ * <p>An evicted id is also fenced for {@code evictionFence}: writes for it are discarded (and counted) until
+ * the fence expires. A request that read a product before an update committed may only try to cache it after
+ * the update's eviction; the fence keeps that outdated copy out of the cache for the whole TTL. The fence
+ * must outlast the slowest load, from the database read to the cache write.
+ */
+@Slf4j
+public class WriteBehindProductCache implements ProductCache, AutoCloseable {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final ProductCache delegate;
+
+    private final BlockingQueue<Product> queue;
+
+    /** Latest queued or in-flight product per id, served by lookups until the delegate holds it. */
+    private final Map<Long, Product> pending = new ConcurrentHashMap<>();
+
+    private final int batchSize;
+
+    private final ExecutorService writer;
+
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    /** Held while a batch is drained and written, and while evicting. */
+    private final Lock writeLock = new ReentrantLock();
+
+    /** Shared by writes checking the fence, exclusive while an eviction raises it. */
+    private final ReadWriteLock fenceLock = new ReentrantReadWriteLock();
+
+    /** Recently evicted ids, whose writes are discarded until they expire. */
+    private final Cache<Long, Boolean> fencedIds;
+
+    private final Counter written;
+
+    private final Counter dropped;
+
+    private final Counter failed;
+
+    private final Counter fenced;
+
+    private final Timer batchWrites;
+
+    public WriteBehindProductCache(ProductCache delegate, int queueCapacity, int batchSize, Duration evictionFence,
+                                   MeterRegistry meterRegistry) {
+        this(delegate, queueCapacity, batchSize, evictionFence, meterRegistry,
+            Executors.newSingleThreadExecutor(Thread.ofPlatform().name("product-cache-writer").daemon().factory()),
+            Ticker.systemTicker());
+    }
+
+    WriteBehindProductCache(ProductCache delegate, int queueCapacity, int batchSize, Duration evictionFence,
+                            MeterRegistry meterRegistry, ExecutorService writer, Ticker ticker) {
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.writer = writer;
+        this.fencedIds = Caffeine.newBuilder()
+            .expireAfterWrite(evictionFence)
+            .ticker(ticker)
+            .build();
+        this.written = writes(meterRegistry, "written");
+        this.dropped = writes(meterRegistry, "dropped");
+        this.failed = writes(meterRegistry, "failed");
+        this.fenced = writes(meterRegistry, "fenced");
+        this.batchWrites = Timer.builder("product.cache.write.batch")
+            .description("Time to write one write-behind batch to the cache tiers below")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        Gauge.builder("product.cache.write.queue", queue, Collection::size)
+            .description("Products waiting to be written to the cache")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return delegate.isAvailable();
+    }
+
+    @Override
+    public Map<Long, Product> getAll(Collection<Long> ids) {
+        if (pending.isEmpty()) {
+            return delegate.getAll(ids);
+        }
+        Map<Long, Product> found = new HashMap<>();
+        List<Long> remaining = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Product queued = pending.get(id);
+            if (queued != null) {
+                found.put(id, queued);
+            } else {
+                remaining.add(id);
+            }
+        }
+        if (found.isEmpty()) {
+            return delegate.getAll(ids);
+        }
+        if (!remaining.isEmpty()) {
+            found.putAll(delegate.getAll(remaining));
+        }
+        return found;
+    }
+
+    @Override
+    public void putAll(Collection<Product> products) {
+        fenceLock.readLock().lock();
+        try {
+            for (Product product : products) {
+                if (product.getId() == null) {
+                    offer(product);
+                } else if (fencedIds.getIfPresent(product.getId()) != null) {
+                    fenced.increment();
+                } else {
+                    pending.put(product.getId(), product);
+                    if (!offer(product)) {
+                        pending.remove(product.getId(), product);
+                    }
+                }
+            }
+        } finally {
+            fenceLock.readLock().unlock();
+        }
+        scheduleFlush();
+    }
+
+    /**
+     * Evicts synchronously. Fences the ids first, so writes issued from now on are discarded; then waits for a
+     * batch being written to land, drops queued writes for the same ids and evicts, so no write queued before the
+     * eviction can reach the delegate after it either.
+     */
+    @Override
+    public void evictAll(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Set<Long> evicted = Set.copyOf(ids);
+        fenceLock.writeLock().lock();
+        try {
+            evicted.forEach(id -> fencedIds.put(id, Boolean.TRUE));
+        } finally {
+            fenceLock.writeLock().unlock();
+        }
+        writeLock.lock();
+        try {
+            queue.removeIf(product -> evicted.contains(product.getId()));
+            evicted.forEach(pending::remove);
+            delegate.evictAll(ids);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Has the writer thread drain the queue and waits for it, so every product queued before the call has been
+     * written (or has failed) when this returns {@code true}.
+     */
+    @Override
+    public boolean flush(Duration timeout) {
+        Future<?> drained;
+        try {
+            drained = writer.submit(this::drain);
+        } catch (RejectedExecutionException e) {
+            return queue.isEmpty();
+        }
+        try {
+            drained.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException | ExecutionException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                writer.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            writer.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean offer(Product product) {
+        if (queue.offer(product)) {
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    private void scheduleFlush() {
+        if (!flushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            writer.execute(this::flush);
+        } catch (RejectedExecutionException e) {
+            flushScheduled.set(false);
+            log.debug("Cache writer is shut down; {} products left unwritten", queue.size());
+        }
+    }
+
+    private void flush() {
+        try {
+            drain();
+        } finally {
+            flushScheduled.set(false);
+        }
+        if (!queue.isEmpty()) {
+            scheduleFlush();
+        }
+    }
+
+    private void drain() {
+        while (flushBatch()) {
+            // keep draining
+        }
+    }
+
+    /** Drains and writes one batch under the write lock; {@code false} once the queue is empty. */
+    private boolean flushBatch() {
+        writeLock.lock();
+        try {
+            List<Product> batch = new ArrayList<>(batchSize);
+            if (queue.drainTo(batch, batchSize) == 0) {
+                return false;
+            }
+            write(batch);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void write(List<Product> batch) {
+        try {
+            batchWrites.record(() -> delegate.putAll(batch));
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            failed.increment(batch.size());
+            log.warn("Failed to write {} products to the cache", batch.size(), e);
+        } finally {
+            for (Product product : batch) {
+                if (product.getId() != null) {
+                    pending.remove(product.getId(), product);
+                }
+            }
+        }
+    }
+
+    private static Counter writes(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("product.cache.writes")
+            .tag("result", result)
+            .description("Products handed to the write-behind cache stage, by outcome")
+            .register(meterRegistry);
+    }
+}
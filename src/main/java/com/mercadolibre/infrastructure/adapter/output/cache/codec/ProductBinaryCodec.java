@@ -0,0 +1,261 @@
+package com.mercadolibre.infrastructure.adapter.output.cache.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.domain.model.ProductType;
+import com.mercadolibre.domain.model.Specifications;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compact, versioned binary encoding of {@link Product} for the Redis cache.
+ *
+ * <p>Layout (version 1): {@code MAGIC, VERSION, presence mask (2 bytes), fields in declaration order}.
+ * Longs and lengths are zig-zag varints, strings are length-prefixed UTF-8, decimals (price, rating) are a
+ * scale byte plus the unscaled value as a varint, {@link ProductType} is its ordinal, and specifications are
+ * a count followed by {@code key, type tag, value} entries. Specification values that are not scalars are
+ * embedded as JSON.
+ *
+ * <p>The magic byte cannot start a JSON document, so readers can tell binary entries from legacy JSON ones.
+ */
+public final class ProductBinaryCodec {
+
+    public static final byte MAGIC = (byte) 0xB7;
+
+    static final byte VERSION_1 = 1;
+
+    private static final int ID = 1;
+    private static final int NAME = 1 << 1;
+    private static final int DESCRIPTION = 1 << 2;
+    private static final int PRICE = 1 << 3;
+    private static final int SIZE = 1 << 4;
+    private static final int WEIGHT = 1 << 5;
+    private static final int COLOR = 1 << 6;
+    private static final int IMAGE_URL = 1 << 7;
+    private static final int RATING = 1 << 8;
+    private static final int PRODUCT_TYPE = 1 << 9;
+    private static final int SPECIFICATIONS = 1 << 10;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_STRING = 1;
+    private static final byte TAG_INT = 2;
+    private static final byte TAG_LONG = 3;
+    private static final byte TAG_DOUBLE = 4;
+    private static final byte TAG_TRUE = 5;
+    private static final byte TAG_FALSE = 6;
+    private static final byte TAG_JSON = 7;
+
+    private static final ProductType[] PRODUCT_TYPES = ProductType.values();
+
+    private final ObjectMapper objectMapper;
+
+    public ProductBinaryCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public static boolean isBinary(byte[] bytes) {
+        return bytes != null && bytes.length > 1 && bytes[0] == MAGIC;
+    }
+
+    public byte[] encode(Product product) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        out.write(MAGIC);
+        out.write(VERSION_1);
+        int mask = mask(product);
+        out.write(mask >>> 8);
+        out.write(mask);
+        if (product.getId() != null) writeVarLong(out, product.getId());
+        if (product.getName() != null) writeString(out, product.getName());
+        if (product.getDescription() != null) writeString(out, product.getDescription());
+        if (product.getPrice() != null) writeDecimal(out, product.getPrice());
+        if (product.getSize() != null) writeString(out, product.getSize());
+        if (product.getWeight() != null) writeString(out, product.getWeight());
+        if (product.getColor() != null) writeString(out, product.getColor());
+        if (product.getImageUrl() != null) writeString(out, product.getImageUrl());
+        if (product.getRating() != null) writeDecimal(out, product.getRating());
+        if (product.getProductType() != null) out.write(product.getProductType().ordinal());
+        if ((mask & SPECIFICATIONS) != 0) writeSpecifications(out, product.getSpecifications());
+        return out.toByteArray();
+    }
+
+    public Product decode(byte[] bytes) {
+        if (!isBinary(bytes)) {
+            throw new IllegalArgumentException("Not a binary product entry");
+        }
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        in.get();
+        byte version = in.get();
+        if (version != VERSION_1) {
+            throw new IllegalArgumentException("Unsupported product codec version: " + version);
+        }
+        try {
+            int mask = ((in.get() & 0xFF) << 8) | (in.get() & 0xFF);
+            Product product = new Product();
+            product.setId((mask & ID) != 0 ? readVarLong(in) : null);
+            product.setName((mask & NAME) != 0 ? readString(in) : null);
+            product.setDescription((mask & DESCRIPTION) != 0 ? readString(in) : null);
+            product.setPrice((mask & PRICE) != 0 ? readDecimal(in) : null);
+            product.setSize((mask & SIZE) != 0 ? readString(in) : null);
+            product.setWeight((mask & WEIGHT) != 0 ? readString(in) : null);
+            product.setColor((mask & COLOR) != 0 ? readString(in) : null);
+            product.setImageUrl((mask & IMAGE_URL) != 0 ? readString(in) : null);
+            product.setRating((mask & RATING) != 0 ? readDecimal(in) : null);
+            product.setProductType((mask & PRODUCT_TYPE) != 0 ? PRODUCT_TYPES[in.get()] : null);
+            product.setSpecifications((mask & SPECIFICATIONS) != 0
+                ? Specifications.of(product.getProductType(), readSpecifications(in)) : new HashMap<>());
+            return product;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IllegalArgumentException("Truncated or corrupt binary product entry", e);
+        }
+    }
+
+    private static int mask(Product product) {
+        int mask = 0;
+        if (product.getId() != null) mask |= ID;
+        if (product.getName() != null) mask |= NAME;
+        if (product.getDescription() != null) mask |= DESCRIPTION;
+        if (product.getPrice() != null) mask |= PRICE;
+        if (product.getSize() != null) mask |= SIZE;
+        if (product.getWeight() != null) mask |= WEIGHT;
+        if (product.getColor() != null) mask |= COLOR;
+        if (product.getImageUrl() != null) mask |= IMAGE_URL;
+        if (product.getRating() != null) mask |= RATING;
+        if (product.getProductType() != null) mask |= PRODUCT_TYPE;
+        if (product.getSpecifications() != null && !product.getSpecifications().isEmpty()) mask |= SPECIFICATIONS;
+        return mask;
+    }
+
+    private void writeSpecifications(ByteArrayOutputStream out, Map<String, Object> specifications) {
+        writeVarLong(out, specifications.size());
+        for (Map.Entry<String, Object> entry : specifications.entrySet()) {
+            writeString(out, entry.getKey());
+            Object value = entry.getValue();
+            if (value == null) {
+                out.write(TAG_NULL);
+            } else if (value instanceof String s) {
+                out.write(TAG_STRING);
+                writeString(out, s);
+            } else if (value instanceof Integer i) {
+                out.write(TAG_INT);
+                writeVarLong(out, i);
+            } else if (value instanceof Long l) {
+                out.write(TAG_LONG);
+                writeVarLong(out, l);
+            } else if (value instanceof Double d) {
+                out.write(TAG_DOUBLE);
+                writeFixedLong(out, Double.doubleToLongBits(d));
+            } else if (value instanceof Boolean b) {
+                out.write(b ? TAG_TRUE : TAG_FALSE);
+            } else {
+                out.write(TAG_JSON);
+                writeBytes(out, toJson(value));
+            }
+        }
+    }
+
+    private Map<String, Object> readSpecifications(ByteBuffer in) {
+        int size = (int) readVarLong(in);
+        Map<String, Object> specifications = HashMap.newHashMap(size);
+        for (int i = 0; i < size; i++) {
+            String key = readString(in);
+            byte tag = in.get();
+            Object value = switch (tag) {
+                case TAG_NULL -> null;
+                case TAG_STRING -> readString(in);
+                case TAG_INT -> (int) readVarLong(in);
+                case TAG_LONG -> readVarLong(in);
+                case TAG_DOUBLE -> Double.longBitsToDouble(in.getLong());
+                case TAG_TRUE -> Boolean.TRUE;
+                case TAG_FALSE -> Boolean.FALSE;
+                case TAG_JSON -> fromJson(readBytes(in));
+                default -> throw new IllegalArgumentException("Unknown specification value tag: " + tag);
+            };
+            specifications.put(key, value);
+        }
+        return specifications;
+    }
+
+    private byte[] toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize specification value to JSON", e);
+        }
+    }
+
+    private Object fromJson(byte[] json) {
+        try {
+            return objectMapper.readValue(json, Object.class);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot deserialize specification value from JSON", e);
+        }
+    }
+
+    private static void writeDecimal(ByteArrayOutputStream out, BigDecimal value) {
+        BigInteger unscaled = value.unscaledValue();
+        if (unscaled.bitLength() > 63 || value.scale() < 0 || value.scale() > 127) {
+            throw new IllegalArgumentException("Decimal out of range for binary encoding: " + value);
+        }
+        out.write(value.scale());
+        writeVarLong(out, unscaled.longValue());
+    }
+
+    private static BigDecimal readDecimal(ByteBuffer in) {
+        int scale = in.get();
+        return BigDecimal.valueOf(readVarLong(in), scale);
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readString(ByteBuffer in) {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(ByteArrayOutputStream out, byte[] bytes) {
+        writeVarLong(out, bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    private static byte[] readBytes(ByteBuffer in) {
+        byte[] bytes = new byte[(int) readVarLong(in)];
+        in.get(bytes);
+        return bytes;
+    }
+
+    private static void writeFixedLong(ByteArrayOutputStream out, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift));
+        }
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        long zigZag = (value << 1) ^ (value >> 63);
+        while ((zigZag & ~0x7FL) != 0) {
+            out.write((int) ((zigZag & 0x7F) | 0x80));
+            zigZag >>>= 7;
+        }
+        out.write((int) zigZag);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long zigZag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            zigZag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigZag >>> 1) ^ -(zigZag & 1);
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in binary product entry");
+    }
+}
@@ -0,0 +1,58 @@
+package com.mercadolibre.infrastructure.adapter.output.cache.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.domain.model.Product;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Redis value serializer for cached products. {@link Product} values are written in the configured
+ * {@link Format}; anything else, and any entry without the binary magic byte, goes through
+ * {@link GenericJackson2JsonRedisSerializer}. Reads always accept both formats, so switching the codec (or
+ * rolling it back) never invalidates what is already in Redis: legacy JSON entries are still served and are
+ * replaced by binary ones as they expire and get reloaded.
+ */
+public class ProductRedisSerializer implements RedisSerializer<Object> {
+
+    public enum Format {
+        JSON,
+        BINARY
+    }
+
+    private final Format format;
+
+    private final ProductBinaryCodec binaryCodec;
+
+    private final GenericJackson2JsonRedisSerializer jsonSerializer;
+
+    public ProductRedisSerializer(Format format) {
+        this.format = format;
+        this.binaryCodec = new ProductBinaryCodec(new ObjectMapper());
+        this.jsonSerializer = new GenericJackson2JsonRedisSerializer();
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (format == Format.BINARY && value instanceof Product product) {
+            try {
+                return binaryCodec.encode(product);
+            } catch (IllegalArgumentException e) {
+                throw new SerializationException("Could not write binary product entry", e);
+            }
+        }
+        return jsonSerializer.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (ProductBinaryCodec.isBinary(bytes)) {
+            try {
+                return binaryCodec.decode(bytes);
+            } catch (IllegalArgumentException e) {
+                throw new SerializationException("Could not read binary product entry", e);
+            }
+        }
+        return jsonSerializer.deserialize(bytes);
+    }
+}
@@ -0,0 +1,343 @@
+package com.mercadolibre.infrastructure.adapter.output.facet;
+
+import com.mercadolibre.application.port.input.FacetFilter;
+import com.mercadolibre.application.port.input.ProductFacets;
+import com.mercadolibre.application.port.output.ProductFacetIndex;
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.domain.model.ProductType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * In-process {@link ProductFacetIndex}. Every product gets a dense document number (numbers of removed
+ * products are reused); per product type, each specification attribute keeps a dictionary of its values, and
+ * each value the {@link DocumentBitmap} of the products holding it. Numeric values are kept apart from the
+ * others, in numeric order, so a range filter is the union of the values in a sub-range of the dictionary.
+ *
+ * <p>A query starts from the documents of the type, intersects it with the union of each filter's values, and
+ * counts every value of the requested attributes as the cardinality of its intersection with that result, so
+ * its cost follows the number of distinct values and the catalog size in words, not the products' JSON.
+ * List values count once per element; nested objects are not faceted.
+ *
+ * <p>Queries share a read lock; updates take the write lock.
+ */
+public class BitmapFacetIndex implements ProductFacetIndex {
+
+    private static final int INITIAL_DOCUMENTS = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<ProductType, TypeFacets> types = new EnumMap<>(ProductType.class);
+
+    private final Map<Long, Integer> documents = new HashMap<>();
+
+    private final Deque<Integer> freeDocuments = new ArrayDeque<>();
+
+    private int nextDocument;
+
+    private ProductType[] documentTypes = new ProductType[INITIAL_DOCUMENTS];
+
+    private Value[][] documentValues = new Value[INITIAL_DOCUMENTS][];
+
+    private volatile int indexedProducts;
+
+    private volatile int indexedValues;
+
+    public BitmapFacetIndex(MeterRegistry meterRegistry) {
+        Gauge.builder("product.facets.index.products", this, index -> index.indexedProducts)
+            .description("Products in the facet index")
+            .register(meterRegistry);
+        Gauge.builder("product.facets.index.values", this, index -> index.indexedValues)
+            .description("Distinct attribute values in the facet index, over all product types")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void index(Collection<Product> products) {
+        lock.writeLock().lock();
+        try {
+            for (Product product : products) {
+                if (product.getId() != null) {
+                    index(product);
+                }
+            }
+            updateSizes();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Collection<Long> ids) {
+        lock.writeLock().lock();
+        try {
+            for (Long id : ids) {
+                Integer document = documents.remove(id);
+                if (document != null) {
+                    clear(document);
+                    freeDocuments.push(document);
+                }
+            }
+            updateSizes();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public ProductFacets count(ProductType productType, List<FacetFilter> filters, Set<String> attributes) {
+        lock.readLock().lock();
+        try {
+            TypeFacets facets = types.get(productType);
+            if (facets == null) {
+                return new ProductFacets(0, emptyCounts(attributes));
+            }
+            DocumentBitmap matching = facets.documents.copy();
+            for (FacetFilter filter : filters) {
+                matching.and(facets.matching(filter));
+            }
+            int total = matching.cardinality();
+            Map<String, Map<String, Long>> counts = new LinkedHashMap<>();
+            for (String name : attributes != null ? attributes : facets.attributes.keySet()) {
+                Attribute attribute = facets.attributes.get(name);
+                counts.put(name, attribute == null || total == 0 ? Map.of() : attribute.count(matching));
+            }
+            return new ProductFacets(total, counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void index(Product product) {
+        ProductType productType = product.getProductType() != null ? product.getProductType() : ProductType.GENERIC;
+        Integer document = documents.get(product.getId());
+        if (document != null) {
+            clear(document);
+        } else {
+            document = newDocument(product.getId());
+        }
+        TypeFacets facets = types.computeIfAbsent(productType, type -> new TypeFacets());
+        facets.documents.add(document);
+        List<Value> values = new ArrayList<>();
+        if (product.getSpecifications() != null) {
+            for (Map.Entry<String, Object> entry : product.getSpecifications().entrySet()) {
+                if (entry.getKey() != null) {
+                    addValues(facets, entry.getKey(), entry.getValue(), document, values);
+                }
+            }
+        }
+        documentTypes[document] = productType;
+        documentValues[document] = values.toArray(Value[]::new);
+    }
+
+    private static void addValues(TypeFacets facets, String name, Object value, int document, List<Value> values) {
+        if (value instanceof Collection<?> collection) {
+            collection.forEach(element -> addValues(facets, name, element, document, values));
+        } else if (value != null && !(value instanceof Map<?, ?>)) {
+            Value indexed = facets.attributes.computeIfAbsent(name, Attribute::new).value(value);
+            if (!indexed.documents.contains(document)) {
+                indexed.documents.add(document);
+                values.add(indexed);
+            }
+        }
+    }
+
+    private int newDocument(long productId) {
+        Integer free = freeDocuments.poll();
+        int document;
+        if (free != null) {
+            document = free;
+        } else {
+            if (nextDocument == documentTypes.length) {
+                documentTypes = Arrays.copyOf(documentTypes, documentTypes.length * 2);
+                documentValues = Arrays.copyOf(documentValues, documentValues.length * 2);
+            }
+            document = nextDocument++;
+        }
+        documents.put(productId, document);
+        return document;
+    }
+
+    /** Takes a document out of every posting it is in, dropping values and attributes left without products. */
+    private void clear(int document) {
+        TypeFacets facets = types.get(documentTypes[document]);
+        for (Value value : documentValues[document]) {
+            value.documents.remove(document);
+            if (value.documents.isEmpty()) {
+                value.attribute.remove(value);
+                if (value.attribute.isEmpty()) {
+                    facets.attributes.remove(value.attribute.name);
+                }
+            }
+        }
+        facets.documents.remove(document);
+        documentTypes[document] = null;
+        documentValues[document] = null;
+    }
+
+    private void updateSizes() {
+        indexedProducts = documents.size();
+        int values = 0;
+        for (TypeFacets facets : types.values()) {
+            for (Attribute attribute : facets.attributes.values()) {
+                values += attribute.numbers.size() + attribute.others.size();
+            }
+        }
+        indexedValues = values;
+    }
+
+    private static Map<String, Map<String, Long>> emptyCounts(Set<String> attributes) {
+        Map<String, Map<String, Long>> counts = new LinkedHashMap<>();
+        if (attributes != null) {
+            attributes.forEach(name -> counts.put(name, Map.of()));
+        }
+        return counts;
+    }
+
+    /** The number {@code value} stands for, without trailing zeros, or {@code null} when it is not a number. */
+    static BigDecimal toNumber(Object value) {
+        String text = value.toString().trim();
+        if (value instanceof Boolean || text.isEmpty() || !isNumberStart(text.charAt(0))) {
+            return null;
+        }
+        try {
+            return new BigDecimal(text).stripTrailingZeros();
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static boolean isNumberStart(char c) {
+        return (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.';
+    }
+
+    private static final class TypeFacets {
+
+        private final DocumentBitmap documents = DocumentBitmap.dense();
+
+        private final NavigableMap<String, Attribute> attributes = new TreeMap<>();
+
+        /** Documents of this type meeting {@code filter}, in bitmap form. */
+        DocumentBitmap matching(FacetFilter filter) {
+            DocumentBitmap matching = DocumentBitmap.dense();
+            Attribute attribute = attributes.get(filter.attribute());
+            if (attribute != null) {
+                for (Value value : attribute.matching(filter)) {
+                    matching.or(value.documents);
+                }
+            }
+            return matching;
+        }
+    }
+
+    private static final class Attribute {
+
+        private final String name;
+
+        private final NavigableMap<BigDecimal, Value> numbers = new TreeMap<>();
+
+        private final NavigableMap<String, Value> others = new TreeMap<>();
+
+        Attribute(String name) {
+            this.name = name;
+        }
+
+        Value value(Object value) {
+            // Strings holding numbers are stored as numbers too, so "8" and 8 are one facet value.
+            BigDecimal number = value instanceof Number || value instanceof String ? toNumber(value) : null;
+            if (number != null) {
+                return numbers.computeIfAbsent(number, key -> new Value(this, key, key.toPlainString()));
+            }
+            return others.computeIfAbsent(value.toString(), key -> new Value(this, key, key));
+        }
+
+        void remove(Value value) {
+            if (value.key instanceof BigDecimal number) {
+                numbers.remove(number);
+            } else {
+                others.remove((String) value.key);
+            }
+        }
+
+        boolean isEmpty() {
+            return numbers.isEmpty() && others.isEmpty();
+        }
+
+        Collection<Value> matching(FacetFilter filter) {
+            List<Value> matching = new ArrayList<>();
+            for (String text : filter.values()) {
+                BigDecimal number = toNumber(text);
+                switch (filter.operator()) {
+                    case EQ -> {
+                        Value value = number != null ? numbers.get(number) : others.get(text);
+                        if (value != null) {
+                            matching.add(value);
+                        }
+                    }
+                    case GT -> addAll(matching, number, n -> numbers.tailMap(n, false));
+                    case GTE -> addAll(matching, number, n -> numbers.tailMap(n, true));
+                    case LT -> addAll(matching, number, n -> numbers.headMap(n, false));
+                    case LTE -> addAll(matching, number, n -> numbers.headMap(n, true));
+                }
+            }
+            return matching;
+        }
+
+        Map<String, Long> count(DocumentBitmap matching) {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            addCounts(counts, numbers.values(), matching);
+            addCounts(counts, others.values(), matching);
+            return counts;
+        }
+
+        private static void addAll(List<Value> matching, BigDecimal number,
+                                   Function<BigDecimal, Map<BigDecimal, Value>> range) {
+            if (number != null) {
+                matching.addAll(range.apply(number).values());
+            }
+        }
+
+        private static void addCounts(Map<String, Long> counts, Collection<Value> values, DocumentBitmap matching) {
+            for (Value value : values) {
+                int count = value.documents.andCardinality(matching);
+                if (count > 0) {
+                    counts.put(value.label, (long) count);
+                }
+            }
+        }
+    }
+
+    private static final class Value {
+
+        private final Attribute attribute;
+
+        private final Object key;
+
+        private final String label;
+
+        private final DocumentBitmap documents = DocumentBitmap.sparse();
+
+        Value(Attribute attribute, Object key, String label) {
+            this.attribute = attribute;
+            this.key = key;
+            this.label = label;
+        }
+    }
+}
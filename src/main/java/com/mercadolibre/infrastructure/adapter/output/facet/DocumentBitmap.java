@@ -0,0 +1,192 @@
+package com.mercadolibre.infrastructure.adapter.output.facet;
+
+import java.util.Arrays;
+
+/**
+ * Set of document numbers. Like a roaring bitmap container it starts as a sorted {@code int} array and turns
+ * into a plain bitmap once that is smaller (more than one document per 32 numbers up to the largest one), so
+ * rare values cost a few bytes and common ones a bit per document. Only the bitmap form is used for query
+ * results, which are combined with {@link #and} and {@link #or}.
+ *
+ * <p>Not thread-safe; {@link BitmapFacetIndex} guards every instance with its lock.
+ */
+final class DocumentBitmap {
+
+    /** Array form below this size even when sparse: converting tiny sets gains nothing. */
+    private static final int MIN_BITMAP_SIZE = 64;
+
+    private int[] documents;
+
+    private int size;
+
+    private long[] words;
+
+    private DocumentBitmap(int[] documents, long[] words) {
+        this.documents = documents;
+        this.words = words;
+    }
+
+    /** An empty set in array form, for postings. */
+    static DocumentBitmap sparse() {
+        return new DocumentBitmap(new int[4], null);
+    }
+
+    /** An empty set in bitmap form, for query results. */
+    static DocumentBitmap dense() {
+        return new DocumentBitmap(null, new long[1]);
+    }
+
+    void add(int document) {
+        if (words != null) {
+            ensureWords((document >>> 6) + 1);
+            words[document >>> 6] |= 1L << document;
+            return;
+        }
+        // Documents are mostly numbered in indexing order, so appends are the common case.
+        int i = size > 0 && documents[size - 1] >= document
+            ? Arrays.binarySearch(documents, 0, size, document) : -(size + 1);
+        if (i >= 0) {
+            return;
+        }
+        int at = -(i + 1);
+        if (size == documents.length) {
+            documents = Arrays.copyOf(documents, size * 2);
+        }
+        System.arraycopy(documents, at, documents, at + 1, size - at);
+        documents[at] = document;
+        size++;
+        if (size >= MIN_BITMAP_SIZE && (long) size * 32 > documents[size - 1] + 1L) {
+            toBitmap();
+        }
+    }
+
+    void remove(int document) {
+        if (words != null) {
+            if (document >>> 6 < words.length) {
+                words[document >>> 6] &= ~(1L << document);
+            }
+            return;
+        }
+        int i = Arrays.binarySearch(documents, 0, size, document);
+        if (i >= 0) {
+            System.arraycopy(documents, i + 1, documents, i, size - i - 1);
+            size--;
+        }
+    }
+
+    boolean contains(int document) {
+        if (words != null) {
+            return document >>> 6 < words.length && (words[document >>> 6] & (1L << document)) != 0;
+        }
+        return Arrays.binarySearch(documents, 0, size, document) >= 0;
+    }
+
+    boolean isEmpty() {
+        if (words == null) {
+            return size == 0;
+        }
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int cardinality() {
+        if (words == null) {
+            return size;
+        }
+        int cardinality = 0;
+        for (long word : words) {
+            cardinality += Long.bitCount(word);
+        }
+        return cardinality;
+    }
+
+    /** Documents in both sets, counted without building the intersection. */
+    int andCardinality(DocumentBitmap other) {
+        if (words != null && other.words != null) {
+            int n = Math.min(words.length, other.words.length);
+            int cardinality = 0;
+            for (int i = 0; i < n; i++) {
+                cardinality += Long.bitCount(words[i] & other.words[i]);
+            }
+            return cardinality;
+        }
+        DocumentBitmap array = words == null ? this : other;
+        DocumentBitmap probed = array == this ? other : this;
+        int cardinality = 0;
+        for (int i = 0; i < array.size; i++) {
+            if (probed.contains(array.documents[i])) {
+                cardinality++;
+            }
+        }
+        return cardinality;
+    }
+
+    /** A bitmap-form copy. */
+    DocumentBitmap copy() {
+        DocumentBitmap copy = dense();
+        copy.or(this);
+        return copy;
+    }
+
+    /** Keeps the documents also in {@code other}; this set must be in bitmap form. */
+    void and(DocumentBitmap other) {
+        requireBitmap();
+        if (other.words != null) {
+            int n = Math.min(words.length, other.words.length);
+            for (int i = 0; i < n; i++) {
+                words[i] &= other.words[i];
+            }
+            Arrays.fill(words, n, words.length, 0L);
+            return;
+        }
+        long[] kept = new long[words.length];
+        for (int i = 0; i < other.size; i++) {
+            int document = other.documents[i];
+            if (contains(document)) {
+                kept[document >>> 6] |= 1L << document;
+            }
+        }
+        words = kept;
+    }
+
+    /** Adds the documents of {@code other}; this set must be in bitmap form. */
+    void or(DocumentBitmap other) {
+        requireBitmap();
+        if (other.words != null) {
+            ensureWords(other.words.length);
+            for (int i = 0; i < other.words.length; i++) {
+                words[i] |= other.words[i];
+            }
+            return;
+        }
+        for (int i = 0; i < other.size; i++) {
+            add(other.documents[i]);
+        }
+    }
+
+    private void toBitmap() {
+        long[] bitmap = new long[(documents[size - 1] >>> 6) + 1];
+        for (int i = 0; i < size; i++) {
+            bitmap[documents[i] >>> 6] |= 1L << documents[i];
+        }
+        words = bitmap;
+        documents = null;
+        size = 0;
+    }
+
+    private void ensureWords(int length) {
+        if (length > words.length) {
+            words = Arrays.copyOf(words, Math.max(length, words.length * 2));
+        }
+    }
+
+    private void requireBitmap() {
+        if (words == null) {
+            throw new IllegalStateException("Only bitmap-form sets can be combined in place");
+        }
+    }
+}
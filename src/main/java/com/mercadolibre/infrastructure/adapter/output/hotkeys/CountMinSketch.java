@@ -0,0 +1,75 @@
+package com.mercadolibre.infrastructure.adapter.output.hotkeys;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-min sketch over {@code long} keys: {@value #DEPTH} rows of {@code width} counters in one fixed array.
+ * A key's estimate is the minimum of its counters, which never undercounts and overcounts by at most
+ * {@code e / width} of the total with high probability. Updates are lock-free (one atomic increment per row);
+ * {@link #halve()} ages every counter so old traffic fades out.
+ */
+public final class CountMinSketch {
+
+    static final int DEPTH = 4;
+
+    private final AtomicLongArray counters;
+
+    private final int mask;
+
+    /**
+     * @param width counters per row; rounded up to a power of two (at least 2)
+     */
+    public CountMinSketch(int width) {
+        if (width <= 0) {
+            throw new IllegalArgumentException("Sketch width must be positive: " + width);
+        }
+        int rowWidth = Integer.highestOneBit(Math.max(1, width - 1)) << 1;
+        this.mask = rowWidth - 1;
+        this.counters = new AtomicLongArray(DEPTH * rowWidth);
+    }
+
+    /** Counts one occurrence of {@code key} and returns its new estimate. */
+    public long increment(long key) {
+        long hash = mix(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(row, h1 + row * h2)));
+        }
+        return estimate;
+    }
+
+    /** Estimated occurrences of {@code key} since it was counted, as aged by {@link #halve()}. */
+    public long estimate(long key) {
+        long hash = mix(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, h1 + row * h2)));
+        }
+        return estimate;
+    }
+
+    /** Halves every counter. Increments racing with this call may be halved or not, but are never lost. */
+    public void halve() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, count -> count >>> 1);
+        }
+    }
+
+    private int index(int row, int hash) {
+        return row * (mask + 1) + (hash & mask);
+    }
+
+    private static long mix(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,149 @@
+package com.mercadolibre.infrastructure.adapter.output.hotkeys;
+
+import com.mercadolibre.application.port.output.ProductAccessRecorder;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link ProductAccessRecorder} that estimates per-product request rates with a {@link CountMinSketch} and keeps
+ * the current top-K products. Every {@code decayPeriod} the sketch is halved, so estimates follow recent
+ * traffic; the top-K snapshot taken just before each decay is handed to {@code snapshotListener}.
+ *
+ * <p>Recording costs four atomic increments per id, plus a set insertion the first time an id is estimated
+ * above the current top-K threshold. Candidates are pruned back to {@code topK} by whichever thread pushes
+ * the set past twice that size; other threads never wait for it.
+ */
+@Slf4j
+public class HotProductTracker implements ProductAccessRecorder, AutoCloseable {
+
+    private final CountMinSketch sketch;
+
+    private final int topK;
+
+    private final long decayPeriodNanos;
+
+    private final LongSupplier nanoClock;
+
+    private final Consumer<List<HotProduct>> snapshotListener;
+
+    private final ScheduledExecutorService decayScheduler;
+
+    private final Set<Long> candidates = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean pruning = new AtomicBoolean();
+
+    private volatile long threshold;
+
+    private volatile long lastDecayNanos;
+
+    private volatile boolean decayed;
+
+    public HotProductTracker(int sketchWidth, int topK, Duration decayPeriod,
+                             Consumer<List<HotProduct>> snapshotListener) {
+        this(sketchWidth, topK, decayPeriod, snapshotListener, System::nanoTime,
+            Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("hot-product-decay").daemon().factory()));
+        decayScheduler.scheduleAtFixedRate(this::decay, decayPeriodNanos, decayPeriodNanos, TimeUnit.NANOSECONDS);
+    }
+
+    HotProductTracker(int sketchWidth, int topK, Duration decayPeriod, Consumer<List<HotProduct>> snapshotListener,
+                      LongSupplier nanoClock, ScheduledExecutorService decayScheduler) {
+        this.sketch = new CountMinSketch(sketchWidth);
+        this.topK = topK;
+        this.decayPeriodNanos = decayPeriod.toNanos();
+        this.nanoClock = nanoClock;
+        this.snapshotListener = snapshotListener;
+        this.decayScheduler = decayScheduler;
+        this.lastDecayNanos = nanoClock.getAsLong();
+    }
+
+    @Override
+    public void recordAccess(Collection<Long> ids) {
+        for (Long id : ids) {
+            long estimate = sketch.increment(id);
+            if (estimate >= threshold && candidates.add(id) && candidates.size() > 2 * topK) {
+                prune();
+            }
+        }
+    }
+
+    /**
+     * The hottest products, hottest first.
+     *
+     * @param limit maximum number of products; at most {@code topK} are tracked
+     * @return products with their estimated count and request rate
+     */
+    public List<HotProduct> hotProducts(int limit) {
+        long now = nanoClock.getAsLong();
+        double windowSeconds = (now - lastDecayNanos + (decayed ? decayPeriodNanos : 0)) / 1e9;
+        return candidates.stream()
+            .map(id -> {
+                long count = sketch.estimate(id);
+                return new HotProduct(id, count, windowSeconds > 0 ? count / windowSeconds : 0);
+            })
+            .filter(product -> product.estimatedCount() > 0)
+            .sorted(Comparator.comparingLong(HotProduct::estimatedCount).reversed()
+                .thenComparingLong(HotProduct::id))
+            .limit(Math.min(limit, topK))
+            .toList();
+    }
+
+    /** Period after which every estimate is halved. */
+    public Duration decayPeriod() {
+        return Duration.ofNanos(decayPeriodNanos);
+    }
+
+    /**
+     * Publishes the current top-K to the snapshot listener, then halves the sketch and the top-K threshold.
+     * Runs on the decay scheduler.
+     */
+    void decay() {
+        try {
+            snapshotListener.accept(hotProducts(topK));
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish hot products", e);
+        }
+        sketch.halve();
+        threshold = threshold >>> 1;
+        lastDecayNanos = nanoClock.getAsLong();
+        decayed = true;
+        prune();
+    }
+
+    @Override
+    public void close() {
+        decayScheduler.shutdownNow();
+    }
+
+    private void prune() {
+        if (!pruning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<HotProduct> ranked = hotProducts(topK);
+            candidates.retainAll(ranked.stream().map(HotProduct::id).collect(Collectors.toSet()));
+            threshold = ranked.size() < topK ? 0 : ranked.getLast().estimatedCount();
+        } finally {
+            pruning.set(false);
+        }
+    }
+
+    /**
+     * A tracked product: its estimated (decayed) request count and the request rate that count implies over
+     * the current decay window.
+     */
+    public record HotProduct(long id, long estimatedCount, double ratePerSecond) {
+    }
+}
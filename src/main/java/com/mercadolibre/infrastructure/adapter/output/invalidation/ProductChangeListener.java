@@ -0,0 +1,13 @@
+package com.mercadolibre.infrastructure.adapter.output.invalidation;
+
+import java.util.Collection;
+
+/**
+ * Told by the {@link ProductInvalidationSubscriber} which products changed, after their cached copies were
+ * evicted; lets in-process state derived from products (e.g. search structures) follow committed writes.
+ */
+@FunctionalInterface
+public interface ProductChangeListener {
+
+    void productsChanged(Collection<Long> productIds);
+}
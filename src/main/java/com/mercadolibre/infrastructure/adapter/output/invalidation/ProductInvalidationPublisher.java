@@ -0,0 +1,16 @@
+package com.mercadolibre.infrastructure.adapter.output.invalidation;
+
+import java.util.Collection;
+
+/**
+ * Broadcasts that cached copies of products are stale, to every instance of the service (including this one).
+ */
+@FunctionalInterface
+public interface ProductInvalidationPublisher {
+
+    /**
+     * @param ids product identifiers; never empty
+     * @throws RuntimeException if the broadcast could not be sent; the caller retries
+     */
+    void publish(Collection<Long> ids);
+}
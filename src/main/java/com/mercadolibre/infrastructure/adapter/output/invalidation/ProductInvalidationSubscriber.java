@@ -0,0 +1,77 @@
+package com.mercadolibre.infrastructure.adapter.output.invalidation;
+
+import com.mercadolibre.application.port.output.ProductCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+/**
+ * Applies invalidations received from {@link ProductInvalidationPublisher}s: evicts the products from every tier
+ * of the {@link ProductCache} (and, through its write listeners, from state derived from them), then tells the
+ * {@link ProductChangeListener}s. Redis deletes are idempotent, so every instance evicting the shared tier as
+ * well is harmless. A failing listener is logged and does not keep the others from running.
+ */
+@Slf4j
+public class ProductInvalidationSubscriber implements MessageListener {
+
+    private final ProductCache productCache;
+
+    private final List<ProductChangeListener> changeListeners;
+
+    private final Counter received;
+
+    public ProductInvalidationSubscriber(ProductCache productCache, List<ProductChangeListener> changeListeners,
+                                         MeterRegistry meterRegistry) {
+        this.productCache = productCache;
+        this.changeListeners = List.copyOf(changeListeners);
+        this.received = Counter.builder("product.invalidations.received")
+            .description("Product ids evicted because another write committed")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        List<Long> ids;
+        try {
+            ids = decode(body);
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed product invalidation: {}", body);
+            return;
+        }
+        evict(ids);
+    }
+
+    public void evict(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        productCache.evictAll(ids);
+        received.increment(ids.size());
+        log.debug("Evicted products {}", ids);
+        for (ProductChangeListener listener : changeListeners) {
+            try {
+                listener.productsChanged(ids);
+            } catch (RuntimeException e) {
+                log.warn("Product change listener failed for {} products", ids.size(), e);
+            }
+        }
+    }
+
+    static List<Long> decode(String body) {
+        List<Long> ids = new ArrayList<>();
+        for (String token : body.split(",")) {
+            String trimmed = token.trim();
+            if (!trimmed.isEmpty()) {
+                ids.add(Long.parseLong(trimmed));
+            }
+        }
+        return ids;
+    }
+}
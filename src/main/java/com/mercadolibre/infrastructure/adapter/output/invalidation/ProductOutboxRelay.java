@@ -0,0 +1,120 @@
+package com.mercadolibre.infrastructure.adapter.output.invalidation;
+
+import com.mercadolibre.infrastructure.adapter.output.persistence.adapter.ProductOutboxAdapter.OutboxWritten;
+import com.mercadolibre.infrastructure.adapter.output.persistence.entity.ProductOutboxEntity;
+import com.mercadolibre.infrastructure.adapter.output.persistence.repository.ProductOutboxJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves product_outbox rows to the {@link ProductInvalidationPublisher}: reads the oldest {@code batchSize}
+ * rows, publishes their distinct product ids, then deletes them. A relay runs right after every commit that
+ * wrote outbox rows, and every {@code pollInterval} to pick up rows whose relay failed or whose writer died
+ * before relaying.
+ *
+ * <p>Delivery is at least once: a crash between publishing and deleting republishes the batch, and instances
+ * relaying concurrently may publish the same rows. Evictions are idempotent, so duplicates only cost a
+ * redundant round trip. Relays of one instance run on a single thread.
+ */
+@Slf4j
+public class ProductOutboxRelay implements AutoCloseable {
+
+    private final ProductOutboxJpaRepository outboxRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ProductInvalidationPublisher publisher;
+
+    private final int batchSize;
+
+    private final ScheduledExecutorService executor;
+
+    private final Counter relayed;
+
+    private final Counter failures;
+
+    public ProductOutboxRelay(ProductOutboxJpaRepository outboxRepository, TransactionTemplate transactionTemplate,
+                              ProductInvalidationPublisher publisher, int batchSize, Duration pollInterval,
+                              MeterRegistry meterRegistry) {
+        this(outboxRepository, transactionTemplate, publisher, batchSize, meterRegistry,
+            Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("product-outbox-relay").daemon()
+                .factory()));
+        executor.scheduleWithFixedDelay(this::relayQuietly, pollInterval.toNanos(), pollInterval.toNanos(),
+            TimeUnit.NANOSECONDS);
+    }
+
+    ProductOutboxRelay(ProductOutboxJpaRepository outboxRepository, TransactionTemplate transactionTemplate,
+                       ProductInvalidationPublisher publisher, int batchSize, MeterRegistry meterRegistry,
+                       ScheduledExecutorService executor) {
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.publisher = publisher;
+        this.batchSize = batchSize;
+        this.executor = executor;
+        this.relayed = Counter.builder("product.outbox.relayed")
+            .description("Outbox rows published as cache invalidations")
+            .register(meterRegistry);
+        this.failures = Counter.builder("product.outbox.relay.failures")
+            .description("Outbox relays that failed and were left for the next poll")
+            .register(meterRegistry);
+    }
+
+    /** Schedules a relay once the transaction that wrote outbox rows has committed. */
+    @TransactionalEventListener
+    public void outboxWritten(OutboxWritten event) {
+        try {
+            executor.execute(this::relayQuietly);
+        } catch (RejectedExecutionException e) {
+            log.debug("Outbox relay is shut down; {} rows left for the next instance", event.rows());
+        }
+    }
+
+    /**
+     * Relays batches until the outbox is empty.
+     *
+     * @return number of outbox rows relayed
+     */
+    public int relay() {
+        int total = 0;
+        while (true) {
+            List<ProductOutboxEntity> rows = transactionTemplate.execute(status ->
+                outboxRepository.findAllByOrderByIdAsc(PageRequest.ofSize(batchSize)));
+            if (rows == null || rows.isEmpty()) {
+                return total;
+            }
+            List<Long> productIds = rows.stream().map(ProductOutboxEntity::getProductId).distinct().toList();
+            publisher.publish(productIds);
+            List<Long> rowIds = rows.stream().map(ProductOutboxEntity::getId).toList();
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.deleteAllByIdInBatch(rowIds));
+            relayed.increment(rows.size());
+            total += rows.size();
+            if (rows.size() < batchSize) {
+                return total;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void relayQuietly() {
+        try {
+            relay();
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Failed to relay product outbox; retrying on the next poll", e);
+        }
+    }
+}
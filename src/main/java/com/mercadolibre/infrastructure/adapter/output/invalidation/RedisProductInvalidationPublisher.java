@@ -0,0 +1,30 @@
+package com.mercadolibre.infrastructure.adapter.output.invalidation;
+
+import java.util.Collection;
+import java.util.stream.Collectors;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Publishes invalidations on a Redis pub/sub channel as comma-separated product ids. Pub/sub is fire and
+ * forget: instances that are disconnected at that moment miss the message and rely on cache expiry.
+ */
+public class RedisProductInvalidationPublisher implements ProductInvalidationPublisher {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final String channel;
+
+    public RedisProductInvalidationPublisher(StringRedisTemplate redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    @Override
+    public void publish(Collection<Long> ids) {
+        redisTemplate.convertAndSend(channel, encode(ids));
+    }
+
+    static String encode(Collection<Long> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,46 @@
+package com.mercadolibre.infrastructure.adapter.output.persistence.adapter;
+
+import com.mercadolibre.application.port.output.ProductChangeOutbox;
+import com.mercadolibre.infrastructure.adapter.output.persistence.entity.ProductOutboxEntity;
+import com.mercadolibre.infrastructure.adapter.output.persistence.repository.ProductOutboxJpaRepository;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * {@link ProductChangeOutbox} backed by the product_outbox table. Rows join the caller's transaction; an
+ * {@link OutboxWritten} event is published so the relay can pick them up as soon as that transaction commits
+ * instead of waiting for its next poll.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductOutboxAdapter implements ProductChangeOutbox {
+
+    private final ProductOutboxJpaRepository productOutboxJpaRepository;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void productsChanged(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        List<ProductOutboxEntity> rows = ids.stream()
+            .distinct()
+            .map(id -> ProductOutboxEntity.builder().productId(id).createdAt(now).build())
+            .toList();
+        productOutboxJpaRepository.saveAll(rows);
+        eventPublisher.publishEvent(new OutboxWritten(rows.size()));
+    }
+
+    /** Published inside the writing transaction after {@code rows} outbox rows were added. */
+    public record OutboxWritten(int rows) {
+    }
+}
@@ -1,11 +1,17 @@
 package com.mercadolibre.infrastructure.adapter.output.persistence.adapter;
 
+import com.mercadolibre.application.port.input.ProductField;
+import com.mercadolibre.application.port.input.ProductPageCursor;
 import com.mercadolibre.application.port.output.ProductRepository;
 import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.domain.model.ProductType;
 import com.mercadolibre.infrastructure.adapter.output.persistence.mapper.ProductEntityMapper;
 import com.mercadolibre.infrastructure.adapter.output.persistence.repository.ProductJpaRepository;
 import com.mercadolibre.infrastructure.adapter.output.persistence.entity.ProductEntity;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -26,4 +32,82 @@ public class ProductRepositoryAdapter implements ProductRepository {
             .map(productEntityMapper::toDomain)
             .toList();
     }
+
+    @Override
+    public List<Product> findByIdIn(List<Long> ids, Set<ProductField> fields) {
+        return findByIdIn(ids, fields, null);
+    }
+
+    @Override
+    public List<Product> findByIdIn(List<Long> ids, Set<ProductField> fields, Set<String> specificationKeys) {
+        if (fields == null || fields.isEmpty() || fields.containsAll(EnumSet.allOf(ProductField.class))) {
+            return productJpaRepository.findByIdIn(ids).stream()
+                .map(entity -> productEntityMapper.toDomain(entity, specificationKeys))
+                .toList();
+        }
+        Set<ProductField> projection = projection(fields);
+        return productJpaRepository.findAttributesByIdIn(ids, attributes(projection)).stream()
+            .map(tuple -> productEntityMapper.toDomain(tuple, projection, specificationKeys))
+            .toList();
+    }
+
+    @Override
+    public Stream<Product> streamAll(ProductType productType, Set<ProductField> fields,
+                                     Set<String> specificationKeys) {
+        Set<ProductField> projection = fields == null || fields.isEmpty()
+            ? EnumSet.allOf(ProductField.class) : projection(fields);
+        return productJpaRepository.streamAttributes(productType, attributes(projection))
+            .map(tuple -> productEntityMapper.toDomain(tuple, projection, specificationKeys));
+    }
+
+    @Override
+    public List<Product> findPage(ProductType productType, ProductPageCursor after, int limit,
+                                  Set<ProductField> fields, Set<String> specificationKeys) {
+        Set<ProductField> projection = fields == null || fields.isEmpty()
+            ? EnumSet.allOf(ProductField.class) : projection(fields);
+        projection.add(ProductField.PRODUCT_TYPE);
+        return productJpaRepository.findAttributesAfter(productType, after != null ? after.productType() : null,
+                after != null ? after.id() : 0, limit, attributes(projection)).stream()
+            .map(tuple -> productEntityMapper.toDomain(tuple, projection, specificationKeys))
+            .toList();
+    }
+
+    @Override
+    public Product save(Product product) {
+        return productEntityMapper.toDomain(productJpaRepository.save(productEntityMapper.toEntity(product)));
+    }
+
+    @Override
+    public List<Product> saveAll(List<Product> products) {
+        List<ProductEntity> entities = products.stream()
+            .map(productEntityMapper::toEntity)
+            .toList();
+        return productJpaRepository.saveAll(entities).stream()
+            .map(productEntityMapper::toDomain)
+            .toList();
+    }
+
+    @Override
+    public List<Long> upsertAll(List<Product> products) {
+        List<ProductEntity> entities = products.stream()
+            .map(productEntityMapper::toEntity)
+            .toList();
+        List<Long> missingIds = productJpaRepository.upsertInBatches(entities);
+        for (int i = 0; i < products.size(); i++) {
+            products.get(i).setId(entities.get(i).getId());
+        }
+        return missingIds;
+    }
+
+    private static Set<ProductField> projection(Set<ProductField> fields) {
+        Set<ProductField> projection = EnumSet.copyOf(fields);
+        projection.add(ProductField.ID);
+        return projection;
+    }
+
+    private static List<String> attributes(Set<ProductField> projection) {
+        return projection.stream()
+            .map(ProductField::getValue)
+            .toList();
+    }
 }
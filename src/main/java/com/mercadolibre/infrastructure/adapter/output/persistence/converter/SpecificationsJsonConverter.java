@@ -1,16 +1,23 @@
 package com.mercadolibre.infrastructure.adapter.output.persistence.converter;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.domain.model.RawJsonSpecifications;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
- * JPA converter that persists dynamic product specifications as JSON in a CLOB column.
+ * JPA converter that persists dynamic product specifications as JSON in a CLOB column. Loaded values are
+ * {@link RawJsonSpecifications}: the column text is only parsed when an entry is read, and unmodified values
+ * are written back as the text they were loaded from.
  */
 @Converter
 public class SpecificationsJsonConverter implements AttributeConverter<Map<String, Object>, String> {
@@ -23,6 +30,10 @@ public class SpecificationsJsonConverter implements AttributeConverter<Map<Strin
         if (attribute == null || attribute.isEmpty()) {
             return null;
         }
+        String raw = attribute instanceof RawJsonSpecifications specifications ? specifications.rawJson() : null;
+        if (raw != null) {
+            return raw;
+        }
         try {
             return MAPPER.writeValueAsString(attribute);
         } catch (JsonProcessingException e) {
@@ -35,10 +46,47 @@ public class SpecificationsJsonConverter implements AttributeConverter<Map<Strin
         if (dbData == null || dbData.isBlank()) {
             return new HashMap<>();
         }
+        return new RawJsonSpecifications(dbData, SpecificationsJsonConverter::parse);
+    }
+
+    /** Parses a specifications column value; {@code null} for the JSON literal {@code null}. */
+    private static Map<String, Object> parse(String dbData) {
         try {
             return MAPPER.readValue(dbData, MAP_TYPE);
         } catch (JsonProcessingException e) {
             throw new IllegalArgumentException("Cannot deserialize specifications from JSON: " + dbData, e);
         }
     }
+
+    /**
+     * Reads only the top-level entries named in {@code keys} from a specifications column value. The other
+     * values are skipped token by token without being built, and reading stops once every key was found.
+     */
+    public static Map<String, Object> extract(String dbData, Set<String> keys) {
+        Map<String, Object> selected = new HashMap<>();
+        if (dbData == null || dbData.isBlank() || keys.isEmpty()) {
+            return selected;
+        }
+        try (JsonParser parser = MAPPER.createParser(dbData)) {
+            JsonToken start = parser.nextToken();
+            if (start == JsonToken.VALUE_NULL) {
+                return selected;
+            }
+            if (start != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Specifications JSON is not an object: " + dbData);
+            }
+            while (selected.size() < keys.size() && parser.nextToken() == JsonToken.FIELD_NAME) {
+                String key = parser.currentName();
+                parser.nextToken();
+                if (keys.contains(key)) {
+                    selected.put(key, MAPPER.readValue(parser, Object.class));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return selected;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot deserialize specifications from JSON: " + dbData, e);
+        }
+    }
 }
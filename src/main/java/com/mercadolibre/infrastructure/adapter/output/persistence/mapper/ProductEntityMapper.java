@@ -1,18 +1,33 @@
 package com.mercadolibre.infrastructure.adapter.output.persistence.mapper;
 
+import com.mercadolibre.application.port.input.ProductField;
 import com.mercadolibre.domain.model.Product;
 import com.mercadolibre.domain.model.ProductType;
+import com.mercadolibre.domain.model.RawJsonSpecifications;
+import com.mercadolibre.domain.model.Specifications;
+import com.mercadolibre.infrastructure.adapter.output.persistence.converter.SpecificationsJsonConverter;
 import com.mercadolibre.infrastructure.adapter.output.persistence.entity.ProductEntity;
+import jakarta.persistence.Tuple;
+import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import org.springframework.stereotype.Component;
 
 @Component
 public class ProductEntityMapper {
 
     public Product toDomain(ProductEntity entity) {
+        return toDomain(entity, null);
+    }
+
+    /**
+     * Maps an entity keeping only the given specification keys ({@code null} for all). Keys are read from the
+     * stored JSON without parsing the other values.
+     */
+    public Product toDomain(ProductEntity entity, Set<String> specificationKeys) {
         if (entity == null) return null;
-        Map<String, Object> specs = entity.getSpecifications();
+        ProductType productType = entity.getProductType() != null ? entity.getProductType() : ProductType.GENERIC;
         return Product.builder()
             .id(entity.getId())
             .name(entity.getName())
@@ -23,8 +38,84 @@ public class ProductEntityMapper {
             .color(entity.getColor())
             .imageUrl(entity.getImageUrl())
             .rating(entity.getRating())
-            .productType(entity.getProductType() != null ? entity.getProductType() : ProductType.GENERIC)
-            .specifications(specs == null || specs.isEmpty() ? new HashMap<>() : new HashMap<>(specs))
+            .productType(productType)
+            .specifications(specifications(productType, entity.getSpecifications(), specificationKeys))
+            .build();
+    }
+
+    /** Maps a product to a new (unmanaged) entity; a {@code null} id is generated on insert. */
+    public ProductEntity toEntity(Product product) {
+        if (product == null) return null;
+        return ProductEntity.builder()
+            .id(product.getId())
+            .name(product.getName())
+            .description(product.getDescription())
+            .price(product.getPrice())
+            .size(product.getSize())
+            .weight(product.getWeight())
+            .color(product.getColor())
+            .imageUrl(product.getImageUrl())
+            .rating(product.getRating())
+            .productType(product.getProductType() != null ? product.getProductType() : ProductType.GENERIC)
+            .specifications(product.getSpecifications() != null ? product.getSpecifications() : new HashMap<>())
             .build();
     }
+
+    /**
+     * Maps a projection row (see {@code ProductJpaRepositoryCustom#findAttributesByIdIn}) whose elements are
+     * aliased by {@link ProductField#getValue()}. Fields outside {@code fields} are left unset.
+     */
+    public Product toDomain(Tuple tuple, Set<ProductField> fields) {
+        return toDomain(tuple, fields, null);
+    }
+
+    /**
+     * Maps a projection row like {@link #toDomain(Tuple, Set)}, keeping only the given specification keys
+     * ({@code null} for all).
+     */
+    @SuppressWarnings("unchecked")
+    public Product toDomain(Tuple tuple, Set<ProductField> fields, Set<String> specificationKeys) {
+        if (tuple == null) return null;
+        ProductType productType = get(tuple, fields, ProductField.PRODUCT_TYPE, ProductType.class);
+        if (productType == null) {
+            productType = ProductType.GENERIC;
+        }
+        Map<String, Object> specs = get(tuple, fields, ProductField.SPECIFICATIONS, Map.class);
+        return Product.builder()
+            .id(tuple.get(ProductField.ID.getValue(), Long.class))
+            .name(get(tuple, fields, ProductField.NAME, String.class))
+            .description(get(tuple, fields, ProductField.DESCRIPTION, String.class))
+            .price(get(tuple, fields, ProductField.PRICE, BigDecimal.class))
+            .size(get(tuple, fields, ProductField.SIZE, String.class))
+            .weight(get(tuple, fields, ProductField.WEIGHT, String.class))
+            .color(get(tuple, fields, ProductField.COLOR, String.class))
+            .imageUrl(get(tuple, fields, ProductField.IMAGE_URL, String.class))
+            .rating(get(tuple, fields, ProductField.RATING, BigDecimal.class))
+            .productType(productType)
+            .specifications(specifications(productType, specs, specificationKeys))
+            .build();
+    }
+
+    private static Map<String, Object> specifications(ProductType productType, Map<String, Object> specifications,
+                                                      Set<String> keys) {
+        if (keys == null || specifications == null || specifications.isEmpty()) {
+            return Specifications.of(productType, specifications);
+        }
+        String raw = specifications instanceof RawJsonSpecifications rawSpecifications
+            ? rawSpecifications.rawJson() : null;
+        if (raw != null) {
+            return Specifications.of(productType, SpecificationsJsonConverter.extract(raw, keys));
+        }
+        Map<String, Object> selected = new HashMap<>();
+        for (String key : keys) {
+            if (specifications.containsKey(key)) {
+                selected.put(key, specifications.get(key));
+            }
+        }
+        return Specifications.of(productType, selected);
+    }
+
+    private static <T> T get(Tuple tuple, Set<ProductField> fields, ProductField field, Class<T> type) {
+        return fields.contains(field) ? tuple.get(field.getValue(), type) : null;
+    }
 }
@@ -0,0 +1,57 @@
+package com.mercadolibre.infrastructure.adapter.output.persistence.repository;
+
+import com.mercadolibre.domain.model.ProductType;
+import com.mercadolibre.infrastructure.adapter.output.persistence.entity.ProductEntity;
+import jakarta.persistence.Tuple;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface ProductJpaRepositoryCustom {
+
+    /**
+     * Loads only the given attributes of the products whose identifiers are in {@code ids}.
+     *
+     * @param ids        product identifiers
+     * @param attributes {@code ProductEntity} attribute names to select; each tuple element is aliased by its name
+     * @return one tuple per matching row
+     */
+    List<Tuple> findAttributesByIdIn(List<Long> ids, Collection<String> attributes);
+
+    /**
+     * Streams the given attributes of all products (of {@code productType}, if not {@code null}) in id order,
+     * fetching rows from a forward-only cursor in batches of {@code product.export.fetch-size}. Tuples are not
+     * managed entities, so the persistence context does not grow while the stream is consumed.
+     *
+     * @param productType product type to read, or {@code null} for all
+     * @param attributes  {@code ProductEntity} attribute names to select; each tuple element is aliased by its name
+     * @return stream of tuples; must be consumed inside a transaction and closed
+     */
+    Stream<Tuple> streamAttributes(ProductType productType, Collection<String> attributes);
+
+    /**
+     * Loads the given attributes of up to {@code limit} products that follow {@code (afterType, afterId)} in
+     * {@code (productType, id)} order. Each query is a single range of the {@code (product_type, id)} index that
+     * starts at the key, so the cost does not depend on how many rows come before it.
+     *
+     * @param productType product type to read, or {@code null} for all
+     * @param afterType   product type of the key to start after, or {@code null} to start from the first row
+     * @param afterId     id of the key to start after; ignored if {@code afterType} is {@code null}
+     * @param limit       maximum number of tuples
+     * @param attributes  {@code ProductEntity} attribute names to select; each tuple element is aliased by its name
+     * @return tuples in {@code (productType, id)} order
+     */
+    List<Tuple> findAttributesAfter(ProductType productType, ProductType afterType, long afterId, int limit,
+                                    Collection<String> attributes);
+
+    /**
+     * Persists entities without an id and merges the others onto their rows, {@code product.ingest.batch-size}
+     * entities at a time: the existing rows of a batch are loaded with one query, the batch is flushed as JDBC
+     * batches and the persistence context is cleared, so memory does not grow with the input. Entities whose id
+     * has no row are not written.
+     *
+     * @param entities entities to store; generated ids are set on them
+     * @return ids of the entities that had no row; empty if every entity was stored
+     */
+    List<Long> upsertInBatches(List<ProductEntity> entities);
+}
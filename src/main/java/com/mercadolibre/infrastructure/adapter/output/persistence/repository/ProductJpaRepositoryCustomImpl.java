@@ -0,0 +1,139 @@
+package com.mercadolibre.infrastructure.adapter.output.persistence.repository;
+
+import com.mercadolibre.domain.model.ProductType;
+import com.mercadolibre.infrastructure.adapter.output.persistence.entity.ProductEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+
+/**
+ * Criteria-based projection queries: only the requested columns appear in the {@code SELECT}, so unrequested
+ * columns (notably the {@code specifications} CLOB and its JSON conversion) are never read.
+ */
+public class ProductJpaRepositoryCustomImpl implements ProductJpaRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${product.export.fetch-size:500}")
+    private int fetchSize;
+
+    @Value("${product.ingest.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public List<Tuple> findAttributesByIdIn(List<Long> ids, Collection<String> attributes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<ProductEntity> root = query.from(ProductEntity.class);
+        query.multiselect(selections(root, attributes)).where(root.get("id").in(ids));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public Stream<Tuple> streamAttributes(ProductType productType, Collection<String> attributes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<ProductEntity> root = query.from(ProductEntity.class);
+        query.multiselect(selections(root, attributes)).orderBy(cb.asc(root.get("id")));
+        if (productType != null) {
+            query.where(cb.equal(root.get("productType"), productType));
+        }
+        return entityManager.createQuery(query)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream();
+    }
+
+    @Override
+    public List<Tuple> findAttributesAfter(ProductType productType, ProductType afterType, long afterId, int limit,
+                                           Collection<String> attributes) {
+        if (afterType == null) {
+            return findAttributesAfter(attributes, limit,
+                (cb, root) -> productType == null ? null : cb.equal(root.get("productType"), productType));
+        }
+        // Rest of the cursor's type, then the following types: two index ranges instead of one OR predicate
+        // the optimizer may not turn into a seek.
+        List<Tuple> page = new ArrayList<>(findAttributesAfter(attributes, limit, (cb, root) -> cb.and(
+            cb.equal(root.get("productType"), afterType), cb.greaterThan(root.<Long>get("id"), afterId))));
+        if (productType == null && page.size() < limit) {
+            page.addAll(findAttributesAfter(attributes, limit - page.size(),
+                (cb, root) -> cb.greaterThan(root.<ProductType>get("productType"), afterType)));
+        }
+        return page;
+    }
+
+    @Override
+    public List<Long> upsertInBatches(List<ProductEntity> entities) {
+        List<Long> missingIds = new ArrayList<>();
+        for (int from = 0; from < entities.size(); from += batchSize) {
+            List<ProductEntity> batch = entities.subList(from, Math.min(from + batchSize, entities.size()));
+            Set<Long> existingIds = loadExisting(batch);
+            for (ProductEntity entity : batch) {
+                if (entity.getId() == null) {
+                    entityManager.persist(entity);
+                } else if (existingIds.contains(entity.getId())) {
+                    entityManager.merge(entity);
+                } else {
+                    missingIds.add(entity.getId());
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return missingIds;
+    }
+
+    /** Loads the rows of {@code batch} into the persistence context, so merging them does not select again. */
+    private Set<Long> loadExisting(List<ProductEntity> batch) {
+        List<Long> ids = batch.stream().map(ProductEntity::getId).filter(Objects::nonNull).toList();
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return entityManager.createQuery("select p from ProductEntity p where p.id in :ids", ProductEntity.class)
+            .setParameter("ids", ids)
+            .getResultStream()
+            .map(ProductEntity::getId)
+            .collect(Collectors.toSet());
+    }
+
+    private List<Tuple> findAttributesAfter(Collection<String> attributes, int limit,
+                                            BiFunction<CriteriaBuilder, Root<ProductEntity>, Predicate> where) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<ProductEntity> root = query.from(ProductEntity.class);
+        query.multiselect(selections(root, attributes))
+            .orderBy(cb.asc(root.get("productType")), cb.asc(root.get("id")));
+        Predicate predicate = where.apply(cb, root);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query)
+            .setMaxResults(limit)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultList();
+    }
+
+    private static List<Selection<?>> selections(Root<ProductEntity> root, Collection<String> attributes) {
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String attribute : attributes) {
+            selections.add(root.get(attribute).alias(attribute));
+        }
+        return selections;
+    }
+}
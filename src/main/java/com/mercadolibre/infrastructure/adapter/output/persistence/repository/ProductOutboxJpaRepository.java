@@ -0,0 +1,13 @@
+package com.mercadolibre.infrastructure.adapter.output.persistence.repository;
+
+import com.mercadolibre.infrastructure.adapter.output.persistence.entity.ProductOutboxEntity;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProductOutboxJpaRepository extends JpaRepository<ProductOutboxEntity, Long> {
+
+    List<ProductOutboxEntity> findAllByOrderByIdAsc(Pageable pageable);
+}
@@ -0,0 +1,383 @@
+package com.mercadolibre.infrastructure.adapter.output.search;
+
+import com.mercadolibre.application.port.output.ProductSearchIndex;
+import com.mercadolibre.domain.model.Product;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process {@link ProductSearchIndex}. Every product gets a dense document number; each term maps to a
+ * posting list of the documents containing it, kept as a sorted {@code int} array with a parallel array of the
+ * fields the term occurs in. Terms are held in a sorted map, so a query word is looked up as the exact term plus
+ * up to {@code maxExpansions} terms it is a prefix of.
+ *
+ * <p>A query is answered by merging the postings of its rarest word into candidates and then probing the
+ * postings of the other words with binary searches, so the cost follows the matches of the most selective word
+ * rather than the catalog size. A document scores, per word, the weight of the best field the word occurs in
+ * (name 3, specifications 2, description 1), halved for prefix matches; scores are summed over the words.
+ *
+ * <p>Searches share a read lock; updates take the write lock. Document numbers of removed products are not
+ * reused.
+ */
+public class InvertedProductIndex implements ProductSearchIndex {
+
+    static final byte NAME = 1;
+
+    static final byte DESCRIPTION = 1 << 1;
+
+    static final byte SPECIFICATIONS = 1 << 2;
+
+    private static final float PREFIX_WEIGHT = 0.5f;
+
+    private static final int INITIAL_DOCUMENTS = 1024;
+
+    private final int maxExpansions;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final NavigableMap<String, Postings> terms = new TreeMap<>();
+
+    private final Map<Long, Integer> documents = new HashMap<>();
+
+    private long[] productIds = new long[INITIAL_DOCUMENTS];
+
+    private String[][] documentTerms = new String[INITIAL_DOCUMENTS][];
+
+    private int nextDocument;
+
+    private volatile int indexedProducts;
+
+    private volatile int indexedTerms;
+
+    public InvertedProductIndex(int maxExpansions, MeterRegistry meterRegistry) {
+        this.maxExpansions = maxExpansions;
+        Gauge.builder("product.search.index.products", this, index -> index.indexedProducts)
+            .description("Products in the search index")
+            .register(meterRegistry);
+        Gauge.builder("product.search.index.terms", this, index -> index.indexedTerms)
+            .description("Distinct terms in the search index")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void index(Collection<Product> products) {
+        lock.writeLock().lock();
+        try {
+            for (Product product : products) {
+                if (product.getId() != null) {
+                    index(product);
+                }
+            }
+            updateSizes();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Collection<Long> ids) {
+        lock.writeLock().lock();
+        try {
+            for (Long id : ids) {
+                Integer document = documents.remove(id);
+                if (document != null) {
+                    removePostings(document);
+                    documentTerms[document] = null;
+                }
+            }
+            updateSizes();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Long> search(String query, int limit) {
+        List<String> words = List.copyOf(new LinkedHashSet<>(ProductTokenizer.tokenize(query)));
+        if (words.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<List<Expansion>> expansions = new ArrayList<>(words.size());
+            for (String word : words) {
+                List<Expansion> matches = expand(word);
+                if (matches.isEmpty()) {
+                    return List.of();
+                }
+                expansions.add(matches);
+            }
+            expansions.sort(Comparator.comparingLong(InvertedProductIndex::postingsSize));
+            Candidates candidates = Candidates.of(expansions.get(0));
+            for (int i = 1; i < expansions.size() && candidates.size > 0; i++) {
+                candidates.retain(expansions.get(i));
+            }
+            return candidates.top(limit, productIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void index(Product product) {
+        Map<String, Byte> fields = termFields(product);
+        Integer document = documents.get(product.getId());
+        if (document != null) {
+            removePostings(document);
+        } else {
+            document = newDocument(product.getId());
+        }
+        String[] indexed = new String[fields.size()];
+        int i = 0;
+        for (Map.Entry<String, Byte> entry : fields.entrySet()) {
+            Postings postings = terms.computeIfAbsent(entry.getKey(), Postings::new);
+            postings.add(document, entry.getValue());
+            indexed[i++] = postings.term;
+        }
+        documentTerms[document] = indexed;
+    }
+
+    private int newDocument(long productId) {
+        if (nextDocument == productIds.length) {
+            productIds = Arrays.copyOf(productIds, productIds.length * 2);
+            documentTerms = Arrays.copyOf(documentTerms, documentTerms.length * 2);
+        }
+        int document = nextDocument++;
+        productIds[document] = productId;
+        documents.put(productId, document);
+        return document;
+    }
+
+    private void removePostings(int document) {
+        for (String term : documentTerms[document]) {
+            Postings postings = terms.get(term);
+            postings.remove(document);
+            if (postings.size == 0) {
+                terms.remove(term);
+            }
+        }
+    }
+
+    private void updateSizes() {
+        indexedProducts = documents.size();
+        indexedTerms = terms.size();
+    }
+
+    /** The exact term first, then terms that start with {@code word}, at most {@code maxExpansions} in all. */
+    private List<Expansion> expand(String word) {
+        List<Expansion> expansions = new ArrayList<>();
+        Postings exact = terms.get(word);
+        if (exact != null) {
+            expansions.add(new Expansion(exact, 1));
+        }
+        for (Postings postings : terms.subMap(word, false, word + Character.MAX_VALUE, false).values()) {
+            if (expansions.size() >= maxExpansions) {
+                break;
+            }
+            expansions.add(new Expansion(postings, PREFIX_WEIGHT));
+        }
+        return expansions;
+    }
+
+    private static long postingsSize(List<Expansion> expansions) {
+        long size = 0;
+        for (Expansion expansion : expansions) {
+            size += expansion.postings().size;
+        }
+        return size;
+    }
+
+    private static Map<String, Byte> termFields(Product product) {
+        Map<String, Byte> fields = new HashMap<>();
+        addTerms(fields, product.getName(), NAME);
+        addTerms(fields, product.getDescription(), DESCRIPTION);
+        if (product.getSpecifications() != null) {
+            for (Object value : product.getSpecifications().values()) {
+                addValueTerms(fields, value);
+            }
+        }
+        return fields;
+    }
+
+    private static void addValueTerms(Map<String, Byte> fields, Object value) {
+        if (value instanceof Map<?, ?> map) {
+            map.values().forEach(nested -> addValueTerms(fields, nested));
+        } else if (value instanceof Collection<?> collection) {
+            collection.forEach(nested -> addValueTerms(fields, nested));
+        } else if (value != null) {
+            addTerms(fields, value.toString(), SPECIFICATIONS);
+        }
+    }
+
+    private static void addTerms(Map<String, Byte> fields, String text, byte field) {
+        for (String term : ProductTokenizer.tokenize(text)) {
+            fields.merge(term, field, (a, b) -> (byte) (a | b));
+        }
+    }
+
+    static float fieldWeight(byte fields) {
+        if ((fields & NAME) != 0) {
+            return 3;
+        }
+        if ((fields & SPECIFICATIONS) != 0) {
+            return 2;
+        }
+        return fields != 0 ? 1 : 0;
+    }
+
+    private record Expansion(Postings postings, float weight) {
+
+        float score(byte fields) {
+            return weight * fieldWeight(fields);
+        }
+    }
+
+    /** Documents containing a term, in ascending order, with the fields it occurs in. */
+    private static final class Postings {
+
+        private final String term;
+
+        private int[] documents = new int[2];
+
+        private byte[] fields = new byte[2];
+
+        private int size;
+
+        Postings(String term) {
+            this.term = term;
+        }
+
+        void add(int document, byte field) {
+            // Documents are mostly numbered in indexing order, so appends are the common case.
+            int i = size > 0 && documents[size - 1] >= document
+                ? Arrays.binarySearch(documents, 0, size, document) : -(size + 1);
+            if (i >= 0) {
+                fields[i] = field;
+                return;
+            }
+            int at = -(i + 1);
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+                fields = Arrays.copyOf(fields, size * 2);
+            }
+            System.arraycopy(documents, at, documents, at + 1, size - at);
+            System.arraycopy(fields, at, fields, at + 1, size - at);
+            documents[at] = document;
+            fields[at] = field;
+            size++;
+        }
+
+        void remove(int document) {
+            int i = Arrays.binarySearch(documents, 0, size, document);
+            if (i >= 0) {
+                System.arraycopy(documents, i + 1, documents, i, size - i - 1);
+                System.arraycopy(fields, i + 1, fields, i, size - i - 1);
+                size--;
+            }
+        }
+
+        byte fieldsOf(int document) {
+            int i = Arrays.binarySearch(documents, 0, size, document);
+            return i >= 0 ? fields[i] : 0;
+        }
+    }
+
+    /** Documents matching the words processed so far, in ascending order, with their summed scores. */
+    private static final class Candidates {
+
+        private int[] documents;
+
+        private float[] scores;
+
+        private int size;
+
+        private Candidates(int[] documents, float[] scores, int size) {
+            this.documents = documents;
+            this.scores = scores;
+            this.size = size;
+        }
+
+        /** Merges the postings of one word's expansions, keeping each document's best score. */
+        static Candidates of(List<Expansion> expansions) {
+            Candidates candidates = new Candidates(new int[0], new float[0], 0);
+            for (Expansion expansion : expansions) {
+                candidates.merge(expansion);
+            }
+            return candidates;
+        }
+
+        private void merge(Expansion expansion) {
+            Postings postings = expansion.postings();
+            int[] mergedDocuments = new int[size + postings.size];
+            float[] mergedScores = new float[mergedDocuments.length];
+            int i = 0;
+            int j = 0;
+            int n = 0;
+            while (i < size || j < postings.size) {
+                if (j == postings.size || (i < size && documents[i] < postings.documents[j])) {
+                    mergedDocuments[n] = documents[i];
+                    mergedScores[n++] = scores[i++];
+                } else {
+                    float score = expansion.score(postings.fields[j]);
+                    if (i < size && documents[i] == postings.documents[j]) {
+                        score = Math.max(score, scores[i++]);
+                    }
+                    mergedDocuments[n] = postings.documents[j++];
+                    mergedScores[n++] = score;
+                }
+            }
+            documents = mergedDocuments;
+            scores = mergedScores;
+            size = n;
+        }
+
+        /** Keeps the candidates one of {@code expansions} occurs in, adding the best of their scores. */
+        void retain(List<Expansion> expansions) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                float best = 0;
+                for (Expansion expansion : expansions) {
+                    byte fields = expansion.postings().fieldsOf(documents[i]);
+                    if (fields != 0) {
+                        best = Math.max(best, expansion.score(fields));
+                    }
+                }
+                if (best > 0) {
+                    documents[kept] = documents[i];
+                    scores[kept++] = scores[i] + best;
+                }
+            }
+            size = kept;
+        }
+
+        /** Product ids of the {@code limit} best candidates, best first; ties go to the lower id. */
+        List<Long> top(int limit, long[] productIds) {
+            Comparator<Integer> better = Comparator.<Integer>comparingDouble(i -> scores[i])
+                .thenComparing(i -> productIds[documents[i]], Comparator.reverseOrder());
+            PriorityQueue<Integer> best = new PriorityQueue<>(Math.min(limit, size) + 1, better);
+            for (int i = 0; i < size; i++) {
+                best.add(i);
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+            Long[] ids = new Long[best.size()];
+            for (int i = ids.length - 1; i >= 0; i--) {
+                ids[i] = productIds[documents[best.poll()]];
+            }
+            return List.of(ids);
+        }
+    }
+}
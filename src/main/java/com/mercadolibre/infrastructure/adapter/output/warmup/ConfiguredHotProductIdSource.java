@@ -0,0 +1,21 @@
+package com.mercadolibre.infrastructure.adapter.output.warmup;
+
+import com.mercadolibre.application.port.output.HotProductIdSource;
+import java.util.List;
+
+/**
+ * {@link HotProductIdSource} over a fixed list of ids, e.g. {@code product.cache.warmup.ids}.
+ */
+public class ConfiguredHotProductIdSource implements HotProductIdSource {
+
+    private final List<Long> ids;
+
+    public ConfiguredHotProductIdSource(List<Long> ids) {
+        this.ids = List.copyOf(ids);
+    }
+
+    @Override
+    public List<Long> hotProductIds(int limit) {
+        return ids.subList(0, Math.min(limit, ids.size()));
+    }
+}
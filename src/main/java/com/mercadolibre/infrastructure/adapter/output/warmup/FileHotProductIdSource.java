@@ -0,0 +1,53 @@
+package com.mercadolibre.infrastructure.adapter.output.warmup;
+
+import com.mercadolibre.application.port.output.HotProductIdSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link HotProductIdSource} over a recorded access file: one product id per line, hottest first. Only the
+ * first token of a line is read (so {@code id count} exports work as-is); blank lines, lines starting with
+ * {@code #} and lines that do not start with a numeric id are skipped. A missing file yields no ids.
+ */
+@Slf4j
+public class FileHotProductIdSource implements HotProductIdSource {
+
+    private final Path file;
+
+    public FileHotProductIdSource(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public List<Long> hotProductIds(int limit) {
+        if (!Files.isReadable(file)) {
+            log.warn("Hot product file {} not found or not readable; no products to warm up", file);
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            String line;
+            while (ids.size() < limit && (line = reader.readLine()) != null) {
+                String trimmed = line.strip();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                String token = trimmed.split("[\\s,;]", 2)[0];
+                try {
+                    ids.add(Long.parseLong(token));
+                } catch (NumberFormatException e) {
+                    log.debug("Skipping line '{}' of hot product file {}", line, file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read hot product file " + file, e);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,45 @@
+package com.mercadolibre.infrastructure.adapter.output.warmup;
+
+import com.mercadolibre.application.port.output.HotProductIdSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * {@link HotProductIdSource} over a Redis sorted set of product ids scored by access count; the highest
+ * scores are read first ({@code ZREVRANGE}). Members that are not numeric ids are skipped.
+ */
+@Slf4j
+public class RedisHotProductIdSource implements HotProductIdSource {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final String key;
+
+    public RedisHotProductIdSource(StringRedisTemplate redisTemplate, String key) {
+        this.redisTemplate = redisTemplate;
+        this.key = key;
+    }
+
+    @Override
+    public List<Long> hotProductIds(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(key, 0, limit - 1L);
+        if (members == null) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(members.size());
+        for (String member : members) {
+            try {
+                ids.add(Long.parseLong(member));
+            } catch (NumberFormatException e) {
+                log.debug("Skipping non-numeric member '{}' of hot product set {}", member, key);
+            }
+        }
+        return ids;
+    }
+}
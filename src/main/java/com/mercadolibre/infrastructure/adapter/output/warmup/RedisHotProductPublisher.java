@@ -0,0 +1,42 @@
+package com.mercadolibre.infrastructure.adapter.output.warmup;
+
+import com.mercadolibre.infrastructure.adapter.output.hotkeys.HotProductTracker.HotProduct;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+/**
+ * Writes hot product snapshots into the Redis sorted set read by {@link RedisHotProductIdSource}, scored by
+ * estimated count, so pods started later warm up with the products this one saw. Each pod adds (or rescores)
+ * its own top products; the key expires after {@code timeToLive} without snapshots.
+ */
+public class RedisHotProductPublisher implements Consumer<List<HotProduct>> {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final String key;
+
+    private final Duration timeToLive;
+
+    public RedisHotProductPublisher(StringRedisTemplate redisTemplate, String key, Duration timeToLive) {
+        this.redisTemplate = redisTemplate;
+        this.key = key;
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    public void accept(List<HotProduct> hotProducts) {
+        if (hotProducts.isEmpty()) {
+            return;
+        }
+        Set<TypedTuple<String>> members = hotProducts.stream()
+            .map(product -> TypedTuple.of(Long.toString(product.id()), (double) product.estimatedCount()))
+            .collect(Collectors.toSet());
+        redisTemplate.opsForZSet().add(key, members);
+        redisTemplate.expire(key, timeToLive);
+    }
+}
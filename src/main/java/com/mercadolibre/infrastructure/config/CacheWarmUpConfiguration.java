@@ -0,0 +1,94 @@
+package com.mercadolibre.infrastructure.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import com.mercadolibre.application.port.output.HotProductIdSource;
+import com.mercadolibre.application.service.ProductCacheWarmer;
+import com.mercadolibre.infrastructure.adapter.output.warmup.ConfiguredHotProductIdSource;
+import com.mercadolibre.infrastructure.adapter.output.warmup.FileHotProductIdSource;
+import com.mercadolibre.infrastructure.adapter.output.warmup.RedisHotProductIdSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Startup warm-up of the product cache. The runner executes after the context is refreshed but before the
+ * application is reported ready, so the readiness probe (which includes {@code readinessState}) keeps the pod
+ * out of rotation until up to {@code product.cache.warmup.max-products} hot products are cached or
+ * {@code time-budget} runs out. The hot ids come from {@code product.cache.warmup.source}: a configured
+ * {@code ids} list, a Redis sorted set ({@code redis-key}) or a recorded access {@code file}. A failed
+ * warm-up is logged and never stops the application from starting.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "product.cache.warmup.enabled", havingValue = "true")
+public class CacheWarmUpConfiguration {
+
+    /** Where the hot product ids are read from. */
+    public enum Source {
+        IDS, REDIS, FILE
+    }
+
+    @Value("${product.cache.warmup.source:ids}")
+    private Source source;
+
+    @Value("${product.cache.warmup.ids:}")
+    private String ids;
+
+    @Value("${product.cache.warmup.redis-key:product_hot_ids}")
+    private String redisKey;
+
+    @Value("${product.cache.warmup.file:hot-products.txt}")
+    private Path file;
+
+    @Value("${product.cache.warmup.max-products:1000}")
+    private int maxProducts;
+
+    @Value("${product.cache.warmup.batch-size:100}")
+    private int batchSize;
+
+    @Value("${product.cache.warmup.time-budget:20s}")
+    private Duration timeBudget;
+
+    @Bean
+    @ConditionalOnMissingBean
+    public HotProductIdSource hotProductIdSource(ObjectProvider<StringRedisTemplate> redisTemplate) {
+        return switch (source) {
+            case IDS -> new ConfiguredHotProductIdSource(parseIds(ids));
+            case REDIS -> new RedisHotProductIdSource(redisTemplate.getObject(), redisKey);
+            case FILE -> new FileHotProductIdSource(file);
+        };
+    }
+
+    @Bean
+    public ApplicationRunner productCacheWarmUp(HotProductIdSource hotProductIdSource,
+                                                ProductCacheWarmer productCacheWarmer) {
+        return args -> {
+            long deadline = System.nanoTime() + timeBudget.toNanos();
+            try {
+                List<Long> hotIds = hotProductIdSource.hotProductIds(maxProducts);
+                Duration left = Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+                productCacheWarmer.warmUp(hotIds, batchSize, left);
+            } catch (RuntimeException e) {
+                log.warn("Product cache warm-up failed; starting with a cold cache", e);
+            }
+        };
+    }
+
+    static List<Long> parseIds(String ids) {
+        return Arrays.stream(ids.split(","))
+            .map(String::strip)
+            .filter(id -> !id.isEmpty())
+            .map(Long::valueOf)
+            .toList();
+    }
+}
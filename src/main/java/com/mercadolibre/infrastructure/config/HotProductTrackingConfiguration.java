@@ -0,0 +1,69 @@
+package com.mercadolibre.infrastructure.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.mercadolibre.application.port.output.ProductAccessRecorder;
+import com.mercadolibre.infrastructure.adapter.input.actuator.HotProductsEndpoint;
+import com.mercadolibre.infrastructure.adapter.output.hotkeys.HotProductTracker;
+import com.mercadolibre.infrastructure.adapter.output.hotkeys.HotProductTracker.HotProduct;
+import com.mercadolibre.infrastructure.adapter.output.warmup.RedisHotProductPublisher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Hot product detection: every compared product id is counted in a fixed-size count-min sketch
+ * ({@code product.hot-keys.sketch-width} counters per row) that is halved every {@code decay-period}. The
+ * current top {@code top-k} products are served at {@code /admin/hotproducts} and, with
+ * {@code publish-to-redis}, written before each decay to the sorted set the cache warm-up reads
+ * ({@code product.cache.warmup.redis-key}). When disabled, accesses are not recorded.
+ */
+@Configuration
+public class HotProductTrackingConfiguration {
+
+    @Value("${product.hot-keys.sketch-width:4096}")
+    private int sketchWidth;
+
+    @Value("${product.hot-keys.top-k:100}")
+    private int topK;
+
+    @Value("${product.hot-keys.decay-period:60s}")
+    private Duration decayPeriod;
+
+    @Value("${product.hot-keys.publish-to-redis:false}")
+    private boolean publishToRedis;
+
+    @Value("${product.hot-keys.publish-time-to-live:1d}")
+    private Duration publishTimeToLive;
+
+    @Value("${product.cache.warmup.redis-key:product_hot_ids}")
+    private String redisKey;
+
+    @Bean
+    @ConditionalOnProperty(name = "product.hot-keys.enabled", havingValue = "true", matchIfMissing = true)
+    public HotProductTracker hotProductTracker(ObjectProvider<StringRedisTemplate> redisTemplate) {
+        StringRedisTemplate template = publishToRedis ? redisTemplate.getIfAvailable() : null;
+        Consumer<List<HotProduct>> snapshotListener = template == null
+            ? hotProducts -> { }
+            : new RedisHotProductPublisher(template, redisKey, publishTimeToLive);
+        return new HotProductTracker(sketchWidth, topK, decayPeriod, snapshotListener);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "product.hot-keys.enabled", havingValue = "true", matchIfMissing = true)
+    public HotProductsEndpoint hotProductsEndpoint(HotProductTracker hotProductTracker) {
+        return new HotProductsEndpoint(hotProductTracker, topK);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(ProductAccessRecorder.class)
+    public ProductAccessRecorder noProductAccessRecorder() {
+        return ProductAccessRecorder.NONE;
+    }
+}
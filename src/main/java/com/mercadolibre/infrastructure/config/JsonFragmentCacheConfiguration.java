@@ -0,0 +1,30 @@
+package com.mercadolibre.infrastructure.config;
+
+import java.time.Duration;
+
+import com.mercadolibre.infrastructure.adapter.input.rest.json.ProductJsonFragmentCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cache of pre-serialized product JSON used by the compare endpoint, bounded by
+ * {@code product.cache.json-fragments.maximum-size} products and {@code time-to-live}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "product.cache.json-fragments.enabled", havingValue = "true", matchIfMissing = true)
+public class JsonFragmentCacheConfiguration {
+
+    @Value("${product.cache.json-fragments.maximum-size:1000}")
+    private long maximumSize;
+
+    @Value("${product.cache.json-fragments.time-to-live:30s}")
+    private Duration timeToLive;
+
+    @Bean
+    public ProductJsonFragmentCache productJsonFragmentCache(MeterRegistry meterRegistry) {
+        return new ProductJsonFragmentCache(maximumSize, timeToLive, meterRegistry);
+    }
+}
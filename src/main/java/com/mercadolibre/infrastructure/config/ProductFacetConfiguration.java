@@ -0,0 +1,47 @@
+package com.mercadolibre.infrastructure.config;
+
+import com.mercadolibre.application.port.output.ProductFacetIndex;
+import com.mercadolibre.application.service.ProductFacetService;
+import com.mercadolibre.infrastructure.adapter.output.facet.BitmapFacetIndex;
+import com.mercadolibre.infrastructure.adapter.output.invalidation.ProductChangeListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Facet counts over specification attributes: a bitmap index per product type, built from the whole catalog
+ * before the application is reported ready ({@code product.facets.build-page-size} products per query) and
+ * updated from the product invalidations, like the search index. A failed build is logged and leaves the
+ * counts empty until products change.
+ */
+@Slf4j
+@Configuration
+public class ProductFacetConfiguration {
+
+    @Value("${product.facets.build-page-size:1000}")
+    private int buildPageSize;
+
+    @Bean
+    public ProductFacetIndex productFacetIndex(MeterRegistry meterRegistry) {
+        return new BitmapFacetIndex(meterRegistry);
+    }
+
+    @Bean
+    public ProductChangeListener productFacetIndexUpdater(ProductFacetService productFacetService) {
+        return productFacetService::refresh;
+    }
+
+    @Bean
+    public ApplicationRunner productFacetIndexBuild(ProductFacetService productFacetService) {
+        return args -> {
+            try {
+                productFacetService.rebuild(buildPageSize);
+            } catch (RuntimeException e) {
+                log.warn("Building the product facet index failed; facet counts start empty", e);
+            }
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package com.mercadolibre.infrastructure.config;
+
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.application.port.input.ManageProductsUseCase;
+import com.mercadolibre.infrastructure.adapter.input.actuator.ProductImportEndpoint;
+import com.mercadolibre.infrastructure.adapter.input.importer.ProductImporter;
+import com.mercadolibre.infrastructure.adapter.input.importer.ProductRowConverter;
+import com.mercadolibre.infrastructure.adapter.input.rest.mapper.ProductMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Streaming product import from NDJSON or CSV files under {@code product.import.directory}, started and
+ * monitored at {@code /admin/productimport}. Rows are written in batches of {@code product.import.batch-size}
+ * (by default the JDBC batch size), with at most {@code queue-capacity} batches parsed ahead of the writer.
+ */
+@Configuration
+@ConditionalOnProperty(name = "product.import.enabled", havingValue = "true", matchIfMissing = true)
+public class ProductImportConfiguration {
+
+    @Value("${product.import.directory:imports}")
+    private Path directory;
+
+    @Value("${product.import.batch-size:${product.ingest.batch-size:500}}")
+    private int batchSize;
+
+    @Value("${product.import.queue-capacity:4}")
+    private int queueCapacity;
+
+    @Bean
+    public ProductImporter productImporter(ManageProductsUseCase manageProductsUseCase, Validator validator,
+                                           ProductMapper productMapper, ObjectMapper objectMapper,
+                                           MeterRegistry meterRegistry) {
+        return new ProductImporter(manageProductsUseCase, new ProductRowConverter(validator, productMapper,
+            objectMapper), objectMapper, batchSize, queueCapacity, meterRegistry);
+    }
+
+    @Bean
+    public ProductImportEndpoint productImportEndpoint(ProductImporter productImporter) {
+        return new ProductImportEndpoint(productImporter, directory);
+    }
+}
@@ -0,0 +1,82 @@
+package com.mercadolibre.infrastructure.config;
+
+import java.time.Duration;
+
+import com.mercadolibre.application.port.output.ProductCache;
+import com.mercadolibre.infrastructure.adapter.output.invalidation.ProductChangeListener;
+import com.mercadolibre.infrastructure.adapter.output.invalidation.ProductInvalidationPublisher;
+import com.mercadolibre.infrastructure.adapter.output.invalidation.ProductInvalidationSubscriber;
+import com.mercadolibre.infrastructure.adapter.output.invalidation.ProductOutboxRelay;
+import com.mercadolibre.infrastructure.adapter.output.invalidation.RedisProductInvalidationPublisher;
+import com.mercadolibre.infrastructure.adapter.output.persistence.repository.ProductOutboxJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Cache invalidation for product writes: the outbox relay publishes the ids of committed changes on the Redis
+ * channel {@code product.invalidation.channel}, and every instance subscribed to it evicts them from its product
+ * cache and notifies its {@link ProductChangeListener}s. Without Redis, invalidations are applied to this
+ * instance directly.
+ */
+@Configuration
+public class ProductInvalidationConfiguration {
+
+    @Value("${product.invalidation.channel:product-invalidations}")
+    private String channel;
+
+    @Value("${product.outbox.poll-interval:1s}")
+    private Duration pollInterval;
+
+    @Value("${product.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Bean
+    public ProductInvalidationSubscriber productInvalidationSubscriber(
+            ProductCache productCache, ObjectProvider<ProductChangeListener> changeListeners,
+            MeterRegistry meterRegistry) {
+        return new ProductInvalidationSubscriber(productCache, changeListeners.orderedStream().toList(),
+            meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
+    public ProductInvalidationPublisher redisProductInvalidationPublisher(StringRedisTemplate redisTemplate) {
+        return new RedisProductInvalidationPublisher(redisTemplate, channel);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
+    public RedisMessageListenerContainer productInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory, ProductInvalidationSubscriber subscriber) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(subscriber, new ChannelTopic(channel));
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(ProductInvalidationPublisher.class)
+    public ProductInvalidationPublisher localProductInvalidationPublisher(ProductInvalidationSubscriber subscriber) {
+        return subscriber::evict;
+    }
+
+    @Bean
+    public ProductOutboxRelay productOutboxRelay(ProductOutboxJpaRepository outboxRepository,
+                                                 PlatformTransactionManager transactionManager,
+                                                 ProductInvalidationPublisher publisher,
+                                                 MeterRegistry meterRegistry) {
+        return new ProductOutboxRelay(outboxRepository, new TransactionTemplate(transactionManager), publisher,
+            batchSize, pollInterval, meterRegistry);
+    }
+}
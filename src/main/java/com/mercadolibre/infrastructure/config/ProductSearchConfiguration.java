@@ -0,0 +1,51 @@
+package com.mercadolibre.infrastructure.config;
+
+import com.mercadolibre.application.port.output.ProductSearchIndex;
+import com.mercadolibre.application.service.ProductSearchService;
+import com.mercadolibre.infrastructure.adapter.output.invalidation.ProductChangeListener;
+import com.mercadolibre.infrastructure.adapter.output.search.InvertedProductIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Product text search: an in-process inverted index, built from the whole catalog before the application is
+ * reported ready ({@code product.search.build-page-size} products per query) and updated from the product
+ * invalidations, so every instance follows committed writes. A query word matches terms it is a prefix of, at
+ * most {@code product.search.max-expansions} of them. A failed build is logged and leaves search empty until
+ * products change.
+ */
+@Slf4j
+@Configuration
+public class ProductSearchConfiguration {
+
+    @Value("${product.search.max-expansions:64}")
+    private int maxExpansions;
+
+    @Value("${product.search.build-page-size:1000}")
+    private int buildPageSize;
+
+    @Bean
+    public ProductSearchIndex productSearchIndex(MeterRegistry meterRegistry) {
+        return new InvertedProductIndex(maxExpansions, meterRegistry);
+    }
+
+    @Bean
+    public ProductChangeListener productSearchIndexUpdater(ProductSearchService productSearchService) {
+        return productSearchService::refresh;
+    }
+
+    @Bean
+    public ApplicationRunner productSearchIndexBuild(ProductSearchService productSearchService) {
+        return args -> {
+            try {
+                productSearchService.rebuild(buildPageSize);
+            } catch (RuntimeException e) {
+                log.warn("Building the product search index failed; search starts empty", e);
+            }
+        };
+    }
+}
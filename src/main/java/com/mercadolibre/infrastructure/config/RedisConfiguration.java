@@ -1,17 +1,40 @@
 package com.mercadolibre.infrastructure.config;
 
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mercadolibre.application.port.output.ProductCache;
+import com.mercadolibre.application.port.output.ProductRepository;
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.infrastructure.adapter.output.cache.CircuitBreakingProductCache;
+import com.mercadolibre.infrastructure.adapter.output.cache.HedgedProductCache;
+import com.mercadolibre.infrastructure.adapter.output.cache.NearProductCache;
+import com.mercadolibre.infrastructure.adapter.output.cache.NotifyingProductCache;
+import com.mercadolibre.infrastructure.adapter.output.cache.PermitLimitedProductCache;
+import com.mercadolibre.infrastructure.adapter.output.cache.ProductCacheMetrics;
+import com.mercadolibre.infrastructure.adapter.output.cache.ProductCacheWriteListener;
+import com.mercadolibre.infrastructure.adapter.output.cache.RedisProductCacheAdapter;
+import com.mercadolibre.infrastructure.adapter.output.cache.SpringCacheProductCacheAdapter;
+import com.mercadolibre.infrastructure.adapter.output.cache.WriteBehindProductCache;
+import com.mercadolibre.infrastructure.adapter.output.cache.codec.ProductRedisSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.CacheKeyPrefix;
-import org.springframework.data.redis.cache.RedisCacheConfiguration;
-import org.springframework.data.redis.cache.RedisCacheManager;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
-import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -24,20 +47,151 @@ public class RedisConfiguration {
     @Value("${spring.cache.redis.key-prefix:products_}")
     private String cacheKeyPrefix;
 
+    @Value("${product.cache.codec:json}")
+    private ProductRedisSerializer.Format cacheCodec;
+
+    @Value("${product.cache.near.enabled:true}")
+    private boolean nearCacheEnabled;
+
+    @Value("${product.cache.near.maximum-size:1000}")
+    private long nearCacheMaximumSize;
+
+    @Value("${product.cache.near.time-to-live:30s}")
+    private Duration nearCacheTtl;
+
+    @Value("${product.cache.write-behind.enabled:true}")
+    private boolean writeBehindEnabled;
+
+    @Value("${product.cache.write-behind.queue-capacity:10000}")
+    private int writeBehindQueueCapacity;
+
+    @Value("${product.cache.write-behind.batch-size:100}")
+    private int writeBehindBatchSize;
+
+    @Value("${product.cache.write-behind.eviction-fence:10s}")
+    private Duration writeBehindEvictionFence;
+
+    @Value("${product.cache.breaker.enabled:true}")
+    private boolean breakerEnabled;
+
+    @Value("${product.cache.breaker.window-size:100}")
+    private int breakerWindowSize;
+
+    @Value("${product.cache.breaker.minimum-calls:50}")
+    private int breakerMinimumCalls;
+
+    @Value("${product.cache.breaker.failure-rate-threshold:0.5}")
+    private double breakerFailureRateThreshold;
+
+    @Value("${product.cache.breaker.latency-percentile:0.95}")
+    private double breakerLatencyPercentile;
+
+    @Value("${product.cache.breaker.slow-call-threshold:250ms}")
+    private Duration breakerSlowCallThreshold;
+
+    @Value("${product.cache.breaker.probe-interval:1s}")
+    private Duration breakerProbeInterval;
+
+    @Value("${product.cache.breaker.probe-successes:3}")
+    private int breakerProbeSuccesses;
+
+    @Value("${product.cache.hedge.enabled:false}")
+    private boolean hedgeEnabled;
+
+    @Value("${product.cache.hedge.percentile:0.95}")
+    private double hedgePercentile;
+
+    @Value("${product.cache.hedge.min-delay:2ms}")
+    private Duration hedgeMinDelay;
+
+    @Value("${product.cache.hedge.max-delay:50ms}")
+    private Duration hedgeMaxDelay;
+
+    @Value("${product.cache.hedge.max-rate:0.05}")
+    private double hedgeMaxRate;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Value("${product.concurrency.redis-permits:64}")
+    private int redisPermits;
+
+    @Value("${product.concurrency.backend-wait:2s}")
+    private Duration backendWait;
+
+    /**
+     * Product cache over Redis with batched ({@code MGET}) lookups and pipelined writes, optionally fronted
+     * by an in-process near tier (Caffeine, W-TinyLFU admission) bounded by
+     * {@code product.cache.near.maximum-size} and {@code product.cache.near.time-to-live}. Unless disabled,
+     * writes to both tiers go through a bounded write-behind queue so requests never wait on cache population,
+     * and evicted ids are not cached again for {@code product.cache.write-behind.eviction-fence}.
+     * Values are written in the {@code product.cache.codec} format ({@code binary} or {@code json}); entries
+     * in either format are readable regardless of the setting. With virtual threads, calls into Redis are
+     * bounded by {@code product.concurrency.redis-permits}. Unless disabled, a circuit breaker
+     * ({@code product.cache.breaker.*}) takes Redis out of the path when its error rate or tail latency degrades
+     * and reports the cache unavailable until background probes succeed again. With
+     * {@code product.cache.hedge.enabled}, remote lookups slower than their recent {@code percentile} latency are
+     * raced against {@code findByIdIn}, for at most {@code max-rate} of lookups. {@link ProductCacheWriteListener}s
+     * are told about every write once it has reached both tiers.
+     */
     @Bean
-    public RedisCacheManagerBuilderCustomizer redisCacheManagerBuilderCustomizer() {
-        return RedisCacheManager.RedisCacheManagerBuilder::enableStatistics;
+    @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
+    public ProductCache productCache(RedisConnectionFactory redisConnectionFactory, MeterRegistry meterRegistry,
+                                     ObjectProvider<ProductCacheWriteListener> writeListeners,
+                                     ProductRepository productRepository,
+                                     @Qualifier("productCacheHedgeExecutor")
+                                     ObjectProvider<ExecutorService> hedgeExecutor) {
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new ProductRedisSerializer(cacheCodec));
+        redisTemplate.afterPropertiesSet();
+
+        String keyPrefix = CacheKeyPrefix.prefixed(cacheKeyPrefix).compute(ProductCacheMetrics.CACHE_NAME);
+        ProductCache productCache = new RedisProductCacheAdapter(redisTemplate, keyPrefix, cacheTtl, meterRegistry);
+        if (virtualThreadsEnabled) {
+            productCache = new PermitLimitedProductCache(productCache, redisPermits, backendWait, meterRegistry);
+        }
+        if (breakerEnabled) {
+            productCache = new CircuitBreakingProductCache(productCache, breakerWindowSize, breakerMinimumCalls,
+                breakerFailureRateThreshold, breakerLatencyPercentile, breakerSlowCallThreshold,
+                breakerProbeInterval, breakerProbeSuccesses, meterRegistry);
+        }
+        if (hedgeEnabled) {
+            productCache = new HedgedProductCache(productCache, productRepository, hedgePercentile, hedgeMinDelay,
+                hedgeMaxDelay, hedgeMaxRate, hedgeExecutor.getObject(), meterRegistry);
+        }
+        if (nearCacheEnabled) {
+            Cache<Long, Product> near = Caffeine.newBuilder()
+                .maximumSize(nearCacheMaximumSize)
+                .expireAfterWrite(nearCacheTtl)
+                .recordStats()
+                .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, near, ProductCacheMetrics.CACHE_NAME,
+                Tags.of(ProductCacheMetrics.TIER_TAG, "near"));
+            productCache = new NearProductCache(near, productCache);
+        }
+        productCache = new NotifyingProductCache(productCache, writeListeners.orderedStream().toList());
+        if (writeBehindEnabled) {
+            productCache = new WriteBehindProductCache(productCache, writeBehindQueueCapacity, writeBehindBatchSize,
+                writeBehindEvictionFence, meterRegistry);
+        }
+        return productCache;
+    }
+
+    /** Runs hedged cache lookups and the database reads raced against them; closed with the context. */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "product.cache.hedge.enabled", havingValue = "true")
+    public ExecutorService productCacheHedgeExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
     }
 
+    /** Product cache over the Spring {@link CacheManager} for every cache type other than Redis. */
     @Bean
-    public RedisCacheConfiguration cacheConfiguration() {
-        return RedisCacheConfiguration.defaultCacheConfig()
-            .entryTtl(cacheTtl)
-            .disableCachingNullValues()
-            .computePrefixWith(CacheKeyPrefix.prefixed(cacheKeyPrefix))
-            .serializeKeysWith(
-                RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-            .serializeValuesWith(
-                RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
+    @ConditionalOnExpression("!'${spring.cache.type:}'.equalsIgnoreCase('redis')")
+    public ProductCache springCacheProductCache(CacheManager cacheManager,
+                                                ObjectProvider<ProductCacheWriteListener> writeListeners) {
+        return new NotifyingProductCache(new SpringCacheProductCacheAdapter(cacheManager),
+            writeListeners.orderedStream().toList());
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,61 @@
+package com.mercadolibre.infrastructure.config;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+
+import com.mercadolibre.infrastructure.adapter.input.rest.interceptor.ConcurrencyLimitInterceptor;
+import com.mercadolibre.infrastructure.adapter.output.persistence.datasource.PermitLimitedDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Guards active when requests run on virtual threads ({@code spring.threads.virtual.enabled=true}). Tomcat's
+ * worker pool no longer caps concurrency in that mode, so product requests are limited by
+ * {@code product.concurrency.max-in-flight}, and JDBC connections by {@code product.concurrency.jdbc-permits}
+ * (keep it below the number of carrier threads so pinned driver calls cannot stall the scheduler). The Redis
+ * guard is wired into the product cache chain in {@link RedisConfiguration}.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfiguration implements WebMvcConfigurer {
+
+    @Value("${product.concurrency.max-in-flight:2000}")
+    private int maxInFlight;
+
+    @Value("${product.concurrency.max-wait:100ms}")
+    private Duration maxWait;
+
+    private final MeterRegistry meterRegistry;
+
+    public VirtualThreadConfiguration(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConcurrencyLimitInterceptor(maxInFlight, maxWait, meterRegistry))
+            .addPathPatterns("/products/**");
+    }
+
+    @Bean
+    public static BeanPostProcessor permitLimitedDataSourcePostProcessor(
+        @Value("${product.concurrency.jdbc-permits:8}") int jdbcPermits,
+        @Value("${product.concurrency.backend-wait:2s}") Duration backendWait) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof PermitLimitedDataSource)) {
+                    return new PermitLimitedDataSource(dataSource, jdbcPermits, backendWait);
+                }
+                return bean;
+            }
+        };
+    }
+}
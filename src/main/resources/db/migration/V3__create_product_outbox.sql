@@ -0,0 +1,7 @@
+-- Transactional outbox for product changes.
+-- Rows are written in the same transaction as the product and relayed (then deleted) as cache invalidations.
+CREATE TABLE product_outbox (
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    product_id BIGINT                   NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
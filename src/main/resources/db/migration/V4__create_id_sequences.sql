@@ -0,0 +1,11 @@
+-- Pooled sequences for product and outbox ids.
+-- IDENTITY ids make Hibernate insert row by row (the id is only known after each INSERT); with a sequence it
+-- reserves INCREMENT BY ids per call and can send inserts in JDBC batches. The identity defaults of the id
+-- columns are no longer used by the application.
+-- Each sequence starts from the rows already in its table: Hibernate's pooled optimizer hands out the block
+-- (value - 49 .. value) for a fetched value, so starting at max(id) + 50 makes the first id max(id) + 1 in
+-- every environment, whatever ids it already holds.
+CREATE SEQUENCE products_id_seq START WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM products) INCREMENT BY 50;
+
+CREATE SEQUENCE product_outbox_id_seq START WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM product_outbox)
+    INCREMENT BY 50;
@@ -0,0 +1,5 @@
+-- Keyset listing pages through products by (product_type, id). With the id in the index the next page is one
+-- range seek starting at the cursor, and rows come out already sorted, however deep the page.
+DROP INDEX idx_products_product_type;
+
+CREATE INDEX idx_products_product_type ON products (product_type, id);
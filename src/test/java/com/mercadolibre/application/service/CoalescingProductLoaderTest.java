@@ -0,0 +1,95 @@
+package com.mercadolibre.application.service;
+
+import com.mercadolibre.application.port.output.ProductCache;
+import com.mercadolibre.application.port.output.ProductRepository;
+import com.mercadolibre.domain.model.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingProductLoaderTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductCache productCache;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CoalescingProductLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loader = new CoalescingProductLoader(productRepository, productCache, new ComparisonMetrics(meterRegistry),
+            meterRegistry);
+    }
+
+    @Test
+    void load_returnsFoundProductsAndCachesThem() {
+        Product p1 = Product.builder().id(1L).build();
+        when(productRepository.findByIdIn(List.of(1L, 2L))).thenReturn(List.of(p1));
+
+        Map<Long, Product> result = loader.load(List.of(1L, 2L));
+
+        assertThat(result).containsOnlyKeys(1L);
+        verify(productCache).putAll(List.of(p1));
+        assertThat(loadCount("loaded")).isEqualTo(2);
+    }
+
+    @Test
+    void load_concurrentRequestsForSameId_queryRepositoryOnce() throws Exception {
+        Product p1 = Product.builder().id(1L).build();
+        CountDownLatch leaderQuerying = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        when(productRepository.findByIdIn(List.of(1L))).thenAnswer(invocation -> {
+            leaderQuerying.countDown();
+            releaseLeader.await(5, TimeUnit.SECONDS);
+            return List.of(p1);
+        });
+
+        CompletableFuture<Map<Long, Product>> leader = CompletableFuture.supplyAsync(() -> loader.load(List.of(1L)));
+        assertThat(leaderQuerying.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Map<Long, Product>> follower = CompletableFuture.supplyAsync(() -> loader.load(List.of(1L)));
+        while (loadCount("coalesced") == 0) {
+            Thread.onSpinWait();
+        }
+        releaseLeader.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).containsEntry(1L, p1);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).containsEntry(1L, p1);
+        verify(productRepository, times(1)).findByIdIn(List.of(1L));
+        verify(productCache, times(1)).putAll(List.of(p1));
+    }
+
+    @Test
+    void load_whenRepositoryFails_propagatesAndReleasesId() {
+        when(productRepository.findByIdIn(List.of(1L)))
+            .thenThrow(new IllegalStateException("db down"))
+            .thenReturn(List.of());
+
+        assertThatThrownBy(() -> loader.load(List.of(1L))).isInstanceOf(IllegalStateException.class);
+        assertThat(loader.load(List.of(1L))).isEmpty();
+    }
+
+    private double loadCount(String mode) {
+        return meterRegistry.get("product.loads").tag("mode", mode).counter().count();
+    }
+}
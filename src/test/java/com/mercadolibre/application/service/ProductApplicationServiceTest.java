@@ -1,66 +1,78 @@
 package com.mercadolibre.application.service;
 
 import com.mercadolibre.application.port.input.ProductField;
+import com.mercadolibre.application.port.output.ProductAccessRecorder;
+import com.mercadolibre.application.port.output.ProductCache;
 import com.mercadolibre.application.port.output.ProductRepository;
 import com.mercadolibre.domain.exception.InvalidRequestException;
 import com.mercadolibre.domain.exception.ProductNotFoundException;
 import com.mercadolibre.domain.model.Product;
 import com.mercadolibre.domain.model.ProductType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class ProductApplicationServiceTest {
 
-    private static final String PRODUCT_CACHE_NAME = "product";
-
     @Mock
     private ProductRepository loadProductsPort;
 
     @Mock
-    private CacheManager cacheManager;
+    private ProductCache productCache;
 
-    @Mock
-    private Cache cache;
+    private SimpleMeterRegistry meterRegistry;
+
+    private ComparisonMetrics metrics;
 
-    @InjectMocks
     private ProductApplicationService productApplicationService;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new ComparisonMetrics(meterRegistry);
+        CoalescingProductLoader productLoader =
+            new CoalescingProductLoader(loadProductsPort, productCache, metrics, meterRegistry);
+        productApplicationService = new ProductApplicationService(loadProductsPort, productCache, productLoader,
+            ProductAccessRecorder.NONE, metrics);
+    }
+
     @Test
     void getComparison_returnsProductsInRequestedOrder() {
-        when(cacheManager.getCache(PRODUCT_CACHE_NAME)).thenReturn(null);
         Product p1 = product(1L, "Product A", "100.00");
         Product p2 = product(2L, "Product B", "200.00");
-        when(loadProductsPort.findByIdIn(List.of(1L, 2L))).thenReturn(List.of(p2, p1));
+        when(loadProductsPort.findByIdIn(List.of(1L, 2L), null)).thenReturn(List.of(p2, p1));
 
         var result = productApplicationService.getComparison(List.of(1L, 2L), null);
 
         assertThat(result).hasSize(2);
         assertThat(result.get(0).getName()).isEqualTo("Product A");
         assertThat(result.get(1).getName()).isEqualTo("Product B");
-        verify(loadProductsPort).findByIdIn(List.of(1L, 2L));
+        verify(loadProductsPort).findByIdIn(List.of(1L, 2L), null);
     }
 
     @Test
     void getComparison_withFieldFilter_returnsSameProducts() {
-        when(cacheManager.getCache(PRODUCT_CACHE_NAME)).thenReturn(null);
         Product p = product(1L, "Phone", "299.99");
         p.setRating(new BigDecimal("4.5"));
-        when(loadProductsPort.findByIdIn(List.of(1L))).thenReturn(List.of(p));
+        when(loadProductsPort.findByIdIn(List.of(1L), Set.of(ProductField.NAME, ProductField.PRICE)))
+                .thenReturn(List.of(p));
 
         var result = productApplicationService.getComparison(
                 List.of(1L),
@@ -69,13 +81,25 @@ class ProductApplicationServiceTest {
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getName()).isEqualTo("Phone");
         assertThat(result.get(0).getPrice()).isEqualByComparingTo("299.99");
+        verify(productCache, never()).getAll(any());
+    }
+
+    @Test
+    void getComparison_withSpecificationKeys_passesKeysToRepository() {
+        Product p = product(1L, "Phone", "299.99");
+        Set<ProductField> fields = Set.of(ProductField.SPECIFICATIONS);
+        when(loadProductsPort.findByIdIn(List.of(1L), fields, Set.of("memoryGb"))).thenReturn(List.of(p));
+
+        var result = productApplicationService.getComparison(List.of(1L), fields, Set.of("memoryGb"));
+
+        assertThat(result).containsExactly(p);
+        verify(loadProductsPort, never()).findByIdIn(any(), any());
     }
 
     @Test
     void getComparison_whenProductMissing_throwsProductNotFoundException() {
-        when(cacheManager.getCache(PRODUCT_CACHE_NAME)).thenReturn(null);
         Product p1 = product(1L, "A", "1.00");
-        when(loadProductsPort.findByIdIn(List.of(1L, 2L))).thenReturn(List.of(p1));
+        when(loadProductsPort.findByIdIn(List.of(1L, 2L), null)).thenReturn(List.of(p1));
 
         assertThatThrownBy(() -> productApplicationService.getComparison(List.of(1L, 2L), null))
                 .isInstanceOf(ProductNotFoundException.class)
@@ -98,9 +122,8 @@ class ProductApplicationServiceTest {
 
     @Test
     void getComparison_whenCacheMiss_loadsFromRepositoryAndPutsInCacheAndIdToProduct() {
-        when(cacheManager.getCache(PRODUCT_CACHE_NAME)).thenReturn(cache);
-        when(cache.get(1L, Product.class)).thenReturn(null);
-        when(cache.get(2L, Product.class)).thenReturn(null);
+        when(productCache.isAvailable()).thenReturn(true);
+        when(productCache.getAll(List.of(1L, 2L))).thenReturn(Map.of());
 
         Product p1 = product(1L, "Product A", "100.00");
         Product p2 = product(2L, "Product B", "200.00");
@@ -115,8 +138,92 @@ class ProductApplicationServiceTest {
         assertThat(result.get(1).getId()).isEqualTo(2L);
 
         verify(loadProductsPort).findByIdIn(List.of(1L, 2L));
-        verify(cache).put(1L, p1);
-        verify(cache).put(2L, p2);
+        verify(productCache).putAll(List.of(p2, p1));
+    }
+
+    @Test
+    void getComparison_whenAllCached_doesNotQueryRepository() {
+        when(productCache.isAvailable()).thenReturn(true);
+        Product p1 = product(1L, "Product A", "100.00");
+        Product p2 = product(2L, "Product B", "200.00");
+        when(productCache.getAll(List.of(2L, 1L))).thenReturn(Map.of(1L, p1, 2L, p2));
+
+        var result = productApplicationService.getComparison(List.of(2L, 1L, 2L), null);
+
+        assertThat(result).containsExactly(p2, p1);
+        verify(loadProductsPort, never()).findByIdIn(any());
+        verify(productCache, never()).putAll(any());
+    }
+
+    @Test
+    void getComparison_whenPartiallyCached_loadsOnlyMissedIds() {
+        when(productCache.isAvailable()).thenReturn(true);
+        Product p1 = product(1L, "Product A", "100.00");
+        Product p2 = product(2L, "Product B", "200.00");
+        when(productCache.getAll(List.of(1L, 2L))).thenReturn(Map.of(1L, p1));
+        when(loadProductsPort.findByIdIn(List.of(2L))).thenReturn(List.of(p2));
+
+        var result = productApplicationService.getComparison(List.of(1L, 2L), null);
+
+        assertThat(result).containsExactly(p1, p2);
+        verify(productCache).putAll(List.of(p2));
+    }
+
+    @Test
+    void getComparison_whenCacheAvailableAndProductMissing_throwsProductNotFoundException() {
+        when(productCache.isAvailable()).thenReturn(true);
+        when(loadProductsPort.findByIdIn(List.of(1L, 2L))).thenReturn(List.of(product(1L, "A", "1.00")));
+
+        assertThatThrownBy(() -> productApplicationService.getComparison(List.of(1L, 2L), Set.of(ProductField.NAME)))
+                .isInstanceOf(ProductNotFoundException.class)
+                .hasMessageContaining("2");
+    }
+
+    @Test
+    void getComparison_recordsEachRequestedProductOnce() {
+        ProductAccessRecorder recorder = mock(ProductAccessRecorder.class);
+        ProductApplicationService service = new ProductApplicationService(loadProductsPort, productCache,
+            new CoalescingProductLoader(loadProductsPort, productCache, metrics, meterRegistry), recorder, metrics);
+        when(loadProductsPort.findByIdIn(List.of(2L, 1L), null))
+                .thenReturn(List.of(product(1L, "A", "1.00"), product(2L, "B", "2.00")));
+
+        service.getComparison(List.of(2L, 1L, 2L), null);
+
+        verify(recorder).recordAccess(List.of(2L, 1L));
+    }
+
+    @Test
+    void getComparison_recordsCacheHitsMissesAndPhaseTimings() {
+        Product p1 = product(1L, "Product A", "100.00");
+        Product p2 = product(2L, "Product B", "200.00");
+        when(productCache.isAvailable()).thenReturn(true);
+        when(productCache.getAll(List.of(1L, 2L))).thenReturn(Map.of(1L, p1));
+        when(loadProductsPort.findByIdIn(List.of(2L))).thenReturn(List.of(p2));
+
+        productApplicationService.getComparison(List.of(1L, 2L, 1L), null);
+
+        assertThat(meterRegistry.get("product.comparison.ids").summary().totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.get("product.comparison.cache.hits").summary().totalAmount()).isEqualTo(1);
+        assertThat(meterRegistry.get("product.comparison.cache.misses").summary().totalAmount()).isEqualTo(1);
+        assertThat(meterRegistry.get("product.comparison.phase").tag("phase", "cache_lookup").timer().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("product.comparison.phase").tag("phase", "db_load").timer().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("product.comparison.phase").tag("phase", "cache_put").timer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void getComparison_whenCacheUnavailable_timesDatabaseReadOnly() {
+        when(loadProductsPort.findByIdIn(List.of(1L), null)).thenReturn(List.of(product(1L, "A", "1.00")));
+
+        productApplicationService.getComparison(List.of(1L), null);
+
+        assertThat(meterRegistry.get("product.comparison.phase").tag("phase", "db_load").timer().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("product.comparison.phase").tag("phase", "cache_lookup").timer().count())
+            .isZero();
+        assertThat(meterRegistry.get("product.comparison.cache.misses").summary().count()).isZero();
     }
 
     private static Product product(Long id, String name, String price) {
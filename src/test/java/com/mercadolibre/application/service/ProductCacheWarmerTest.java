@@ -0,0 +1,121 @@
+package com.mercadolibre.application.service;
+
+import com.mercadolibre.application.port.output.ProductCache;
+import com.mercadolibre.domain.model.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCacheWarmerTest {
+
+    @Mock
+    private ProductCache productCache;
+
+    @Mock
+    private CoalescingProductLoader productLoader;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ProductCacheWarmer warmer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        warmer = new ProductCacheWarmer(productCache, productLoader, meterRegistry);
+    }
+
+    @Test
+    void warmUp_loadsCacheMissesInBatches() {
+        Product p1 = Product.builder().id(1L).build();
+        Product p2 = Product.builder().id(2L).build();
+        when(productCache.isAvailable()).thenReturn(true);
+        when(productCache.getAll(List.of(1L, 2L))).thenReturn(Map.of(1L, p1));
+        when(productCache.getAll(List.of(3L))).thenReturn(Map.of());
+        when(productLoader.load(List.of(2L))).thenReturn(Map.of(2L, p2));
+        when(productLoader.load(List.of(3L))).thenReturn(Map.of());
+        when(productCache.flush(any())).thenReturn(true);
+
+        ProductCacheWarmer.Result result = warmer.warmUp(List.of(1L, 2L, 1L, 3L), 2, Duration.ofSeconds(10));
+
+        assertThat(result.requested()).isEqualTo(3);
+        assertThat(result.cached()).isEqualTo(1);
+        assertThat(result.loaded()).isEqualTo(1);
+        assertThat(result.notFound()).isEqualTo(1);
+        assertThat(result.skipped()).isZero();
+        assertThat(meterRegistry.get("product.cache.warmup").tag("result", "loaded").counter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("product.cache.warmup.remaining").gauge().value()).isZero();
+        InOrder inOrder = inOrder(productLoader, productCache);
+        inOrder.verify(productLoader).load(List.of(3L));
+        inOrder.verify(productCache).flush(any());
+    }
+
+    @Test
+    void warmUp_allCached_doesNotLoad() {
+        Product p1 = Product.builder().id(1L).build();
+        when(productCache.isAvailable()).thenReturn(true);
+        when(productCache.getAll(List.of(1L))).thenReturn(Map.of(1L, p1));
+
+        ProductCacheWarmer.Result result = warmer.warmUp(List.of(1L), 10, Duration.ofSeconds(10));
+
+        assertThat(result.cached()).isEqualTo(1);
+        verifyNoInteractions(productLoader);
+    }
+
+    @Test
+    void warmUp_failedBatch_isCountedAndNextBatchStillRuns() {
+        Product p2 = Product.builder().id(2L).build();
+        when(productCache.isAvailable()).thenReturn(true);
+        when(productCache.getAll(List.of(1L))).thenThrow(new IllegalStateException("redis down"));
+        when(productCache.getAll(List.of(2L))).thenReturn(Map.of(2L, p2));
+
+        ProductCacheWarmer.Result result = warmer.warmUp(List.of(1L, 2L), 1, Duration.ofSeconds(10));
+
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(result.cached()).isEqualTo(1);
+        assertThat(meterRegistry.get("product.cache.warmup").tag("result", "failed").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void warmUp_budgetExhausted_skipsRemainingIds() {
+        when(productCache.isAvailable()).thenReturn(true);
+
+        ProductCacheWarmer.Result result = warmer.warmUp(List.of(1L, 2L, 3L), 1, Duration.ZERO);
+
+        assertThat(result.skipped()).isEqualTo(3);
+        verify(productCache).isAvailable();
+        assertThat(meterRegistry.get("product.cache.warmup").tag("result", "skipped").counter().count())
+            .isEqualTo(3);
+    }
+
+    @Test
+    void warmUp_cacheUnavailable_skipsEverything() {
+        when(productCache.isAvailable()).thenReturn(false);
+
+        ProductCacheWarmer.Result result = warmer.warmUp(List.of(1L, 2L), 10, Duration.ofSeconds(10));
+
+        assertThat(result.skipped()).isEqualTo(2);
+        assertThat(meterRegistry.get("product.cache.warmup").tag("result", "skipped").counter().count())
+            .isEqualTo(2);
+        verify(productCache, never()).getAll(any());
+        verifyNoInteractions(productLoader);
+    }
+}
@@ -0,0 +1,170 @@
+package com.mercadolibre.application.service;
+
+import com.mercadolibre.application.port.input.ProductField;
+import com.mercadolibre.application.port.input.ProductUpsertResult;
+import com.mercadolibre.application.port.output.ProductChangeOutbox;
+import com.mercadolibre.application.port.output.ProductRepository;
+import com.mercadolibre.domain.exception.InvalidRequestException;
+import com.mercadolibre.domain.exception.ProductNotFoundException;
+import com.mercadolibre.domain.model.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCommandServiceTest {
+
+    private static final Set<ProductField> ID_ONLY = Set.of(ProductField.ID);
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductChangeOutbox productChangeOutbox;
+
+    private ProductCommandService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ProductCommandService(productRepository, productChangeOutbox);
+    }
+
+    @Test
+    void createProduct_savesAndRecordsChange() {
+        Product product = Product.builder().name("New").build();
+        Product saved = Product.builder().id(10L).name("New").build();
+        when(productRepository.save(product)).thenReturn(saved);
+
+        Product created = service.createProduct(product);
+
+        assertThat(created).isSameAs(saved);
+        var order = inOrder(productRepository, productChangeOutbox);
+        order.verify(productRepository).save(product);
+        order.verify(productChangeOutbox).productsChanged(List.of(10L));
+    }
+
+    @Test
+    void createProduct_withId_throwsInvalidRequest() {
+        assertThatThrownBy(() -> service.createProduct(Product.builder().id(1L).build()))
+            .isInstanceOf(InvalidRequestException.class);
+        verifyNoInteractions(productRepository, productChangeOutbox);
+    }
+
+    @Test
+    void updateProduct_existing_savesWithPathIdAndRecordsChange() {
+        Product product = Product.builder().name("Renamed").build();
+        when(productRepository.findByIdIn(List.of(1L), ID_ONLY)).thenReturn(List.of(Product.builder().id(1L).build()));
+        when(productRepository.save(product)).thenReturn(product);
+
+        Product updated = service.updateProduct(1L, product);
+
+        assertThat(updated.getId()).isEqualTo(1L);
+        verify(productChangeOutbox).productsChanged(List.of(1L));
+    }
+
+    @Test
+    void updateProduct_missing_throwsNotFound() {
+        when(productRepository.findByIdIn(List.of(99L), ID_ONLY)).thenReturn(List.of());
+
+        assertThatThrownBy(() -> service.updateProduct(99L, Product.builder().name("X").build()))
+            .isInstanceOf(ProductNotFoundException.class)
+            .satisfies(e -> assertThat(((ProductNotFoundException) e).getMissingIds()).containsExactly(99L));
+        verify(productRepository, never()).save(any());
+        verifyNoInteractions(productChangeOutbox);
+    }
+
+    @Test
+    void updateProduct_bodyIdMismatch_throwsInvalidRequest() {
+        assertThatThrownBy(() -> service.updateProduct(1L, Product.builder().id(2L).build()))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessageContaining("does not match");
+        verifyNoInteractions(productRepository, productChangeOutbox);
+    }
+
+    @Test
+    void updateProducts_existing_savesAllAndRecordsChanges() {
+        List<Product> products = List.of(Product.builder().id(1L).build(), Product.builder().id(2L).build());
+        when(productRepository.findByIdIn(List.of(1L, 2L), ID_ONLY)).thenReturn(products);
+        when(productRepository.saveAll(products)).thenReturn(products);
+
+        assertThat(service.updateProducts(products)).isEqualTo(products);
+        verify(productChangeOutbox).productsChanged(List.of(1L, 2L));
+    }
+
+    @Test
+    void updateProducts_someMissing_throwsNotFoundAndSavesNothing() {
+        List<Product> products = List.of(Product.builder().id(1L).build(), Product.builder().id(5L).build());
+        when(productRepository.findByIdIn(List.of(1L, 5L), ID_ONLY))
+            .thenReturn(List.of(Product.builder().id(1L).build()));
+
+        assertThatThrownBy(() -> service.updateProducts(products))
+            .isInstanceOf(ProductNotFoundException.class)
+            .satisfies(e -> assertThat(((ProductNotFoundException) e).getMissingIds()).containsExactly(5L));
+        verify(productRepository, never()).saveAll(any());
+        verifyNoInteractions(productChangeOutbox);
+    }
+
+    @Test
+    void updateProducts_invalidIds_throwInvalidRequest() {
+        assertThatThrownBy(() -> service.updateProducts(List.of()))
+            .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> service.updateProducts(List.of(Product.builder().build())))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessageContaining("requires an ID");
+        assertThatThrownBy(() -> service.updateProducts(
+            List.of(Product.builder().id(1L).build(), Product.builder().id(1L).build())))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessageContaining("Duplicated product IDs: [1]");
+        verifyNoInteractions(productRepository, productChangeOutbox);
+    }
+
+    @Test
+    void upsertProducts_createsAndUpdatesThenRecordsEveryId() {
+        Product existing = Product.builder().id(3L).build();
+        Product created = Product.builder().name("New").build();
+        List<Product> products = List.of(existing, created);
+        when(productRepository.upsertAll(products)).thenAnswer(invocation -> {
+            created.setId(100L);
+            return List.of();
+        });
+
+        ProductUpsertResult result = service.upsertProducts(products);
+
+        assertThat(result).isEqualTo(new ProductUpsertResult(List.of(3L, 100L), 1, 1));
+        verify(productChangeOutbox).productsChanged(List.of(3L, 100L));
+    }
+
+    @Test
+    void upsertProducts_unknownIds_throwsNotFound() {
+        List<Product> products = List.of(Product.builder().id(999L).build());
+        when(productRepository.upsertAll(products)).thenReturn(List.of(999L));
+
+        assertThatThrownBy(() -> service.upsertProducts(products))
+            .isInstanceOf(ProductNotFoundException.class)
+            .satisfies(e -> assertThat(((ProductNotFoundException) e).getMissingIds()).containsExactly(999L));
+        verifyNoInteractions(productChangeOutbox);
+    }
+
+    @Test
+    void upsertProducts_duplicatedIds_throwsInvalidRequest() {
+        assertThatThrownBy(() -> service.upsertProducts(List.of(
+            Product.builder().id(1L).build(), Product.builder().build(), Product.builder().id(1L).build())))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessageContaining("Duplicated product IDs: [1]");
+        verifyNoInteractions(productRepository, productChangeOutbox);
+    }
+}
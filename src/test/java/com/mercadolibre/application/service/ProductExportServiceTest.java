@@ -0,0 +1,57 @@
+package com.mercadolibre.application.service;
+
+import com.mercadolibre.application.port.input.ProductField;
+import com.mercadolibre.application.port.output.ProductRepository;
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.domain.model.ProductType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductExportServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Test
+    void exportProducts_handsEveryProductToConsumerAndClosesStream() {
+        Product p1 = Product.builder().id(1L).build();
+        Product p2 = Product.builder().id(2L).build();
+        AtomicBoolean closed = new AtomicBoolean();
+        Set<ProductField> fields = Set.of(ProductField.NAME);
+        when(productRepository.streamAll(ProductType.SMARTPHONE, fields, Set.of("memoryGb")))
+            .thenReturn(Stream.of(p1, p2).onClose(() -> closed.set(true)));
+        List<Product> received = new ArrayList<>();
+
+        long exported = new ProductExportService(productRepository)
+            .exportProducts(ProductType.SMARTPHONE, fields, Set.of("memoryGb"), received::add);
+
+        assertThat(exported).isEqualTo(2);
+        assertThat(received).containsExactly(p1, p2);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void exportProducts_whenConsumerFails_closesStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(productRepository.streamAll(null, null, null))
+            .thenReturn(Stream.of(Product.builder().id(1L).build()).onClose(() -> closed.set(true)));
+
+        assertThatThrownBy(() -> new ProductExportService(productRepository).exportProducts(null, null, null, p -> {
+            throw new IllegalStateException("client gone");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(closed).isTrue();
+    }
+}
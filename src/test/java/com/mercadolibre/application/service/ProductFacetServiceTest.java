@@ -0,0 +1,113 @@
+package com.mercadolibre.application.service;
+
+import com.mercadolibre.application.port.input.FacetFilter;
+import com.mercadolibre.application.port.input.ProductFacets;
+import com.mercadolibre.application.port.input.ProductPageCursor;
+import com.mercadolibre.application.port.output.ProductFacetIndex;
+import com.mercadolibre.application.port.output.ProductRepository;
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.domain.model.ProductType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.mercadolibre.application.service.ProductFacetService.INDEXED_FIELDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductFacetServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductFacetIndex productFacetIndex;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ProductFacetService productFacetService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        productFacetService = new ProductFacetService(productRepository, productFacetIndex, meterRegistry);
+    }
+
+    @Test
+    void facetProducts_answersFromTheIndexAndRecordsLatency() {
+        List<FacetFilter> filters = List.of(new FacetFilter("memoryGb", FacetFilter.Operator.GTE, List.of("8")));
+        ProductFacets facets = new ProductFacets(2, Map.of("brand", Map.of("Alpha", 1L, "Beta", 1L)));
+        when(productFacetIndex.count(ProductType.SMARTPHONE, filters, Set.of("brand"))).thenReturn(facets);
+
+        assertThat(productFacetService.facetProducts(ProductType.SMARTPHONE, filters, Set.of("brand")))
+            .isSameAs(facets);
+        assertThat(meterRegistry.get("product.facets").timer().count()).isEqualTo(1);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void rebuild_indexesEveryPageUntilAShortOne() {
+        List<Product> first = List.of(product(3L, ProductType.GENERIC), product(4L, ProductType.GENERIC));
+        List<Product> second = List.of(product(1L, ProductType.SMARTPHONE));
+        when(productRepository.findPage(null, null, 2, INDEXED_FIELDS, null)).thenReturn(first);
+        when(productRepository.findPage(null, new ProductPageCursor(ProductType.GENERIC, 4L), 2, INDEXED_FIELDS,
+            null)).thenReturn(second);
+
+        assertThat(productFacetService.rebuild(2)).isEqualTo(3);
+
+        verify(productFacetIndex).index(first);
+        verify(productFacetIndex).index(second);
+    }
+
+    @Test
+    void rebuild_emptyCatalog_indexesNothing() {
+        when(productRepository.findPage(null, null, 2, INDEXED_FIELDS, null)).thenReturn(List.of());
+
+        assertThat(productFacetService.rebuild(2)).isZero();
+    }
+
+    @Test
+    void refresh_reindexesFoundProductsAndRemovesMissingOnes() {
+        List<Product> found = List.of(product(1L, ProductType.SMARTPHONE));
+        when(productRepository.findByIdIn(any(), any())).thenReturn(found);
+
+        productFacetService.refresh(List.of(1L, 9L));
+
+        verify(productFacetIndex).index(found);
+        verify(productFacetIndex).remove(Set.of(9L));
+    }
+
+    @Test
+    void refresh_allFound_removesNothing() {
+        List<Product> found = List.of(product(1L, ProductType.SMARTPHONE));
+        when(productRepository.findByIdIn(List.of(1L), INDEXED_FIELDS)).thenReturn(found);
+
+        productFacetService.refresh(List.of(1L));
+
+        verify(productFacetIndex).index(found);
+        verify(productFacetIndex, never()).remove(any());
+    }
+
+    @Test
+    void refresh_noIds_doesNothing() {
+        productFacetService.refresh(List.of());
+
+        verifyNoInteractions(productRepository, productFacetIndex);
+    }
+
+    private static Product product(long id, ProductType productType) {
+        return Product.builder().id(id).productType(productType).build();
+    }
+}
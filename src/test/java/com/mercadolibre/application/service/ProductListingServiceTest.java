@@ -0,0 +1,75 @@
+package com.mercadolibre.application.service;
+
+import com.mercadolibre.application.port.input.ProductField;
+import com.mercadolibre.application.port.input.ProductPage;
+import com.mercadolibre.application.port.input.ProductPageCursor;
+import com.mercadolibre.application.port.output.ProductRepository;
+import com.mercadolibre.domain.exception.InvalidRequestException;
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.domain.model.ProductType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductListingServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductListingService productListingService;
+
+    @BeforeEach
+    void setUp() {
+        productListingService = new ProductListingService(productRepository);
+    }
+
+    @Test
+    void listProducts_whenMoreProductsFollow_returnsCursorOfTheLastOne() {
+        Set<ProductField> fields = Set.of(ProductField.NAME);
+        ProductPageCursor after = new ProductPageCursor(ProductType.GENERIC, 3L);
+        when(productRepository.findPage(null, after, 3, fields, null))
+            .thenReturn(List.of(product(4L, ProductType.GENERIC), product(1L, ProductType.SMARTPHONE),
+                product(2L, ProductType.SMARTPHONE)));
+
+        ProductPage page = productListingService.listProducts(null, after, 2, fields, null);
+
+        assertThat(page.products()).extracting(Product::getId).containsExactly(4L, 1L);
+        assertThat(page.next()).isEqualTo(new ProductPageCursor(ProductType.SMARTPHONE, 1L));
+    }
+
+    @Test
+    void listProducts_lastPage_hasNoCursor() {
+        when(productRepository.findPage(ProductType.GENERIC, null, 3, null, null))
+            .thenReturn(List.of(product(3L, ProductType.GENERIC), product(4L, ProductType.GENERIC)));
+
+        ProductPage page = productListingService.listProducts(ProductType.GENERIC, null, 2, null, null);
+
+        assertThat(page.products()).hasSize(2);
+        assertThat(page.next()).isNull();
+    }
+
+    @Test
+    void listProducts_cursorOfAnotherType_isRejected() {
+        ProductPageCursor after = new ProductPageCursor(ProductType.GENERIC, 3L);
+
+        assertThatThrownBy(() -> productListingService.listProducts(ProductType.SMARTPHONE, after, 2, null, null))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessage("Cursor does not belong to product type SMARTPHONE");
+        verifyNoInteractions(productRepository);
+    }
+
+    private static Product product(long id, ProductType productType) {
+        return Product.builder().id(id).productType(productType).build();
+    }
+}
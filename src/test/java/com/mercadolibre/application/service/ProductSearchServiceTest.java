@@ -0,0 +1,107 @@
+package com.mercadolibre.application.service;
+
+import com.mercadolibre.application.port.input.ProductPageCursor;
+import com.mercadolibre.application.port.output.ProductRepository;
+import com.mercadolibre.application.port.output.ProductSearchIndex;
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.domain.model.ProductType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static com.mercadolibre.application.service.ProductSearchService.INDEXED_FIELDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ProductSearchService productSearchService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        productSearchService = new ProductSearchService(productRepository, productSearchIndex, meterRegistry);
+    }
+
+    @Test
+    void searchProducts_answersFromTheIndexAndRecordsLatency() {
+        when(productSearchIndex.search("phone", 5)).thenReturn(List.of(2L, 1L));
+
+        assertThat(productSearchService.searchProducts("phone", 5)).containsExactly(2L, 1L);
+        assertThat(meterRegistry.get("product.search").timer().count()).isEqualTo(1);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void rebuild_indexesEveryPageUntilAShortOne() {
+        List<Product> first = List.of(product(3L, ProductType.GENERIC), product(4L, ProductType.GENERIC));
+        List<Product> second = List.of(product(1L, ProductType.SMARTPHONE));
+        when(productRepository.findPage(null, null, 2, INDEXED_FIELDS, null)).thenReturn(first);
+        when(productRepository.findPage(null, new ProductPageCursor(ProductType.GENERIC, 4L), 2, INDEXED_FIELDS,
+            null)).thenReturn(second);
+
+        assertThat(productSearchService.rebuild(2)).isEqualTo(3);
+
+        verify(productSearchIndex).index(first);
+        verify(productSearchIndex).index(second);
+    }
+
+    @Test
+    void rebuild_emptyCatalog_indexesNothing() {
+        when(productRepository.findPage(null, null, 2, INDEXED_FIELDS, null)).thenReturn(List.of());
+
+        assertThat(productSearchService.rebuild(2)).isZero();
+    }
+
+    @Test
+    void refresh_reindexesFoundProductsAndRemovesMissingOnes() {
+        List<Product> found = List.of(product(1L, ProductType.SMARTPHONE));
+        when(productRepository.findByIdIn(any(), any())).thenReturn(found);
+
+        productSearchService.refresh(List.of(1L, 9L));
+
+        verify(productSearchIndex).index(found);
+        verify(productSearchIndex).remove(Set.of(9L));
+    }
+
+    @Test
+    void refresh_allFound_removesNothing() {
+        List<Product> found = List.of(product(1L, ProductType.SMARTPHONE));
+        when(productRepository.findByIdIn(List.of(1L), INDEXED_FIELDS)).thenReturn(found);
+
+        productSearchService.refresh(List.of(1L));
+
+        verify(productSearchIndex).index(found);
+        verify(productSearchIndex, never()).remove(any());
+    }
+
+    @Test
+    void refresh_noIds_doesNothing() {
+        productSearchService.refresh(List.of());
+
+        verifyNoInteractions(productRepository, productSearchIndex);
+    }
+
+    private static Product product(long id, ProductType productType) {
+        return Product.builder().id(id).productType(productType).build();
+    }
+}
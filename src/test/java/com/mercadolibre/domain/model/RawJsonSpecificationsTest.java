@@ -0,0 +1,125 @@
+package com.mercadolibre.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RawJsonSpecifications")
+class RawJsonSpecificationsTest {
+
+    private static final String JSON = "{\"storageGb\":128,\"brand\":\"Alpha\"}";
+
+    private final AtomicInteger parses = new AtomicInteger();
+
+    private final Function<String, Map<String, Object>> parser = json -> {
+        parses.incrementAndGet();
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("storageGb", 128);
+        values.put("brand", "Alpha");
+        return values;
+    };
+
+    @Test
+    @DisplayName("parses once, on the first read, and keeps the stored text while unmodified")
+    void parsedOnceOnFirstRead() {
+        RawJsonSpecifications specs = new RawJsonSpecifications(JSON, parser);
+
+        assertThat(specs.isEmpty()).isFalse();
+        assertThat(parses).hasValue(0);
+
+        assertThat(specs.get("storageGb")).isEqualTo(128);
+        assertThat(specs).hasSize(2).containsKey("brand");
+        assertThat(specs.entrySet()).hasSize(2);
+
+        assertThat(parses).hasValue(1);
+        assertThat(specs.isParsed()).isTrue();
+        assertThat(specs.rawJson()).isEqualTo(JSON);
+    }
+
+    @Test
+    @DisplayName("an empty JSON object is reported empty without parsing")
+    void isEmpty_emptyObject_noParse() {
+        assertThat(new RawJsonSpecifications(" { } ", parser).isEmpty()).isTrue();
+        assertThat(new RawJsonSpecifications("null", json -> null).isEmpty()).isTrue();
+        assertThat(parses).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("put, remove, clear and iterator removal drop the stored text")
+    void modifications_dropRawJson() {
+        RawJsonSpecifications put = new RawJsonSpecifications(JSON, parser);
+        assertThat(put.put("storageGb", 256)).isEqualTo(128);
+        assertThat(put.rawJson()).isNull();
+        assertThat(put).containsEntry("storageGb", 256);
+
+        RawJsonSpecifications remove = new RawJsonSpecifications(JSON, parser);
+        assertThat(remove.remove("brand")).isEqualTo("Alpha");
+        assertThat(remove.rawJson()).isNull();
+
+        RawJsonSpecifications clear = new RawJsonSpecifications(JSON, parser);
+        clear.clear();
+        assertThat(clear.rawJson()).isNull();
+        assertThat(clear).isEmpty();
+
+        RawJsonSpecifications iterated = new RawJsonSpecifications(JSON, parser);
+        Iterator<Map.Entry<String, Object>> it = iterated.entrySet().iterator();
+        while (it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+        assertThat(iterated.rawJson()).isNull();
+        assertThat(iterated).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Specifications.of keeps the text unparsed and parses into the model of the product type")
+    void of_productType() {
+        RawJsonSpecifications loaded = new RawJsonSpecifications(JSON, parser);
+
+        Map<String, Object> smartphone = Specifications.of(ProductType.SMARTPHONE, loaded);
+        assertThat(smartphone).isInstanceOf(RawJsonSpecifications.class);
+        assertThat(parses).hasValue(0);
+        assertThat(Specifications.of(ProductType.SMARTPHONE, smartphone)).isSameAs(smartphone);
+
+        assertThat(smartphone.get("storageGb")).isEqualTo(128);
+        assertThat(smartphone.keySet()).containsExactlyElementsOf(
+            SmartphoneSpecifications.from(parser.apply(JSON)).keySet());
+
+        loaded.put("storageGb", 256);
+        assertThat(Specifications.of(ProductType.SMARTPHONE, loaded))
+            .isInstanceOf(SmartphoneSpecifications.class)
+            .containsEntry("storageGb", 256);
+    }
+
+    @Test
+    @DisplayName("equal to maps with the same entries; identical stored text compares without parsing")
+    void equality() {
+        RawJsonSpecifications specs = new RawJsonSpecifications(JSON, parser);
+
+        assertThat(specs).isEqualTo(new RawJsonSpecifications(JSON, parser));
+        assertThat(parses).hasValue(0);
+
+        Map<String, Object> expected = new HashMap<>(Map.of("storageGb", 128, "brand", "Alpha"));
+        assertThat(specs).isEqualTo(expected);
+        assertThat(specs.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    @DisplayName("the no-arg constructor gives an empty, parsed, mutable map")
+    void noArgConstructor() {
+        RawJsonSpecifications specs = new RawJsonSpecifications();
+        specs.put("brand", "Alpha");
+
+        assertThat(specs.isParsed()).isTrue();
+        assertThat(specs.rawJson()).isNull();
+        assertThat(specs).containsExactly(Map.entry("brand", "Alpha"));
+    }
+}
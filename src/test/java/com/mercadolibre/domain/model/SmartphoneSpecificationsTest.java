@@ -0,0 +1,151 @@
+package com.mercadolibre.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SmartphoneSpecifications")
+class SmartphoneSpecificationsTest {
+
+    private static Map<String, Object> smartphone() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("batteryCapacityMah", 4500);
+        values.put("cameraSpecs", "108MP");
+        values.put("memoryGb", 8);
+        values.put("storageGb", 256);
+        values.put("brand", "Samsung");
+        values.put("modelVersion", "S24");
+        values.put("operatingSystem", "Android 14");
+        return values;
+    }
+
+    @Test
+    @DisplayName("known keys are exposed through typed getters and map lookups")
+    void from_knownKeys_typed() {
+        SmartphoneSpecifications specs = SmartphoneSpecifications.from(smartphone());
+
+        assertThat(specs.getBatteryCapacityMah()).isEqualTo(4500);
+        assertThat(specs.getMemoryGb()).isEqualTo(8);
+        assertThat(specs.getStorageGb()).isEqualTo(256);
+        assertThat(specs.getCameraSpecs()).isEqualTo("108MP");
+        assertThat(specs.getBrand()).isEqualTo("Samsung");
+        assertThat(specs.getModelVersion()).isEqualTo("S24");
+        assertThat(specs.getOperatingSystem()).isEqualTo("Android 14");
+        assertThat(specs).hasSize(7).containsEntry("memoryGb", 8).doesNotContainKey("color");
+        assertThat(specs.get("color")).isNull();
+    }
+
+    @Test
+    @DisplayName("unknown keys and values that do not fit the field type are kept as-is")
+    void put_unknownOrIncompatible_keptInFallback() {
+        SmartphoneSpecifications specs = new SmartphoneSpecifications();
+
+        specs.put("memoryGb", "8GB");
+        specs.put("storageGb", 256L);
+        specs.put("brand", Map.of("name", "Samsung"));
+        specs.put("batteryCapacityMah", null);
+        specs.put("5g", true);
+
+        assertThat(specs)
+            .containsEntry("memoryGb", "8GB")
+            .containsEntry("storageGb", 256L)
+            .containsEntry("brand", Map.of("name", "Samsung"))
+            .containsEntry("batteryCapacityMah", null)
+            .containsEntry("5g", true)
+            .hasSize(5);
+        assertThat(specs.getMemoryGb()).isZero();
+        assertThat(specs.getBrand()).isNull();
+    }
+
+    @Test
+    @DisplayName("a compatible value replaces an earlier incompatible one")
+    void put_replacesFallbackEntry() {
+        SmartphoneSpecifications specs = new SmartphoneSpecifications();
+        specs.put("memoryGb", "8GB");
+
+        Object previous = specs.put("memoryGb", 8);
+
+        assertThat(previous).isEqualTo("8GB");
+        assertThat(specs).hasSize(1).containsEntry("memoryGb", 8);
+        assertThat(specs.getMemoryGb()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("remove and clear drop typed and fallback entries")
+    void remove_and_clear() {
+        SmartphoneSpecifications specs = SmartphoneSpecifications.from(smartphone());
+        specs.put("5g", true);
+
+        assertThat(specs.remove("brand")).isEqualTo("Samsung");
+        assertThat(specs.remove("5g")).isEqualTo(true);
+        assertThat(specs.remove("color")).isNull();
+        assertThat(specs).hasSize(6).doesNotContainKeys("brand", "5g");
+        assertThat(specs.getBrand()).isNull();
+
+        specs.clear();
+
+        assertThat(specs).isEmpty();
+        assertThat(specs.getMemoryGb()).isZero();
+    }
+
+    @Test
+    @DisplayName("iterates in the same order as a HashMap holding the same entries")
+    void entrySet_hashMapOrder() {
+        Map<String, Object> values = smartphone();
+        values.put("5g", true);
+        values.put("refreshRateHz", 120);
+        values.remove("cameraSpecs");
+
+        SmartphoneSpecifications specs = SmartphoneSpecifications.from(values);
+
+        assertThat(new ArrayList<>(specs.keySet())).isEqualTo(new ArrayList<>(new HashMap<>(values).keySet()));
+        assertThat(specs).isEqualTo(new HashMap<>(values));
+        assertThat(specs.hashCode()).isEqualTo(new HashMap<>(values).hashCode());
+    }
+
+    @Test
+    @DisplayName("the entry iterator supports remove")
+    void entryIterator_remove() {
+        SmartphoneSpecifications specs = SmartphoneSpecifications.from(smartphone());
+
+        Iterator<Map.Entry<String, Object>> it = specs.entrySet().iterator();
+        assertThatThrownBy(it::remove).isInstanceOf(IllegalStateException.class);
+        List<String> removed = new ArrayList<>();
+        while (it.hasNext()) {
+            removed.add(it.next().getKey());
+            it.remove();
+        }
+
+        assertThat(removed).hasSize(7);
+        assertThat(specs).isEmpty();
+        assertThatThrownBy(it::next).isInstanceOf(java.util.NoSuchElementException.class);
+    }
+
+    @Test
+    @DisplayName("Specifications.of picks the typed model only for smartphones")
+    void of_perProductType() {
+        Map<String, Object> values = smartphone();
+
+        assertThat(Specifications.of(ProductType.SMARTPHONE, values))
+            .isInstanceOf(SmartphoneSpecifications.class)
+            .isEqualTo(values);
+        assertThat(Specifications.of(ProductType.GENERIC, values))
+            .isInstanceOf(HashMap.class)
+            .isEqualTo(values);
+        assertThat(Specifications.of(null, values)).isInstanceOf(HashMap.class);
+        assertThat(Specifications.of(ProductType.SMARTPHONE, null)).isInstanceOf(HashMap.class).isEmpty();
+        assertThat(Specifications.of(ProductType.SMARTPHONE, Map.of())).isInstanceOf(HashMap.class).isEmpty();
+
+        Map<String, Object> typed = SmartphoneSpecifications.from(values);
+        assertThat(Specifications.of(ProductType.SMARTPHONE, typed)).isSameAs(typed);
+    }
+}
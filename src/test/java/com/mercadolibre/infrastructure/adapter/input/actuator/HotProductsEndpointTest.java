@@ -0,0 +1,38 @@
+package com.mercadolibre.infrastructure.adapter.input.actuator;
+
+import com.mercadolibre.infrastructure.adapter.input.actuator.HotProductsEndpoint.HotProductsReport;
+import com.mercadolibre.infrastructure.adapter.output.hotkeys.HotProductTracker;
+import com.mercadolibre.infrastructure.adapter.output.hotkeys.HotProductTracker.HotProduct;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotProductsEndpointTest {
+
+    private final HotProductTracker tracker = new HotProductTracker(1024, 2, Duration.ofMinutes(1), hot -> { });
+
+    @Test
+    void hotProducts_withoutLimit_returnsTopK() {
+        tracker.recordAccess(List.of(1L, 2L, 2L, 3L, 3L, 3L));
+
+        HotProductsReport report = new HotProductsEndpoint(tracker, 2).hotProducts(null);
+
+        assertThat(report.decayPeriod()).isEqualTo(Duration.ofMinutes(1));
+        assertThat(report.products()).extracting(HotProduct::id).containsExactly(3L, 2L);
+        tracker.close();
+    }
+
+    @Test
+    void hotProducts_limitIsCappedAndNeverNegative() {
+        tracker.recordAccess(List.of(1L, 2L, 2L));
+        HotProductsEndpoint endpoint = new HotProductsEndpoint(tracker, 2);
+
+        assertThat(endpoint.hotProducts(1).products()).extracting(HotProduct::id).containsExactly(2L);
+        assertThat(endpoint.hotProducts(50).products()).hasSize(2);
+        assertThat(endpoint.hotProducts(-1).products()).isEmpty();
+        tracker.close();
+    }
+}
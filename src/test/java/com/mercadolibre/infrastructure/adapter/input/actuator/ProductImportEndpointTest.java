@@ -0,0 +1,92 @@
+package com.mercadolibre.infrastructure.adapter.input.actuator;
+
+import com.mercadolibre.infrastructure.adapter.input.importer.ProductImportFormat;
+import com.mercadolibre.infrastructure.adapter.input.importer.ProductImportStatus;
+import com.mercadolibre.infrastructure.adapter.input.importer.ProductImporter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductImportEndpointTest {
+
+    private static final ProductImportStatus RUNNING = new ProductImportStatus(ProductImportStatus.State.RUNNING,
+        "products.csv", ProductImportFormat.CSV, 0, 0, 0, 0, 0, Duration.ZERO, null, List.of());
+
+    @Mock
+    private ProductImporter importer;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void start_resolvesTheFileInTheImportDirectoryAndAccepts() throws IOException {
+        Path file = Files.writeString(directory.resolve("products.csv"), "name,price\n");
+        when(importer.status()).thenReturn(RUNNING);
+
+        WebEndpointResponse<ProductImportStatus> response =
+            new ProductImportEndpoint(importer, directory).start("products.csv", null);
+
+        verify(importer).start(file.toRealPath(), ProductImportFormat.CSV);
+        assertThat(response.getStatus()).isEqualTo(202);
+        assertThat(response.getBody()).isEqualTo(RUNNING);
+    }
+
+    @Test
+    void start_whileAnotherImportRuns_conflicts() throws IOException {
+        Files.writeString(directory.resolve("products.jsonl"), "");
+        when(importer.start(any(), any())).thenThrow(new IllegalStateException("An import is already running"));
+        when(importer.status()).thenReturn(RUNNING);
+
+        WebEndpointResponse<ProductImportStatus> response =
+            new ProductImportEndpoint(importer, directory).start("products.jsonl", "ndjson");
+
+        assertThat(response.getStatus()).isEqualTo(409);
+    }
+
+    @Test
+    void start_fileOutsideTheImportDirectoryOrMissing_isRejected() throws IOException {
+        Path imports = Files.createDirectory(directory.resolve("imports"));
+        Files.writeString(directory.resolve("secret.csv"), "name,price\n");
+        ProductImportEndpoint endpoint = new ProductImportEndpoint(importer, imports);
+
+        assertThatThrownBy(() -> endpoint.start("../secret.csv", null))
+            .isInstanceOf(InvalidEndpointRequestException.class);
+        assertThatThrownBy(() -> endpoint.start("missing.csv", null))
+            .isInstanceOf(InvalidEndpointRequestException.class);
+        verifyNoInteractions(importer);
+    }
+
+    @Test
+    void start_unknownFormat_isRejected() throws IOException {
+        Files.writeString(directory.resolve("products.xml"), "");
+
+        assertThatThrownBy(() -> new ProductImportEndpoint(importer, directory).start("products.xml", null))
+            .isInstanceOf(InvalidEndpointRequestException.class)
+            .hasMessageContaining("Cannot infer import format");
+    }
+
+    @Test
+    void status_delegatesToTheImporter() {
+        when(importer.status()).thenReturn(RUNNING);
+
+        assertThat(new ProductImportEndpoint(importer, directory).status()).isEqualTo(RUNNING);
+    }
+}
@@ -0,0 +1,171 @@
+package com.mercadolibre.infrastructure.adapter.input.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.application.port.input.ManageProductsUseCase;
+import com.mercadolibre.application.port.input.ProductUpsertResult;
+import com.mercadolibre.domain.exception.ProductNotFoundException;
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.infrastructure.adapter.input.rest.mapper.ProductMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductImporterTest {
+
+    @Mock
+    private ManageProductsUseCase manageProductsUseCase;
+
+    @TempDir
+    private Path directory;
+
+    private ValidatorFactory validatorFactory;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ProductImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        meterRegistry = new SimpleMeterRegistry();
+        ObjectMapper objectMapper = new ObjectMapper();
+        ProductRowConverter converter =
+            new ProductRowConverter(validatorFactory.getValidator(), new ProductMapper(), objectMapper);
+        importer = new ProductImporter(manageProductsUseCase, converter, objectMapper, 2, 1, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        importer.close();
+        validatorFactory.close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void start_writesValidRowsInBatchesAndRejectsInvalidOnes() throws Exception {
+        Path file = write("products.ndjson", """
+            {"name":"A","price":1}
+            {"name":"","price":1}
+            {"name":"B","price":2}
+            not json
+            {"name":"C","price":3}
+            """);
+
+        ProductImportStatus status = importer.start(file, ProductImportFormat.NDJSON).get(5, TimeUnit.SECONDS);
+
+        ArgumentCaptor<List<Product>> batches = ArgumentCaptor.forClass(List.class);
+        verify(manageProductsUseCase, times(2)).upsertProducts(batches.capture());
+        assertThat(batches.getAllValues()).extracting(batch -> batch.stream().map(Product::getName).toList())
+            .containsExactly(List.of("A", "B"), List.of("C"));
+        assertThat(status.state()).isEqualTo(ProductImportStatus.State.COMPLETED);
+        assertThat(status.rowsRead()).isEqualTo(5);
+        assertThat(status.imported()).isEqualTo(3);
+        assertThat(status.rejected()).isEqualTo(2);
+        assertThat(status.progress()).isEqualTo(1);
+        assertThat(status.rejections()).extracting(ProductImportStatus.Rejection::line).containsExactly(2L, 4L);
+        assertThat(importer.status()).isEqualTo(status);
+        assertThat(meterRegistry.get("product.import.rows").tag("result", "imported").counter().count())
+            .isEqualTo(3);
+        assertThat(meterRegistry.get("product.import.rows").tag("result", "rejected").counter().count())
+            .isEqualTo(2);
+        assertThat(meterRegistry.get("product.import.progress").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("product.import.duration").tag("result", "completed").timer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void start_batchRefusedByTheCatalog_isRejectedAndTheImportGoesOn() throws Exception {
+        when(manageProductsUseCase.upsertProducts(anyList()))
+            .thenThrow(new ProductNotFoundException(List.of(99L)))
+            .thenReturn(new ProductUpsertResult(List.of(100L), 1, 0));
+        Path file = write("products.csv", "id,name,price\n99,A,1\n98,B,2\n,C,3\n");
+
+        ProductImportStatus status = importer.start(file, ProductImportFormat.CSV).get(5, TimeUnit.SECONDS);
+
+        assertThat(status.state()).isEqualTo(ProductImportStatus.State.COMPLETED);
+        assertThat(status.imported()).isEqualTo(1);
+        assertThat(status.rejected()).isEqualTo(2);
+        assertThat(status.rejections()).singleElement()
+            .satisfies(rejection -> {
+                assertThat(rejection.line()).isEqualTo(2);
+                assertThat(rejection.reason()).startsWith("Batch of 2 rows rejected");
+            });
+    }
+
+    @Test
+    void start_writerFailure_failsTheImport() throws Exception {
+        doThrow(new IllegalStateException("database down")).when(manageProductsUseCase).upsertProducts(anyList());
+        Path file = write("products.ndjson", "{\"name\":\"A\",\"price\":1}\n".repeat(20));
+
+        ProductImportStatus status = importer.start(file, ProductImportFormat.NDJSON).get(5, TimeUnit.SECONDS);
+
+        assertThat(status.state()).isEqualTo(ProductImportStatus.State.FAILED);
+        assertThat(status.error()).isEqualTo("database down");
+        assertThat(meterRegistry.get("product.import.duration").tag("result", "failed").timer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void start_unusableFile_failsTheImport() throws Exception {
+        Path file = write("products.csv", "name,brand\nA,B\n");
+
+        ProductImportStatus status = importer.start(file, ProductImportFormat.CSV).get(5, TimeUnit.SECONDS);
+
+        assertThat(status.state()).isEqualTo(ProductImportStatus.State.FAILED);
+        assertThat(status.error()).isEqualTo("Unknown CSV column: brand");
+    }
+
+    @Test
+    void start_whileRunning_isRefused() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(manageProductsUseCase).upsertProducts(anyList());
+        Path file = write("products.ndjson", "{\"name\":\"A\",\"price\":1}\n");
+
+        CompletableFuture<ProductImportStatus> first = importer.start(file, ProductImportFormat.NDJSON);
+
+        assertThat(importer.status().state()).isEqualTo(ProductImportStatus.State.RUNNING);
+        assertThatThrownBy(() -> importer.start(file, ProductImportFormat.NDJSON))
+            .isInstanceOf(IllegalStateException.class);
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).state()).isEqualTo(ProductImportStatus.State.COMPLETED);
+    }
+
+    @Test
+    void status_beforeAnyImport_isIdle() {
+        assertThat(importer.status().state()).isEqualTo(ProductImportStatus.State.IDLE);
+        assertThat(meterRegistry.get("product.import.rate").gauge().value()).isZero();
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(directory.resolve(name), content);
+    }
+}
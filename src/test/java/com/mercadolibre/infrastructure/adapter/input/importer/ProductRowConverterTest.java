@@ -0,0 +1,101 @@
+package com.mercadolibre.infrastructure.adapter.input.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.domain.model.ProductType;
+import com.mercadolibre.domain.model.RawJsonSpecifications;
+import com.mercadolibre.infrastructure.adapter.input.rest.mapper.ProductMapper;
+import com.mercadolibre.infrastructure.adapter.input.rest.request.ProductRequest;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductRowConverterTest {
+
+    private static ValidatorFactory validatorFactory;
+
+    private static ProductRowConverter converter;
+
+    @BeforeAll
+    static void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        converter = new ProductRowConverter(validatorFactory.getValidator(), new ProductMapper(), new ObjectMapper());
+    }
+
+    @AfterAll
+    static void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void convert_serializesSpecificationsOnceWithoutParsingThemBack() {
+        ProductRequest request = request("SMARTPHONE", new HashMap<>(Map.of("memoryGb", 8)));
+
+        Product product = converter.convert(request);
+
+        assertThat(product.getProductType()).isEqualTo(ProductType.SMARTPHONE);
+        RawJsonSpecifications specifications = (RawJsonSpecifications) product.getSpecifications();
+        assertThat(specifications.rawJson()).isEqualTo("{\"memoryGb\":8}");
+        assertThat(specifications.isParsed()).isFalse();
+        assertThat(specifications).containsEntry("memoryGb", 8);
+    }
+
+    @Test
+    void convert_withoutTypeOrSpecifications_isGeneric() {
+        Product product = converter.convert(request(null, null));
+
+        assertThat(product.getProductType()).isEqualTo(ProductType.GENERIC);
+        assertThat(product.getSpecifications()).isEmpty();
+    }
+
+    @Test
+    void convert_constraintViolations_areRejected() {
+        ProductRequest request = request(null, null);
+        request.setName(" ");
+        request.setRating(new BigDecimal("7"));
+
+        assertThatThrownBy(() -> converter.convert(request))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("name: Product name is required")
+            .hasMessageContaining("rating: ");
+    }
+
+    @Test
+    void convert_smartphoneSpecificationOfTheWrongType_isRejected() {
+        assertThatThrownBy(() -> converter.convert(request("SMARTPHONE", Map.of("memoryGb", "8GB"))))
+            .hasMessage("specifications.memoryGb: must be a non-negative integer");
+        assertThatThrownBy(() -> converter.convert(request("SMARTPHONE", Map.of("brand", 1))))
+            .hasMessage("specifications.brand: must be a string");
+    }
+
+    @Test
+    void convert_otherTypesAcceptAnySpecificationValue() {
+        Product product = converter.convert(request("GENERIC", Map.of("memoryGb", "8GB")));
+
+        assertThat(product.getSpecifications()).containsEntry("memoryGb", "8GB");
+    }
+
+    @Test
+    void convert_unknownProductType_isRejected() {
+        assertThatThrownBy(() -> converter.convert(request("TABLET", null)))
+            .hasMessage("Invalid product type: TABLET");
+    }
+
+    private static ProductRequest request(String productType, Map<String, Object> specifications) {
+        return ProductRequest.builder()
+            .name("Phone")
+            .price(new BigDecimal("449.99"))
+            .productType(productType)
+            .specifications(specifications)
+            .build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.mercadolibre.infrastructure.adapter.input.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductRowReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void ndjson_readsOneRowPerLineAndSkipsBlankLines() throws IOException {
+        ProductRowReader reader = open(ProductImportFormat.NDJSON, """
+            {"name":"Phone","price":10.5,"productType":"SMARTPHONE","specifications":{"memoryGb":8}}
+
+            {"id":3,"name":"Sneakers","price":129.99}
+            """);
+
+        ProductRow first = reader.next();
+        ProductRow second = reader.next();
+
+        assertThat(first.line()).isEqualTo(1);
+        assertThat(first.request().getName()).isEqualTo("Phone");
+        assertThat(first.request().getSpecifications()).containsEntry("memoryGb", 8);
+        assertThat(second.line()).isEqualTo(3);
+        assertThat(second.request().getId()).isEqualTo(3L);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void ndjson_invalidLine_isRejectedAndReadingGoesOn() throws IOException {
+        ProductRowReader reader = open(ProductImportFormat.NDJSON, """
+            {"name":
+            {"name":"Ok","price":1}
+            """);
+
+        ProductRow rejected = reader.next();
+
+        assertThat(rejected.request()).isNull();
+        assertThat(rejected.error()).startsWith("Invalid JSON");
+        assertThat(reader.next().request().getName()).isEqualTo("Ok");
+    }
+
+    @Test
+    void csv_mapsColumnsByHeaderAndHandlesQuoting() throws IOException {
+        ProductRowReader reader = open(ProductImportFormat.CSV, "name,price,description,specifications,id\r\n"
+            + "Phone,449.99,\"Fast, \"\"new\"\"\nand light\",\"{\"\"memoryGb\"\":8}\",\n"
+            + "\n"
+            + "Bag,10,,,4\n");
+
+        ProductRow phone = reader.next();
+        ProductRow bag = reader.next();
+
+        assertThat(phone.line()).isEqualTo(2);
+        assertThat(phone.request().getPrice()).isEqualByComparingTo(new BigDecimal("449.99"));
+        assertThat(phone.request().getDescription()).isEqualTo("Fast, \"new\"\nand light");
+        assertThat(phone.request().getSpecifications()).isEqualTo(Map.of("memoryGb", 8));
+        assertThat(phone.request().getId()).isNull();
+        assertThat(bag.line()).isEqualTo(5);
+        assertThat(bag.request().getId()).isEqualTo(4L);
+        assertThat(bag.request().getDescription()).isNull();
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void csv_malformedRows_areRejected() throws IOException {
+        ProductRowReader reader = open(ProductImportFormat.CSV, """
+            name,price
+            Phone
+            Phone,abc
+            Phone,1,extra
+            "Phone,1
+            """);
+
+        assertThat(reader.next().error()).isEqualTo("Expected 2 columns, found 1");
+        assertThat(reader.next().error()).isEqualTo("Invalid number in column price: abc");
+        assertThat(reader.next().error()).isEqualTo("Expected 2 columns, found 3");
+        assertThat(reader.next().error()).isEqualTo("Unterminated quoted field");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void csv_unknownColumn_failsOnOpen() {
+        assertThatThrownBy(() -> open(ProductImportFormat.CSV, "name,price,brand\n"))
+            .isInstanceOf(IOException.class)
+            .hasMessage("Unknown CSV column: brand");
+    }
+
+    @Test
+    void format_isParsedOrInferredFromTheExtension() {
+        assertThat(ProductImportFormat.of("csv", "x.ndjson")).isEqualTo(ProductImportFormat.CSV);
+        assertThat(ProductImportFormat.of(null, "products.JSONL")).isEqualTo(ProductImportFormat.NDJSON);
+        assertThat(ProductImportFormat.of(" ", "products.csv")).isEqualTo(ProductImportFormat.CSV);
+        assertThatThrownBy(() -> ProductImportFormat.of(null, "products.xml"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductImportFormat.of("xml", "products.csv"))
+            .hasMessage("Invalid import format: xml");
+    }
+
+    private ProductRowReader open(ProductImportFormat format, String content) throws IOException {
+        return ProductRowReader.open(format, new BufferedReader(new StringReader(content)), objectMapper);
+    }
+}
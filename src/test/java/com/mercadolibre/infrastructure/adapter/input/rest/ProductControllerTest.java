@@ -1,5 +1,6 @@
 package com.mercadolibre.infrastructure.adapter.input.rest;
 
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -7,6 +8,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -23,6 +25,14 @@ class ProductControllerTest {
     /** Path within servlet context (context-path is stripped by MockMvc when matching controllers). */
     private static final String COMPARE_PATH = "/products/compare";
 
+    private static final String EXPORT_PATH = "/products/export";
+
+    private static final String LIST_PATH = "/products";
+
+    private static final String SEARCH_PATH = "/products/search";
+
+    private static final String FACETS_PATH = "/products/facets";
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -53,6 +63,159 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.products[0].specifications").doesNotExist());
     }
 
+    @Test
+    void compare_withSpecificationPaths_returnsOnlyRequestedKeys() throws Exception {
+        mockMvc.perform(get(COMPARE_PATH)
+                        .param("ids", "1,2")
+                        .param("fields", "name,specifications.memoryGb,specifications.storageGb,price.amount"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products", hasSize(2)))
+                .andExpect(jsonPath("$.products[0].name").value("Smartphone Alpha X1"))
+                .andExpect(jsonPath("$.products[0].price").doesNotExist())
+                .andExpect(jsonPath("$.products[0].specifications.memoryGb").value(8))
+                .andExpect(jsonPath("$.products[0].specifications.storageGb").value(128))
+                .andExpect(jsonPath("$.products[0].specifications.batteryCapacityMah").doesNotExist())
+                .andExpect(jsonPath("$.products[1].specifications.memoryGb").value(12));
+    }
+
+    @Test
+    void export_streamsWholeCatalogAsNdjson() throws Exception {
+        mockMvc.perform(get(EXPORT_PATH).param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(
+                        "{\"name\":\"Smartphone Alpha X1\"}\n"
+                                + "{\"name\":\"Smartphone Beta Pro\"}\n"
+                                + "{\"name\":\"Run Max Sneakers\"}\n"
+                                + "{\"name\":\"Urban Backpack 20L\"}\n"));
+    }
+
+    @Test
+    void export_withProductTypeAndSpecificationKey_filtersRowsAndKeys() throws Exception {
+        mockMvc.perform(get(EXPORT_PATH)
+                        .param("productType", "smartphone")
+                        .param("fields", "id,specifications.memoryGb"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(
+                        "{\"id\":1,\"specifications\":{\"memoryGb\":8}}\n"
+                                + "{\"id\":2,\"specifications\":{\"memoryGb\":12}}\n"));
+    }
+
+    @Test
+    void export_withUnknownProductType_returns400() throws Exception {
+        mockMvc.perform(get(EXPORT_PATH).param("productType", "TABLET"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validationErrors[0].field").value("productType"))
+                .andExpect(jsonPath("$.validationErrors[0].rejectedValue").value("TABLET"));
+    }
+
+    @Test
+    void list_pagesByProductTypeThenIdWithCursors() throws Exception {
+        String cursor = JsonPath.read(mockMvc.perform(get(LIST_PATH).param("fields", "name").param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products[*].name").value(contains(
+                        "Run Max Sneakers", "Urban Backpack 20L", "Smartphone Alpha X1")))
+                .andExpect(jsonPath("$.products[0].id").doesNotExist())
+                .andExpect(jsonPath("$.products[0].productType").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").isString())
+                .andReturn().getResponse().getContentAsString(), "$.nextCursor");
+
+        mockMvc.perform(get(LIST_PATH).param("fields", "id").param("limit", "3").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products[*].id").value(contains(2)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void list_withProductType_pagesWithinTheType() throws Exception {
+        mockMvc.perform(get(LIST_PATH).param("productType", "generic").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products[*].id").value(contains(3)))
+                .andExpect(jsonPath("$.products[0].price").value(129.99))
+                .andExpect(jsonPath("$.nextCursor").value("R0VORVJJQzoz"));
+
+        mockMvc.perform(get(LIST_PATH).param("productType", "GENERIC").param("cursor", "R0VORVJJQzoz"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products[*].id").value(contains(4)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void list_withCursorOfAnotherType_returns422() throws Exception {
+        mockMvc.perform(get(LIST_PATH).param("productType", "SMARTPHONE").param("cursor", "R0VORVJJQzoz"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.error").value("INVALID_REQUEST"));
+    }
+
+    @Test
+    void list_withMalformedCursor_returns400() throws Exception {
+        mockMvc.perform(get(LIST_PATH).param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validationErrors[0].field").value("cursor"))
+                .andExpect(jsonPath("$.validationErrors[0].rejectedValue").value("not-a-cursor"));
+    }
+
+    @Test
+    void list_withLimitOutOfRange_returns422() throws Exception {
+        mockMvc.perform(get(LIST_PATH).param("limit", "101"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.validationErrors[0].field").value("limit"));
+    }
+
+    @Test
+    void search_matchesPrefixesAcrossNameAndDescription() throws Exception {
+        mockMvc.perform(get(SEARCH_PATH).param("q", "sneak"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ids").value(contains(3)));
+
+        mockMvc.perform(get(SEARCH_PATH).param("q", "Water laptop"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ids").value(contains(4)));
+
+        mockMvc.perform(get(SEARCH_PATH).param("q", "zzzz"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ids").isEmpty());
+    }
+
+    @Test
+    void search_withBlankQuery_returns422() throws Exception {
+        mockMvc.perform(get(SEARCH_PATH).param("q", " "))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void facets_countsValuesOfProductsMeetingTheFilters() throws Exception {
+        mockMvc.perform(get(FACETS_PATH).param("productType", "smartphone").param("attributes", "brand,storageGb")
+                        .param("filters", "memoryGb>=8"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.productType").value("SMARTPHONE"))
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.facets.brand.Alpha").value(1))
+                .andExpect(jsonPath("$.facets.brand.Beta").value(1))
+                .andExpect(jsonPath("$.facets.storageGb['128']").value(1));
+
+        mockMvc.perform(get(FACETS_PATH).param("productType", "SMARTPHONE").param("attributes", "brand")
+                        .param("filters", "memoryGb>8,operatingSystem=Android 14|iOS"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.facets.brand.Beta").value(1))
+                .andExpect(jsonPath("$.facets.brand.Alpha").doesNotExist());
+    }
+
+    @Test
+    void facets_withMalformedFilter_returns400() throws Exception {
+        mockMvc.perform(get(FACETS_PATH).param("productType", "SMARTPHONE").param("filters", "memoryGb>=lots"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validationErrors[0].field").value("filters"))
+                .andExpect(jsonPath("$.validationErrors[0].rejectedValue").value("memoryGb>=lots"));
+    }
+
+    @Test
+    void facets_withoutProductType_returns422() throws Exception {
+        mockMvc.perform(get(FACETS_PATH).param("productType", " "))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
     @Test
     void compare_whenProductNotFound_returns404() throws Exception {
         mockMvc.perform(get(COMPARE_PATH).param("ids", "1,999"))
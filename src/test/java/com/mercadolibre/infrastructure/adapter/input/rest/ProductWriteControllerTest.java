@@ -0,0 +1,167 @@
+package com.mercadolibre.infrastructure.adapter.input.rest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the product write endpoints. Each test runs in a rolled-back transaction so the seed
+ * rows other tests rely on are left untouched; the invalidation test commits and restores them itself.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class ProductWriteControllerTest {
+
+    private static final String PRODUCTS_PATH = "/products";
+
+    private static final String COMPARE_PATH = "/products/compare";
+
+    private static final String SNEAKERS = """
+            {"name": "%s", "description": "Lightweight running shoes with reactive cushioning.",
+             "price": 129.99, "size": "42", "weight": "280g", "color": "White/Red",
+             "imageUrl": "https://example.com/img/run-max.png", "rating": 4.3, "productType": "GENERIC"}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void create_returns201WithGeneratedId() throws Exception {
+        mockMvc.perform(post(PRODUCTS_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Smartphone Gamma", "price": 299.90, "productType": "smartphone",
+                                 "specifications": {"memoryGb": 6, "brand": "Gamma"}}
+                                """))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").isNumber())
+                .andExpect(jsonPath("$.name").value("Smartphone Gamma"))
+                .andExpect(jsonPath("$.productType").value("SMARTPHONE"))
+                .andExpect(jsonPath("$.specifications.memoryGb").value(6));
+    }
+
+    @Test
+    void create_withId_returns422() throws Exception {
+        mockMvc.perform(post(PRODUCTS_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\": 1, \"name\": \"Duplicate\", \"price\": 1}"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.error").value("INVALID_REQUEST"));
+    }
+
+    @Test
+    void create_withoutRequiredFields_returns422() throws Exception {
+        mockMvc.perform(post(PRODUCTS_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"description\": \"No name or price\", \"rating\": 7}"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.status").value(422))
+                .andExpect(jsonPath("$.validationErrors", hasSize(3)));
+    }
+
+    @Test
+    void update_replacesProduct() throws Exception {
+        mockMvc.perform(put(PRODUCTS_PATH + "/3")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(SNEAKERS.formatted("Run Max Sneakers 2")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(3))
+                .andExpect(jsonPath("$.name").value("Run Max Sneakers 2"));
+    }
+
+    @Test
+    void update_whenProductNotFound_returns404() throws Exception {
+        mockMvc.perform(put(PRODUCTS_PATH + "/999")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(SNEAKERS.formatted("Ghost")))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.validationErrors[0].rejectedValue").value(999));
+    }
+
+    @Test
+    void updateAll_replacesEveryProduct() throws Exception {
+        mockMvc.perform(put(PRODUCTS_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [{"id": 3, "name": "Run Max Sneakers 2", "price": 119.99},
+                                 {"id": 4, "name": "Urban Backpack 25L", "price": 64.99}]
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products", hasSize(2)))
+                .andExpect(jsonPath("$.products[0].name").value("Run Max Sneakers 2"))
+                .andExpect(jsonPath("$.products[1].price").value(64.99));
+    }
+
+    @Test
+    void updateAll_withDuplicatedIds_returns422() throws Exception {
+        mockMvc.perform(put(PRODUCTS_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [{"id": 3, "name": "A", "price": 1}, {"id": 3, "name": "B", "price": 2}]
+                                """))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.details").value("Duplicated product IDs: [3]"));
+    }
+
+    @Test
+    void upsertAll_createsAndUpdatesInOneRequest() throws Exception {
+        mockMvc.perform(post(PRODUCTS_PATH + "/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [{"id": 4, "name": "Urban Backpack 25L", "price": 64.99},
+                                 {"name": "Trail Sneakers", "price": 139.99},
+                                 {"name": "Tablet Gamma", "price": 299.00}]
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ids", hasSize(3)))
+                .andExpect(jsonPath("$.ids[0]").value(4))
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.updated").value(1));
+    }
+
+    @Test
+    void upsertAll_withUnknownId_returns404() throws Exception {
+        mockMvc.perform(post(PRODUCTS_PATH + "/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"name\": \"New\", \"price\": 1}, {\"id\": 999, \"name\": \"X\", \"price\": 1}]"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.validationErrors[0].rejectedValue").value(999));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void update_evictsCachedProductOnceCommitted() throws Exception {
+        mockMvc.perform(get(COMPARE_PATH).param("ids", "3").param("fields", "name"))
+                .andExpect(jsonPath("$.products[0].name").value("Run Max Sneakers"));
+        try {
+            mockMvc.perform(put(PRODUCTS_PATH + "/3")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(SNEAKERS.formatted("Run Max Sneakers 2")))
+                    .andExpect(status().isOk());
+
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                    mockMvc.perform(get(COMPARE_PATH).param("ids", "3").param("fields", "name"))
+                            .andExpect(jsonPath("$.products[0].name").value("Run Max Sneakers 2")));
+        } finally {
+            mockMvc.perform(put(PRODUCTS_PATH + "/3")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(SNEAKERS.formatted("Run Max Sneakers")))
+                    .andExpect(status().isOk());
+        }
+    }
+}
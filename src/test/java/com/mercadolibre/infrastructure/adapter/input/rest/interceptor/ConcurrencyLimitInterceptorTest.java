@@ -0,0 +1,60 @@
+package com.mercadolibre.infrastructure.adapter.input.rest.interceptor;
+
+import com.mercadolibre.infrastructure.adapter.input.rest.exception.ConcurrencyLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ConcurrencyLimitInterceptor")
+class ConcurrencyLimitInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ConcurrencyLimitInterceptor interceptor;
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new ConcurrencyLimitInterceptor(1, Duration.ZERO, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("rejects requests beyond the limit until a slot is released")
+    void preHandle_overLimit_rejected() throws Exception {
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        MockHttpServletRequest second = new MockHttpServletRequest();
+
+        assertThat(interceptor.preHandle(first, response, new Object())).isTrue();
+        assertThat(meterRegistry.get("product.requests.in.flight").gauge().value()).isEqualTo(1);
+        assertThatThrownBy(() -> interceptor.preHandle(second, response, new Object()))
+            .isInstanceOf(ConcurrencyLimitExceededException.class);
+        assertThat(meterRegistry.get("product.requests.rejected").counter().count()).isEqualTo(1);
+
+        interceptor.afterCompletion(first, response, new Object(), null);
+
+        assertThat(interceptor.preHandle(second, response, new Object())).isTrue();
+    }
+
+    @Test
+    @DisplayName("only requests that obtained a slot release one")
+    void afterCompletion_withoutSlot_doesNotRelease() throws Exception {
+        MockHttpServletRequest holder = new MockHttpServletRequest();
+        interceptor.preHandle(holder, response, new Object());
+
+        interceptor.afterCompletion(new MockHttpServletRequest(), response, new Object(), null);
+        interceptor.afterCompletion(holder, response, new Object(), null);
+        interceptor.afterCompletion(holder, response, new Object(), null);
+
+        assertThat(meterRegistry.get("product.requests.in.flight").gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,262 @@
+package com.mercadolibre.infrastructure.adapter.input.rest.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.application.port.input.ProductField;
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.domain.model.ProductType;
+import com.mercadolibre.domain.model.RawJsonSpecifications;
+import com.mercadolibre.infrastructure.adapter.input.rest.mapper.ProductMapper;
+import com.mercadolibre.infrastructure.adapter.input.rest.response.ProductComparisonResponse;
+import com.mercadolibre.infrastructure.adapter.input.rest.response.ProductListResponse;
+import org.junit.jupiter.api.DisplayName;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.SpringHandlerInstantiator;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductComparisonJsonSerializer")
+class ProductComparisonJsonSerializerTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private final ProductMapper productMapper = new ProductMapper();
+
+    private static Product smartphone() {
+        Map<String, Object> specifications = new LinkedHashMap<>();
+        specifications.put("batteryCapacityMah", 5000);
+        specifications.put("cameraSpecs", "108MP main, 12MP ultra wide, 8MP tele");
+        specifications.put("memoryGb", 8);
+        specifications.put("storageGb", 128);
+        specifications.put("brand", "Alpha");
+        specifications.put("modelVersion", "X1");
+        specifications.put("operatingSystem", "Android 14");
+        specifications.put("dimensions", Map.of("heightMm", 160));
+        specifications.put("discontinued", null);
+        return Product.builder()
+            .id(1L)
+            .name("Smartphone Alpha X1")
+            .description("Smartphone with AMOLED display and \"108MP\" camera.")
+            .price(new BigDecimal("449.99"))
+            .size("6.2\"")
+            .weight("180g")
+            .color("Black")
+            .imageUrl("https://example.com/img/alpha-x1.png")
+            .rating(new BigDecimal("4.50"))
+            .productType(ProductType.SMARTPHONE)
+            .specifications(specifications)
+            .build();
+    }
+
+    private static Product generic() {
+        return Product.builder()
+            .id(3L)
+            .name("Run Max Sneakers")
+            .price(new BigDecimal("129.99"))
+            .productType(ProductType.GENERIC)
+            .specifications(new HashMap<>())
+            .build();
+    }
+
+    private String viaDto(List<Product> products, Set<ProductField> fields) throws Exception {
+        return viaDto(products, fields, null);
+    }
+
+    private String viaDto(List<Product> products, Set<ProductField> fields, Set<String> keys) throws Exception {
+        ProductListResponse response = ProductListResponse.builder()
+            .products(products.stream().map(p -> productMapper.fromProductToProductResponse(p, fields, keys)).toList())
+            .build();
+        return objectMapper.writeValueAsString(response);
+    }
+
+    private String streamed(List<Product> products, Set<ProductField> fields) throws Exception {
+        return objectMapper.writeValueAsString(new ProductComparisonResponse(products, fields));
+    }
+
+    @Test
+    @DisplayName("all fields: same bytes as the DTO path")
+    void allFields_matchesDto() throws Exception {
+        List<Product> products = List.of(smartphone(), generic());
+
+        assertThat(streamed(products, null)).isEqualTo(viaDto(products, null));
+        assertThat(streamed(products, Set.of())).isEqualTo(viaDto(products, Set.of()));
+    }
+
+    @Test
+    @DisplayName("requested fields only: same bytes as the DTO path")
+    void someFields_matchesDto() throws Exception {
+        List<Product> products = List.of(smartphone(), generic());
+
+        for (Set<ProductField> fields : List.of(
+            EnumSet.of(ProductField.NAME, ProductField.PRICE),
+            EnumSet.of(ProductField.ID, ProductField.PRODUCT_TYPE, ProductField.SPECIFICATIONS),
+            EnumSet.allOf(ProductField.class))) {
+            assertThat(streamed(products, fields)).isEqualTo(viaDto(products, fields));
+        }
+    }
+
+    @Test
+    @DisplayName("products without optional values and empty lists match the DTO path")
+    void sparseProducts_matchDto() throws Exception {
+        Product bare = Product.builder().productType(null).specifications(null).build();
+
+        assertThat(streamed(List.of(bare), null)).isEqualTo(viaDto(List.of(bare), null));
+        assertThat(streamed(List.of(), null)).isEqualTo(viaDto(List.of(), null));
+        assertThat(streamed(null, null)).isEqualTo(objectMapper.writeValueAsString(new ProductListResponse()));
+    }
+
+    @Test
+    @DisplayName("with a fragment cache: same bytes as the DTO path, on first use and when spliced from cache")
+    void fragments_matchDto() throws Exception {
+        ObjectMapper cachingMapper = cachingMapper(fragmentCache());
+        List<Product> products = List.of(smartphone(), generic());
+        Set<ProductField> nameAndPrice = EnumSet.of(ProductField.NAME, ProductField.PRICE);
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(new String(cachingMapper.writeValueAsBytes(new ProductComparisonResponse(products, null)),
+                StandardCharsets.UTF_8)).isEqualTo(viaDto(products, null));
+            assertThat(cachingMapper.writeValueAsString(new ProductComparisonResponse(products, nameAndPrice)))
+                .isEqualTo(viaDto(products, nameAndPrice));
+        }
+    }
+
+    @Test
+    @DisplayName("cached fragments are reused until the product is written to the product cache")
+    void fragments_reusedUntilProductWritten() throws Exception {
+        ProductJsonFragmentCache fragmentCache = fragmentCache();
+        ObjectMapper cachingMapper = cachingMapper(fragmentCache);
+        Product product = generic();
+        ProductComparisonResponse response = new ProductComparisonResponse(List.of(product), null);
+        String original = cachingMapper.writeValueAsString(response);
+
+        product.setName("Run Max Sneakers 2");
+        assertThat(cachingMapper.writeValueAsString(response)).isEqualTo(original);
+
+        fragmentCache.productsWritten(List.of(product.getId()));
+        assertThat(cachingMapper.writeValueAsString(response)).contains("Run Max Sneakers 2");
+    }
+
+    @Test
+    @DisplayName("a fragment encoded from an outdated product after its invalidation is not served for a newer copy")
+    void fragments_notServedForAnotherInstance() throws Exception {
+        ProductJsonFragmentCache fragmentCache = fragmentCache();
+        ObjectMapper cachingMapper = cachingMapper(fragmentCache);
+        Product outdated = generic();
+        Product fresh = generic();
+        fresh.setName("Run Max Sneakers 2");
+
+        fragmentCache.productsWritten(List.of(fresh.getId()));
+        cachingMapper.writeValueAsString(new ProductComparisonResponse(List.of(outdated), null));
+
+        assertThat(cachingMapper.writeValueAsString(new ProductComparisonResponse(List.of(fresh), null)))
+            .contains("Run Max Sneakers 2");
+    }
+
+    @Test
+    @DisplayName("pretty-printed output bypasses the fragment cache")
+    void prettyPrinted_bypassesFragments() throws Exception {
+        ObjectMapper cachingMapper = cachingMapper(fragmentCache());
+        List<Product> products = List.of(smartphone());
+        ProductListResponse dto = ProductListResponse.builder()
+            .products(List.of(productMapper.fromProductToProductResponse(products.get(0), null)))
+            .build();
+
+        assertThat(cachingMapper.writerWithDefaultPrettyPrinter()
+            .writeValueAsString(new ProductComparisonResponse(products, null)))
+            .isEqualTo(objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(dto));
+    }
+
+    @Test
+    @DisplayName("unparsed specifications are streamed from the stored JSON without parsing it")
+    void rawSpecifications_streamedWithoutParsing() throws Exception {
+        String json = "{ \"storageGb\": 128, \"dimensions\": {\"heightMm\": 160.5},"
+            + " \"tags\": [\"5G\", null] }";
+        Product product = generic();
+        product.setSpecifications(new RawJsonSpecifications(json, text -> {
+            throw new AssertionError("specifications were parsed");
+        }));
+
+        assertThat(streamed(List.of(product), null))
+            .contains("\"specifications\":{\"storageGb\":128,\"dimensions\":{\"heightMm\":160.5},"
+                + "\"tags\":[\"5G\",null]}");
+        assertThat(cachingMapper(fragmentCache()).writeValueAsString(new ProductComparisonResponse(List.of(product),
+            EnumSet.of(ProductField.NAME)))).doesNotContain("specifications");
+    }
+
+    @Test
+    @DisplayName("modified raw specifications are written like any other map")
+    void rawSpecifications_modified_matchDto() throws Exception {
+        Product product = smartphone();
+        Map<String, Object> parsed = new HashMap<>(product.getSpecifications());
+        RawJsonSpecifications specifications = new RawJsonSpecifications("{\"storageGb\":128}", text -> parsed);
+        specifications.put("storageGb", 256);
+        product.setSpecifications(specifications);
+
+        assertThat(streamed(List.of(product), null)).isEqualTo(viaDto(List.of(product), null));
+    }
+
+    @Test
+    @DisplayName("specification keys: only those entries are written, same bytes as the DTO path")
+    void specificationKeys_matchDto() throws Exception {
+        List<Product> products = List.of(smartphone(), generic());
+        Set<ProductField> fields = EnumSet.of(ProductField.NAME, ProductField.SPECIFICATIONS);
+        ObjectMapper cachingMapper = cachingMapper(fragmentCache());
+
+        for (Set<String> keys : List.of(Set.of("memoryGb", "storageGb"), Set.of("unknownKey"))) {
+            String expected = viaDto(products, fields, keys);
+            assertThat(objectMapper.writeValueAsString(new ProductComparisonResponse(products, fields, keys)))
+                .isEqualTo(expected);
+            assertThat(cachingMapper.writeValueAsString(new ProductComparisonResponse(products, fields, keys)))
+                .isEqualTo(expected);
+        }
+        assertThat(viaDto(products, fields, Set.of("memoryGb")))
+            .contains("\"specifications\":{\"memoryGb\":8}")
+            .doesNotContain("storageGb");
+    }
+
+    @Test
+    @DisplayName("specification keys on unparsed specifications: requested entries are streamed, the rest skipped")
+    void specificationKeys_rawSpecifications_streamedWithoutParsing() throws Exception {
+        String json = "{\"dimensions\":{\"heightMm\":160},\"storageGb\":128,\"tags\":[\"5G\"],\"memoryGb\":8}";
+        Product product = generic();
+        product.setSpecifications(new RawJsonSpecifications(json, text -> {
+            throw new AssertionError("specifications were parsed");
+        }));
+        Set<ProductField> fields = EnumSet.of(ProductField.SPECIFICATIONS);
+
+        assertThat(objectMapper.writeValueAsString(
+            new ProductComparisonResponse(List.of(product), fields, Set.of("memoryGb", "dimensions"))))
+            .isEqualTo("{\"products\":[{\"specifications\":{\"dimensions\":{\"heightMm\":160},\"memoryGb\":8}}]}");
+        assertThat(objectMapper.writeValueAsString(
+            new ProductComparisonResponse(List.of(product), fields, Set.of("unknownKey"))))
+            .isEqualTo("{\"products\":[{}]}");
+    }
+
+    private static ProductJsonFragmentCache fragmentCache() {
+        return new ProductJsonFragmentCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+    }
+
+    private static ObjectMapper cachingMapper(ProductJsonFragmentCache fragmentCache) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("productJsonFragmentCache", fragmentCache);
+        AutowiredAnnotationBeanPostProcessor autowiring = new AutowiredAnnotationBeanPostProcessor();
+        autowiring.setBeanFactory(beanFactory);
+        beanFactory.addBeanPostProcessor(autowiring);
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+        mapper.setHandlerInstantiator(new SpringHandlerInstantiator(beanFactory));
+        return mapper;
+    }
+}
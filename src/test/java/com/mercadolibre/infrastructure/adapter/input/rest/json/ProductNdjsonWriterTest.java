@@ -0,0 +1,112 @@
+package com.mercadolibre.infrastructure.adapter.input.rest.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.application.port.input.ProductField;
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.domain.model.ProductType;
+import com.mercadolibre.infrastructure.adapter.input.rest.response.ProductComparisonResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProductNdjsonWriter")
+class ProductNdjsonWriterTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private static Product product(long id, String name) {
+        return Product.builder()
+            .id(id)
+            .name(name)
+            .price(new BigDecimal("10.50"))
+            .productType(ProductType.SMARTPHONE)
+            .specifications(new HashMap<>(Map.of("memoryGb", 8, "storageGb", 128)))
+            .build();
+    }
+
+    @Test
+    @DisplayName("writes one compact object per line, with no separator between lines")
+    void write_oneObjectPerLine() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (ProductNdjsonWriter writer = new ProductNdjsonWriter(objectMapper, out,
+            EnumSet.of(ProductField.ID, ProductField.NAME), null)) {
+            writer.write(product(1L, "Alpha"));
+            writer.write(product(2L, "Beta"));
+        }
+
+        assertThat(out.toString(StandardCharsets.UTF_8))
+            .isEqualTo("{\"id\":1,\"name\":\"Alpha\"}\n{\"id\":2,\"name\":\"Beta\"}\n");
+    }
+
+    @Test
+    @DisplayName("lines match the comparison item layout, including specification keys")
+    void write_sameLayoutAsComparison() throws IOException {
+        Product product = product(1L, "Alpha");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (ProductNdjsonWriter writer = new ProductNdjsonWriter(objectMapper, out, Set.of(), Set.of("memoryGb"))) {
+            writer.write(product);
+        }
+
+        String comparison = objectMapper.writeValueAsString(
+            new ProductComparisonResponse(List.of(product), null, Set.of("memoryGb")));
+        assertThat(out.toString(StandardCharsets.UTF_8))
+            .isEqualTo(comparison.substring("{\"products\":[".length(), comparison.length() - 2) + "\n")
+            .contains("\"specifications\":{\"memoryGb\":8}");
+    }
+
+    @Test
+    @DisplayName("closing flushes buffered lines but leaves the target stream open")
+    void close_flushesAndLeavesStreamOpen() throws IOException {
+        boolean[] closed = {false};
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+        ProductNdjsonWriter writer = new ProductNdjsonWriter(objectMapper, out, EnumSet.of(ProductField.ID), null);
+        writer.write(product(1L, "Alpha"));
+
+        writer.close();
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("{\"id\":1}\n");
+        assertThat(closed[0]).isFalse();
+    }
+
+    @Test
+    @DisplayName("I/O failures while writing are rethrown unchecked")
+    void write_ioFailure_unchecked() throws IOException {
+        OutputStream failing = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("client gone");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw new IOException("client gone");
+            }
+        };
+        ProductNdjsonWriter writer = new ProductNdjsonWriter(objectMapper, failing, null, null);
+        Product large = product(1L, "x".repeat(20_000));
+
+        assertThatThrownBy(() -> writer.write(large)).isInstanceOf(UncheckedIOException.class);
+    }
+}
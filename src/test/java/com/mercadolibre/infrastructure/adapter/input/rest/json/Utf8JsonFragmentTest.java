@@ -0,0 +1,58 @@
+package com.mercadolibre.infrastructure.adapter.input.rest.json;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Utf8JsonFragment")
+class Utf8JsonFragmentTest {
+
+    private static final String JSON = "{\"name\":\"C\u00e1mara\"}";
+
+    private final Utf8JsonFragment fragment = new Utf8JsonFragment(JSON.getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    @DisplayName("unquoted forms copy the encoded bytes, or report -1 when the target is too small")
+    void unquoted() throws Exception {
+        byte[] bytes = new byte[64];
+        char[] chars = new char[64];
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+
+        assertThat(fragment.getValue()).isEqualTo(JSON);
+        assertThat(fragment.charLength()).isEqualTo(JSON.length());
+        assertThat(fragment.byteLength()).isEqualTo(JSON.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(fragment.asUnquotedUTF8()).isEqualTo(JSON.getBytes(StandardCharsets.UTF_8));
+        assertThat(fragment.appendUnquotedUTF8(bytes, 1)).isEqualTo(fragment.byteLength());
+        assertThat(fragment.appendUnquoted(chars, 1)).isEqualTo(JSON.length());
+        assertThat(new String(chars, 1, JSON.length())).isEqualTo(JSON);
+        assertThat(fragment.writeUnquotedUTF8(out)).isEqualTo(fragment.byteLength());
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(JSON);
+        assertThat(fragment.putUnquotedUTF8(buffer)).isEqualTo(fragment.byteLength());
+
+        assertThat(fragment.appendUnquotedUTF8(new byte[4], 0)).isEqualTo(-1);
+        assertThat(fragment.appendUnquoted(new char[4], 0)).isEqualTo(-1);
+        assertThat(fragment.putUnquotedUTF8(ByteBuffer.allocate(4))).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("quoted forms match a SerializedString of the same text")
+    void quoted() throws Exception {
+        SerializedString expected = new SerializedString(JSON);
+
+        assertThat(fragment.asQuotedChars()).isEqualTo(expected.asQuotedChars());
+        assertThat(fragment.asQuotedUTF8()).isEqualTo(expected.asQuotedUTF8());
+        assertThat(fragment.appendQuotedUTF8(new byte[64], 0)).isEqualTo(expected.appendQuotedUTF8(new byte[64], 0));
+        assertThat(fragment.appendQuoted(new char[64], 0)).isEqualTo(expected.appendQuoted(new char[64], 0));
+        assertThat(fragment.writeQuotedUTF8(new ByteArrayOutputStream()))
+            .isEqualTo(expected.writeQuotedUTF8(new ByteArrayOutputStream()));
+        assertThat(fragment.putQuotedUTF8(ByteBuffer.allocate(64)))
+            .isEqualTo(expected.putQuotedUTF8(ByteBuffer.allocate(64)));
+    }
+}
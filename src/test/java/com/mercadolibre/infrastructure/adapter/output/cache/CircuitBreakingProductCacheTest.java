@@ -0,0 +1,187 @@
+package com.mercadolibre.infrastructure.adapter.output.cache;
+
+import com.mercadolibre.application.port.output.ProductCache;
+import com.mercadolibre.domain.model.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CircuitBreakingProductCache")
+class CircuitBreakingProductCacheTest {
+
+    private static final List<Long> IDS = List.of(1L);
+
+    @Mock
+    private ProductCache delegate;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final ScheduledExecutorService prober = mock(ScheduledExecutorService.class);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CircuitBreakingProductCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new CircuitBreakingProductCache(delegate, 10, 4, 0.5, 0.9, Duration.ofMillis(100),
+            Duration.ofSeconds(1), 2, meterRegistry, clock::get, prober);
+    }
+
+    @Test
+    @DisplayName("stays closed while the delegate is fast and healthy")
+    void getAll_healthyDelegate_staysClosed() {
+        Product p1 = Product.builder().id(1L).build();
+        when(delegate.getAll(IDS)).thenReturn(Map.of(1L, p1));
+        when(delegate.isAvailable()).thenReturn(true);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(cache.getAll(IDS)).containsEntry(1L, p1);
+        }
+
+        assertThat(cache.isOpen()).isFalse();
+        assertThat(cache.isAvailable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("lookup failures are misses and open the breaker at the failure rate")
+    void getAll_failures_openBreaker() {
+        when(delegate.getAll(IDS)).thenThrow(new IllegalStateException("redis down"));
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(cache.getAll(IDS)).isEmpty();
+        }
+
+        assertThat(cache.isOpen()).isTrue();
+        assertThat(cache.isAvailable()).isFalse();
+        assertThat(meterRegistry.get("product.cache.breaker.transitions").tag("state", "open").counter().count())
+            .isEqualTo(1);
+        verify(prober).schedule(any(Runnable.class), eq(Duration.ofSeconds(1).toNanos()), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    @DisplayName("opens when the latency percentile exceeds the slow-call threshold")
+    void getAll_slowCalls_openBreaker() {
+        when(delegate.getAll(IDS)).thenAnswer(invocation -> {
+            clock.addAndGet(Duration.ofMillis(150).toNanos());
+            return Map.of();
+        });
+
+        for (int i = 0; i < 4; i++) {
+            cache.getAll(IDS);
+        }
+
+        assertThat(cache.isOpen()).isTrue();
+        assertThat(meterRegistry.get("product.cache.breaker.open").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("while open, calls bypass the delegate")
+    void open_bypassesDelegate() {
+        when(delegate.getAll(IDS)).thenThrow(new IllegalStateException("redis down"));
+        for (int i = 0; i < 4; i++) {
+            cache.getAll(IDS);
+        }
+
+        cache.getAll(IDS);
+        cache.putAll(List.of(Product.builder().id(1L).build()));
+
+        verify(delegate, times(4)).getAll(IDS);
+        verify(delegate, never()).putAll(any());
+        assertThat(meterRegistry.get("product.cache.breaker.bypassed").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("closes after consecutive healthy probes")
+    void probe_healthy_closesBreaker() {
+        when(delegate.getAll(IDS)).thenThrow(new IllegalStateException("redis down"));
+        for (int i = 0; i < 4; i++) {
+            cache.getAll(IDS);
+        }
+        when(delegate.getAll(List.of(CircuitBreakingProductCache.PROBE_ID))).thenReturn(Map.of());
+
+        cache.probe();
+        assertThat(cache.isOpen()).isTrue();
+        cache.probe();
+
+        assertThat(cache.isOpen()).isFalse();
+        assertThat(meterRegistry.get("product.cache.breaker.transitions").tag("state", "closed").counter().count())
+            .isEqualTo(1);
+        verify(prober, times(2)).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    @DisplayName("a failed probe resets the consecutive successes")
+    void probe_failure_keepsBreakerOpen() {
+        when(delegate.getAll(IDS)).thenThrow(new IllegalStateException("redis down"));
+        for (int i = 0; i < 4; i++) {
+            cache.getAll(IDS);
+        }
+        when(delegate.getAll(List.of(CircuitBreakingProductCache.PROBE_ID)))
+            .thenReturn(Map.of())
+            .thenThrow(new IllegalStateException("still down"))
+            .thenReturn(Map.of());
+
+        cache.probe();
+        cache.probe();
+        cache.probe();
+
+        assertThat(cache.isOpen()).isTrue();
+    }
+
+    @Test
+    @DisplayName("write failures are recorded and rethrown")
+    void putAll_failure_rethrown() {
+        List<Product> products = List.of(Product.builder().id(1L).build());
+        doThrow(new IllegalStateException("redis down")).when(delegate).putAll(products);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> cache.putAll(products)).isInstanceOf(IllegalStateException.class);
+        }
+        assertThat(cache.isOpen()).isFalse();
+        assertThatThrownBy(() -> cache.putAll(products)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.isOpen()).isTrue();
+        cache.close();
+        verify(prober).shutdownNow();
+    }
+
+    @Test
+    @DisplayName("evictions reach the delegate even while open")
+    void evictAll_whileOpen_delegates() {
+        when(delegate.getAll(IDS)).thenThrow(new IllegalStateException("redis down"));
+        for (int i = 0; i < 4; i++) {
+            cache.getAll(IDS);
+        }
+        assertThat(cache.isOpen()).isTrue();
+
+        cache.evictAll(IDS);
+
+        verify(delegate).evictAll(IDS);
+    }
+}
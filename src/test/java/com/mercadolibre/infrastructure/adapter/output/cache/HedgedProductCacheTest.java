@@ -0,0 +1,176 @@
+package com.mercadolibre.infrastructure.adapter.output.cache;
+
+import com.mercadolibre.application.port.output.ProductCache;
+import com.mercadolibre.application.port.output.ProductRepository;
+import com.mercadolibre.domain.model.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HedgedProductCache")
+class HedgedProductCacheTest {
+
+    private static final List<Long> IDS = List.of(1L, 2L);
+
+    @Mock
+    private ProductCache delegate;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    private HedgedProductCache cache(double maxHedgeRate) {
+        return new HedgedProductCache(delegate, productRepository, 0.95, Duration.ofMillis(1),
+            Duration.ofMillis(20), maxHedgeRate, executor, meterRegistry);
+    }
+
+    private void stallDelegate() {
+        when(delegate.getAll(IDS)).thenAnswer(invocation -> {
+            release.await();
+            return Map.of();
+        });
+    }
+
+    @Test
+    @DisplayName("fast lookups are answered by the cache without touching the database")
+    void getAll_fastCache_noHedge() {
+        Product p1 = Product.builder().id(1L).build();
+        when(delegate.getAll(IDS)).thenReturn(Map.of(1L, p1));
+
+        assertThat(cache(1.0).getAll(IDS)).containsExactlyEntriesOf(Map.of(1L, p1));
+        verify(productRepository, never()).findByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("a stalled lookup is raced against the database, which wins")
+    void getAll_stalledCache_databaseWins() {
+        Product p1 = Product.builder().id(1L).build();
+        Product p2 = Product.builder().id(2L).build();
+        stallDelegate();
+        when(productRepository.findByIdIn(IDS)).thenReturn(List.of(p1, p2));
+
+        Map<Long, Product> found = cache(1.0).getAll(IDS);
+
+        assertThat(found).containsOnlyKeys(1L, 2L);
+        assertThat(meterRegistry.get("product.cache.hedges").tag("result", "database").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("without hedge tokens, a stalled lookup waits for the cache")
+    void getAll_hedgeCapped_waitsForCache() throws InterruptedException {
+        HedgedProductCache cache = cache(0);
+        stallDelegate();
+        Thread releaser = Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            release.countDown();
+        });
+
+        assertThat(cache.getAll(IDS)).isEmpty();
+        releaser.join();
+        verify(productRepository, never()).findByIdIn(any());
+        assertThat(meterRegistry.get("product.cache.hedges").tag("result", "capped").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("if the database fails the cache answer is still used")
+    void getAll_databaseFails_cacheAnswers() {
+        Product p1 = Product.builder().id(1L).build();
+        when(delegate.getAll(IDS)).thenAnswer(invocation -> {
+            release.await();
+            return Map.of(1L, p1);
+        });
+        when(productRepository.findByIdIn(IDS)).thenAnswer(invocation -> {
+            release.countDown();
+            throw new IllegalStateException("db down");
+        });
+
+        assertThat(cache(1.0).getAll(IDS)).containsOnlyKeys(1L);
+        assertThat(meterRegistry.get("product.cache.hedges").tag("result", "cache").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("cache failures are rethrown when there is no hedge")
+    void getAll_cacheFails_rethrown() {
+        when(delegate.getAll(IDS)).thenThrow(new IllegalStateException("redis down"));
+
+        assertThatThrownBy(() -> cache(1.0).getAll(IDS)).isInstanceOf(IllegalStateException.class)
+            .hasMessage("redis down");
+    }
+
+    @Test
+    @DisplayName("the hedge delay follows the observed latency percentile within bounds")
+    void hedgeDelay_followsObservedPercentile() {
+        AtomicLong clock = new AtomicLong();
+        when(delegate.getAll(IDS)).thenAnswer(invocation -> {
+            clock.addAndGet(Duration.ofMillis(5).toNanos());
+            return Map.of();
+        });
+        HedgedProductCache cache = new HedgedProductCache(delegate, productRepository, 0.95, Duration.ofMillis(1),
+            Duration.ofMillis(20), 1.0, Runnable::run, meterRegistry, clock::get);
+
+        assertThat(cache.hedgeDelayNanos()).isEqualTo(Duration.ofMillis(20).toNanos());
+        cache.getAll(IDS);
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        assertThat(cache.hedgeDelayNanos()).isEqualTo(Duration.ofMillis(5).toNanos());
+    }
+
+    @Test
+    @DisplayName("availability, empty lookups and writes go straight to the delegate")
+    void delegates() {
+        List<Product> products = List.of(Product.builder().id(1L).build());
+        when(delegate.isAvailable()).thenReturn(true);
+        when(delegate.getAll(List.of())).thenReturn(Map.of());
+        HedgedProductCache cache = cache(1.0);
+
+        assertThat(cache.isAvailable()).isTrue();
+        assertThat(cache.getAll(List.of())).isEmpty();
+        cache.putAll(products);
+
+        verify(delegate).putAll(products);
+    }
+}
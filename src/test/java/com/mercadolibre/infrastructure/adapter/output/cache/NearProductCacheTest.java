@@ -0,0 +1,92 @@
+package com.mercadolibre.infrastructure.adapter.output.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mercadolibre.application.port.output.ProductCache;
+import com.mercadolibre.domain.model.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NearProductCache")
+class NearProductCacheTest {
+
+    @Mock
+    private ProductCache remote;
+
+    private Cache<Long, Product> near;
+
+    private NearProductCache cache;
+
+    @BeforeEach
+    void setUp() {
+        near = Caffeine.newBuilder().maximumSize(10).build();
+        cache = new NearProductCache(near, remote);
+    }
+
+    @Test
+    @DisplayName("only ids missing from the near tier reach the remote tier, and remote hits are promoted")
+    void getAll_fetchesRemainingFromRemoteAndPromotes() {
+        Product p1 = Product.builder().id(1L).build();
+        Product p2 = Product.builder().id(2L).build();
+        near.put(1L, p1);
+        when(remote.getAll(List.of(2L, 3L))).thenReturn(Map.of(2L, p2));
+
+        var result = cache.getAll(List.of(1L, 2L, 3L));
+
+        assertThat(result).containsOnly(Map.entry(1L, p1), Map.entry(2L, p2));
+        assertThat(near.getIfPresent(2L)).isSameAs(p2);
+    }
+
+    @Test
+    @DisplayName("all near hits skip the remote tier")
+    void getAll_allNearHits_skipsRemote() {
+        Product p1 = Product.builder().id(1L).build();
+        near.put(1L, p1);
+
+        assertThat(cache.getAll(List.of(1L))).containsEntry(1L, p1);
+        verifyNoInteractions(remote);
+    }
+
+    @Test
+    @DisplayName("availability follows the remote tier")
+    void isAvailable_followsRemote() {
+        when(remote.isAvailable()).thenReturn(true);
+
+        assertThat(cache.isAvailable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("putAll writes both tiers")
+    void putAll_writesBothTiers() {
+        Product p1 = Product.builder().id(1L).build();
+
+        cache.putAll(List.of(p1));
+
+        verify(remote).putAll(List.of(p1));
+        assertThat(near.getIfPresent(1L)).isSameAs(p1);
+    }
+
+    @Test
+    @DisplayName("evictAll clears both tiers")
+    void evictAll_clearsBothTiers() {
+        near.put(1L, Product.builder().id(1L).build());
+
+        cache.evictAll(List.of(1L));
+
+        verify(remote).evictAll(List.of(1L));
+        assertThat(near.getIfPresent(1L)).isNull();
+    }
+}
@@ -0,0 +1,81 @@
+package com.mercadolibre.infrastructure.adapter.output.cache;
+
+import com.mercadolibre.application.port.output.ProductCache;
+import com.mercadolibre.domain.model.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotifyingProductCache")
+class NotifyingProductCacheTest {
+
+    @Mock
+    private ProductCache delegate;
+
+    @Mock
+    private ProductCacheWriteListener listener;
+
+    @Test
+    @DisplayName("reads and availability go straight to the delegate")
+    void reads_delegate() {
+        Product p1 = Product.builder().id(1L).build();
+        when(delegate.isAvailable()).thenReturn(true);
+        when(delegate.getAll(List.of(1L))).thenReturn(Map.of(1L, p1));
+        NotifyingProductCache cache = new NotifyingProductCache(delegate, List.of(listener));
+
+        assertThat(cache.isAvailable()).isTrue();
+        assertThat(cache.getAll(List.of(1L))).containsEntry(1L, p1);
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    @DisplayName("listeners get the written ids after the delegate stored them")
+    void putAll_notifiesAfterWrite() {
+        NotifyingProductCache cache = new NotifyingProductCache(delegate, List.of(listener));
+        List<Product> products = List.of(Product.builder().id(1L).build(), Product.builder().id(2L).build());
+
+        cache.putAll(products);
+
+        var order = inOrder(delegate, listener);
+        order.verify(delegate).putAll(products);
+        order.verify(listener).productsWritten(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("empty and failed writes do not notify")
+    void putAll_emptyOrFailed_noNotification() {
+        NotifyingProductCache cache = new NotifyingProductCache(delegate, List.of(listener));
+        cache.putAll(List.of());
+        doThrow(new IllegalStateException("redis down")).when(delegate).putAll(any());
+
+        assertThatThrownBy(() -> cache.putAll(List.of(Product.builder().id(1L).build())))
+            .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    @DisplayName("listeners get the evicted ids after the delegate evicted them")
+    void evictAll_notifiesAfterEviction() {
+        NotifyingProductCache cache = new NotifyingProductCache(delegate, List.of(listener));
+
+        cache.evictAll(List.of(1L, 2L));
+
+        var order = inOrder(delegate, listener);
+        order.verify(delegate).evictAll(List.of(1L, 2L));
+        order.verify(listener).productsWritten(List.of(1L, 2L));
+    }
+}
@@ -0,0 +1,77 @@
+package com.mercadolibre.infrastructure.adapter.output.cache;
+
+import com.mercadolibre.application.port.output.ProductCache;
+import com.mercadolibre.domain.model.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PermitLimitedProductCache")
+class PermitLimitedProductCacheTest {
+
+    @Mock
+    private ProductCache delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("delegates reads, writes and availability while permits are available")
+    void withinLimit_delegates() {
+        Product p1 = Product.builder().id(1L).build();
+        when(delegate.getAll(List.of(1L))).thenReturn(Map.of(1L, p1));
+        when(delegate.isAvailable()).thenReturn(true);
+        PermitLimitedProductCache cache = new PermitLimitedProductCache(delegate, 1, Duration.ZERO, meterRegistry);
+
+        assertThat(cache.isAvailable()).isTrue();
+        assertThat(cache.getAll(List.of(1L))).containsEntry(1L, p1);
+        cache.putAll(List.of(p1));
+
+        verify(delegate).putAll(List.of(p1));
+    }
+
+    @Test
+    @DisplayName("without a permit, lookups miss and writes are dropped")
+    void noPermit_missesAndDrops() throws Exception {
+        PermitLimitedProductCache cache = new PermitLimitedProductCache(delegate, 1, Duration.ZERO, meterRegistry);
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            inside.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(delegate).putAll(List.of());
+        Thread holder = Thread.ofVirtual().start(() -> cache.putAll(List.of()));
+        assertThat(inside.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(cache.getAll(List.of(1L))).isEmpty();
+        cache.putAll(List.of(Product.builder().id(1L).build()));
+        release.countDown();
+        holder.join();
+
+        verify(delegate).putAll(List.of());
+        verifyNoMoreInteractions(delegate);
+        assertThat(meterRegistry.get("product.cache.rejected").counter().count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,131 @@
+package com.mercadolibre.infrastructure.adapter.output.cache;
+
+import com.mercadolibre.domain.model.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisProductCacheAdapter")
+class RedisProductCacheAdapterTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RedisProductCacheAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new RedisProductCacheAdapter(redisTemplate, "product_product::", TTL, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("getAll issues a single MGET and keeps only Product hits")
+    void getAll_singleMultiGet() {
+        Product p1 = Product.builder().id(1L).name("A").build();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(List.of("product_product::1", "product_product::2", "product_product::3")))
+            .thenReturn(Arrays.asList(p1, null, "unexpected"));
+
+        var result = adapter.getAll(List.of(1L, 2L, 3L));
+
+        assertThat(result).containsOnlyKeys(1L).containsEntry(1L, p1);
+        assertThat(meterRegistry.get("cache.gets").tag("tier", "redis").tag("result", "hit").counter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("tier", "redis").tag("result", "miss").counter().count())
+            .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("getAll with no ids does not touch Redis")
+    void getAll_empty_noRoundTrip() {
+        assertThat(adapter.isAvailable()).isTrue();
+        assertThat(adapter.getAll(List.of())).isEmpty();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("putAll writes every product with the configured TTL in one pipeline")
+    @SuppressWarnings("unchecked")
+    void putAll_writesPipelinedWithTtl() {
+        Product p1 = Product.builder().id(1L).build();
+        Product p2 = Product.builder().id(2L).build();
+        StringRedisSerializer keySerializer = new StringRedisSerializer();
+        GenericJackson2JsonRedisSerializer valueSerializer = new GenericJackson2JsonRedisSerializer();
+        when(redisTemplate.getStringSerializer()).thenReturn(keySerializer);
+        doReturn(valueSerializer).when(redisTemplate).getValueSerializer();
+
+        adapter.putAll(List.of(p1, p2));
+
+        ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisTemplate).executePipelined(callback.capture());
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        callback.getValue().doInRedis(connection);
+        verify(stringCommands).set(aryEq(keySerializer.serialize("product_product::1")),
+            aryEq(valueSerializer.serialize(p1)),
+            argThat(expiration -> expiration.getExpirationTimeInMilliseconds() == TTL.toMillis()),
+            eq(RedisStringCommands.SetOption.upsert()));
+        verify(stringCommands).set(aryEq(keySerializer.serialize("product_product::2")),
+            aryEq(valueSerializer.serialize(p2)),
+            argThat(expiration -> expiration.getExpirationTimeInMilliseconds() == TTL.toMillis()),
+            eq(RedisStringCommands.SetOption.upsert()));
+    }
+
+    @Test
+    @DisplayName("putAll with no products does not touch Redis")
+    void putAll_empty_noRoundTrip() {
+        adapter.putAll(List.of());
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("evictAll deletes the keys in one command")
+    void evictAll_deletesKeys() {
+        adapter.evictAll(List.of(1L, 2L));
+
+        verify(redisTemplate).delete(List.of("product_product::1", "product_product::2"));
+    }
+
+    @Test
+    @DisplayName("evictAll with no ids does not touch Redis")
+    void evictAll_empty_noRoundTrip() {
+        adapter.evictAll(List.of());
+        verifyNoInteractions(redisTemplate);
+    }
+}
@@ -0,0 +1,60 @@
+package com.mercadolibre.infrastructure.adapter.output.cache;
+
+import com.mercadolibre.domain.model.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SpringCacheProductCacheAdapter")
+class SpringCacheProductCacheAdapterTest {
+
+    @Test
+    @DisplayName("looks up and stores products per key")
+    void roundTrip() {
+        SpringCacheProductCacheAdapter adapter =
+            new SpringCacheProductCacheAdapter(new ConcurrentMapCacheManager("product"));
+        Product p1 = Product.builder().id(1L).build();
+
+        adapter.putAll(List.of(p1));
+
+        assertThat(adapter.isAvailable()).isTrue();
+        assertThat(adapter.getAll(List.of(1L, 2L))).containsOnlyKeys(1L).containsEntry(1L, p1);
+    }
+
+    @Test
+    @DisplayName("never caches when the product cache is not configured")
+    void missingCache_neverCaches() {
+        SpringCacheProductCacheAdapter adapter =
+            new SpringCacheProductCacheAdapter(new ConcurrentMapCacheManager("other"));
+
+        adapter.putAll(List.of(Product.builder().id(1L).build()));
+
+        assertThat(adapter.isAvailable()).isFalse();
+        assertThat(adapter.getAll(List.of(1L))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("a no-op cache manager is reported as unavailable")
+    void noOpCache_unavailable() {
+        SpringCacheProductCacheAdapter adapter = new SpringCacheProductCacheAdapter(new NoOpCacheManager());
+
+        assertThat(adapter.isAvailable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("evicts products per key")
+    void evictAll_removesEntries() {
+        SpringCacheProductCacheAdapter adapter =
+            new SpringCacheProductCacheAdapter(new ConcurrentMapCacheManager("product"));
+        adapter.putAll(List.of(Product.builder().id(1L).build(), Product.builder().id(2L).build()));
+
+        adapter.evictAll(List.of(1L));
+
+        assertThat(adapter.getAll(List.of(1L, 2L))).containsOnlyKeys(2L);
+    }
+}
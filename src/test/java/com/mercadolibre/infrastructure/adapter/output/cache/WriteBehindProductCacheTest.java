@@ -0,0 +1,282 @@
+package com.mercadolibre.infrastructure.adapter.output.cache;
+
+import com.mercadolibre.application.port.output.ProductCache;
+import com.mercadolibre.application.port.output.ProductRepository;
+import com.mercadolibre.application.service.CoalescingProductLoader;
+import com.mercadolibre.application.service.ComparisonMetrics;
+import com.mercadolibre.domain.model.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WriteBehindProductCache")
+class WriteBehindProductCacheTest {
+
+    private static final Duration FENCE = Duration.ofSeconds(10);
+
+    @Mock
+    private ProductCache delegate;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("reads and availability go straight to the delegate")
+    void getAll_delegates() {
+        Product p1 = Product.builder().id(1L).build();
+        when(delegate.getAll(List.of(1L))).thenReturn(Map.of(1L, p1));
+        when(delegate.isAvailable()).thenReturn(true);
+        WriteBehindProductCache cache = new WriteBehindProductCache(delegate, 10, 10, FENCE, meterRegistry);
+
+        assertThat(cache.isAvailable()).isTrue();
+        assertThat(cache.getAll(List.of(1L))).containsEntry(1L, p1);
+        cache.close();
+    }
+
+    @Test
+    @DisplayName("writes are flushed to the delegate in batches on the writer thread")
+    void putAll_flushesInBatches() {
+        Product p1 = Product.builder().id(1L).build();
+        Product p2 = Product.builder().id(2L).build();
+        Product p3 = Product.builder().id(3L).build();
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        WriteBehindProductCache cache = new WriteBehindProductCache(delegate, 10, 2, FENCE, meterRegistry,
+            writer, nanos::get);
+
+        cache.putAll(List.of(p1, p2, p3));
+        cache.close();
+
+        verify(delegate).putAll(List.of(p1, p2));
+        verify(delegate).putAll(List.of(p3));
+        assertThat(meterRegistry.get("product.cache.writes").tag("result", "written").counter().count())
+            .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("products that do not fit in the queue are dropped")
+    void putAll_queueFull_drops() {
+        ExecutorService idleWriter = mock(ExecutorService.class);
+        WriteBehindProductCache cache = new WriteBehindProductCache(delegate, 1, 10, FENCE, meterRegistry,
+            idleWriter, nanos::get);
+
+        cache.putAll(List.of(Product.builder().id(1L).build(), Product.builder().id(2L).build()));
+
+        assertThat(meterRegistry.get("product.cache.writes").tag("result", "dropped").counter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("product.cache.write.queue").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("delegate failures are counted and do not stop the writer")
+    void putAll_delegateFails_counted() {
+        doThrow(new IllegalStateException("redis down")).when(delegate).putAll(any());
+        WriteBehindProductCache cache = new WriteBehindProductCache(delegate, 10, 10, FENCE, meterRegistry,
+            Executors.newSingleThreadExecutor(), nanos::get);
+
+        cache.putAll(List.of(Product.builder().id(1L).build()));
+        cache.close();
+
+        assertThat(meterRegistry.get("product.cache.writes").tag("result", "failed").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("writes after close are not flushed")
+    void putAll_afterClose_notFlushed() {
+        WriteBehindProductCache cache = new WriteBehindProductCache(delegate, 10, 10, FENCE, meterRegistry,
+            Executors.newSingleThreadExecutor(), nanos::get);
+        cache.close();
+
+        cache.putAll(List.of(Product.builder().id(1L).build()));
+
+        assertThat(meterRegistry.get("product.cache.write.queue").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("evictAll drops queued writes for the ids and evicts synchronously")
+    void evictAll_dropsQueuedWrites() {
+        ExecutorService idleWriter = mock(ExecutorService.class);
+        WriteBehindProductCache cache = new WriteBehindProductCache(delegate, 10, 10, FENCE, meterRegistry,
+            idleWriter, nanos::get);
+        cache.putAll(List.of(Product.builder().id(1L).build(), Product.builder().id(2L).build()));
+
+        cache.evictAll(List.of(1L));
+
+        verify(delegate).evictAll(List.of(1L));
+        assertThat(meterRegistry.get("product.cache.write.queue").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("evictAll waits for the batch being written and evicts after it lands")
+    void evictAll_waitsForInFlightBatch() throws Exception {
+        Product p1 = Product.builder().id(1L).build();
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return null;
+        }).when(delegate).putAll(any());
+        WriteBehindProductCache cache = new WriteBehindProductCache(delegate, 10, 10, FENCE, meterRegistry,
+            Executors.newSingleThreadExecutor(), nanos::get);
+        cache.putAll(List.of(p1));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Void> eviction = CompletableFuture.runAsync(() -> cache.evictAll(List.of(1L)));
+        try {
+            assertThatThrownBy(() -> eviction.get(200, TimeUnit.MILLISECONDS))
+                .isInstanceOf(TimeoutException.class);
+            verify(delegate, never()).evictAll(any());
+        } finally {
+            release.countDown();
+        }
+        eviction.get(5, TimeUnit.SECONDS);
+        InOrder inOrder = inOrder(delegate);
+        inOrder.verify(delegate).putAll(List.of(p1));
+        inOrder.verify(delegate).evictAll(List.of(1L));
+        cache.close();
+    }
+
+    @Test
+    @DisplayName("a product loaded before an eviction is not cached after it until the fence expires")
+    void putAll_afterEviction_fenced() {
+        Product outdated = Product.builder().id(1L).price(new BigDecimal("10.00")).build();
+        Product current = Product.builder().id(1L).price(new BigDecimal("12.00")).build();
+        WriteBehindProductCache cache = new WriteBehindProductCache(delegate, 10, 10, FENCE, meterRegistry,
+            Executors.newSingleThreadExecutor(), nanos::get);
+        CoalescingProductLoader loader = new CoalescingProductLoader(productRepository, cache,
+            new ComparisonMetrics(meterRegistry), meterRegistry);
+        when(productRepository.findByIdIn(List.of(1L))).thenAnswer(invocation -> {
+            // the update commits and its eviction runs while this load still holds the old row
+            cache.evictAll(List.of(1L));
+            return List.of(outdated);
+        });
+
+        assertThat(loader.load(List.of(1L))).containsEntry(1L, outdated);
+        nanos.addAndGet(FENCE.plusMillis(1).toNanos());
+        cache.putAll(List.of(current));
+        cache.close();
+
+        InOrder inOrder = inOrder(delegate);
+        inOrder.verify(delegate).evictAll(List.of(1L));
+        inOrder.verify(delegate).putAll(List.of(current));
+        verify(delegate, never()).putAll(List.of(outdated));
+        assertThat(meterRegistry.get("product.cache.writes").tag("result", "fenced").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("queued products are served by lookups until written, and evictions drop them")
+    void getAll_servesQueuedProducts() {
+        Product p1 = Product.builder().id(1L).build();
+        Product p2 = Product.builder().id(2L).build();
+        ExecutorService idleWriter = mock(ExecutorService.class);
+        WriteBehindProductCache cache = new WriteBehindProductCache(delegate, 10, 10, FENCE, meterRegistry,
+            idleWriter, nanos::get);
+        when(delegate.getAll(List.of(2L))).thenReturn(Map.of(2L, p2));
+
+        cache.putAll(List.of(p1));
+
+        assertThat(cache.getAll(List.of(1L, 2L))).containsEntry(1L, p1).containsEntry(2L, p2);
+        cache.evictAll(List.of(1L));
+        when(delegate.getAll(List.of(1L))).thenReturn(Map.of());
+        assertThat(cache.getAll(List.of(1L))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("written products are read from the delegate again and each batch write is timed")
+    void getAll_afterFlush_delegates() {
+        Product p1 = Product.builder().id(1L).build();
+        WriteBehindProductCache cache = new WriteBehindProductCache(delegate, 10, 10, FENCE, meterRegistry,
+            Executors.newSingleThreadExecutor(), nanos::get);
+        cache.putAll(List.of(p1));
+        cache.close();
+        when(delegate.getAll(List.of(1L))).thenReturn(Map.of());
+
+        assertThat(cache.getAll(List.of(1L))).isEmpty();
+        assertThat(meterRegistry.get("product.cache.write.batch").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("a miss right after a coalesced load is served by the cache instead of the database")
+    void load_thenMiss_servedWhileWritePending() {
+        Product p1 = Product.builder().id(1L).build();
+        ExecutorService idleWriter = mock(ExecutorService.class);
+        WriteBehindProductCache cache = new WriteBehindProductCache(delegate, 10, 10, FENCE, meterRegistry,
+            idleWriter, nanos::get);
+        CoalescingProductLoader loader = new CoalescingProductLoader(productRepository, cache,
+            new ComparisonMetrics(meterRegistry), meterRegistry);
+        when(productRepository.findByIdIn(List.of(1L))).thenReturn(List.of(p1));
+
+        loader.load(List.of(1L));
+
+        assertThat(cache.getAll(List.of(1L))).containsEntry(1L, p1);
+        verify(productRepository).findByIdIn(List.of(1L));
+        verify(delegate, never()).getAll(any());
+    }
+
+    @Test
+    @DisplayName("flush waits until queued products are written, or reports the timeout")
+    void flush_waitsForQueuedWrites() throws Exception {
+        Product p1 = Product.builder().id(1L).build();
+        Product p2 = Product.builder().id(2L).build();
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(delegate).putAll(List.of(p2));
+        WriteBehindProductCache cache = new WriteBehindProductCache(delegate, 10, 10, FENCE, meterRegistry,
+            Executors.newSingleThreadExecutor(), nanos::get);
+
+        cache.putAll(List.of(p1));
+        assertThat(cache.flush(Duration.ofSeconds(5))).isTrue();
+        verify(delegate).putAll(List.of(p1));
+
+        cache.putAll(List.of(p2));
+        try {
+            assertThat(cache.flush(Duration.ofMillis(50))).isFalse();
+        } finally {
+            release.countDown();
+        }
+        assertThat(cache.flush(Duration.ofSeconds(5))).isTrue();
+        cache.close();
+    }
+}
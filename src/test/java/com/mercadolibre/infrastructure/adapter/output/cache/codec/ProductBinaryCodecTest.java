@@ -0,0 +1,109 @@
+package com.mercadolibre.infrastructure.adapter.output.cache.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.domain.model.ProductType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProductBinaryCodec")
+class ProductBinaryCodecTest {
+
+    private final ProductBinaryCodec codec = new ProductBinaryCodec(new ObjectMapper());
+
+    @Test
+    @DisplayName("round-trips every field and specification value type")
+    void encodeDecode_roundTrip() {
+        Map<String, Object> specifications = new HashMap<>();
+        specifications.put("brand", "Samsung");
+        specifications.put("memoryGb", 8);
+        specifications.put("serial", 12_345_678_901L);
+        specifications.put("screenInches", 6.1);
+        specifications.put("dualSim", true);
+        specifications.put("esim", false);
+        specifications.put("notes", null);
+        specifications.put("cameraSpecs", Map.of("mainMp", 50));
+        Product product = Product.builder()
+            .id(1L)
+            .name("Samsung Galaxy S24")
+            .description("Smartphone con pantalla Dynamic AMOLED")
+            .price(new BigDecimal("899.99"))
+            .size("147 x 70.6 x 7.6 mm")
+            .weight("167 g")
+            .color("Negro")
+            .imageUrl("https://example.com/s24.png")
+            .rating(new BigDecimal("4.5"))
+            .productType(ProductType.SMARTPHONE)
+            .specifications(specifications)
+            .build();
+
+        byte[] bytes = codec.encode(product);
+        Product decoded = codec.decode(bytes);
+
+        assertThat(ProductBinaryCodec.isBinary(bytes)).isTrue();
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(product);
+    }
+
+    @Test
+    @DisplayName("absent fields stay null and empty specifications decode as an empty map")
+    void encodeDecode_nullFields() {
+        Product product = Product.builder().id(-3L).productType(null).specifications(null).build();
+
+        Product decoded = codec.decode(codec.encode(product));
+
+        assertThat(decoded.getId()).isEqualTo(-3L);
+        assertThat(decoded.getName()).isNull();
+        assertThat(decoded.getPrice()).isNull();
+        assertThat(decoded.getProductType()).isNull();
+        assertThat(decoded.getSpecifications()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("is smaller than the JSON written by the previous serializer")
+    void encode_smallerThanJson() {
+        Product product = Product.builder()
+            .id(3L)
+            .name("Auriculares Bluetooth")
+            .price(new BigDecimal("59.90"))
+            .rating(new BigDecimal("4.2"))
+            .build();
+        byte[] json = new GenericJackson2JsonRedisSerializer().serialize(product);
+
+        assertThat(codec.encode(product).length).isLessThan(json.length / 2);
+    }
+
+    @Test
+    @DisplayName("rejects decimals that do not fit a scaled long")
+    void encode_decimalOutOfRange_throws() {
+        Product product = Product.builder().id(1L).price(new BigDecimal("1e30").setScale(2)).build();
+
+        assertThatThrownBy(() -> codec.encode(product)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("rejects unknown versions, non-binary input and truncated entries")
+    void decode_invalid_throws() {
+        byte[] bytes = codec.encode(Product.builder().id(1L).name("Producto").build());
+        byte[] futureVersion = bytes.clone();
+        futureVersion[1] = 2;
+
+        assertThatThrownBy(() -> codec.decode(futureVersion))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("version");
+        assertThatThrownBy(() -> codec.decode("{}".getBytes()))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.decode(Arrays.copyOf(bytes, bytes.length - 3)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(ProductBinaryCodec.isBinary(null)).isFalse();
+        assertThat(bytes[0]).isEqualTo(ProductBinaryCodec.MAGIC);
+    }
+}
@@ -0,0 +1,79 @@
+package com.mercadolibre.infrastructure.adapter.output.cache.codec;
+
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.domain.model.ProductType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProductRedisSerializer")
+class ProductRedisSerializerTest {
+
+    private static Product product() {
+        return Product.builder()
+            .id(1L)
+            .name("Samsung Galaxy S24")
+            .price(new BigDecimal("899.99"))
+            .productType(ProductType.SMARTPHONE)
+            .specifications(new HashMap<>(Map.of("brand", "Samsung")))
+            .build();
+    }
+
+    @Test
+    @DisplayName("binary format writes products with the binary codec and reads them back")
+    void binary_roundTrip() {
+        ProductRedisSerializer serializer = new ProductRedisSerializer(ProductRedisSerializer.Format.BINARY);
+
+        byte[] bytes = serializer.serialize(product());
+
+        assertThat(ProductBinaryCodec.isBinary(bytes)).isTrue();
+        assertThat(serializer.deserialize(bytes)).usingRecursiveComparison().isEqualTo(product());
+    }
+
+    @Test
+    @DisplayName("binary format still reads entries written by the JSON serializer")
+    void binary_readsLegacyJson() {
+        byte[] legacy = new GenericJackson2JsonRedisSerializer().serialize(product());
+        ProductRedisSerializer serializer = new ProductRedisSerializer(ProductRedisSerializer.Format.BINARY);
+
+        assertThat(serializer.deserialize(legacy)).usingRecursiveComparison().isEqualTo(product());
+    }
+
+    @Test
+    @DisplayName("json format writes JSON but still reads binary entries")
+    void json_writesJsonReadsBinary() {
+        ProductRedisSerializer json = new ProductRedisSerializer(ProductRedisSerializer.Format.JSON);
+        byte[] binary = new ProductRedisSerializer(ProductRedisSerializer.Format.BINARY).serialize(product());
+
+        assertThat(ProductBinaryCodec.isBinary(json.serialize(product()))).isFalse();
+        assertThat(json.deserialize(binary)).usingRecursiveComparison().isEqualTo(product());
+    }
+
+    @Test
+    @DisplayName("values that are not products and empty entries use the JSON serializer")
+    void nonProductValues_useJson() {
+        ProductRedisSerializer serializer = new ProductRedisSerializer(ProductRedisSerializer.Format.BINARY);
+
+        assertThat(serializer.deserialize(serializer.serialize("plain"))).isEqualTo("plain");
+        assertThat(serializer.deserialize(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("codec failures surface as SerializationException")
+    void codecFailures_wrapped() {
+        ProductRedisSerializer serializer = new ProductRedisSerializer(ProductRedisSerializer.Format.BINARY);
+        Product tooPrecise = Product.builder().id(1L).price(new BigDecimal("1e30").setScale(2)).build();
+
+        assertThatThrownBy(() -> serializer.serialize(tooPrecise)).isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> serializer.deserialize(new byte[] {ProductBinaryCodec.MAGIC, 9}))
+            .isInstanceOf(SerializationException.class);
+    }
+}
@@ -0,0 +1,184 @@
+package com.mercadolibre.infrastructure.adapter.output.facet;
+
+import com.mercadolibre.application.port.input.FacetFilter;
+import com.mercadolibre.application.port.input.FacetFilter.Operator;
+import com.mercadolibre.application.port.input.ProductFacets;
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.domain.model.ProductType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BitmapFacetIndex")
+class BitmapFacetIndexTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BitmapFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new BitmapFacetIndex(meterRegistry);
+        index.index(List.of(
+            smartphone(1L, Map.of("brand", "Alpha", "memoryGb", 8, "storageGb", 128)),
+            smartphone(2L, Map.of("brand", "Beta", "memoryGb", 12, "storageGb", 256)),
+            smartphone(3L, Map.of("brand", "Alpha", "memoryGb", 4, "storageGb", 64)),
+            generic(4L, Map.of("brand", "Gamma"))));
+    }
+
+    @Test
+    @DisplayName("counts every attribute of the type without filters, numbers first in numeric order")
+    void count_allAttributes() {
+        ProductFacets facets = index.count(ProductType.SMARTPHONE, List.of(), null);
+
+        assertThat(facets.total()).isEqualTo(3);
+        assertThat(facets.counts()).containsOnlyKeys("brand", "memoryGb", "storageGb");
+        assertThat(facets.counts().get("brand")).containsExactly(Map.entry("Alpha", 2L), Map.entry("Beta", 1L));
+        assertThat(facets.counts().get("memoryGb"))
+            .containsExactly(Map.entry("4", 1L), Map.entry("8", 1L), Map.entry("12", 1L));
+    }
+
+    @Test
+    @DisplayName("range filters intersect before counting")
+    void count_rangeFilter() {
+        ProductFacets facets = index.count(ProductType.SMARTPHONE,
+            List.of(new FacetFilter("memoryGb", Operator.GTE, List.of("8"))), attributes("brand"));
+
+        assertThat(facets.total()).isEqualTo(2);
+        assertThat(facets.counts()).containsExactly(Map.entry("brand", Map.of("Alpha", 1L, "Beta", 1L)));
+
+        assertThat(index.count(ProductType.SMARTPHONE,
+            List.of(new FacetFilter("memoryGb", Operator.GT, List.of("8.0"))), null).total()).isEqualTo(1);
+        assertThat(index.count(ProductType.SMARTPHONE,
+            List.of(new FacetFilter("storageGb", Operator.LT, List.of("128"))), null).total()).isEqualTo(1);
+        assertThat(index.count(ProductType.SMARTPHONE,
+            List.of(new FacetFilter("storageGb", Operator.LTE, List.of("128"))), null).total()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("equality filters accept alternatives and combine with other filters")
+    void count_equalityFilters() {
+        ProductFacets facets = index.count(ProductType.SMARTPHONE, List.of(
+            new FacetFilter("brand", Operator.EQ, List.of("Alpha", "Beta", "Omega")),
+            new FacetFilter("storageGb", Operator.LTE, List.of("128"))), attributes("memoryGb", "color"));
+
+        assertThat(facets.total()).isEqualTo(2);
+        assertThat(facets.counts().get("memoryGb")).containsExactly(Map.entry("4", 1L), Map.entry("8", 1L));
+        assertThat(facets.counts().get("color")).isEmpty();
+        assertThat(index.count(ProductType.SMARTPHONE,
+            List.of(new FacetFilter("memoryGb", Operator.EQ, List.of("12"))), null).total()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("filters on unknown attributes or non-numeric ranges match nothing")
+    void count_unmatchedFilters() {
+        ProductFacets facets = index.count(ProductType.SMARTPHONE,
+            List.of(new FacetFilter("weightKg", Operator.EQ, List.of("1"))), attributes("brand"));
+
+        assertThat(facets.total()).isZero();
+        assertThat(facets.counts()).containsExactly(Map.entry("brand", Map.of()));
+        assertThat(index.count(ProductType.SMARTPHONE,
+            List.of(new FacetFilter("brand", Operator.GT, List.of("Alpha"))), null).total()).isZero();
+    }
+
+    @Test
+    @DisplayName("types are counted separately and an unindexed type has no products")
+    void count_perType() {
+        assertThat(index.count(ProductType.GENERIC, List.of(), null).counts())
+            .containsExactly(Map.entry("brand", Map.of("Gamma", 1L)));
+
+        BitmapFacetIndex empty = new BitmapFacetIndex(new SimpleMeterRegistry());
+        ProductFacets facets = empty.count(ProductType.SMARTPHONE, List.of(), attributes("brand"));
+        assertThat(facets.total()).isZero();
+        assertThat(facets.counts()).containsExactly(Map.entry("brand", Map.of()));
+        assertThat(empty.count(ProductType.SMARTPHONE, List.of(), null).counts()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("list values count per element; numeric strings, booleans and nested objects are handled")
+    void index_valueKinds() {
+        index.index(List.of(smartphone(5L, Map.of(
+            "bands", List.of("5G", "LTE", "LTE"),
+            "memoryGb", "8",
+            "dualSim", true,
+            "camera", Map.of("mp", 50)))));
+
+        ProductFacets facets = index.count(ProductType.SMARTPHONE, List.of(), attributes("bands", "memoryGb",
+            "dualSim", "camera"));
+
+        assertThat(facets.counts().get("bands")).containsExactly(Map.entry("5G", 1L), Map.entry("LTE", 1L));
+        assertThat(facets.counts().get("memoryGb")).containsEntry("8", 2L);
+        assertThat(facets.counts().get("dualSim")).containsExactly(Map.entry("true", 1L));
+        assertThat(facets.counts().get("camera")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("re-indexing moves a product between values and types; removal drops empty values")
+    void indexAndRemove_update() {
+        index.index(List.of(smartphone(3L, Map.of("brand", "Beta"))));
+
+        assertThat(index.count(ProductType.SMARTPHONE, List.of(), attributes("brand", "memoryGb")).counts())
+            .containsEntry("brand", Map.of("Alpha", 1L, "Beta", 2L))
+            .containsEntry("memoryGb", Map.of("8", 1L, "12", 1L));
+
+        index.index(List.of(generic(2L, Map.of("brand", "Gamma"))));
+        index.remove(List.of(1L, 99L));
+
+        ProductFacets smartphones = index.count(ProductType.SMARTPHONE, List.of(), null);
+        assertThat(smartphones.total()).isEqualTo(1);
+        assertThat(smartphones.counts()).containsExactly(Map.entry("brand", Map.of("Beta", 1L)));
+        assertThat(index.count(ProductType.GENERIC, List.of(), null).counts())
+            .containsExactly(Map.entry("brand", Map.of("Gamma", 2L)));
+        assertThat(meterRegistry.get("product.facets.index.products").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("product.facets.index.values").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("document numbers of removed products are reused and the index grows past its initial capacity")
+    void index_reusesAndGrows() {
+        List<Product> products = new ArrayList<>();
+        for (long id = 100; id < 2100; id++) {
+            products.add(smartphone(id, Map.of("memoryGb", id % 4 == 0 ? 16 : 6)));
+        }
+        index.index(products);
+        index.remove(List.of(100L));
+        index.index(List.of(smartphone(5000L, Map.of("memoryGb", 16))));
+
+        ProductFacets facets = index.count(ProductType.SMARTPHONE,
+            List.of(new FacetFilter("memoryGb", Operator.GTE, List.of("16"))), attributes("memoryGb"));
+
+        assertThat(facets.total()).isEqualTo(500);
+        assertThat(facets.counts().get("memoryGb")).containsExactly(Map.entry("16", 500L));
+    }
+
+    @Test
+    @DisplayName("products without an id are skipped and products without a type count as generic")
+    void index_missingIdOrType() {
+        index.index(List.of(Product.builder().specifications(Map.of("brand", "Nope")).build(),
+            Product.builder().id(6L).specifications(null).build()));
+
+        assertThat(index.count(ProductType.GENERIC, List.of(), null).total()).isEqualTo(2);
+    }
+
+    private static Set<String> attributes(String... names) {
+        return new LinkedHashSet<>(List.of(names));
+    }
+
+    private static Product smartphone(long id, Map<String, Object> specifications) {
+        return Product.builder().id(id).productType(ProductType.SMARTPHONE).specifications(specifications).build();
+    }
+
+    private static Product generic(long id, Map<String, Object> specifications) {
+        return Product.builder().id(id).productType(ProductType.GENERIC).specifications(specifications).build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.mercadolibre.infrastructure.adapter.output.facet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DocumentBitmap")
+class DocumentBitmapTest {
+
+    @Test
+    @DisplayName("sparse sets keep documents in order and ignore duplicates")
+    void sparse_addRemoveContains() {
+        DocumentBitmap set = DocumentBitmap.sparse();
+        set.add(500);
+        set.add(3);
+        set.add(3);
+        set.add(70);
+
+        assertThat(set.cardinality()).isEqualTo(3);
+        assertThat(set.contains(70)).isTrue();
+        assertThat(set.contains(71)).isFalse();
+
+        set.remove(70);
+        set.remove(71);
+
+        assertThat(set.cardinality()).isEqualTo(2);
+        assertThat(set.isEmpty()).isFalse();
+        set.remove(3);
+        set.remove(500);
+        assertThat(set.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("a sparse set turns into a bitmap once that is smaller and keeps its documents")
+    void sparse_becomesBitmapWhenDense() {
+        DocumentBitmap set = DocumentBitmap.sparse();
+        for (int document = 0; document < 200; document += 2) {
+            set.add(document);
+        }
+
+        assertThat(set.cardinality()).isEqualTo(100);
+        assertThat(set.contains(198)).isTrue();
+        assertThat(set.contains(199)).isFalse();
+
+        set.remove(198);
+        set.remove(10_000);
+        assertThat(set.contains(198)).isFalse();
+        assertThat(set.contains(10_000)).isFalse();
+        assertThat(set.cardinality()).isEqualTo(99);
+    }
+
+    @Test
+    @DisplayName("intersection counts agree across array and bitmap forms")
+    void andCardinality_mixedForms() {
+        DocumentBitmap dense = DocumentBitmap.dense();
+        for (int document = 0; document < 1000; document += 3) {
+            dense.add(document);
+        }
+        DocumentBitmap sparse = DocumentBitmap.sparse();
+        sparse.add(3);
+        sparse.add(4);
+        sparse.add(999);
+        DocumentBitmap other = DocumentBitmap.sparse();
+        other.add(4);
+        other.add(5);
+
+        assertThat(dense.andCardinality(sparse)).isEqualTo(2);
+        assertThat(sparse.andCardinality(dense)).isEqualTo(2);
+        assertThat(sparse.andCardinality(other)).isEqualTo(1);
+        assertThat(dense.andCardinality(dense.copy())).isEqualTo(334);
+    }
+
+    @Test
+    @DisplayName("and/or combine a bitmap with either form in place")
+    void andOr_inPlace() {
+        DocumentBitmap result = DocumentBitmap.dense();
+        DocumentBitmap low = DocumentBitmap.sparse();
+        low.add(1);
+        low.add(2);
+        DocumentBitmap high = DocumentBitmap.dense();
+        high.add(2);
+        high.add(300);
+
+        result.or(low);
+        result.or(high);
+        assertThat(result.cardinality()).isEqualTo(3);
+
+        DocumentBitmap narrowed = result.copy();
+        narrowed.and(low);
+        assertThat(narrowed.cardinality()).isEqualTo(2);
+        assertThat(narrowed.contains(300)).isFalse();
+
+        DocumentBitmap small = DocumentBitmap.dense();
+        small.add(2);
+        result.and(small);
+        assertThat(result.cardinality()).isEqualTo(1);
+        assertThat(result.contains(2)).isTrue();
+        assertThat(result.isEmpty()).isFalse();
+        assertThat(DocumentBitmap.dense().isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("array-form sets cannot be combined in place")
+    void andOr_onSparse_rejected() {
+        DocumentBitmap sparse = DocumentBitmap.sparse();
+
+        assertThatThrownBy(() -> sparse.or(DocumentBitmap.dense())).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> sparse.and(DocumentBitmap.dense())).isInstanceOf(IllegalStateException.class);
+    }
+}
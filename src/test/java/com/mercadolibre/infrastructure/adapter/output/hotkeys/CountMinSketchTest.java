@@ -0,0 +1,50 @@
+package com.mercadolibre.infrastructure.adapter.output.hotkeys;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CountMinSketchTest {
+
+    @Test
+    void increment_estimatesNeverUndercount() {
+        CountMinSketch sketch = new CountMinSketch(64);
+        for (long key = 0; key < 500; key++) {
+            for (int i = 0; i <= key % 5; i++) {
+                sketch.increment(key);
+            }
+        }
+
+        for (long key = 0; key < 500; key++) {
+            assertThat(sketch.estimate(key)).isGreaterThanOrEqualTo(key % 5 + 1);
+        }
+    }
+
+    @Test
+    void increment_returnsNewEstimate() {
+        CountMinSketch sketch = new CountMinSketch(1024);
+
+        assertThat(sketch.increment(42L)).isEqualTo(1);
+        assertThat(sketch.increment(42L)).isEqualTo(2);
+        assertThat(sketch.estimate(42L)).isEqualTo(2);
+        assertThat(sketch.estimate(7L)).isZero();
+    }
+
+    @Test
+    void halve_agesEveryCounter() {
+        CountMinSketch sketch = new CountMinSketch(1024);
+        for (int i = 0; i < 9; i++) {
+            sketch.increment(42L);
+        }
+
+        sketch.halve();
+
+        assertThat(sketch.estimate(42L)).isEqualTo(4);
+    }
+
+    @Test
+    void constructor_rejectsNonPositiveWidth() {
+        assertThatThrownBy(() -> new CountMinSketch(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
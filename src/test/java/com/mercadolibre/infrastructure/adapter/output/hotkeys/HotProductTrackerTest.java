@@ -0,0 +1,91 @@
+package com.mercadolibre.infrastructure.adapter.output.hotkeys;
+
+import com.mercadolibre.infrastructure.adapter.output.hotkeys.HotProductTracker.HotProduct;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class HotProductTrackerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final List<List<HotProduct>> snapshots = new ArrayList<>();
+
+    private HotProductTracker tracker(int topK) {
+        return new HotProductTracker(1024, topK, Duration.ofSeconds(10), snapshots::add, clock::get,
+            mock(ScheduledExecutorService.class));
+    }
+
+    @Test
+    void hotProducts_ranksByEstimatedCountWithRate() {
+        HotProductTracker tracker = tracker(2);
+        for (int i = 0; i < 30; i++) {
+            tracker.recordAccess(List.of(1L, 2L));
+            tracker.recordAccess(List.of(2L));
+            tracker.recordAccess(List.of(3L, 4L, 5L));
+        }
+        tracker.recordAccess(List.of(5L));
+        clock.set(Duration.ofSeconds(5).toNanos());
+
+        List<HotProduct> hot = tracker.hotProducts(10);
+
+        assertThat(hot).extracting(HotProduct::id).containsExactly(2L, 5L);
+        assertThat(hot.getFirst().estimatedCount()).isEqualTo(60);
+        assertThat(hot.getFirst().ratePerSecond()).isEqualTo(12.0);
+    }
+
+    @Test
+    void hotProducts_respectsLimit() {
+        HotProductTracker tracker = tracker(10);
+        tracker.recordAccess(List.of(1L, 1L, 2L));
+
+        assertThat(tracker.hotProducts(1)).extracting(HotProduct::id).containsExactly(1L);
+    }
+
+    @Test
+    void decay_publishesSnapshotThenHalvesCounts() {
+        HotProductTracker tracker = tracker(10);
+        for (int i = 0; i < 8; i++) {
+            tracker.recordAccess(List.of(7L));
+        }
+        clock.set(Duration.ofSeconds(10).toNanos());
+
+        tracker.decay();
+
+        assertThat(snapshots).singleElement()
+            .satisfies(snapshot -> assertThat(snapshot).containsExactly(new HotProduct(7L, 8, 0.8)));
+        assertThat(tracker.hotProducts(10)).containsExactly(new HotProduct(7L, 4, 0.4));
+    }
+
+    @Test
+    void decay_listenerFailure_stillDecays() {
+        HotProductTracker tracker = new HotProductTracker(1024, 10, Duration.ofSeconds(10), hot -> {
+            throw new IllegalStateException("redis down");
+        }, clock::get, mock(ScheduledExecutorService.class));
+        tracker.recordAccess(List.of(7L, 7L));
+
+        tracker.decay();
+
+        assertThat(tracker.hotProducts(10)).extracting(HotProduct::estimatedCount).containsExactly(1L);
+    }
+
+    @Test
+    void close_stopsDecayScheduler() {
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        HotProductTracker tracker = new HotProductTracker(1024, 10, Duration.ofSeconds(10), hot -> { },
+            clock::get, scheduler);
+
+        tracker.close();
+
+        assertThat(tracker.decayPeriod()).isEqualTo(Duration.ofSeconds(10));
+        verify(scheduler).shutdownNow();
+    }
+}
@@ -0,0 +1,84 @@
+package com.mercadolibre.infrastructure.adapter.output.invalidation;
+
+import com.mercadolibre.application.port.output.ProductCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductInvalidationSubscriber")
+class ProductInvalidationSubscriberTest {
+
+    @Mock
+    private ProductCache productCache;
+
+    @Mock
+    private ProductChangeListener changeListener;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ProductInvalidationSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        subscriber = new ProductInvalidationSubscriber(productCache, List.of(changeListener), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("evicts the ids of a published message")
+    void onMessage_evictsIds() {
+        subscriber.onMessage(message("1, 2,3"), null);
+
+        verify(productCache).evictAll(List.of(1L, 2L, 3L));
+        verify(changeListener).productsChanged(List.of(1L, 2L, 3L));
+        assertThat(meterRegistry.get("product.invalidations.received").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("malformed and empty messages are ignored")
+    void onMessage_malformedOrEmpty_ignored() {
+        subscriber.onMessage(message("1,abc"), null);
+        subscriber.onMessage(message(""), null);
+
+        verifyNoInteractions(productCache, changeListener);
+    }
+
+    @Test
+    @DisplayName("a failing change listener does not stop the others")
+    void evict_listenerFails_othersStillNotified() {
+        ProductChangeListener failing = ids -> {
+            throw new IllegalStateException("boom");
+        };
+        subscriber = new ProductInvalidationSubscriber(productCache, List.of(failing, changeListener), meterRegistry);
+
+        subscriber.evict(List.of(7L));
+
+        verify(productCache).evictAll(List.of(7L));
+        verify(changeListener).productsChanged(List.of(7L));
+    }
+
+    @Test
+    @DisplayName("round-trips the publisher's encoding")
+    void decode_readsPublisherEncoding() {
+        assertThat(ProductInvalidationSubscriber.decode(RedisProductInvalidationPublisher.encode(List.of(4L, 5L))))
+            .containsExactly(4L, 5L);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage("product-invalidations".getBytes(StandardCharsets.UTF_8),
+            body.getBytes(StandardCharsets.UTF_8));
+    }
+}
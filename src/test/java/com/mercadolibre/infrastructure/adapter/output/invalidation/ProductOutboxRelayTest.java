@@ -0,0 +1,113 @@
+package com.mercadolibre.infrastructure.adapter.output.invalidation;
+
+import com.mercadolibre.infrastructure.adapter.output.persistence.adapter.ProductOutboxAdapter.OutboxWritten;
+import com.mercadolibre.infrastructure.adapter.output.persistence.entity.ProductOutboxEntity;
+import com.mercadolibre.infrastructure.adapter.output.persistence.repository.ProductOutboxJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductOutboxRelay")
+class ProductOutboxRelayTest {
+
+    @Mock
+    private ProductOutboxJpaRepository outboxRepository;
+
+    @Mock
+    private ProductInvalidationPublisher publisher;
+
+    @Mock
+    private ScheduledExecutorService executor;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ProductOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        relay = new ProductOutboxRelay(outboxRepository, transactionTemplate, publisher, 2, meterRegistry, executor);
+    }
+
+    @Test
+    @DisplayName("publishes distinct product ids batch by batch, then deletes the rows")
+    void relay_publishesThenDeletes() {
+        when(outboxRepository.findAllByOrderByIdAsc(PageRequest.ofSize(2)))
+            .thenReturn(List.of(row(1L, 7L), row(2L, 7L)))
+            .thenReturn(List.of(row(3L, 8L)));
+
+        assertThat(relay.relay()).isEqualTo(3);
+
+        var order = inOrder(publisher, outboxRepository);
+        order.verify(publisher).publish(List.of(7L));
+        order.verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        order.verify(publisher).publish(List.of(8L));
+        order.verify(outboxRepository).deleteAllByIdInBatch(List.of(3L));
+        assertThat(meterRegistry.get("product.outbox.relayed").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("an empty outbox publishes nothing")
+    void relay_empty_publishesNothing() {
+        when(outboxRepository.findAllByOrderByIdAsc(any())).thenReturn(List.of());
+
+        assertThat(relay.relay()).isZero();
+        verify(publisher, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("rows are kept when publishing fails, and the failure is counted by background relays")
+    void relay_publishFails_keepsRows() {
+        when(outboxRepository.findAllByOrderByIdAsc(any())).thenReturn(List.of(row(1L, 7L)));
+        doThrow(new IllegalStateException("redis down")).when(publisher).publish(any());
+
+        assertThatThrownBy(() -> relay.relay()).isInstanceOf(IllegalStateException.class);
+        verify(outboxRepository, never()).deleteAllByIdInBatch(any());
+
+        relay.outboxWritten(new OutboxWritten(1));
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).execute(task.capture());
+        task.getValue().run();
+        assertThat(meterRegistry.get("product.outbox.relay.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("commits after shutdown leave rows for the next poll")
+    void outboxWritten_afterClose_ignored() {
+        doThrow(new RejectedExecutionException()).when(executor).execute(any());
+
+        relay.outboxWritten(new OutboxWritten(1));
+        relay.close();
+
+        verify(executor).shutdownNow();
+    }
+
+    private static ProductOutboxEntity row(long id, long productId) {
+        return new ProductOutboxEntity(id, productId, Instant.EPOCH);
+    }
+}
@@ -0,0 +1,24 @@
+package com.mercadolibre.infrastructure.adapter.output.invalidation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("RedisProductInvalidationPublisher")
+class RedisProductInvalidationPublisherTest {
+
+    @Test
+    @DisplayName("sends the ids comma-separated on the channel")
+    void publish_sendsIdsOnChannel() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+
+        new RedisProductInvalidationPublisher(redisTemplate, "product-invalidations").publish(List.of(1L, 22L));
+
+        verify(redisTemplate).convertAndSend("product-invalidations", "1,22");
+    }
+}
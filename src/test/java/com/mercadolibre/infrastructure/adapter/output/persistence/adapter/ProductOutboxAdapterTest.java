@@ -0,0 +1,63 @@
+package com.mercadolibre.infrastructure.adapter.output.persistence.adapter;
+
+import com.mercadolibre.infrastructure.adapter.output.persistence.adapter.ProductOutboxAdapter.OutboxWritten;
+import com.mercadolibre.infrastructure.adapter.output.persistence.entity.ProductOutboxEntity;
+import com.mercadolibre.infrastructure.adapter.output.persistence.repository.ProductOutboxJpaRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Outbox adapter against the Flyway-created product_outbox table.
+ */
+@DataJpaTest
+@RecordApplicationEvents
+@Import(ProductOutboxAdapter.class)
+class ProductOutboxAdapterTest {
+
+    @Autowired
+    private ProductOutboxAdapter adapter;
+
+    @Autowired
+    private ProductOutboxJpaRepository outboxRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Test
+    void productsChanged_writesOneRowPerDistinctProduct() {
+        adapter.productsChanged(List.of(2L, 1L, 2L));
+
+        List<ProductOutboxEntity> rows = outboxRepository.findAllByOrderByIdAsc(Pageable.unpaged());
+        assertThat(rows).extracting(ProductOutboxEntity::getProductId).containsExactly(2L, 1L);
+        assertThat(rows).allSatisfy(row -> assertThat(row.getCreatedAt()).isNotNull());
+        assertThat(events.stream(OutboxWritten.class)).containsExactly(new OutboxWritten(2));
+    }
+
+    @Test
+    void productsChanged_empty_writesNothing() {
+        adapter.productsChanged(List.of());
+
+        assertThat(outboxRepository.count()).isZero();
+        assertThat(events.stream(OutboxWritten.class)).isEmpty();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void productsChanged_outsideTransaction_fails() {
+        assertThatThrownBy(() -> adapter.productsChanged(List.of(1L)))
+            .isInstanceOf(IllegalTransactionStateException.class);
+    }
+}
@@ -0,0 +1,205 @@
+package com.mercadolibre.infrastructure.adapter.output.persistence.adapter;
+
+import com.mercadolibre.application.port.input.ProductField;
+import com.mercadolibre.application.port.input.ProductPageCursor;
+import com.mercadolibre.domain.model.Product;
+import com.mercadolibre.domain.model.ProductType;
+import com.mercadolibre.infrastructure.adapter.output.persistence.mapper.ProductEntityMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Persistence adapter against the Flyway-seeded H2 schema.
+ */
+@DataJpaTest
+@Import({ProductRepositoryAdapter.class, ProductEntityMapper.class})
+class ProductRepositoryAdapterTest {
+
+    @Autowired
+    private ProductRepositoryAdapter adapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void findByIdIn_withProjection_loadsOnlyRequestedFields() {
+        List<Product> products = adapter.findByIdIn(List.of(1L, 2L), Set.of(ProductField.NAME, ProductField.PRICE));
+
+        assertThat(products).extracting(Product::getId).containsExactlyInAnyOrder(1L, 2L);
+        Product alpha = byId(products, 1L);
+        assertThat(alpha.getName()).isEqualTo("Smartphone Alpha X1");
+        assertThat(alpha.getPrice()).isEqualByComparingTo("449.99");
+        assertThat(alpha.getDescription()).isNull();
+        assertThat(alpha.getRating()).isNull();
+        assertThat(alpha.getSpecifications()).isEmpty();
+    }
+
+    @Test
+    void findByIdIn_withSpecificationsProjection_loadsSpecifications() {
+        List<Product> products = adapter.findByIdIn(List.of(1L),
+            Set.of(ProductField.SPECIFICATIONS, ProductField.PRODUCT_TYPE));
+
+        Product alpha = byId(products, 1L);
+        assertThat(alpha.getName()).isNull();
+        assertThat(alpha.getProductType()).isEqualTo(ProductType.SMARTPHONE);
+        assertThat(alpha.getSpecifications()).containsEntry("batteryCapacityMah", 5000);
+    }
+
+    @Test
+    void findByIdIn_withoutFields_loadsEverything() {
+        List<Product> products = adapter.findByIdIn(List.of(1L, 999L), null);
+
+        assertThat(products).hasSize(1);
+        Product alpha = products.get(0);
+        assertThat(alpha.getDescription()).isNotNull();
+        assertThat(alpha.getSpecifications()).containsEntry("brand", "Alpha");
+    }
+
+    @Test
+    void findByIdIn_withSpecificationKeys_loadsOnlyThoseKeys() {
+        List<Product> products = adapter.findByIdIn(List.of(1L),
+            Set.of(ProductField.NAME, ProductField.SPECIFICATIONS), Set.of("memoryGb", "storageGb", "unknownKey"));
+
+        Product alpha = byId(products, 1L);
+        assertThat(alpha.getName()).isEqualTo("Smartphone Alpha X1");
+        assertThat(alpha.getSpecifications()).containsOnlyKeys("memoryGb", "storageGb");
+    }
+
+    @Test
+    void findByIdIn_allFieldsWithSpecificationKeys_loadsOnlyThoseKeys() {
+        List<Product> products = adapter.findByIdIn(List.of(1L), null, Set.of("brand"));
+
+        Product alpha = byId(products, 1L);
+        assertThat(alpha.getDescription()).isNotNull();
+        assertThat(alpha.getSpecifications()).containsExactly(Map.entry("brand", "Alpha"));
+    }
+
+    @Test
+    void streamAll_byProductType_streamsMatchingRowsInIdOrder() {
+        try (Stream<Product> products = adapter.streamAll(ProductType.GENERIC, Set.of(ProductField.NAME), null)) {
+            List<Product> generic = products.toList();
+
+            assertThat(generic).extracting(Product::getId).containsExactly(3L, 4L);
+            assertThat(generic).extracting(Product::getName).containsExactly("Run Max Sneakers", "Urban Backpack 20L");
+            assertThat(generic).allSatisfy(p -> assertThat(p.getPrice()).isNull());
+        }
+    }
+
+    @Test
+    void streamAll_withoutFilters_streamsEverything() {
+        try (Stream<Product> products = adapter.streamAll(null, null, Set.of("brand"))) {
+            List<Product> all = products.toList();
+
+            assertThat(all).extracting(Product::getId).containsExactly(1L, 2L, 3L, 4L);
+            assertThat(byId(all, 1L).getDescription()).isNotNull();
+            assertThat(byId(all, 1L).getSpecifications()).containsOnlyKeys("brand");
+        }
+    }
+
+    @Test
+    void findPage_firstPage_ordersByProductTypeThenIdAndAlwaysLoadsTheType() {
+        List<Product> page = adapter.findPage(null, null, 3, Set.of(ProductField.NAME), null);
+
+        assertThat(page).extracting(Product::getId).containsExactly(3L, 4L, 1L);
+        assertThat(page).extracting(Product::getProductType)
+            .containsExactly(ProductType.GENERIC, ProductType.GENERIC, ProductType.SMARTPHONE);
+        assertThat(page).allSatisfy(p -> assertThat(p.getPrice()).isNull());
+    }
+
+    @Test
+    void findPage_afterCursor_continuesIntoTheNextProductType() {
+        List<Product> page = adapter.findPage(null, new ProductPageCursor(ProductType.GENERIC, 3L), 2, null, null);
+
+        assertThat(page).extracting(Product::getId).containsExactly(4L, 1L);
+        assertThat(byId(page, 1L).getSpecifications()).containsEntry("batteryCapacityMah", 5000);
+    }
+
+    @Test
+    void findPage_byProductType_staysWithinTheType() {
+        List<Product> page = adapter.findPage(ProductType.SMARTPHONE,
+            new ProductPageCursor(ProductType.SMARTPHONE, 1L), 10, Set.of(ProductField.ID), null);
+
+        assertThat(page).extracting(Product::getId).containsExactly(2L);
+        assertThat(adapter.findPage(ProductType.GENERIC, null, 10, null, null))
+            .extracting(Product::getId).containsExactly(3L, 4L);
+    }
+
+    @Test
+    void save_withoutId_insertsWithGeneratedId() {
+        Product saved = adapter.save(Product.builder()
+            .name("Tablet Gamma")
+            .price(new BigDecimal("299.00"))
+            .productType(ProductType.GENERIC)
+            .specifications(new HashMap<>(Map.of("screenInches", 10)))
+            .build());
+
+        assertThat(saved.getId()).isNotNull();
+        Product reloaded = byId(adapter.findByIdIn(List.of(saved.getId())), saved.getId());
+        assertThat(reloaded.getName()).isEqualTo("Tablet Gamma");
+        assertThat(reloaded.getSpecifications()).containsEntry("screenInches", 10);
+    }
+
+    @Test
+    void saveAll_withIds_replacesExistingRows() {
+        Product alpha = byId(adapter.findByIdIn(List.of(1L)), 1L);
+        alpha.setName("Smartphone Alpha X1 (2026)");
+        alpha.setRating(null);
+        Product backpack = byId(adapter.findByIdIn(List.of(4L)), 4L);
+        backpack.setPrice(new BigDecimal("39.90"));
+
+        List<Product> saved = adapter.saveAll(List.of(alpha, backpack));
+
+        assertThat(saved).extracting(Product::getId).containsExactly(1L, 4L);
+        List<Product> reloaded = adapter.findByIdIn(List.of(1L, 4L));
+        assertThat(byId(reloaded, 1L).getName()).isEqualTo("Smartphone Alpha X1 (2026)");
+        assertThat(byId(reloaded, 1L).getRating()).isNull();
+        assertThat(byId(reloaded, 1L).getSpecifications()).containsEntry("brand", "Alpha");
+        assertThat(byId(reloaded, 4L).getPrice()).isEqualByComparingTo("39.90");
+    }
+
+    @Test
+    void upsertAll_insertsNewUpdatesExistingAndReportsUnknownIds() {
+        Product created = Product.builder().name("Tablet Gamma").price(new BigDecimal("299.00")).build();
+        Product beta = byId(adapter.findByIdIn(List.of(2L)), 2L);
+        beta.setPrice(new BigDecimal("549.99"));
+        Product unknown = Product.builder().id(999L).name("Ghost").price(BigDecimal.ONE).build();
+
+        List<Long> missingIds = adapter.upsertAll(List.of(created, beta, unknown));
+
+        assertThat(missingIds).containsExactly(999L);
+        assertThat(created.getId()).isGreaterThan(4L);
+        List<Product> reloaded = adapter.findByIdIn(List.of(created.getId(), 2L, 999L));
+        assertThat(reloaded).extracting(Product::getId).containsExactlyInAnyOrder(created.getId(), 2L);
+        assertThat(byId(reloaded, created.getId()).getName()).isEqualTo("Tablet Gamma");
+        assertThat(byId(reloaded, 2L).getPrice()).isEqualByComparingTo("549.99");
+        assertThat(byId(reloaded, 2L).getSpecifications()).containsEntry("brand", "Beta");
+    }
+
+    @Test
+    void idSequences_startAfterTheSeededRows() {
+        // Pooled optimizer: a fetched value v hands out (v - 49 .. v), so max(id) + 50 yields max(id) + 1 first.
+        assertThat(sequenceStart("PRODUCTS_ID_SEQ")).isEqualTo(4L + 50);
+        assertThat(sequenceStart("PRODUCT_OUTBOX_ID_SEQ")).isEqualTo(50L);
+    }
+
+    private long sequenceStart(String sequenceName) {
+        return jdbcTemplate.queryForObject(
+            "SELECT START_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = ?", Long.class, sequenceName);
+    }
+
+    private static Product byId(List<Product> products, long id) {
+        return products.stream().filter(p -> p.getId() == id).findFirst().orElseThrow();
+    }
+}
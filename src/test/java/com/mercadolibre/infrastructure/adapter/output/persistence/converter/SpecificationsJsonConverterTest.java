@@ -1,5 +1,6 @@
 package com.mercadolibre.infrastructure.adapter.output.persistence.converter;
 
+import com.mercadolibre.domain.model.RawJsonSpecifications;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -7,6 +8,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -121,11 +123,36 @@ class SpecificationsJsonConverterTest {
         }
 
         @Test
-        @DisplayName("throws IllegalArgumentException when dbData is invalid JSON")
+        @DisplayName("keeps dbData unparsed until an entry is read")
+        void validJson_parsedOnFirstRead() {
+            String dbData = "{\"color\":\"blue\"}";
+
+            Map<String, Object> result = converter.convertToEntityAttribute(dbData);
+
+            assertThat(result).isInstanceOf(RawJsonSpecifications.class);
+            RawJsonSpecifications raw = (RawJsonSpecifications) result;
+            assertThat(raw.isParsed()).isFalse();
+            assertThat(raw.isEmpty()).isFalse();
+            assertThat(raw.isParsed()).isFalse();
+            assertThat(raw.get("color")).isEqualTo("blue");
+            assertThat(raw.isParsed()).isTrue();
+            assertThat(raw.rawJson()).isEqualTo(dbData);
+        }
+
+        @Test
+        @DisplayName("returns empty map when dbData is the JSON literal null")
+        void jsonNull_returnsEmptyMap() {
+            Map<String, Object> result = converter.convertToEntityAttribute("null");
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("throws IllegalArgumentException when invalid JSON is read")
         void invalidJson_throwsIllegalArgumentException() {
             String invalidJson = "{invalid json}";
+            Map<String, Object> result = converter.convertToEntityAttribute(invalidJson);
 
-            assertThatThrownBy(() -> converter.convertToEntityAttribute(invalidJson))
+            assertThatThrownBy(() -> result.get("invalid"))
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessageContaining("Cannot deserialize specifications from JSON")
                     .hasMessageContaining(invalidJson)
@@ -133,6 +160,59 @@ class SpecificationsJsonConverterTest {
         }
     }
 
+    @Nested
+    @DisplayName("extract")
+    class Extract {
+
+        @Test
+        @DisplayName("returns only the requested top-level keys")
+        void requestedKeys_only() {
+            String dbData = "{\"dimensions\":{\"heightMm\":160,\"tags\":[1,2]},\"memoryGb\":8,\"brand\":\"Alpha\"}";
+
+            Map<String, Object> result = SpecificationsJsonConverter.extract(dbData,
+                Set.of("memoryGb", "brand", "unknownKey"));
+
+            assertThat(result).containsOnly(Map.entry("memoryGb", 8), Map.entry("brand", "Alpha"));
+        }
+
+        @Test
+        @DisplayName("builds nested values of requested keys")
+        void nestedValue_built() {
+            Map<String, Object> result = SpecificationsJsonConverter.extract(
+                "{\"dimensions\":{\"heightMm\":160},\"memoryGb\":8}", Set.of("dimensions"));
+
+            assertThat(result).containsOnly(Map.entry("dimensions", Map.of("heightMm", 160)));
+        }
+
+        @Test
+        @DisplayName("stops reading once every key was found")
+        void allKeysFound_stopsReading() {
+            Map<String, Object> result = SpecificationsJsonConverter.extract("{\"memoryGb\":8, not json",
+                Set.of("memoryGb"));
+
+            assertThat(result).containsOnly(Map.entry("memoryGb", 8));
+        }
+
+        @Test
+        @DisplayName("returns empty map for blank data, JSON null or no keys")
+        void emptyInputs_returnEmptyMap() {
+            assertThat(SpecificationsJsonConverter.extract(null, Set.of("a"))).isEmpty();
+            assertThat(SpecificationsJsonConverter.extract("null", Set.of("a"))).isEmpty();
+            assertThat(SpecificationsJsonConverter.extract("{\"a\":1}", Set.of())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("throws IllegalArgumentException when data is not a JSON object or is invalid")
+        void invalidJson_throwsIllegalArgumentException() {
+            assertThatThrownBy(() -> SpecificationsJsonConverter.extract("[1]", Set.of("a")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("not an object");
+            assertThatThrownBy(() -> SpecificationsJsonConverter.extract("{invalid json}", Set.of("a")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Cannot deserialize specifications from JSON");
+        }
+    }
+
     @Nested
     @DisplayName("round-trip")
     class RoundTrip {
@@ -151,5 +231,19 @@ class SpecificationsJsonConverterTest {
 
             assertThat(restored).isEqualTo(original);
         }
+
+        @Test
+        @DisplayName("unmodified loaded specifications are written back as loaded; modified ones are re-serialized")
+        void roundTrip_unmodified_writesLoadedText() {
+            String dbData = "{ \"storageGb\": 128 }";
+            Map<String, Object> loaded = converter.convertToEntityAttribute(dbData);
+            loaded.get("storageGb");
+
+            assertThat(converter.convertToDatabaseColumn(loaded)).isEqualTo(dbData);
+
+            loaded.put("storageGb", 256);
+
+            assertThat(converter.convertToDatabaseColumn(loaded)).isEqualTo("{\"storageGb\":256}");
+        }
     }
 }
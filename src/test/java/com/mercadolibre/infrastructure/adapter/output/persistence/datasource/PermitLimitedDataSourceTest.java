@@ -0,0 +1,75 @@
+package com.mercadolibre.infrastructure.adapter.output.persistence.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PermitLimitedDataSource")
+class PermitLimitedDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Test
+    @DisplayName("holds a permit while the connection is open and returns it once on close")
+    void getConnection_permitReleasedOnClose() throws Exception {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.isReadOnly()).thenReturn(true);
+        PermitLimitedDataSource dataSource = new PermitLimitedDataSource(target, 1, Duration.ZERO);
+
+        Connection guarded = dataSource.getConnection();
+
+        assertThat(guarded.isReadOnly()).isTrue();
+        assertThat(guarded).isEqualTo(guarded).hasSameHashCodeAs(guarded);
+        assertThat(dataSource.availablePermits()).isZero();
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+        guarded.close();
+        guarded.close();
+
+        verify(connection, times(2)).close();
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("returns the permit when the target fails to provide a connection")
+    void getConnection_targetFails_permitReleased() throws Exception {
+        when(target.getConnection("user", "secret")).thenThrow(new SQLException("pool exhausted"));
+        PermitLimitedDataSource dataSource = new PermitLimitedDataSource(target, 1, Duration.ZERO);
+
+        assertThatThrownBy(() -> dataSource.getConnection("user", "secret")).hasMessage("pool exhausted");
+
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("exceptions thrown by the connection are rethrown unwrapped")
+    void connectionException_unwrapped() throws Exception {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.getSchema()).thenThrow(new SQLException("closed"));
+        PermitLimitedDataSource dataSource = new PermitLimitedDataSource(target, 1, Duration.ZERO);
+
+        Connection guarded = dataSource.getConnection();
+
+        assertThatThrownBy(guarded::getSchema).isInstanceOf(SQLException.class).hasMessage("closed");
+        verify(target).getConnection();
+    }
+}
@@ -0,0 +1,134 @@
+package com.mercadolibre.infrastructure.adapter.output.search;
+
+import com.mercadolibre.domain.model.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InvertedProductIndex")
+class InvertedProductIndexTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private InvertedProductIndex index;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new InvertedProductIndex(64, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("tokenizer lower-cases, strips accents and splits on punctuation")
+    void tokenize_normalizes() {
+        assertThat(ProductTokenizer.tokenize("C\u00e1mara 12-MP, Wi-Fi!"))
+            .containsExactly("camara", "12", "mp", "wi", "fi");
+        assertThat(ProductTokenizer.tokenize("  ")).isEmpty();
+        assertThat(ProductTokenizer.tokenize("x".repeat(50)))
+            .containsExactly("x".repeat(ProductTokenizer.MAX_TERM_LENGTH));
+    }
+
+    @Test
+    @DisplayName("words match whole terms and prefixes, ignoring case and accents")
+    void search_exactAndPrefix() {
+        index.index(List.of(product(1L, "Run Max Sneakers", "Lightweight running shoes", Map.of())));
+
+        assertThat(index.search("sneakers", 10)).containsExactly(1L);
+        assertThat(index.search("SNEAK", 10)).containsExactly(1L);
+        assertThat(index.search("r\u00fann", 10)).containsExactly(1L);
+        assertThat(index.search("boots", 10)).isEmpty();
+        assertThat(index.search(" ,; ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("every word of the query must match")
+    void search_allWordsRequired() {
+        index.index(List.of(
+            product(1L, "Alpha Phone", "Dark phone", Map.of()),
+            product(2L, "Beta Phone", "Light phone", Map.of())));
+
+        assertThat(index.search("phone dark", 10)).containsExactly(1L);
+        assertThat(index.search("phone", 10)).containsExactly(1L, 2L);
+        assertThat(index.search("phone missing", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("name matches rank above specification and description matches, whole words above prefixes")
+    void search_ranksByFieldAndMatchKind() {
+        index.index(List.of(
+            product(1L, "Backpack", "Fits a laptop", Map.of()),
+            product(2L, "Laptop", "Thin", Map.of()),
+            product(3L, "Sleeve", "Padded", Map.of("fits", "laptop")),
+            product(4L, "Laptops stand", "Aluminium", Map.of())));
+
+        assertThat(index.search("laptop", 10)).containsExactly(2L, 3L, 4L, 1L);
+        assertThat(index.search("laptop", 2)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("nested specification values are indexed")
+    void search_nestedSpecifications() {
+        Map<String, Object> specifications = new HashMap<>();
+        specifications.put("camera", Map.of("features", List.of("Night mode", "OIS")));
+        specifications.put("memoryGb", 8);
+        index.index(List.of(product(1L, "Phone", null, specifications)));
+
+        assertThat(index.search("night", 10)).containsExactly(1L);
+        assertThat(index.search("ois 8", 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("re-indexing replaces a product's terms and removal drops them")
+    void indexAndRemove_updateTerms() {
+        index.index(List.of(product(1L, "Old name", null, Map.of()), product(2L, "Other", null, Map.of())));
+        index.index(List.of(product(1L, "New name", null, Map.of())));
+
+        assertThat(index.search("old", 10)).isEmpty();
+        assertThat(index.search("new", 10)).containsExactly(1L);
+
+        index.remove(List.of(1L, 99L));
+
+        assertThat(index.search("name", 10)).isEmpty();
+        assertThat(index.search("other", 10)).containsExactly(2L);
+        assertThat(meterRegistry.get("product.search.index.products").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("product.search.index.terms").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("prefix expansion is capped")
+    void search_capsPrefixExpansions() {
+        InvertedProductIndex small = new InvertedProductIndex(2, new SimpleMeterRegistry());
+        small.index(List.of(
+            product(1L, "ab1", null, Map.of()),
+            product(2L, "ab2", null, Map.of()),
+            product(3L, "ab3", null, Map.of())));
+
+        assertThat(small.search("ab", 10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("the index grows past its initial document capacity")
+    void index_grows() {
+        List<Product> products = new ArrayList<>();
+        for (long id = 1; id <= 2000; id++) {
+            products.add(product(id, "Item " + id, id % 2 == 0 ? "even" : "odd", Map.of()));
+        }
+        index.index(products);
+
+        assertThat(index.search("item even", 3)).containsExactly(2L, 4L, 6L);
+        assertThat(index.search("1999", 10)).containsExactly(1999L);
+        assertThat(index.search("item", 0)).isEmpty();
+    }
+
+    private static Product product(long id, String name, String description, Map<String, Object> specifications) {
+        return Product.builder().id(id).name(name).description(description).specifications(specifications).build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.mercadolibre.infrastructure.adapter.output.warmup;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HotProductIdSourceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void configured_returnsIdsUpToLimit() {
+        ConfiguredHotProductIdSource source = new ConfiguredHotProductIdSource(List.of(3L, 1L, 2L));
+
+        assertThat(source.hotProductIds(2)).containsExactly(3L, 1L);
+        assertThat(source.hotProductIds(10)).containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void redis_readsHighestScoresFirstAndSkipsNonNumericMembers() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ZSetOperations<String, String> zSet = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSet);
+        when(zSet.reverseRange("hot", 0, 2)).thenReturn(new LinkedHashSet<>(List.of("7", "x", "5")));
+
+        assertThat(new RedisHotProductIdSource(redisTemplate, "hot").hotProductIds(3)).containsExactly(7L, 5L);
+    }
+
+    @Test
+    void redis_missingKey_returnsNoIds() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        @SuppressWarnings("unchecked")
+        ZSetOperations<String, String> zSet = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSet);
+
+        assertThat(new RedisHotProductIdSource(redisTemplate, "hot").hotProductIds(3)).isEmpty();
+    }
+
+    @Test
+    void file_readsFirstTokenPerLineUpToLimit() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("hot.txt"), """
+            # id count
+            4 120
+
+            2,80
+            not-an-id
+            9
+            1
+            """);
+
+        assertThat(new FileHotProductIdSource(file).hotProductIds(3)).containsExactly(4L, 2L, 9L);
+    }
+
+    @Test
+    void file_missing_returnsNoIds() {
+        assertThat(new FileHotProductIdSource(tempDir.resolve("missing.txt")).hotProductIds(10)).isEmpty();
+    }
+}
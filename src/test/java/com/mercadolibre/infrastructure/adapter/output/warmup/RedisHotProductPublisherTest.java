@@ -0,0 +1,41 @@
+package com.mercadolibre.infrastructure.adapter.output.warmup;
+
+import com.mercadolibre.infrastructure.adapter.output.hotkeys.HotProductTracker.HotProduct;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class RedisHotProductPublisherTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void accept_addsProductsScoredByCountAndRefreshesExpiry() {
+        ZSetOperations<String, String> zSet = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSet);
+
+        new RedisHotProductPublisher(redisTemplate, "hot", Duration.ofDays(1))
+            .accept(List.of(new HotProduct(7L, 40, 0.5), new HotProduct(3L, 10, 0.1)));
+
+        verify(zSet).add("hot", Set.of(TypedTuple.of("7", 40.0), TypedTuple.of("3", 10.0)));
+        verify(redisTemplate).expire("hot", Duration.ofDays(1));
+    }
+
+    @Test
+    void accept_emptySnapshot_writesNothing() {
+        new RedisHotProductPublisher(redisTemplate, "hot", Duration.ofDays(1)).accept(List.of());
+
+        verifyNoInteractions(redisTemplate);
+    }
+}
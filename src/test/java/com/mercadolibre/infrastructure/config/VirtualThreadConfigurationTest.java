@@ -0,0 +1,72 @@
+package com.mercadolibre.infrastructure.config;
+
+import com.mercadolibre.application.port.input.CompareProductsUseCase;
+import com.mercadolibre.domain.model.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+    "spring.threads.virtual.enabled=true",
+    "product.concurrency.jdbc-permits=" + VirtualThreadConfigurationTest.JDBC_PERMITS,
+    "product.concurrency.backend-wait=50ms"
+})
+@DisplayName("VirtualThreadConfiguration")
+class VirtualThreadConfigurationTest {
+
+    static final int JDBC_PERMITS = 2;
+
+    @Autowired
+    private CompareProductsUseCase compareProductsUseCase;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("cache-hit comparisons beyond the JDBC permits never wait on a permit")
+    void getComparison_cacheHits_needNoJdbcPermit() throws Exception {
+        List<Long> ids = List.of(1L, 2L);
+        compareProductsUseCase.getComparison(ids, null, null);
+
+        List<Connection> held = new ArrayList<>();
+        try {
+            for (int i = 0; i < JDBC_PERMITS; i++) {
+                held.add(dataSource.getConnection());
+            }
+            assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<Product>>> comparisons = new ArrayList<>();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < JDBC_PERMITS * 5; i++) {
+                    comparisons.add(executor.submit(() -> {
+                        start.await();
+                        return compareProductsUseCase.getComparison(ids, null, null);
+                    }));
+                }
+                start.countDown();
+            }
+            for (Future<List<Product>> comparison : comparisons) {
+                assertThat(comparison.get()).extracting(Product::getId).containsExactly(1L, 2L);
+            }
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+    }
+}